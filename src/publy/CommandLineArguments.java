@@ -15,7 +15,10 @@
  */
 package publy;
 
+import com.beust.jcommander.IParameterValidator;
 import com.beust.jcommander.Parameter;
+import com.beust.jcommander.ParameterException;
+import publy.algo.WorkerPool;
 import publy.data.settings.ConsoleSettings;
 import publy.data.settings.FileSettings;
 import publy.data.settings.Settings;
@@ -38,10 +41,14 @@ public class CommandLineArguments {
     private boolean help = false;
     @Parameter(names = {"-f", "--input"}, description = "Publication list to use (BibTeX)", arity = 1)
     private String input;
+    @Parameter(names = {"-n", "--no-cache"}, description = "Do not read or store parse results next to the configuration file")
+    private boolean noCache = false;
     @Parameter(names = {"-o", "--output"}, description = "Output file to use (HTML)", arity = 1)
     private String output;
     @Parameter(names = {"-q", "-s", "--quiet", "--silent"}, description = "Hide regular log output")
     private boolean silent = false;
+    @Parameter(names = {"-t", "--threads"}, description = "Number of threads to use for parsing and processing publications (default: one per processor)", arity = 1, validateWith = ThreadCountValidator.class)
+    private int threads = 0;
     @Parameter(names = {"-v", "-V", "--version"}, description = "Display version information")
     private boolean version = false;
     @Parameter(names = {"-w", "--no-warn"}, description = "Hide warnings")
@@ -94,6 +101,19 @@ public class CommandLineArguments {
         return help;
     }
 
+    /**
+     * Gets whether the publication list should be parsed without using the
+     * stored results of earlier parses, and without storing the results of
+     * this parse.
+     * <p>
+     * This setting overrides the option in the configuration file.
+     *
+     * @return whether to parse without the stored parse results
+     */
+    public boolean isNoCache() {
+        return noCache;
+    }
+
     /**
      * Gets the name of the input publication list.
      * <p>
@@ -130,6 +150,19 @@ public class CommandLineArguments {
         return silent;
     }
 
+    /**
+     * Gets the number of threads to use for parsing and processing
+     * publications.
+     * <p>
+     * If no number was specified at the command line, this returns 0, and one
+     * thread per available processor is used.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
     /**
      * Gets whether to print the current program version.
      * <p>
@@ -163,10 +196,14 @@ public class CommandLineArguments {
      * {@link #getInput()}, if the latter is not null and non-empty.
      * <li> {@link FileSettings#target} is set to
      * {@link #getOutput()}, if the latter is not null and non-empty.
+     * <li> {@link FileSettings#cacheParseResults} is set to false if
+     * {@link #isNoCache()} is true.
      * <li> {@link ConsoleSettings#showLogs} is set to the inverse of {@link #isSilent()}.
      * <li> {@link ConsoleSettings#showWarnings} is set to the inverse of {@link #hidewarnings()}.
      * <li> {@link ConsoleSettings#showStackTraces} is set to {@link #isDebug()}.
      * </ul><p>
+     * In addition, the number of threads of the {@link WorkerPool} is set to
+     * {@link #getThreads()}, if a number of threads was specified.
      *
      * @param settings
      */
@@ -180,6 +217,10 @@ public class CommandLineArguments {
             settings.getFileSettings().setTarget(ResourceLocator.getFullPath(output));
         }
 
+        if (noCache) {
+            settings.getFileSettings().setCacheParseResults(false);
+        }
+
         // Console settings
         if (silent) {
             settings.getConsoleSettings().setShowLogs(false);
@@ -192,5 +233,31 @@ public class CommandLineArguments {
         if (debug) {
             settings.getConsoleSettings().setShowStackTraces(true);
         }
+
+        // Processing
+        if (threads > 0) {
+            WorkerPool.setThreads(threads);
+        }
+    }
+
+    /**
+     * Rejects a number of threads that is less than 1.
+     */
+    public static class ThreadCountValidator implements IParameterValidator {
+
+        @Override
+        public void validate(String name, String value) throws ParameterException {
+            int threads;
+
+            try {
+                threads = Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                return; // Reported when the value is converted
+            }
+
+            if (threads < 1) {
+                throw new ParameterException(String.format("The number of threads must be at least 1, not %d.", threads));
+            }
+        }
     }
 }
@@ -19,6 +19,8 @@ import java.awt.Color;
 import java.awt.GraphicsEnvironment;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 import javax.swing.JTextPane;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.SimpleAttributeSet;
@@ -66,6 +68,7 @@ public class Console {
     private static ConsoleSettings settings = new ConsoleSettings();
     private static JTextPane textPane = null; // A styled text area to log to, if the program was invoked without an attached console
     private static boolean headless = GraphicsEnvironment.isHeadless();
+    private static final ThreadLocal<MessageBuffer> threadBuffer = new ThreadLocal<>(); // Messages of the current thread are held back here, if set
 
     // Static font initialization
     static {
@@ -198,7 +201,52 @@ public class Console {
         }
     }
 
+    /**
+     * Holds back all messages that are produced on the current thread, until
+     * {@link MessageBuffer#flush()} is called on the returned buffer.
+     * <p>
+     * This allows work to be split over several threads, while the messages
+     * are still shown in a deterministic order. Messages are filtered according
+     * to the current settings before they are buffered.
+     * <p>
+     * Buffering can be nested: while a buffer is active, flushing another
+     * buffer adds its messages to the active one.
+     *
+     * @return the buffer that collects the messages of the current thread
+     */
+    public static MessageBuffer startBuffering() {
+        MessageBuffer buffer = new MessageBuffer(threadBuffer.get());
+        threadBuffer.set(buffer);
+        return buffer;
+    }
+
+    /**
+     * Stops holding back messages in the buffer that was started last on the
+     * current thread. Messages that were already buffered remain in their
+     * buffer. If buffering was nested, the enclosing buffer becomes active
+     * again.
+     */
+    public static void stopBuffering() {
+        MessageBuffer buffer = threadBuffer.get();
+
+        if (buffer == null || buffer.enclosing == null) {
+            threadBuffer.remove();
+        } else {
+            threadBuffer.set(buffer.enclosing);
+        }
+    }
+
     private static void output(String headlessPrefix, String text, SimpleAttributeSet attributes) {
+        MessageBuffer buffer = threadBuffer.get();
+
+        if (buffer != null) {
+            buffer.messages.add(new Message(headlessPrefix, text, attributes));
+        } else {
+            write(headlessPrefix, text, attributes);
+        }
+    }
+
+    private static synchronized void write(String headlessPrefix, String text, SimpleAttributeSet attributes) {
         if (textPane == null) {
             if (System.console() == null) {
                 if (headless) {
@@ -260,7 +308,7 @@ public class Console {
      *
      * @param textPane the place any new messages will appear
      */
-    public static void setOutputTarget(JTextPane textPane) {
+    public static synchronized void setOutputTarget(JTextPane textPane) {
         if (Console.textPane != null) {
             // Copy the current text over
             textPane.setStyledDocument(Console.textPane.getStyledDocument());
@@ -313,6 +361,55 @@ public class Console {
         Console.headless = headless;
     }
 
+    /**
+     * Messages that were held back by {@link #startBuffering()}.
+     */
+    public static class MessageBuffer {
+
+        private final List<Message> messages = new ArrayList<>();
+        private final MessageBuffer enclosing; // The buffer that was active when this one was started
+
+        private MessageBuffer(MessageBuffer enclosing) {
+            this.enclosing = enclosing;
+        }
+
+        /**
+         * Checks whether any messages were buffered.
+         *
+         * @return true if there are no buffered messages, false otherwise
+         */
+        public boolean isEmpty() {
+            return messages.isEmpty();
+        }
+
+        /**
+         * Shows all buffered messages, in the order they were produced, and
+         * empties this buffer.
+         */
+        public void flush() {
+            synchronized (Console.class) { // Keep the messages together
+                for (Message message : messages) {
+                    output(message.headlessPrefix, message.text, message.attributes);
+                }
+            }
+
+            messages.clear();
+        }
+    }
+
+    private static class Message {
+
+        final String headlessPrefix;
+        final String text;
+        final SimpleAttributeSet attributes;
+
+        Message(String headlessPrefix, String text, SimpleAttributeSet attributes) {
+            this.headlessPrefix = headlessPrefix;
+            this.text = text;
+            this.attributes = attributes;
+        }
+    }
+
     private Console() {
     }
 }
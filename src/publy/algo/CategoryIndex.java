@@ -0,0 +1,499 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import publy.data.bibitem.BibItem;
+import publy.data.category.OutputCategory;
+import publy.data.category.conditions.Condition;
+import publy.data.category.conditions.ConditionGroup;
+import publy.data.category.conditions.FieldCondition;
+import publy.data.category.conditions.FieldContainsCondition;
+import publy.data.category.conditions.FieldEqualsCondition;
+import publy.data.category.conditions.FieldExistsCondition;
+import publy.data.category.conditions.TypeCondition;
+import publy.data.settings.CategorySettings;
+
+/**
+ * Finds the first active category that a publication fits in, without testing
+ * it against every category.
+ * <p>
+ * The type condition of a category only depends on the type of a publication,
+ * so for each type, the index stores which categories accept it. Only these
+ * candidates are tested, in their original order, so a publication still ends
+ * up in the first category it fits. The field conditions and condition groups
+ * of each category are compiled once: the values of equals conditions are
+ * stored in a hash set, and the conditions that must all hold are ordered by
+ * their estimated cost divided by the estimated chance that they fail, so
+ * that cheap, selective conditions reject most publications early. Within OR
+ * groups, conditions are ordered by cost divided by the chance that they hold.
+ * <p>
+ * Building the index is cheap compared to categorizing a large list, but it
+ * is still reused between calls as long as the active categories and their
+ * conditions do not change.
+ */
+class CategoryIndex {
+
+    private static CategoryIndex cached = null;
+
+    private final OutputCategory[] categories;
+    private final List<Object> signature; // Everything the index depends on, to detect changes to the settings
+    private final TypeMatcher[] typeMatchers;
+    private final ConditionMatcher[][] conditionMatchers;
+    private final Map<String, int[]> candidatesByType = new ConcurrentHashMap<>();
+
+    private CategoryIndex(List<OutputCategory> categories, List<Object> signature) {
+        this.categories = categories.toArray(new OutputCategory[categories.size()]);
+        this.signature = signature;
+
+        typeMatchers = new TypeMatcher[this.categories.length];
+        conditionMatchers = new ConditionMatcher[this.categories.length][];
+
+        for (int i = 0; i < this.categories.length; i++) {
+            typeMatchers[i] = new TypeMatcher(this.categories[i].getTypeCondition());
+            conditionMatchers[i] = compile(this.categories[i]);
+        }
+    }
+
+    /**
+     * Gets the index for the active categories in the given settings. The
+     * previous index is returned if these did not change since it was built.
+     *
+     * @param settings the category settings
+     * @return the index
+     */
+    static synchronized CategoryIndex getIndex(CategorySettings settings) {
+        List<OutputCategory> active = settings.getActiveCategories();
+        List<Object> signature = getSignature(active);
+
+        if (cached == null || !cached.isFor(active, signature)) {
+            cached = new CategoryIndex(active, signature);
+        }
+
+        return cached;
+    }
+
+    /**
+     * Finds the first category that the given publication fits in.
+     *
+     * @param item the publication
+     * @return the first category, in the order of the active categories, whose
+     * conditions the publication matches, or null if it fits none of them
+     */
+    OutputCategory findCategory(BibItem item) {
+        for (int category : getCandidates(item.getOriginalType())) {
+            if (matchesAll(conditionMatchers[category], item)) {
+                return categories[category];
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isFor(List<OutputCategory> active, List<Object> signature) {
+        if (active.size() != categories.length) {
+            return false;
+        }
+
+        // The categories themselves must be the same instances, since those are returned
+        for (int i = 0; i < categories.length; i++) {
+            if (active.get(i) != categories[i]) {
+                return false;
+            }
+        }
+
+        return this.signature.equals(signature);
+    }
+
+    /**
+     * Gets the indices of the categories whose type condition accepts the
+     * given type, in increasing order.
+     */
+    private int[] getCandidates(String type) {
+        int[] candidates = candidatesByType.get(type);
+
+        if (candidates == null) {
+            int count = 0;
+            candidates = new int[categories.length];
+
+            for (int i = 0; i < categories.length; i++) {
+                if (typeMatchers[i].matches(type)) {
+                    candidates[count] = i;
+                    count++;
+                }
+            }
+
+            candidates = Arrays.copyOf(candidates, count);
+            candidatesByType.put(type, candidates);
+        }
+
+        return candidates;
+    }
+
+    private static boolean matchesAll(ConditionMatcher[] matchers, BibItem item) {
+        for (ConditionMatcher matcher : matchers) {
+            if (!matcher.matches(item)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesAny(ConditionMatcher[] matchers, BibItem item) {
+        for (ConditionMatcher matcher : matchers) {
+            if (matcher.matches(item)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compiles the field conditions and condition groups of a category, which
+     * must all hold.
+     */
+    private static ConditionMatcher[] compile(OutputCategory category) {
+        List<Condition> conditions = new ArrayList<Condition>(category.getFieldConditions());
+        conditions.addAll(category.getConditionGroups());
+        return compile(conditions, true);
+    }
+
+    private static ConditionMatcher[] compile(List<? extends Condition> conditions, boolean all) {
+        List<ConditionMatcher> matchers = new ArrayList<>(conditions.size());
+
+        for (Condition condition : conditions) {
+            matchers.add(compile(condition));
+        }
+
+        // The conditions do not depend on each other, so they can be tested in any order.
+        // Test first the ones that are cheap and most likely to decide the outcome.
+        // The sort is stable, so equal conditions keep their order.
+        final boolean rejects = all;
+
+        Collections.sort(matchers, new Comparator<ConditionMatcher>() {
+            @Override
+            public int compare(ConditionMatcher m1, ConditionMatcher m2) {
+                return Double.compare(m1.getCostPerDecision(rejects), m2.getCostPerDecision(rejects));
+            }
+        });
+
+        return matchers.toArray(new ConditionMatcher[matchers.size()]);
+    }
+
+    private static ConditionMatcher compile(Condition condition) {
+        if (condition instanceof FieldExistsCondition) {
+            return new ExistsMatcher((FieldExistsCondition) condition);
+        } else if (condition instanceof FieldEqualsCondition) {
+            return new EqualsMatcher((FieldEqualsCondition) condition);
+        } else if (condition instanceof FieldContainsCondition) {
+            return new ContainsMatcher((FieldContainsCondition) condition);
+        } else if (condition instanceof TypeCondition) {
+            return new TypeConditionMatcher((TypeCondition) condition);
+        } else if (condition instanceof ConditionGroup) {
+            return new GroupMatcher((ConditionGroup) condition);
+        } else {
+            return new GeneralMatcher(condition);
+        }
+    }
+
+    /**
+     * Collects all properties of the given categories that determine which
+     * publications they accept.
+     */
+    private static List<Object> getSignature(List<OutputCategory> categories) {
+        List<Object> signature = new ArrayList<>();
+
+        for (OutputCategory category : categories) {
+            addSignature(category.getTypeCondition(), signature);
+            signature.add(category.getFieldConditions().size());
+
+            for (FieldCondition condition : category.getFieldConditions()) {
+                addSignature(condition, signature);
+            }
+
+            signature.add(category.getConditionGroups().size());
+
+            for (ConditionGroup group : category.getConditionGroups()) {
+                addSignature(group, signature);
+            }
+        }
+
+        return signature;
+    }
+
+    private static void addSignature(Condition condition, List<Object> signature) {
+        signature.add(condition.getClass());
+        signature.add(condition.isInverted());
+
+        if (condition instanceof TypeCondition) {
+            signature.add(new ArrayList<>(((TypeCondition) condition).getTypes()));
+        } else if (condition instanceof ConditionGroup) {
+            ConditionGroup group = (ConditionGroup) condition;
+            signature.add(group.getOperator());
+            signature.add(group.getConditions().size());
+
+            for (Condition child : group.getConditions()) {
+                addSignature(child, signature);
+            }
+        } else if (condition instanceof FieldCondition) {
+            signature.add(((FieldCondition) condition).getField());
+
+            if (condition instanceof FieldEqualsCondition) {
+                signature.add(new ArrayList<>(((FieldEqualsCondition) condition).getValues()));
+            } else if (condition instanceof FieldContainsCondition) {
+                signature.add(new ArrayList<>(((FieldContainsCondition) condition).getValues()));
+            } else if (!(condition instanceof FieldExistsCondition)) {
+                signature.add(new IdentityKey(condition));
+            }
+        } else {
+            signature.add(new IdentityKey(condition));
+        }
+    }
+
+    /**
+     * A compiled type condition.
+     */
+    private static class TypeMatcher {
+
+        private final boolean inverted;
+        private final boolean anyType;
+        private final Set<String> types;
+
+        TypeMatcher(TypeCondition condition) {
+            inverted = condition.isInverted();
+            types = new HashSet<>(condition.getTypes());
+            anyType = types.contains("*");
+        }
+
+        boolean matches(String type) {
+            boolean match = anyType || types.contains(type);
+            return match != inverted;
+        }
+    }
+
+    /**
+     * A compiled condition. The cost is an estimate of the time needed to test
+     * a publication, and the probability is a rough guess of the fraction of
+     * publications that match the condition, before inverting it.
+     */
+    private static abstract class ConditionMatcher {
+
+        final double cost;
+        final double probability;
+        final boolean inverted;
+
+        ConditionMatcher(double cost, double probability, boolean inverted) {
+            this.cost = cost;
+            this.probability = probability;
+            this.inverted = inverted;
+        }
+
+        boolean matches(BibItem item) {
+            return internalMatches(item) != inverted;
+        }
+
+        abstract boolean internalMatches(BibItem item);
+
+        /**
+         * Gets the probability that a publication matches this condition,
+         * taking inversion into account.
+         */
+        double getProbability() {
+            return (inverted ? 1 - probability : probability);
+        }
+
+        /**
+         * Gets the expected cost of testing publications until one fails this
+         * condition (if {@code rejects} is true), or passes it (otherwise).
+         * Conditions that can never decide the outcome come last.
+         */
+        double getCostPerDecision(boolean rejects) {
+            double decisive = (rejects ? 1 - getProbability() : getProbability());
+            return (decisive > 0 ? cost / decisive : Double.POSITIVE_INFINITY);
+        }
+    }
+
+    private static class ExistsMatcher extends ConditionMatcher {
+
+        private final String field;
+
+        ExistsMatcher(FieldExistsCondition condition) {
+            super(1, 0.5, condition.isInverted());
+            field = condition.getField();
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            String value = item.get(field);
+            return (value != null && !value.isEmpty());
+        }
+    }
+
+    private static class EqualsMatcher extends ConditionMatcher {
+
+        private final String field;
+        private final Set<String> values;
+
+        EqualsMatcher(FieldEqualsCondition condition) {
+            super(2, Math.min(0.5, 0.1 * condition.getValues().size()), condition.isInverted());
+            field = condition.getField();
+            values = new HashSet<>(condition.getValues());
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            return values.contains(item.get(field));
+        }
+    }
+
+    private static class ContainsMatcher extends ConditionMatcher {
+
+        private final FieldContainsCondition condition;
+
+        ContainsMatcher(FieldContainsCondition condition) {
+            super(4, Math.min(0.5, 0.2 * condition.getValues().size()), condition.isInverted());
+            this.condition = condition; // The condition searches for all values at once
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            return condition.internalMatches(item);
+        }
+    }
+
+    /**
+     * A type condition inside a group. Type conditions of categories are
+     * handled by the candidates for each type instead.
+     */
+    private static class TypeConditionMatcher extends ConditionMatcher {
+
+        private final TypeMatcher matcher;
+
+        TypeConditionMatcher(TypeCondition condition) {
+            super(1, estimateProbability(condition), false);
+            matcher = new TypeMatcher(condition);
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            return matcher.matches(item.getOriginalType());
+        }
+
+        private static double estimateProbability(TypeCondition condition) {
+            double probability = (condition.getTypes().contains("*") ? 1 : Math.min(0.5, 0.2 * condition.getTypes().size()));
+            return (condition.isInverted() ? 1 - probability : probability);
+        }
+    }
+
+    /**
+     * A compiled condition group, which tests its conditions in order of
+     * expected cost and stops as soon as the outcome is known.
+     */
+    private static class GroupMatcher extends ConditionMatcher {
+
+        private final boolean all;
+        private final ConditionMatcher[] matchers;
+
+        GroupMatcher(ConditionGroup group) {
+            this(group, compile(group.getConditions(), group.getOperator() == ConditionGroup.Operator.AND));
+        }
+
+        private GroupMatcher(ConditionGroup group, ConditionMatcher[] matchers) {
+            super(estimateCost(matchers), estimateProbability(group.getOperator() == ConditionGroup.Operator.AND, matchers), group.isInverted());
+            this.all = (group.getOperator() == ConditionGroup.Operator.AND);
+            this.matchers = matchers;
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            return (all ? matchesAll(matchers, item) : matchesAny(matchers, item));
+        }
+
+        private static double estimateCost(ConditionMatcher[] matchers) {
+            double cost = 0;
+
+            for (ConditionMatcher matcher : matchers) {
+                cost += matcher.cost;
+            }
+
+            return cost;
+        }
+
+        /**
+         * Estimates the probability that a publication matches the group,
+         * assuming its conditions are independent.
+         */
+        private static double estimateProbability(boolean all, ConditionMatcher[] matchers) {
+            double probability = 1;
+
+            for (ConditionMatcher matcher : matchers) {
+                probability *= (all ? matcher.getProbability() : 1 - matcher.getProbability());
+            }
+
+            return (all ? probability : 1 - probability);
+        }
+    }
+
+    /**
+     * Tests any other kind of condition by calling it directly.
+     */
+    private static class GeneralMatcher extends ConditionMatcher {
+
+        private final Condition condition;
+
+        GeneralMatcher(Condition condition) {
+            super(8, 0.5, false);
+            this.condition = condition;
+        }
+
+        @Override
+        boolean internalMatches(BibItem item) {
+            return condition.matches(item);
+        }
+    }
+
+    /**
+     * Compares the wrapped object by identity.
+     */
+    private static class IdentityKey {
+
+        private final Object object;
+
+        IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import publy.Console;
+import publy.data.Author;
+import publy.data.Section;
+import publy.data.bibitem.BibItem;
+import publy.data.category.OutputCategory;
+
+/**
+ * Divides publications into a tree of sections, with one level for each
+ * dimension, like category or year.
+ * <p>
+ * The keys of all dimensions are computed once for every publication, and
+ * each publication is then placed in its final section in a single pass, so
+ * the cost does not grow with the number of levels. A publication without a
+ * key for some dimension stays in the section of the level above it.
+ */
+class PublicationGrouper {
+
+    /**
+     * Groups the given publications by the given dimensions, in order: the
+     * sections for the first dimension are split further by the second, and
+     * so on.
+     * <p>
+     * Publications without a key for the first dimension are not included in
+     * any section. For each section, and for these top-level publications, a
+     * warning is shown for the publications that stay there, since they miss a
+     * key of the next dimension.
+     *
+     * @param items the publications to group
+     * @param dimensions the dimensions to group by, from the outermost level
+     * to the innermost
+     * @return the sections of the top level
+     */
+    static List<Section> group(List<BibItem> items, final List<? extends Dimension<?>> dimensions) {
+        // Compute the composite key of each publication
+        List<Object[]> keys = WorkerPool.map(items, item -> {
+            Object[] key = new Object[dimensions.size()];
+
+            for (int i = 0; i < key.length; i++) {
+                key[i] = dimensions.get(i).getKey(item);
+            }
+
+            return key;
+        });
+
+        // Place every publication in its section
+        Node root = new Node(new Section("Master", null));
+
+        for (int i = 0; i < items.size(); i++) {
+            Object[] key = keys.get(i);
+            Node node = root;
+
+            for (int level = 0; level < key.length && key[level] != null; level++) {
+                node = node.getChild(dimensions.get(level), key[level]);
+            }
+
+            node.section.addItem(items.get(i));
+        }
+
+        root.build(dimensions, 0);
+        return root.section.getSubsections();
+    }
+
+    /**
+     * Groups publications by the first active category they fit in.
+     *
+     * @param categories the active categories, in order
+     * @param index the index of these categories
+     * @return the dimension
+     */
+    static Dimension<Integer> byCategory(List<OutputCategory> categories, CategoryIndex index) {
+        final Map<OutputCategory, Integer> positions = new HashMap<>();
+
+        for (int i = 0; i < categories.size(); i++) {
+            positions.put(categories.get(i), i);
+        }
+
+        final OutputCategory[] byPosition = categories.toArray(new OutputCategory[categories.size()]);
+
+        return new Dimension<Integer>() {
+            @Override
+            Integer getKey(BibItem item) {
+                OutputCategory category = index.findCategory(item);
+                return (category == null ? null : positions.get(category));
+            }
+
+            @Override
+            Section createSection(Integer key) {
+                return new Section(byPosition[key]);
+            }
+
+            @Override
+            public int compare(Integer key1, Integer key2) {
+                return Integer.compare(key1, key2); // In the order of the categories
+            }
+
+            @Override
+            void warnForUngroupedItems(List<BibItem> items) {
+                Console.warn(Console.WarningType.ITEM_DOES_NOT_FIT_ANY_CATEGORY, "%d %s did not fit any category:%n%s", items.size(), (items.size() == 1 ? "entry" : "entries"), listIds(items));
+            }
+        };
+    }
+
+    /**
+     * Groups publications by year of publication, most recent first.
+     *
+     * @return the dimension
+     */
+    static Dimension<Integer> byYear() {
+        return new Dimension<Integer>() {
+            @Override
+            Integer getKey(BibItem item) {
+                return item.getDerivedData().getYear();
+            }
+
+            @Override
+            Section createSection(Integer key) {
+                return new Section(key.toString(), key.toString());
+            }
+
+            @Override
+            public int compare(Integer key1, Integer key2) {
+                return Integer.compare(key2, key1);
+            }
+
+            @Override
+            void warnForUngroupedItems(List<BibItem> items) {
+                Console.warn(Console.WarningType.ITEM_DOES_NOT_FIT_ANY_CATEGORY, "%d %s does not have a valid publication year:%n%s", items.size(), (items.size() == 1 ? "entry" : "entries"), listIds(items));
+            }
+        };
+    }
+
+    /**
+     * Groups publications by their BibTeX type, like "article" or "book", in
+     * alphabetical order.
+     *
+     * @return the dimension
+     */
+    static Dimension<String> byType() {
+        return new Dimension<String>() {
+            @Override
+            String getKey(BibItem item) {
+                return item.getOriginalType();
+            }
+
+            @Override
+            Section createSection(String key) {
+                return new Section(key, key);
+            }
+
+            @Override
+            public int compare(String key1, String key2) {
+                return key1.compareTo(key2);
+            }
+        };
+    }
+
+    /**
+     * Groups publications by the journal or, if that is not set, the
+     * proceedings they appeared in, in alphabetical order. Publications that
+     * have neither stay in the section above.
+     *
+     * @return the dimension
+     */
+    static Dimension<String> byVenue() {
+        return new Dimension<String>() {
+            @Override
+            String getKey(BibItem item) {
+                for (String field : new String[]{"journal", "booktitle"}) {
+                    String venue = item.get(field);
+
+                    if (venue != null && !venue.isEmpty()) {
+                        return venue;
+                    }
+                }
+
+                return null;
+            }
+
+            @Override
+            Section createSection(String key) {
+                return new Section(key, key);
+            }
+
+            @Override
+            public int compare(String key1, String key2) {
+                return key1.compareTo(key2);
+            }
+        };
+    }
+
+    /**
+     * Groups publications by the group of their first author that has one,
+     * in alphabetical order. Publications without such an author stay in the
+     * section above.
+     *
+     * @return the dimension
+     */
+    static Dimension<String> byAuthorGroup() {
+        return new Dimension<String>() {
+            @Override
+            String getKey(BibItem item) {
+                for (Author author : item.getAuthors()) {
+                    String group = author.getGroup();
+
+                    if (group != null && !group.isEmpty()) {
+                        return group;
+                    }
+                }
+
+                return null;
+            }
+
+            @Override
+            Section createSection(String key) {
+                return new Section(key, key);
+            }
+
+            @Override
+            public int compare(String key1, String key2) {
+                return key1.compareTo(key2);
+            }
+        };
+    }
+
+    /**
+     * A property that publications can be grouped by. Every distinct key gets
+     * its own section, and sections are ordered by comparing their keys.
+     *
+     * @param <K> the type of the keys
+     */
+    static abstract class Dimension<K> implements Comparator<K> {
+
+        /**
+         * Gets the key of the given publication. This is called from several
+         * threads at once, so it must not modify any shared state.
+         *
+         * @param item the publication
+         * @return the key, or null if the publication cannot be grouped by
+         * this dimension
+         */
+        abstract K getKey(BibItem item);
+
+        /**
+         * Creates an empty section for the publications with the given key.
+         *
+         * @param key the key
+         * @return the section
+         */
+        abstract Section createSection(K key);
+
+        /**
+         * Reports publications that do not have a key for this dimension. The
+         * default implementation does nothing.
+         *
+         * @param items the publications, of which there is at least one
+         */
+        void warnForUngroupedItems(List<BibItem> items) {
+        }
+    }
+
+    private static String listIds(List<BibItem> items) {
+        StringBuilder ids = new StringBuilder();
+
+        for (BibItem item : items) {
+            if (ids.length() > 0) {
+                ids.append(", ");
+            }
+
+            ids.append('"').append(item.getId()).append('"');
+        }
+
+        return ids.toString();
+    }
+
+    /**
+     * A section under construction, with its sub-sections by key.
+     */
+    private static class Node {
+
+        final Section section;
+        final Map<Object, Node> children = new HashMap<>();
+
+        Node(Section section) {
+            this.section = section;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node getChild(Dimension<?> dimension, Object key) {
+            Node child = children.get(key);
+
+            if (child == null) {
+                child = new Node(((Dimension<Object>) dimension).createSection(key));
+                children.put(key, child);
+            }
+
+            return child;
+        }
+
+        /**
+         * Reports the publications that stay in this section and adds the
+         * sub-sections in order, recursively.
+         */
+        @SuppressWarnings("unchecked")
+        void build(List<? extends Dimension<?>> dimensions, int level) {
+            if (level == dimensions.size()) {
+                return;
+            }
+
+            final Dimension<Object> dimension = (Dimension<Object>) dimensions.get(level);
+
+            if (!section.getItems().isEmpty()) {
+                dimension.warnForUngroupedItems(section.getItems());
+            }
+
+            List<Object> keys = new ArrayList<>(children.keySet());
+            Collections.sort(keys, dimension);
+
+            List<Section> subsections = new ArrayList<>(keys.size());
+
+            for (Object key : keys) {
+                Node child = children.get(key);
+                child.build(dimensions, level + 1);
+                subsections.add(child.section);
+            }
+
+            section.setSubsections(subsections);
+        }
+    }
+
+    private PublicationGrouper() {
+    }
+}
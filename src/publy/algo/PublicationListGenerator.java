@@ -23,10 +23,14 @@ import publy.Console;
 import publy.data.Section;
 import publy.data.bibitem.BibItem;
 import publy.data.settings.Settings;
+import publy.io.BibItemWriter;
+import publy.io.FileExistenceCache;
 import publy.io.PublicationListWriter;
+import publy.io.StringCache;
 import publy.io.bibtex.BibtexPublicationListWriter;
 import publy.io.bibtexparser.ParseException;
 import publy.io.bibtexparser.PublicationListParser;
+import publy.io.bibtexparser.PublicationListSnapshot;
 import publy.io.html.HTMLPublicationListWriter;
 import publy.io.plain.PlainPublicationListWriter;
 
@@ -35,6 +39,17 @@ import publy.io.plain.PlainPublicationListWriter;
  */
 public class PublicationListGenerator {
 
+    /**
+     * The name of the file that caches parse results between runs. It is
+     * stored next to the settings file.
+     */
+    private static final String PARSE_CACHE_FILENAME = "PublyParseCache.dat";
+    /**
+     * The name of the file that holds a snapshot of the last parsed
+     * publication list. It is stored next to the settings file.
+     */
+    private static final String SNAPSHOT_FILENAME = "PublySnapshot.dat";
+
     /**
      * Parses the publication list, and generates all required versions.
      * <p>
@@ -49,6 +64,7 @@ public class PublicationListGenerator {
         boolean success = false;
 
         if (checkFileSettings(settings)) {
+            FileExistenceCache.clear(); // Linked files may have changed since the last run
             List<BibItem> items = parsePublications(settings);
 
             if (items != null) {
@@ -57,6 +73,9 @@ public class PublicationListGenerator {
                 writeTextVersion(settings, sections);
                 writeBibtexVersion(settings, sections);
                 success = writeHtmlVersion(settings, sections);
+
+                StringCache cache = BibItemWriter.getProcessedStringCache();
+                Console.debug("Processed strings: %d cache hits, %d misses.", cache.getHits(), cache.getMisses());
             }
 
             Console.log("Done.");
@@ -105,11 +124,51 @@ public class PublicationListGenerator {
      * @return a list of publications if no problems occurred, null otherwise
      */
     private static List<BibItem> parsePublications(Settings settings) {
-        List<BibItem> items = null;
+        Path publications = settings.getFileSettings().getPublications();
+
+        if (!settings.getFileSettings().isCacheParseResults()) {
+            try {
+                List<BibItem> items = PublicationListParser.parseFile(publications);
+                Console.log("Publications list \"%s\" parsed.", publications.getFileName());
+                return items;
+            } catch (IOException | ParseException ex) {
+                Console.except(ex, "Exception while parsing publications list:");
+                return null;
+            }
+        }
+
+        Path snapshotFile = Settings.getSettingsPath().resolveSibling(SNAPSHOT_FILENAME);
+        List<BibItem> items = PublicationListSnapshot.load(snapshotFile, publications);
+
+        if (items != null) {
+            Console.debug("Publications loaded from snapshot \"%s\".", snapshotFile);
+            Console.log("Publications list \"%s\" parsed.", publications.getFileName());
+            return items;
+        }
 
         try {
-            items = PublicationListParser.parseFile(settings.getFileSettings().getPublications());
-            Console.log("Publications list \"%s\" parsed.", settings.getFileSettings().getPublications().getFileName());
+            Path cacheFile = Settings.getSettingsPath().resolveSibling(PARSE_CACHE_FILENAME);
+            Console.MessageBuffer messages = Console.startBuffering();
+            boolean clean;
+
+            try {
+                items = PublicationListParser.parseFile(publications, cacheFile);
+            } finally {
+                Console.stopBuffering();
+                clean = messages.isEmpty();
+                messages.flush();
+            }
+
+            Console.log("Publications list \"%s\" parsed.", publications.getFileName());
+
+            if (clean) {
+                // The snapshot does not include messages, so only store it if there were none
+                try {
+                    PublicationListSnapshot.save(snapshotFile, publications, items);
+                } catch (IOException ex) {
+                    Console.warn(Console.WarningType.OTHER, "Could not write the snapshot \"%s\": %s", snapshotFile, ex.getMessage());
+                }
+            }
         } catch (IOException | ParseException ex) {
             Console.except(ex, "Exception while parsing publications list:");
         }
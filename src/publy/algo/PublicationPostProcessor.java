@@ -21,10 +21,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Set;
 import publy.Console;
 import publy.data.Author;
 import publy.data.Section;
@@ -34,6 +35,7 @@ import publy.data.bibitem.Type;
 import publy.data.category.OutputCategory;
 import publy.data.settings.GeneralSettings;
 import publy.data.settings.Settings;
+import publy.io.FileExistenceCache;
 
 /**
  *
@@ -62,6 +64,7 @@ public class PublicationPostProcessor {
      * <li> Checks for, and replaces certain fields with possible aliases.
      * <li> Removes publications that miss mandatory information.
      * <li> Checks for an arXiv version.
+     * <li> Computes the values derived from the fields of each publication.
      * <li> Categorizes the papers.
      * <li> Presents warnings for several common mistakes.
      * </ul>
@@ -76,6 +79,7 @@ public class PublicationPostProcessor {
         applyCrossref(items, itemsById);
         removeItemsWithMissingMandatoryFields(items);
         detectArxiv(items);
+        computeDerivedData(items);
 
         List<Section> sections = categorizePapers(settings, items);
 
@@ -136,32 +140,44 @@ public class PublicationPostProcessor {
      * @param items the publications to process
      */
     private static void processAliases(List<BibItem> items) {
-        for (BibItem item : items) {
-            for (String aliasField : aliases.keySet()) {
-                String aliasValue = item.get(aliasField);
+        WorkerPool.forEach(items, PublicationPostProcessor::processAliases);
+    }
 
-                if (aliasValue != null && !aliasValue.isEmpty()) {
-                    String standardField = aliases.get(aliasField);
-                    String standardValue = item.get(standardField);
+    private static void processAliases(BibItem item) {
+        for (String aliasField : aliases.keySet()) {
+            String aliasValue = item.get(aliasField);
 
-                    if (standardValue == null || standardValue.isEmpty()) {
-                        item.put(standardField, aliasValue);
-                    }
+            if (aliasValue != null && !aliasValue.isEmpty()) {
+                String standardField = aliases.get(aliasField);
+                String standardValue = item.get(standardField);
+
+                if (standardValue == null || standardValue.isEmpty()) {
+                    item.put(standardField, aliasValue);
                 }
             }
         }
     }
 
     /**
-     * Fills missing fields with information from cross-referenced publications.
+     * Lets publications inherit missing fields from cross-referenced
+     * publications.
      * <p>
      * Specifically, if publication A has its "crossref" field set to the id of
-     * publication B, then all fields of B that are not set on A will be copied
-     * to A.
+     * publication B, then all fields of B that are not set on A are inherited
+     * by A, including those that B inherits itself. The values are not copied;
+     * see {@link BibItem#setCrossref(BibItem)}.
+     * <p>
+     * Chains of cross-references are resolved from the referenced publications
+     * down. A cross-reference that would close a cycle is ignored, and a
+     * warning is printed, as for references to publications that do not
+     * exist.
      *
      * @param items the publications to process
      */
     private static void applyCrossref(List<BibItem> items, Map<String, BibItem> itemsById) {
+        // Find the cross-referenced publication of each publication
+        Map<BibItem, BibItem> sources = new IdentityHashMap<>();
+
         for (BibItem item : items) {
             String id = item.get("crossref");
 
@@ -171,14 +187,40 @@ public class PublicationPostProcessor {
                 if (source == null) {
                     Console.warn(Console.WarningType.MISSING_REFERENCE, "Publication \"%s\" (cross-referenced from \"%s\") does not exist.", id, item.getId());
                 } else {
-                    // Copy all missing fields from source to item
-                    for (String field : source.getFields()) {
-                        if (source.get(field) != null && !source.get(field).isEmpty()
-                                && (item.get(field) == null || item.get(field).isEmpty())) {
-                            item.put(field, source.get(field));
-                        }
-                    }
+                    sources.put(item, source);
+                }
+            }
+        }
+
+        // Link each chain, starting with the publication at the end of it
+        Set<BibItem> resolved = Collections.newSetFromMap(new IdentityHashMap<BibItem, Boolean>());
+
+        for (BibItem item : items) {
+            List<BibItem> chain = new ArrayList<>();
+            Set<BibItem> inChain = Collections.newSetFromMap(new IdentityHashMap<BibItem, Boolean>());
+            BibItem current = item;
+
+            while (current != null && !resolved.contains(current) && inChain.add(current)) {
+                chain.add(current);
+                current = sources.get(current);
+            }
+
+            if (current != null && inChain.contains(current)) {
+                // The last publication in the chain refers back to current
+                BibItem last = chain.get(chain.size() - 1);
+                Console.warn(Console.WarningType.MISSING_REFERENCE, "Publication \"%s\" (cross-referenced from \"%s\") is part of a cycle of cross-references. This cross-reference was ignored.", current.getId(), last.getId());
+                sources.remove(last);
+            }
+
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                BibItem link = chain.get(i);
+                BibItem source = sources.get(link);
+
+                if (source != null) {
+                    link.setCrossref(source);
                 }
+
+                resolved.add(link);
             }
         }
     }
@@ -192,18 +234,31 @@ public class PublicationPostProcessor {
      * @param items the publications to process
      */
     private static void removeItemsWithMissingMandatoryFields(List<BibItem> items) {
-        ListIterator<BibItem> it = items.listIterator();
-        int removedCount = 0;
+        // Check in parallel, holding back the error messages so they are shown in the order of the list
+        List<Console.MessageBuffer> errors = WorkerPool.map(items, item -> {
+            Console.MessageBuffer messages = Console.startBuffering();
 
-        while (it.hasNext()) {
-            BibItem item = it.next();
+            try {
+                return (item.checkMandatoryFields() ? null : messages);
+            } finally {
+                Console.stopBuffering();
+            }
+        });
 
-            if (!item.checkMandatoryFields()) {
-                it.remove();
+        // Keep the complete publications, in order, in a single pass
+        int removedCount = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            if (errors.get(i) == null) {
+                items.set(i - removedCount, items.get(i));
+            } else {
+                errors.get(i).flush();
                 removedCount++;
             }
         }
 
+        items.subList(items.size() - removedCount, items.size()).clear();
+
         if (removedCount > 0) {
             if (removedCount == 1) {
                 Console.error("This publication was omitted from the list.");
@@ -223,82 +278,107 @@ public class PublicationPostProcessor {
      * @param items the publications to process
      */
     private static void detectArxiv(List<BibItem> items) {
-        for (BibItem item : items) {
-            // If this entry has an arxiv and primaryclass field, it's done
-            String arxiv = item.get("arxiv");
-            String primaryClass = item.get("primaryclass");
+        // Publications can inherit fields from each other, so only read them in parallel
+        List<String[]> found = WorkerPool.map(items, PublicationPostProcessor::findArxiv);
+
+        for (int i = 0; i < items.size(); i++) {
+            String arxiv = found.get(i)[0];
+            String primaryClass = found.get(i)[1];
 
             if (arxiv != null) {
-                if (arxiv.startsWith("http://arxiv.org/abs/")) {
-                    arxiv = arxiv.substring("http://arxiv.org/abs/".length()).trim();
-                }
+                items.get(i).put("arxiv", arxiv);
             }
 
-            if (arxiv == null || primaryClass == null) {
-                if (arxiv == null) {
-                    // Other fields might specify the arxiv identifier
-                    String eprint = item.get("eprint");
+            if (primaryClass != null) {
+                items.get(i).put("primaryclass", primaryClass);
+            }
+        }
+    }
 
-                    if (eprint == null) {
-                        for (String field : item.getFields()) {
-                            String value = item.get(field);
+    /**
+     * Gets the arXiv identifier and primary class of the given publication,
+     * either of which may be null.
+     */
+    private static String[] findArxiv(BibItem item) {
+        // If this entry has an arxiv and primaryclass field, it's done
+        String arxiv = item.get("arxiv");
+        String primaryClass = item.get("primaryclass");
+
+        if (arxiv != null) {
+            if (arxiv.startsWith("http://arxiv.org/abs/")) {
+                arxiv = arxiv.substring("http://arxiv.org/abs/".length()).trim();
+            }
+        }
 
-                            if (value != null && value.startsWith("http://arxiv.org/abs/")) {
-                                arxiv = value.substring("http://arxiv.org/abs/".length()).trim();
-                            }
-                        }
-                    } else if (eprint.startsWith("http")) {
-                        if (eprint.startsWith("http://arxiv.org/abs/")) {
-                            arxiv = eprint.substring("http://arxiv.org/abs/".length()).trim();
-                        }
-                    } else {
-                        String prefix = item.get("archiveprefix");
-
-                        if (prefix == null || prefix.equalsIgnoreCase("arXiv")) {
-                            // eprint is most likely an old arXiv identifier of the form "class/arxivid"
-                            if (eprint.contains("/")) {
-                                // class/arxivid
-                                int index = eprint.indexOf('/');
-                                primaryClass = eprint.substring(0, index).trim();
-                                arxiv = eprint.substring(index + 1).trim();
-                            } else if (eprint.contains("[") && eprint.contains("]")) {
-                                // arxivid [class]
-                                int index1 = eprint.indexOf('[');
-                                int index2 = eprint.indexOf(']');
-
-                                primaryClass = eprint.substring(index1 + 1, index2).trim();
-                                arxiv = eprint.substring(0, index1).trim();
-                            } else {
-                                arxiv = eprint;
-                            }
+        if (arxiv == null || primaryClass == null) {
+            if (arxiv == null) {
+                // Other fields might specify the arxiv identifier
+                String eprint = item.get("eprint");
+
+                if (eprint == null) {
+                    for (String field : item.getFields()) {
+                        String value = item.get(field);
+
+                        if (value != null && value.startsWith("http://arxiv.org/abs/")) {
+                            arxiv = value.substring("http://arxiv.org/abs/".length()).trim();
                         }
                     }
+                } else if (eprint.startsWith("http")) {
+                    if (eprint.startsWith("http://arxiv.org/abs/")) {
+                        arxiv = eprint.substring("http://arxiv.org/abs/".length()).trim();
+                    }
                 } else {
-                    // Arxiv identifier, but no primary class yet
-                    if (arxiv.contains("/")) {
-                        // class/arxivid
-                        int index = arxiv.indexOf('/');
-                        primaryClass = arxiv.substring(0, index).trim();
-                        arxiv = arxiv.substring(index + 1).trim();
-                    } else if (arxiv.contains("[") && arxiv.contains("]")) {
-                        // arxivid [class]
-                        int index1 = arxiv.indexOf('[');
-                        int index2 = arxiv.indexOf(']');
-
-                        primaryClass = arxiv.substring(index1 + 1, index2).trim();
-                        arxiv = arxiv.substring(0, index1).trim();
+                    String prefix = item.get("archiveprefix");
+
+                    if (prefix == null || prefix.equalsIgnoreCase("arXiv")) {
+                        // eprint is most likely an old arXiv identifier of the form "class/arxivid"
+                        if (eprint.contains("/")) {
+                            // class/arxivid
+                            int index = eprint.indexOf('/');
+                            primaryClass = eprint.substring(0, index).trim();
+                            arxiv = eprint.substring(index + 1).trim();
+                        } else if (eprint.contains("[") && eprint.contains("]")) {
+                            // arxivid [class]
+                            int index1 = eprint.indexOf('[');
+                            int index2 = eprint.indexOf(']');
+
+                            primaryClass = eprint.substring(index1 + 1, index2).trim();
+                            arxiv = eprint.substring(0, index1).trim();
+                        } else {
+                            arxiv = eprint;
+                        }
                     }
                 }
+            } else {
+                // Arxiv identifier, but no primary class yet
+                if (arxiv.contains("/")) {
+                    // class/arxivid
+                    int index = arxiv.indexOf('/');
+                    primaryClass = arxiv.substring(0, index).trim();
+                    arxiv = arxiv.substring(index + 1).trim();
+                } else if (arxiv.contains("[") && arxiv.contains("]")) {
+                    // arxivid [class]
+                    int index1 = arxiv.indexOf('[');
+                    int index2 = arxiv.indexOf(']');
+
+                    primaryClass = arxiv.substring(index1 + 1, index2).trim();
+                    arxiv = arxiv.substring(0, index1).trim();
+                }
             }
+        }
 
-            if (arxiv != null) {
-                item.put("arxiv", arxiv);
-            }
+        return new String[]{arxiv, primaryClass};
+    }
 
-            if (primaryClass != null) {
-                item.put("primaryclass", primaryClass);
-            }
-        }
+    /**
+     * Computes the values derived from the fields of each publication, now
+     * that all fields are final, so that the grouping and all writers can use
+     * them.
+     *
+     * @param items the publications to process
+     */
+    private static void computeDerivedData(List<BibItem> items) {
+        WorkerPool.forEach(items, BibItem::getDerivedData);
     }
 
     /**
@@ -309,145 +389,40 @@ public class PublicationPostProcessor {
      * first category that it matches. If there are papers that do not match any
      * category, a warning message is shown.
      * <p>
-     * If grouping by year is desired, the categories are split further by year
-     * or the years are split by category, depending on preferences.
+     * The sections are nested by the grouping dimensions of the settings, like
+     * year, type or venue, in order. The category is one of these levels.
      *
      * @param settings the configuration settings to use
      * @param items the publications to process
      * @return the sections containing all matched publications
      */
     private static List<Section> categorizePapers(Settings settings, List<BibItem> items) {
-        // Create a virtual section with all papers.
-        Section master = new Section("Master", null);
-        master.getItems().addAll(items);
-
-        if (settings.getGeneralSettings().getGrouping() == GeneralSettings.Grouping.NO_GROUPING) {
-            groupByCategory(settings, master);
-        } else if (settings.getGeneralSettings().getGrouping() == GeneralSettings.Grouping.GROUP_BY_YEAR) {
-            if (settings.getGeneralSettings().isGroupWithinCategories()) {
-                groupByCategory(settings, master);
-
-                for (Section category : master.getSubsections()) {
-                    groupByYear(category);
-                }
-            } else {
-                groupByYear(master);
+        List<PublicationGrouper.Dimension<?>> dimensions = new ArrayList<>();
 
-                for (Section year : master.getSubsections()) {
-                    groupByCategory(settings, year);
-                }
-            }
-        }
-
-        return master.getSubsections();
-    }
-
-    /**
-     * Splits the given section into sub-sections by category.
-     *
-     * @param settings the configuration settings to use
-     * @param section the section to split
-     */
-    private static void groupByCategory(Settings settings, Section section) {
-        // Create an empty section for each category
-        Map<OutputCategory, Section> sections = new LinkedHashMap<>();
-
-        for (OutputCategory c : settings.getCategorySettings().getActiveCategories()) {
-            sections.put(c, new Section(c));
-        }
-
-        // Assign each paper to the correct category
-        for (ListIterator<BibItem> it = section.getItems().listIterator(); it.hasNext();) {
-            BibItem item = it.next();
-
-            for (OutputCategory c : settings.getCategorySettings().getActiveCategories()) {
-                if (c.fitsCategory(item)) {
-                    sections.get(c).addItem(item);
-                    it.remove();
+        for (GeneralSettings.GroupingDimension dimension : settings.getGeneralSettings().getGroupingDimensions()) {
+            switch (dimension) {
+                case CATEGORY:
+                    List<OutputCategory> active = settings.getCategorySettings().getActiveCategories();
+                    dimensions.add(PublicationGrouper.byCategory(active, CategoryIndex.getIndex(settings.getCategorySettings())));
                     break;
-                }
-            }
-        }
-
-        // Warn for remaining items
-        if (!section.getItems().isEmpty()) {
-            String ids = "";
-
-            for (BibItem item : section.getItems()) {
-                ids += "\"" + item.getId() + "\", ";
-            }
-
-            ids = ids.substring(0, ids.length() - 2); // Cut off the last ", "
-
-            Console.warn(Console.WarningType.ITEM_DOES_NOT_FIT_ANY_CATEGORY, "%d %s did not fit any category:%n%s", section.getItems().size(), (section.getItems().size() == 1 ? "entry" : "entries"), ids);
-        }
-
-        // Add all non-empty sections as subsections
-        List<Section> result = new ArrayList<>(sections.size());
-
-        for (Section s : sections.values()) {
-            if (!s.getItems().isEmpty()) {
-                result.add(s);
-            }
-        }
-
-        section.setSubsections(result);
-    }
-
-    /**
-     * Splits the given section into sub-sections by year of publication.
-     *
-     * @param settings the configuration settings to use
-     * @param section the section to split
-     */
-    private static void groupByYear(Section section) {
-        Map<Integer, Section> sections = new HashMap<>();
-
-        // Assign each paper to the correct section, creating one if it does not yet exist
-        for (ListIterator<BibItem> it = section.getItems().listIterator(); it.hasNext();) {
-            BibItem item = it.next();
-
-            try {
-                Integer year = Integer.parseInt(item.get("year"));
-                Section yearSection = sections.get(year);
-
-                if (yearSection == null) {
-                    yearSection = new Section(year.toString(), year.toString());
-                    sections.put(year, yearSection);
-                }
-
-                yearSection.addItem(item);
-                it.remove();
-            } catch (NumberFormatException nfe) {
-                // Either the publication has no year set, or it is not a valid integer
-                // Either way, we just leave it in the super-section
+                case YEAR:
+                    dimensions.add(PublicationGrouper.byYear());
+                    break;
+                case TYPE:
+                    dimensions.add(PublicationGrouper.byType());
+                    break;
+                case VENUE:
+                    dimensions.add(PublicationGrouper.byVenue());
+                    break;
+                case AUTHOR_GROUP:
+                    dimensions.add(PublicationGrouper.byAuthorGroup());
+                    break;
+                default:
+                    throw new AssertionError("Unknown grouping dimension: " + dimension);
             }
         }
 
-        // Warn for remaining items
-        if (!section.getItems().isEmpty()) {
-            String ids = "";
-
-            for (BibItem item : section.getItems()) {
-                ids += "\"" + item.getId() + "\", ";
-            }
-
-            ids = ids.substring(0, ids.length() - 2); // Cut off the last ", "
-
-            Console.warn(Console.WarningType.ITEM_DOES_NOT_FIT_ANY_CATEGORY, "%d %s does not have a valid publication year:%n%s", section.getItems().size(), (section.getItems().size() == 1 ? "entry" : "entries"), ids);
-        }
-
-        // Add all non-empty sections as subsections, in sorted order
-        List<Integer> years = new ArrayList<>(sections.keySet());
-        Collections.sort(years, Collections.reverseOrder());
-
-        List<Section> result = new ArrayList<>(sections.size());
-
-        for (Integer year : years) {
-            result.add(sections.get(year));
-        }
-
-        section.setSubsections(result);
+        return PublicationGrouper.group(items, dimensions);
     }
 
     /**
@@ -500,33 +475,14 @@ public class PublicationPostProcessor {
      * @param settings the configuration settings to use
      * @param items the publications to process
      */
-    private static void warnIfIAmNotAuthor(Settings settings, List<BibItem> items) {
+    private static void warnIfIAmNotAuthor(final Settings settings, List<BibItem> items) {
         if (settings.getConsoleSettings().isShowWarnings() && settings.getConsoleSettings().isWarnNotAuthor()) {
             List<BibItem> notAuthoredByMe = new ArrayList<>();
+            List<Boolean> authoredByMe = WorkerPool.map(items, item -> isAuthorOrEditor(settings, item));
 
-            for (BibItem item : items) {
-                boolean imAuthor = false;
-
-                for (Author author : item.getAuthors()) {
-                    if (author.isMe(settings.getGeneralSettings())) {
-                        imAuthor = true;
-                        break;
-                    }
-                }
-
-                if (!imAuthor) {
-                    boolean imEditor = false;
-
-                    for (Author editor : item.getEditors()) {
-                        if (editor.isMe(settings.getGeneralSettings())) {
-                            imEditor = true;
-                            break;
-                        }
-                    }
-
-                    if (!imEditor) {
-                        notAuthoredByMe.add(item);
-                    }
+            for (int i = 0; i < items.size(); i++) {
+                if (!authoredByMe.get(i)) {
+                    notAuthoredByMe.add(items.get(i));
                 }
             }
 
@@ -541,6 +497,22 @@ public class PublicationPostProcessor {
         }
     }
 
+    private static boolean isAuthorOrEditor(Settings settings, BibItem item) {
+        for (Author author : item.getAuthors()) {
+            if (author.isMe(settings.getGeneralSettings())) {
+                return true;
+            }
+        }
+
+        for (Author editor : item.getEditors()) {
+            if (editor.isMe(settings.getGeneralSettings())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private static String getMyNames(Settings settings) {
         StringBuilder myNames = new StringBuilder();
 
@@ -580,12 +552,15 @@ public class PublicationPostProcessor {
      * @param sections
      */
     private static void warnForMissingReferences(Settings settings, List<BibItem> items, List<Section> sections) {
+        Set<String> ids = Section.getAllIds(sections);
+        List<Reference> references = new ArrayList<>();
+
         for (BibItem item : items) {
             // Check 'file' links
             String path = item.get("file");
 
             if (path != null && !path.isEmpty()) {
-                checkFileExistance(settings, item.get("file"), "file", item);
+                references.add(new Reference(item, "file", path, resolveLinkedFile(settings, path)));
             }
 
             // Check all 'link' links
@@ -601,68 +576,88 @@ public class PublicationPostProcessor {
 
                         if (target.startsWith("#")) {
                             // Link to another paper
-                            checkIdExistance(target.substring(1), attribute, item, sections);
+                            references.add(new Reference(item, attribute, target.substring(1), null));
                         } else if (target.contains(":")) {
                             // Most file systems prohibit colons in file names, so
                             // it seems safe to assume that this indicates an
                             // absolute URI and as such, should be fine.
                         } else {
                             // Most likely link to a file on disk
-                            checkFileExistance(settings, target, attribute, item);
+                            references.add(new Reference(item, attribute, target, resolveLinkedFile(settings, target)));
                         }
                     }
                 }
             }
         }
+
+        // Check all files at once, then report the results in order
+        List<Path> files = new ArrayList<>();
+
+        for (Reference reference : references) {
+            if (reference.file != null) {
+                files.add(reference.file);
+            }
+        }
+
+        FileExistenceCache.prefetch(files);
+
+        for (Reference reference : references) {
+            if (reference.file == null) {
+                checkIdExistance(reference.target, reference.attribute, reference.item, ids);
+            } else {
+                checkFileExistance(reference.target, reference.file, reference.attribute, reference.item);
+            }
+        }
+    }
+
+    private static Path resolveLinkedFile(Settings settings, String path) {
+        return settings.getFileSettings().getTarget().resolveSibling(path);
     }
 
     /**
      * Checks whether the given path corresponds to an existing file, when
      * resolved from the HTML target location, prints a warning if it doesn't
      *
-     * @param settings
      * @param path
+     * @param file the path, resolved from the HTML target location
      * @param attr
      * @param item
      */
-    private static void checkFileExistance(Settings settings, String path, String attr, BibItem item) {
-        Path file = settings.getFileSettings().getTarget().resolveSibling(path);
-
-        if (Files.notExists(file)) {
+    private static void checkFileExistance(String path, Path file, String attr, BibItem item) {
+        if (!FileExistenceCache.exists(file)) {
             Console.warn(Console.WarningType.MISSING_REFERENCE, "File \"%s\" (linked in attribute \"%s\" of publication \"%s\") cannot be found at \"%s\".", path, attr, item.getId(), file);
         }
     }
 
     /**
-     * Checks whether a BibItem with the given id is in any of the given
-     * sections or sub-sections, prints a warning if it doesn't.
+     * Checks whether a BibItem with the given id is in the final list, prints a
+     * warning if it isn't.
      *
      * @param id
+     * @param ids the identifiers of all publications in the final list
      */
-    private static void checkIdExistance(String id, String attr, BibItem item, List<Section> sections) {
-        for (Section s : sections) {
-            if (checkIdExists(id, s)) {
-                return;
-            }
+    private static void checkIdExistance(String id, String attr, BibItem item, Set<String> ids) {
+        if (!ids.contains(id)) {
+            Console.warn(Console.WarningType.MISSING_REFERENCE, "Publication \"%s\" (linked in attribute \"%s\" of publication \"%s\") is not in the final list.", id, attr, item.getId());
         }
-
-        Console.warn(Console.WarningType.MISSING_REFERENCE, "Publication \"%s\" (linked in attribute \"%s\" of publication \"%s\") is not in the final list.", id, attr, item.getId());
     }
 
-    private static boolean checkIdExists(String id, Section section) {
-        for (BibItem i : section.getItems()) {
-            if (i.getId().equals(id)) {
-                return true;
-            }
-        }
-
-        for (Section subsection : section.getSubsections()) {
-            if (checkIdExists(id, subsection)) {
-                return true;
-            }
+    /**
+     * A link from a publication to another publication or to a file.
+     */
+    private static class Reference {
+
+        final BibItem item;
+        final String attribute;
+        final String target; // The identifier of the publication, or the path of the file
+        final Path file; // The resolved file, or null for links to publications
+
+        Reference(BibItem item, String attribute, String target, Path file) {
+            this.item = item;
+            this.attribute = attribute;
+            this.target = target;
+            this.file = file;
         }
-
-        return false;
     }
 
     private PublicationPostProcessor() {
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The threads that parse and process publications in parallel.
+ * <p>
+ * The work is split into ranges of consecutive publications, and the results
+ * are returned in the order of the publications, so the outcome does not
+ * depend on the number of threads. Tasks must not print any messages, as
+ * these would appear in an unpredictable order; they should return what they
+ * found instead, so it can be reported afterwards.
+ */
+public class WorkerPool {
+
+    private static final int MIN_RANGE = 256; // Smaller ranges are not worth splitting further
+    private static int threads = Runtime.getRuntime().availableProcessors();
+    private static ForkJoinPool pool = null;
+
+    /**
+     * Gets the number of threads used to parse and process publications.
+     *
+     * @return the number of threads
+     */
+    public static synchronized int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads used to parse and process publications. The
+     * default is the number of available processors.
+     *
+     * @param threads the new number of threads, at least 1
+     */
+    public static synchronized void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be at least 1, not " + threads + ".");
+        }
+
+        if (threads != WorkerPool.threads) {
+            WorkerPool.threads = threads;
+
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+    }
+
+    /**
+     * Performs the given task for every item.
+     *
+     * @param <T> the type of the items
+     * @param items the items
+     * @param task the task
+     */
+    public static <T> void forEach(final List<T> items, final Consumer<? super T> task) {
+        run(items.size(), new Range() {
+            @Override
+            void compute(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    task.accept(items.get(i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Applies the given function to every item.
+     *
+     * @param <T> the type of the items
+     * @param <R> the type of the results
+     * @param items the items
+     * @param function the function
+     * @return the results, in the order of the items
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> map(final List<T> items, final Function<? super T, ? extends R> function) {
+        final Object[] results = new Object[items.size()];
+
+        run(items.size(), new Range() {
+            @Override
+            void compute(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    results[i] = function.apply(items.get(i));
+                }
+            }
+        });
+
+        return (List<R>) Arrays.asList(results);
+    }
+
+    /**
+     * Performs the given tasks, and waits until all of them are done. Unlike
+     * the other methods, this does not split the work any further, so each
+     * task should be large.
+     *
+     * @param <T> the type of the results
+     * @param tasks the tasks
+     * @return the completed tasks, in the order of the tasks
+     */
+    public static <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks) {
+        ForkJoinPool currentPool = getPool();
+
+        if (currentPool != null && tasks.size() > 1) {
+            return currentPool.invokeAll(tasks);
+        }
+
+        List<Future<T>> results = new ArrayList<>(tasks.size());
+
+        for (Callable<T> task : tasks) {
+            FutureTask<T> result = new FutureTask<>(task);
+            result.run();
+            results.add(result);
+        }
+
+        return results;
+    }
+
+    private static void run(int size, Range range) {
+        ForkJoinPool currentPool = getPool();
+
+        if (currentPool == null || size <= MIN_RANGE) {
+            range.compute(0, size);
+        } else {
+            currentPool.invoke(new RangeAction(range, 0, size));
+        }
+    }
+
+    /**
+     * Gets the pool, or null if only a single thread should be used.
+     */
+    private static synchronized ForkJoinPool getPool() {
+        if (threads == 1) {
+            return null;
+        }
+
+        if (pool == null) {
+            pool = new ForkJoinPool(threads);
+        }
+
+        return pool;
+    }
+
+    private static abstract class Range {
+
+        /**
+         * Processes the items from index {@code from} up to, but not including,
+         * index {@code to}.
+         */
+        abstract void compute(int from, int to);
+    }
+
+    private static class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final Range range;
+        private final int from, to;
+
+        RangeAction(Range range, int from, int to) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MIN_RANGE) {
+                range.compute(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeAction(range, from, middle), new RangeAction(range, middle, to));
+            }
+        }
+    }
+
+    private WorkerPool() {
+    }
+}
@@ -43,6 +43,7 @@ public class Author {
     private String url; // The url associated with this author
     private String group; // The group associated with this author
     private final String name; // The name in LaTeX format, as given in the input
+    private FormattedName formattedName = null; // The most recent result of getFormattedName
 
     /**
      * Creates a new Author from the given LaTeX name.
@@ -70,6 +71,27 @@ public class Author {
         juniorPart = nameParts.get(3);
     }
 
+    /**
+     * Creates a new Author from a LaTeX name that was already split into its
+     * four parts, for example by an earlier instance.
+     *
+     * @param abbreviation the abbreviation associated with this author in the
+     * input file
+     * @param name the author's name, using LaTeX syntax
+     * @param firstName the first name
+     * @param vonPart the von part
+     * @param lastName the last name
+     * @param juniorPart the junior part
+     */
+    public Author(String abbreviation, String name, String firstName, String vonPart, String lastName, String juniorPart) {
+        this.abbreviation = abbreviation;
+        this.name = name;
+        this.firstName = firstName;
+        this.vonPart = vonPart;
+        this.lastName = lastName;
+        this.juniorPart = juniorPart;
+    }
+
     /**
      * Gets the abbreviation that is used to refer to this author in the input
      * file.
@@ -180,6 +202,18 @@ public class Author {
      * @return the formatted name
      */
     public String getFormattedName(GeneralSettings.FirstNameDisplay display, boolean reversed) {
+        // Authors are shared between publications, and every writer formats them in the same way
+        FormattedName formatted = formattedName;
+
+        if (formatted == null || formatted.display != display || formatted.reversed != reversed) {
+            formatted = new FormattedName(display, reversed, formatName(display, reversed));
+            formattedName = formatted;
+        }
+
+        return formatted.name;
+    }
+
+    private String formatName(GeneralSettings.FirstNameDisplay display, boolean reversed) {
         // First von Last, Jr OR von Last, Jr, First
         String result = "";
 
@@ -505,4 +539,21 @@ public class Author {
     public String toString() {
         return name;
     }
+
+    /**
+     * A formatted name, together with the settings used to format it. Since
+     * all fields are final, an instance can be shared between threads safely.
+     */
+    private static class FormattedName {
+
+        final GeneralSettings.FirstNameDisplay display;
+        final boolean reversed;
+        final String name;
+
+        FormattedName(GeneralSettings.FirstNameDisplay display, boolean reversed, String name) {
+            this.display = display;
+            this.reversed = reversed;
+            this.name = name;
+        }
+    }
 }
@@ -15,8 +15,6 @@
  */
 package publy.data;
 
-import java.util.HashSet;
-import java.util.Set;
 import publy.data.bibitem.BibItem;
 
 /**
@@ -42,21 +40,6 @@ public enum PublicationStatus {
 
     NONE, PUBLISHED, ACCEPTED, ARXIV, ALL;
 
-    /**
-     * All {@code pubstate} values which are classified as ACCEPTED.
-     */
-    private static final Set<String> ACCEPTED_STATES;
-
-    static {
-        ACCEPTED_STATES = new HashSet<>();
-
-        ACCEPTED_STATES.add("accepted");
-        ACCEPTED_STATES.add("acceptedrev");
-        ACCEPTED_STATES.add("forthcoming");
-        ACCEPTED_STATES.add("inpress");
-        ACCEPTED_STATES.add("prepublished");
-    }
-
     @Override
     public String toString() {
         switch (this) {
@@ -93,40 +76,11 @@ public enum PublicationStatus {
      * @return true if {@code item} matches {@code type}, false otherwise
      */
     public static boolean matches(PublicationStatus type, BibItem item) {
-        if (type == ALL) {
-            return true;
-        }
-
         if (type == NONE) {
             return false;
         }
 
-        // The type is either PUBLISHED, ACCEPTED, or ARXIV
-        String pubstate = item.get("pubstate");
-
-        if (pubstate == null || pubstate.isEmpty()) {
-            // The paper has been published, matching all remaining types
-            return true;
-        }
-
-        // The paper has not been published
-        if (type == PUBLISHED) {
-            return false;
-        }
-
-        // The type is either ACCEPTED or ARXIV
-        if (ACCEPTED_STATES.contains(pubstate)) {
-            // The paper has been accepted, matching all remaining types
-            return true;
-        }
-
-        // The paper has not been accepted
-        if (type == ACCEPTED) {
-            return false;
-        }
-
-        // The type is ARXIV
-        String arxiv = item.get("arxiv");
-        return arxiv != null && !arxiv.isEmpty();
+        // Each type includes all publications that match the types before it
+        return type.compareTo(item.getDerivedData().getStatus()) >= 0;
     }
 }
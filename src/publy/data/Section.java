@@ -16,7 +16,9 @@
 package publy.data;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import publy.data.bibitem.BibItem;
 import publy.data.category.OutputCategory;
 
@@ -142,6 +144,36 @@ public class Section {
         return count;
     }
 
+    /**
+     * Collects the identifiers of all publications in the given sections and
+     * their sub-sections.
+     * <p>
+     * This allows any number of identifiers to be looked up in constant time,
+     * for instance to verify links between publications.
+     *
+     * @param sections the sections
+     * @return a set containing the identifiers of all publications
+     */
+    public static Set<String> getAllIds(List<Section> sections) {
+        Set<String> ids = new HashSet<>();
+
+        for (Section section : sections) {
+            section.addAllIds(ids);
+        }
+
+        return ids;
+    }
+
+    private void addAllIds(Set<String> ids) {
+        for (BibItem item : items) {
+            ids.add(item.getId());
+        }
+
+        for (Section subsection : subsections) {
+            subsection.addAllIds(ids);
+        }
+    }
+
     /**
      * Gets the sub-sections of this section.
      *
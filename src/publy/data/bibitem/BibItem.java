@@ -17,7 +17,6 @@ package publy.data.bibitem;
 
 import publy.data.Author;
 import java.util.*;
-import java.util.Map.Entry;
 import publy.Console;
 
 /**
@@ -31,6 +30,9 @@ public class BibItem {
     private final HashMap<String, String> values;
     private final List<Author> authors;
     private final List<Author> editors;
+    private BibItem crossref = null; // The publication that missing fields are inherited from
+    private Map<String, String> renderedValues = null; // Created when the first value is stored
+    private volatile DerivedData derivedData = null; // Computed when first needed
 
     /**
      * Creates a new publication with the given type and identifier.
@@ -101,13 +103,26 @@ public class BibItem {
 
     /**
      * Gets the value associated with the specified field.
+     * <p>
+     * If this publication has no value for the field, or only an empty one,
+     * the value is inherited from the cross-referenced publication, if any.
      *
      * @param field the field to look up
      * @return the value associated with this field, or null if no such value
      * exists
      */
     public String get(String field) {
-        return values.get(field);
+        String value = values.get(field);
+
+        if (crossref != null && (value == null || value.isEmpty())) {
+            String inherited = crossref.get(field);
+
+            if (inherited != null && !inherited.isEmpty()) {
+                return inherited;
+            }
+        }
+
+        return value;
     }
 
     /**
@@ -118,19 +133,83 @@ public class BibItem {
      */
     public void put(String field, String value) {
         values.put(field, value);
+        derivedData = null;
+        clearRenderedValues();
     }
 
     /**
      * Gets all fields of this publication.
      * <p>
-     * This includes fields that were set in the input file, and fields that
-     * have been set by Publy afterwards. There is no guarantee that these
-     * fields have non-null or non-empty values.
+     * This includes fields that were set in the input file, fields that have
+     * been set by Publy afterwards, and fields with a non-empty value that are
+     * inherited from the cross-referenced publication. There is no guarantee
+     * that the other fields have non-null or non-empty values.
      *
      * @return a set containing all fields
      */
     public Set<String> getFields() {
-        return values.keySet();
+        if (crossref == null) {
+            return values.keySet();
+        }
+
+        Set<String> fields = new LinkedHashSet<>(values.keySet());
+
+        for (String field : crossref.getFields()) {
+            String inherited = crossref.get(field);
+
+            if (inherited != null && !inherited.isEmpty()) {
+                fields.add(field);
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Gets the publication that this publication inherits missing fields
+     * from.
+     *
+     * @return the cross-referenced publication, or null if there is none
+     */
+    public BibItem getCrossref() {
+        return crossref;
+    }
+
+    /**
+     * Sets the publication that this publication inherits missing fields
+     * from. Its values are not copied, so later changes to it are visible
+     * through this publication, and so are the values it inherits itself.
+     * <p>
+     * The caller is responsible for ensuring that the cross-references do
+     * not form a cycle.
+     *
+     * @param crossref the cross-referenced publication, or null to stop
+     * inheriting fields
+     */
+    public void setCrossref(BibItem crossref) {
+        this.crossref = crossref;
+        derivedData = null;
+        clearRenderedValues();
+    }
+
+    /**
+     * Gets the values derived from the fields of this publication, like its
+     * year as a number. They are computed when first needed, and again after
+     * a field or the cross-referenced publication is set. Changes to the
+     * fields of the cross-referenced publication itself are not detected.
+     *
+     * @return the derived values
+     */
+    public DerivedData getDerivedData() {
+        DerivedData data = derivedData;
+
+        if (data == null) {
+            // Computing the values twice when called from several threads at once is harmless
+            data = new DerivedData(this);
+            derivedData = data;
+        }
+
+        return data;
     }
 
     /**
@@ -205,6 +284,7 @@ public class BibItem {
     public void setAuthors(Author... authors) {
         this.authors.clear();
         this.authors.addAll(Arrays.asList(authors));
+        clearRenderedValues();
     }
 
     /**
@@ -224,6 +304,44 @@ public class BibItem {
     public void setEditors(Author... editors) {
         this.editors.clear();
         this.editors.addAll(Arrays.asList(editors));
+        clearRenderedValues();
+    }
+
+    /**
+     * Gets a value that a writer rendered from this publication earlier, like
+     * its formatted title. Since every version of the publication list is
+     * written from the same publications, each value only needs to be rendered
+     * once per generation.
+     * <p>
+     * Rendered values are discarded when a field, the authors, or the editors
+     * are set. Changes made directly to the lists returned by
+     * {@link #getAuthors()} and {@link #getEditors()} are not detected.
+     *
+     * @param key the key the value was stored under
+     * @return the rendered value, or null if there is none
+     */
+    public synchronized String getRenderedValue(String key) {
+        return (renderedValues == null ? null : renderedValues.get(key));
+    }
+
+    /**
+     * Stores a value that a writer rendered from this publication, so that
+     * other writers can reuse it. The key should identify everything the value
+     * depends on, apart from this publication.
+     *
+     * @param key the key to store the value under
+     * @param value the rendered value
+     */
+    public synchronized void putRenderedValue(String key, String value) {
+        if (renderedValues == null) {
+            renderedValues = new HashMap<>(4);
+        }
+
+        renderedValues.put(key, value);
+    }
+
+    private synchronized void clearRenderedValues() {
+        renderedValues = null;
     }
 
     /**
@@ -243,12 +361,14 @@ public class BibItem {
         sb.append(id);
         sb.append(",\n");
 
-        for (Entry<String, String> entry : values.entrySet()) {
-            if (entry.getValue() != null) {
+        for (String field : getFields()) {
+            String value = get(field);
+
+            if (value != null) {
                 sb.append("  ");
-                sb.append(entry.getKey());
+                sb.append(field);
                 sb.append("={");
-                sb.append(entry.getValue());
+                sb.append(value);
                 sb.append("},\n");
             }
         }
@@ -268,7 +388,7 @@ public class BibItem {
 
     private boolean anyNonEmpty(String... fields) {
         for (String field : fields) {
-            String v = values.get(field);
+            String v = get(field);
 
             if (v != null && !v.isEmpty()) {
                 return true;
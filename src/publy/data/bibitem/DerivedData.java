@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.data.bibitem;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import publy.data.PublicationStatus;
+
+/**
+ * Values that are derived from the fields of a publication, like its year as
+ * a number. Writers and post-processing steps need these for every
+ * publication, often several times, so they are computed only once.
+ * <p>
+ * The values are based on the fields of the publication at the time they are
+ * computed, and do not take ignored fields into account. Use
+ * {@link BibItem#getDerivedData()} to get the current values.
+ */
+public final class DerivedData {
+
+    /**
+     * All {@code pubstate} values of papers that have been accepted for
+     * publication.
+     */
+    private static final Set<String> ACCEPTED_STATES = new HashSet<>();
+    /**
+     * The month for each recognized value of the {@code month} field.
+     */
+    private static final Map<String, Integer> MONTHS = new HashMap<>();
+
+    static {
+        ACCEPTED_STATES.add("accepted");
+        ACCEPTED_STATES.add("acceptedrev");
+        ACCEPTED_STATES.add("forthcoming");
+        ACCEPTED_STATES.add("inpress");
+        ACCEPTED_STATES.add("prepublished");
+
+        String[] abbreviations = {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"};
+
+        for (int i = 0; i < abbreviations.length; i++) {
+            MONTHS.put(abbreviations[i], i + 1);
+            MONTHS.put(Integer.toString(i + 1), i + 1);
+        }
+    }
+
+    private final Integer year;
+    private final int month;
+    private final boolean pageRange;
+    private final PublicationStatus status;
+    private final String arxivLink;
+    private final String doiLink;
+
+    DerivedData(BibItem item) {
+        year = parseYear(item.get("year"));
+
+        String monthValue = item.get("month");
+        Integer monthNumber = (monthValue == null ? null : MONTHS.get(monthValue));
+        month = (monthNumber == null ? 0 : monthNumber);
+
+        String pages = item.get("pages");
+        pageRange = pages != null && (pages.contains("-") || pages.contains("+") || pages.contains(","));
+
+        status = findStatus(item);
+
+        String arxiv = item.get("arxiv");
+        arxivLink = (arxiv == null || arxiv.isEmpty() ? null : "http://arxiv.org/abs/" + arxiv);
+
+        String doi = item.get("doi");
+
+        if (doi == null || doi.isEmpty()) {
+            doiLink = null;
+        } else if (doi.startsWith("http")) {
+            doiLink = doi;
+        } else {
+            doiLink = "https://dx.doi.org/" + doi;
+        }
+    }
+
+    /**
+     * Gets the year of publication.
+     *
+     * @return the value of the {@code year} field as a number, or null if it
+     * is missing or not an integer
+     */
+    public Integer getYear() {
+        return year;
+    }
+
+    /**
+     * Gets the month of publication.
+     *
+     * @return the month, from 1 for January to 12 for December, or 0 if the
+     * {@code month} field is missing or not one of "jan" to "dec" or "1" to
+     * "12"
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    /**
+     * Tests whether the {@code pages} field describes more than one page,
+     * like "12-15", "12+" or "12, 15".
+     *
+     * @return true if the pages form a range or list, false otherwise
+     */
+    public boolean isPageRange() {
+        return pageRange;
+    }
+
+    /**
+     * Gets the most exclusive status this publication has. The publication
+     * matches a {@link PublicationStatus} exactly if that status is at least
+     * as inclusive as this one.
+     *
+     * @return PUBLISHED if the {@code pubstate} field is not set, ACCEPTED if
+     * the paper has been accepted, ARXIV if it is available on the arXiv, and
+     * ALL otherwise
+     */
+    public PublicationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the link to the abstract page on the arXiv.
+     *
+     * @return the link, or null if the {@code arxiv} field is not set
+     */
+    public String getArxivLink() {
+        return arxivLink;
+    }
+
+    /**
+     * Gets the link that resolves the DOI of this publication. Values of the
+     * {@code doi} field that are already links are used as-is.
+     *
+     * @return the link, or null if the {@code doi} field is not set
+     */
+    public String getDoiLink() {
+        return doiLink;
+    }
+
+    private static PublicationStatus findStatus(BibItem item) {
+        String pubstate = item.get("pubstate");
+
+        if (pubstate == null || pubstate.isEmpty()) {
+            return PublicationStatus.PUBLISHED;
+        } else if (ACCEPTED_STATES.contains(pubstate)) {
+            return PublicationStatus.ACCEPTED;
+        }
+
+        String arxiv = item.get("arxiv");
+        return (arxiv != null && !arxiv.isEmpty() ? PublicationStatus.ARXIV : PublicationStatus.ALL);
+    }
+
+    /**
+     * Parses a year the way {@link Integer#parseInt(String)} does, but returns
+     * null instead of throwing an exception when the value is not an integer.
+     */
+    static Integer parseYear(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        int start = 0;
+        boolean negative = false;
+
+        if (value.charAt(0) == '-' || value.charAt(0) == '+') {
+            negative = (value.charAt(0) == '-');
+            start = 1;
+
+            if (value.length() == 1) {
+                return null;
+            }
+        }
+
+        long year = 0;
+
+        for (int i = start; i < value.length(); i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+
+            if (digit < 0) {
+                return null;
+            }
+
+            year = 10 * year + digit;
+
+            if (year > (long) Integer.MAX_VALUE + 1) {
+                return null;
+            }
+        }
+
+        if (negative) {
+            year = -year;
+        }
+
+        return (year > Integer.MAX_VALUE ? null : (int) year);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import publy.data.bibitem.BibItem;
+import publy.data.category.conditions.ConditionGroup;
 import publy.data.category.conditions.FieldCondition;
 import publy.data.category.conditions.TypeCondition;
 
@@ -30,9 +31,10 @@ import publy.data.category.conditions.TypeCondition;
  * each category are grouped together under a heading. Publications that are not
  * included in any category will not be listed.
  * <p>
- * Publications that match the type and field conditions of a category are
- * automatically assigned to that category. If a publication matches multiple
- * categories, it is assigned to the first in the list of categories.
+ * Publications that match the type and field conditions of a category, and
+ * all of its condition groups, are automatically assigned to that category. If
+ * a publication matches multiple categories, it is assigned to the first in
+ * the list of categories.
  */
 public class OutputCategory {
 
@@ -41,6 +43,7 @@ public class OutputCategory {
     // Conditions to categorize bibitems
     private TypeCondition typeCondition;
     private List<FieldCondition> fieldConditions;
+    private List<ConditionGroup> conditionGroups;
     // Fields that should be ignored for this category
     private List<String> ignoredFields;
 
@@ -61,6 +64,7 @@ public class OutputCategory {
 
         this.typeCondition = typeCondition;
         fieldConditions = new ArrayList<>();
+        conditionGroups = new ArrayList<>();
 
         ignoredFields = new ArrayList<>();
     }
@@ -191,6 +195,34 @@ public class OutputCategory {
         this.fieldConditions = fieldConditions;
     }
 
+    /**
+     * Gets the condition groups of this category.
+     * <p>
+     * Condition groups combine type and field conditions with AND, OR, and
+     * NOT, for requirements that cannot be expressed by the type condition and
+     * field conditions alone. A publication must match all groups, in addition
+     * to the type and field conditions, to be accepted.
+     *
+     * @return the condition groups
+     */
+    public List<ConditionGroup> getConditionGroups() {
+        return conditionGroups;
+    }
+
+    /**
+     * Sets the condition groups of this category.
+     * <p>
+     * Condition groups combine type and field conditions with AND, OR, and
+     * NOT, for requirements that cannot be expressed by the type condition and
+     * field conditions alone. A publication must match all groups, in addition
+     * to the type and field conditions, to be accepted.
+     *
+     * @param conditionGroups the new condition groups
+     */
+    public void setConditionGroups(List<ConditionGroup> conditionGroups) {
+        this.conditionGroups = conditionGroups;
+    }
+
     /**
      * Gets the ignored fields of this category.
      * <p>
@@ -232,6 +264,12 @@ public class OutputCategory {
                 }
             }
 
+            for (ConditionGroup group : conditionGroups) {
+                if (!group.matches(item)) {
+                    return false;
+                }
+            }
+
             return true;
         } else {
             return false;
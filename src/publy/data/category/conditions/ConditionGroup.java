@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.data.category.conditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import publy.data.bibitem.BibItem;
+
+/**
+ * A condition that combines other conditions, which can be groups themselves.
+ * <p>
+ * Depending on its operator, a publication matches this group if it matches
+ * all of the conditions in it (AND), or at least one of them (OR). Inverting
+ * the group gives the negation (NOT) of the combined conditions.
+ * <p>
+ * For example, a single category could accept journal papers as well as
+ * conference papers that appeared in a specific series, using an OR group of a
+ * type condition and an AND group of a type condition and a field condition.
+ */
+public class ConditionGroup extends Condition {
+
+    /**
+     * The way the conditions in a group are combined.
+     */
+    public enum Operator {
+
+        /**
+         * A publication must match all conditions.
+         */
+        AND,
+        /**
+         * A publication must match at least one condition.
+         */
+        OR;
+    }
+
+    private Operator operator;
+    private List<Condition> conditions;
+
+    /**
+     * Creates a new group that combines the given conditions with the given
+     * operator.
+     * <p>
+     * If {@code inverted} is true, any item that would otherwise match this
+     * group no longer matches it and vice versa.
+     *
+     * @param inverted whether to invert this group
+     * @param operator the way the conditions are combined
+     * @param conditions the conditions in this group
+     */
+    public ConditionGroup(boolean inverted, Operator operator, List<Condition> conditions) {
+        super(inverted);
+        this.operator = operator;
+        this.conditions = conditions;
+    }
+
+    /**
+     * Creates a new group that combines the given conditions with the given
+     * operator.
+     * <p>
+     * If {@code inverted} is true, any item that would otherwise match this
+     * group no longer matches it and vice versa.
+     *
+     * @param inverted whether to invert this group
+     * @param operator the way the conditions are combined
+     * @param conditions the conditions in this group
+     */
+    public ConditionGroup(boolean inverted, Operator operator, Condition... conditions) {
+        super(inverted);
+        this.operator = operator;
+        this.conditions = new ArrayList<>(Arrays.asList(conditions));
+    }
+
+    /**
+     * Creates a new group with the same attributes as the given one. The
+     * conditions in it are shared with the given group.
+     *
+     * @param group the group to copy
+     */
+    public ConditionGroup(ConditionGroup group) {
+        super(group);
+        operator = group.operator;
+        conditions = new ArrayList<>(group.conditions);
+    }
+
+    /**
+     * Gets the way the conditions in this group are combined.
+     *
+     * @return the operator
+     */
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Sets the way the conditions in this group are combined.
+     *
+     * @param operator the new operator
+     */
+    public void setOperator(Operator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Gets the conditions in this group.
+     *
+     * @return the conditions
+     */
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Sets the conditions in this group.
+     *
+     * @param conditions the new conditions
+     */
+    public void setConditions(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * An empty AND group matches every publication, while an empty OR group
+     * matches none.
+     */
+    @Override
+    public boolean internalMatches(BibItem item) {
+        boolean and = (operator == Operator.AND);
+
+        for (Condition condition : conditions) {
+            if (condition.matches(item) != and) {
+                return !and;
+            }
+        }
+
+        return and;
+    }
+}
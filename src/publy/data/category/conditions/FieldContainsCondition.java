@@ -26,10 +26,17 @@ import publy.data.bibitem.BibItem;
  * <p>
  * For example, it could match all publications co-authored with a specific
  * researcher, or all papers published in conferences with IEEE in their name.
+ * <p>
+ * The values are compiled into a matcher that searches for all of them at
+ * once, so long lists of values, like the names of all members of a research
+ * group, stay fast. The matcher is rebuilt when the values are replaced
+ * through {@link #setValues(java.util.List)}; changes to the list itself are
+ * not detected.
  */
 public class FieldContainsCondition extends FieldCondition {
 
     private List<String> values;
+    private volatile MultiStringMatcher matcher = null; // Built when first needed
 
     /**
      * Creates a new field condition that tests whether the given field of a
@@ -91,6 +98,7 @@ public class FieldContainsCondition extends FieldCondition {
      */
     public void setValues(List<String> values) {
         this.values = values;
+        matcher = null;
     }
 
     /**
@@ -99,21 +107,24 @@ public class FieldContainsCondition extends FieldCondition {
      * @param values the new values
      */
     public void setValues(String... values) {
-        this.values = Arrays.asList(values);
+        setValues(Arrays.asList(values));
     }
 
     @Override
     public boolean internalMatches(BibItem item) {
         String value = item.get(getField());
 
-        if (value != null) {
-            for (String v : values) {
-                if (value.contains(v)) {
-                    return true;
-                }
-            }
+        if (value == null) {
+            return false;
+        }
+
+        MultiStringMatcher m = matcher;
+
+        if (m == null) {
+            m = new MultiStringMatcher(values);
+            matcher = m;
         }
 
-        return false;
+        return m.containsAny(value);
     }
 }
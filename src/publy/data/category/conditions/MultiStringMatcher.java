@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.data.category.conditions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Tests whether a text contains any of a fixed set of strings, in a single
+ * scan over the text.
+ * <p>
+ * The strings are compiled into an Aho-Corasick automaton. Its transitions are
+ * stored in a complete table, so every character of the text costs one
+ * lookup, regardless of the number of strings. To keep the table small,
+ * characters are first mapped to a class: each character that occurs in one
+ * of the strings gets its own class, and all other characters share class 0.
+ */
+final class MultiStringMatcher {
+
+    private final char[] lowCharacters; // Class of each character below 256, as a char to save space
+    private final char[] highCharacters; // Sorted characters from 256 and up that occur in the strings
+    private final int[] highClasses; // Class of each character in highCharacters
+    private final int width; // Number of character classes
+    private final int[] transitions; // Next state for each state and character class
+    private final boolean[] accepting; // Whether reaching each state means one of the strings was found
+
+    /**
+     * Creates a matcher for the given strings.
+     *
+     * @param strings the strings to look for
+     */
+    MultiStringMatcher(Collection<String> strings) {
+        // Assign character classes
+        lowCharacters = new char[256];
+        SortedSet<Character> high = new TreeSet<>();
+        int classes = 1;
+
+        for (String s : strings) {
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+
+                if (c < 256) {
+                    if (lowCharacters[c] == 0) {
+                        lowCharacters[c] = (char) classes;
+                        classes++;
+                    }
+                } else {
+                    high.add(c);
+                }
+            }
+        }
+
+        highCharacters = new char[high.size()];
+        highClasses = new int[high.size()];
+        int index = 0;
+
+        for (char c : high) {
+            highCharacters[index] = c;
+            highClasses[index] = classes;
+            index++;
+            classes++;
+        }
+
+        width = classes;
+
+        // Build the trie of all strings; -1 marks a missing transition
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(newState());
+        ends.add(false);
+
+        for (String s : strings) {
+            int state = 0;
+
+            for (int i = 0; i < s.length(); i++) {
+                int c = getClass(s.charAt(i));
+
+                if (trie.get(state)[c] == -1) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    ends.add(false);
+                }
+
+                state = trie.get(state)[c];
+            }
+
+            ends.set(state, true);
+        }
+
+        // Fill in the missing transitions in breadth-first order, following the failure links
+        int states = trie.size();
+        transitions = new int[states * width];
+        accepting = new boolean[states];
+        int[] failure = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        accepting[0] = ends.get(0);
+        queue.add(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            int[] next = trie.get(state);
+
+            for (int c = 0; c < width; c++) {
+                int target = next[c];
+
+                if (target == -1) {
+                    transitions[state * width + c] = (state == 0 ? 0 : transitions[failure[state] * width + c]);
+                } else {
+                    failure[target] = (state == 0 ? 0 : transitions[failure[state] * width + c]);
+                    accepting[target] = ends.get(target) || accepting[failure[target]];
+                    transitions[state * width + c] = target;
+                    queue.add(target);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the given text contains at least one of the strings.
+     *
+     * @param text the text to search
+     * @return true if one of the strings occurs in the text, false otherwise
+     */
+    boolean containsAny(String text) {
+        int state = 0;
+
+        if (accepting[state]) {
+            return true; // The empty string occurs everywhere
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * width + getClass(text.charAt(i))];
+
+            if (accepting[state]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private int[] newState() {
+        int[] next = new int[width];
+        Arrays.fill(next, -1);
+        return next;
+    }
+
+    private int getClass(char c) {
+        if (c < 256) {
+            return lowCharacters[c];
+        } else {
+            int index = Arrays.binarySearch(highCharacters, c);
+            return (index < 0 ? 0 : highClasses[index]);
+        }
+    }
+}
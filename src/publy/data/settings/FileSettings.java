@@ -28,6 +28,7 @@ public class FileSettings {
 
     // Input file
     private Path publications;
+    private boolean cacheParseResults = true; // Whether to store the parse results next to the settings, so unchanged parts need not be parsed again
     // Output file
     private Path target;
     private boolean openOutput = true; // Whether to automatically open the output file in a browser after generating
@@ -53,6 +54,28 @@ public class FileSettings {
         this.publications = publications;
     }
 
+    /**
+     * Gets whether to store the results of parsing the publication list, so
+     * the parts that did not change need not be parsed again in the next run.
+     * <p>
+     * The results are stored in files next to the settings file.
+     *
+     * @return whether to store the parse results
+     */
+    public boolean isCacheParseResults() {
+        return cacheParseResults;
+    }
+
+    /**
+     * Sets whether to store the results of parsing the publication list, so
+     * the parts that did not change need not be parsed again in the next run.
+     *
+     * @param cacheParseResults
+     */
+    public void setCacheParseResults(boolean cacheParseResults) {
+        this.cacheParseResults = cacheParseResults;
+    }
+
     /**
      * Gets the location of the output (HTML) file.
      *
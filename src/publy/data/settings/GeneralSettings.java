@@ -46,6 +46,14 @@ public class GeneralSettings {
     public enum Grouping {
         NO_GROUPING, GROUP_BY_YEAR;
     }
+
+    /**
+     * The properties that publications can be grouped by.
+     */
+    public enum GroupingDimension {
+
+        CATEGORY, YEAR, TYPE, VENUE, AUTHOR_GROUP;
+    }
     // Identification
     private final List<String> myNames = new ArrayList<>(Arrays.asList("me"));
     // Author info
@@ -59,7 +67,7 @@ public class GeneralSettings {
     private Numbering numbering = Numbering.NO_NUMBERS;
     private boolean reverseNumbering = false;
     // Grouping
-    private Grouping grouping = Grouping.NO_GROUPING;
+    private final List<GroupingDimension> groupingDimensions = new ArrayList<>(Arrays.asList(GroupingDimension.CATEGORY));
     private boolean groupWithinCategories = true;
 
     public List<String> getMyNames() {
@@ -127,19 +135,81 @@ public class GeneralSettings {
         this.reverseNumbering = reverseNumbering;
     }
 
+    /**
+     * Gets whether the publications are grouped by year.
+     *
+     * @return {@link Grouping#GROUP_BY_YEAR} if the grouping dimensions
+     * include the year, {@link Grouping#NO_GROUPING} otherwise
+     */
     public Grouping getGrouping() {
-        return grouping;
+        return (groupingDimensions.contains(GroupingDimension.YEAR) ? Grouping.GROUP_BY_YEAR : Grouping.NO_GROUPING);
     }
 
+    /**
+     * Sets whether the publications are grouped by year. This adds the year
+     * to the grouping dimensions, right inside or outside the categories
+     * depending on {@link #isGroupWithinCategories()}, or removes it.
+     *
+     * @param grouping the new grouping
+     */
     public void setGrouping(Grouping grouping) {
-        this.grouping = grouping;
+        groupingDimensions.remove(GroupingDimension.YEAR);
+
+        if (grouping == Grouping.GROUP_BY_YEAR) {
+            int category = groupingDimensions.indexOf(GroupingDimension.CATEGORY);
+            groupingDimensions.add(groupWithinCategories ? category + 1 : category, GroupingDimension.YEAR);
+        }
     }
 
     public boolean isGroupWithinCategories() {
         return groupWithinCategories;
     }
 
+    /**
+     * Sets whether the years are nested inside the categories, or the other
+     * way around. If the publications are grouped by year, the year moves to
+     * the matching side of the categories.
+     *
+     * @param groupWithinCategories true to split each category by year, false
+     * to split each year by category
+     */
     public void setGroupWithinCategories(boolean groupWithinCategories) {
         this.groupWithinCategories = groupWithinCategories;
+        setGrouping(getGrouping());
+    }
+
+    /**
+     * Gets the properties that publications are grouped by, from the
+     * outermost level to the innermost. This always includes the category.
+     *
+     * @return the grouping dimensions
+     */
+    public List<GroupingDimension> getGroupingDimensions() {
+        return groupingDimensions;
+    }
+
+    /**
+     * Sets the properties that publications are grouped by, from the
+     * outermost level to the innermost. Repeated dimensions are ignored, and
+     * the category is added as the outermost level if it is missing.
+     *
+     * @param groupingDimensions the new grouping dimensions
+     */
+    public void setGroupingDimensions(List<GroupingDimension> groupingDimensions) {
+        this.groupingDimensions.clear();
+
+        for (GroupingDimension dimension : groupingDimensions) {
+            if (!this.groupingDimensions.contains(dimension)) {
+                this.groupingDimensions.add(dimension);
+            }
+        }
+
+        if (!this.groupingDimensions.contains(GroupingDimension.CATEGORY)) {
+            this.groupingDimensions.add(0, GroupingDimension.CATEGORY);
+        }
+
+        if (this.groupingDimensions.contains(GroupingDimension.YEAR)) {
+            groupWithinCategories = this.groupingDimensions.indexOf(GroupingDimension.CATEGORY) < this.groupingDimensions.indexOf(GroupingDimension.YEAR);
+        }
     }
 }
@@ -86,6 +86,7 @@ public class FileSettingsPanel extends javax.swing.JPanel {
     private void populateValues() {
         // Publications
         updateField(pubTextField, pubFileChooser, settings.getPublications(), true);
+        cacheParseResultsCheckBox.setSelected(settings.isCacheParseResults());
 
         // Target
         updateField(targetTextField, targetFileChooser, settings.getTarget(), true);
@@ -142,6 +143,7 @@ public class FileSettingsPanel extends javax.swing.JPanel {
         footerBrowseButton = new javax.swing.JButton();
         headerBrowseButton = new javax.swing.JButton();
         openOutputCheckBox = new javax.swing.JCheckBox();
+        cacheParseResultsCheckBox = new javax.swing.JCheckBox();
 
         pubLabel.setText("List of publications");
 
@@ -245,6 +247,13 @@ public class FileSettingsPanel extends javax.swing.JPanel {
             }
         });
 
+        cacheParseResultsCheckBox.setText("Remember parse results to speed up the next run");
+        cacheParseResultsCheckBox.addItemListener(new java.awt.event.ItemListener() {
+            public void itemStateChanged(java.awt.event.ItemEvent evt) {
+                cacheParseResultsCheckBoxItemStateChanged(evt);
+            }
+        });
+
         javax.swing.GroupLayout layout = new javax.swing.GroupLayout(this);
         this.setLayout(layout);
         layout.setHorizontalGroup(
@@ -269,6 +278,9 @@ public class FileSettingsPanel extends javax.swing.JPanel {
                                         .addComponent(pubTextField, javax.swing.GroupLayout.DEFAULT_SIZE, 208, Short.MAX_VALUE)
                                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                                         .addComponent(pubBrowseButton))
+                                    .addGroup(layout.createSequentialGroup()
+                                        .addComponent(cacheParseResultsCheckBox)
+                                        .addGap(0, 0, Short.MAX_VALUE))
                                     .addGroup(layout.createSequentialGroup()
                                         .addComponent(targetTextField, javax.swing.GroupLayout.PREFERRED_SIZE, 1, Short.MAX_VALUE)
                                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
@@ -310,6 +322,8 @@ public class FileSettingsPanel extends javax.swing.JPanel {
                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
                     .addComponent(pubTextField, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                     .addComponent(pubBrowseButton))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(cacheParseResultsCheckBox)
                 .addGap(18, 18, 18)
                 .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING)
                     .addComponent(targetLabel)
@@ -428,7 +442,16 @@ public class FileSettingsPanel extends javax.swing.JPanel {
         }
     }//GEN-LAST:event_openOutputCheckBoxItemStateChanged
 
+    private void cacheParseResultsCheckBoxItemStateChanged(java.awt.event.ItemEvent evt) {//GEN-FIRST:event_cacheParseResultsCheckBoxItemStateChanged
+        if (evt.getStateChange() == ItemEvent.DESELECTED) {
+            settings.setCacheParseResults(false);
+        } else if (evt.getStateChange() == ItemEvent.SELECTED) {
+            settings.setCacheParseResults(true);
+        }
+    }//GEN-LAST:event_cacheParseResultsCheckBoxItemStateChanged
+
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JCheckBox cacheParseResultsCheckBox;
     private javax.swing.JButton footerBrowseButton;
     private javax.swing.JFileChooser footerFileChooser;
     private javax.swing.JTextField footerTextField;
@@ -34,6 +34,13 @@ import publy.data.settings.Settings;
  */
 public abstract class BibItemWriter {
 
+    /**
+     * The results of {@link #processString(String)}. Venue names, author names
+     * and notes recur in many publications and are written by every output
+     * format, so most strings only need to be converted once.
+     */
+    private static final StringCache PROCESSED_STRINGS = new StringCache(4 * 1024 * 1024);
+    private static final String[] MONTH_NAMES = {"January", "February", "March", "April", "May", "June", "July", "August", "September", "October", "November", "December"};
     protected final BufferedWriter out;
     protected final Settings settings;
     protected final Set<String> ignoredFields;
@@ -76,9 +83,17 @@ public abstract class BibItemWriter {
 
         if (title == null || title.isEmpty()) {
             return "";
-        } else {
-            return toTitleCase(title);
         }
+
+        // All writers format the title the same way, so it is stored with the publication
+        String formatted = item.getRenderedValue("title");
+
+        if (formatted == null) {
+            formatted = toTitleCase(title);
+            item.putRenderedValue("title", formatted);
+        }
+
+        return formatted;
     }
 
     protected String formatAuthors(BibItem item, boolean editors, boolean includeLinks) {
@@ -162,7 +177,7 @@ public abstract class BibItemWriter {
         } else {
             String pages = item.get("pages");
 
-            if (pages.contains("-") || pages.contains("+") || pages.contains(",")) {
+            if (item.getDerivedData().isPageRange()) {
                 return "pages " + pages;
             } else {
                 return "page " + pages;
@@ -177,58 +192,20 @@ public abstract class BibItemWriter {
             if (!isPresent(item, "month")) {
                 return "";
             } else {
-                return formatMonth(item.get("month"));
+                return formatMonth(item);
             }
         } else {
             if (!isPresent(item, "month")) {
                 return year;
             } else {
-                return formatMonth(item.get("month")) + " " + year;
+                return formatMonth(item) + " " + year;
             }
         }
     }
 
-    protected String formatMonth(String month) {
-        switch (month) {
-            case "jan":
-            case "1":
-                return "January";
-            case "feb":
-            case "2":
-                return "February";
-            case "mar":
-            case "3":
-                return "March";
-            case "apr":
-            case "4":
-                return "April";
-            case "may":
-            case "5":
-                return "May";
-            case "jun":
-            case "6":
-                return "June";
-            case "jul":
-            case "7":
-                return "July";
-            case "aug":
-            case "8":
-                return "August";
-            case "sep":
-            case "9":
-                return "September";
-            case "oct":
-            case "10":
-                return "October";
-            case "nov":
-            case "11":
-                return "November";
-            case "dec":
-            case "12":
-                return "December";
-            default:
-                return month;
-        }
+    protected String formatMonth(BibItem item) {
+        int month = item.getDerivedData().getMonth();
+        return (month == 0 ? item.get("month") : MONTH_NAMES[month - 1]);
     }
 
     protected void output(String string) throws IOException {
@@ -271,8 +248,41 @@ public abstract class BibItemWriter {
         }
     }
 
+    /**
+     * Converts LaTeX commands to Unicode, removes braces and replaces quotes
+     * by their typographic equivalents, in a single pass. Results are cached.
+     *
+     * @param string the string to process
+     * @return the processed string
+     */
     protected String processString(String string) {
-        return changeQuotes(removeBraces(LatexToUnicode.convertToUnicode(string)));
+        String result = PROCESSED_STRINGS.get(string);
+
+        if (result == null) {
+            StringBuilder processed = new StringBuilder(string.length());
+
+            try {
+                new ProcessingWriter(processed, true, true, false).writeLatex(string);
+            } catch (IOException ex) {
+                // Cannot happen when writing to memory
+                throw new AssertionError(ex);
+            }
+
+            result = processed.toString();
+            PROCESSED_STRINGS.put(string, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the cache of processed strings, shared by all writers that do not
+     * override {@link #processString(String)}.
+     *
+     * @return the cache
+     */
+    public static StringCache getProcessedStringCache() {
+        return PROCESSED_STRINGS;
     }
 
     /**
@@ -347,145 +357,26 @@ public abstract class BibItemWriter {
         return sb.toString();
     }
 
-    private enum RemoveBracesState {
-
-        DEFAULT, ESCAPE, COMMAND_NAME, OPTIONAL_ARGUMENT, ARGUMENT, BEFORE_POSSIBLE_ARGUMENT;
-    }
-
     protected String removeBraces(String field) {
-        StringBuilder result = new StringBuilder(field.length());
-        RemoveBracesState state = RemoveBracesState.DEFAULT;
-
-        for (char c : field.toCharArray()) {
-            if (state == RemoveBracesState.DEFAULT) {
-                switch (c) {
-                    case '{': // Remove
-                        break;
-                    case '}': // Remove
-                        break;
-                    case '\\':
-                        state = RemoveBracesState.ESCAPE;
-                        break;
-                    case '^':
-                    case '_':
-                        state = RemoveBracesState.BEFORE_POSSIBLE_ARGUMENT;
-                        result.append(c);
-                        break;
-                    default:
-                        result.append(c);
-                        break;
-                }
-            } else if (state == RemoveBracesState.ESCAPE) {
-                if (Character.isLetter(c)) {
-                    state = RemoveBracesState.COMMAND_NAME;
-                } else {
-                    state = RemoveBracesState.DEFAULT;
-                }
-
-                // Discard the slash before braces
-                if (c != '{' && c != '}') {
-                    result.append('\\');
-                }
-
-                result.append(c);
-            } else if (state == RemoveBracesState.COMMAND_NAME) {
-                if (c == '[') {
-                    state = RemoveBracesState.OPTIONAL_ARGUMENT;
-                } else if (c == '{') {
-                    state = RemoveBracesState.ARGUMENT;
-                } else if (!Character.isLetter(c)) {
-                    state = RemoveBracesState.DEFAULT;
-                }
-
-                result.append(c);
-            } else if (state == RemoveBracesState.OPTIONAL_ARGUMENT || state == RemoveBracesState.ARGUMENT) {
-                if ((state == RemoveBracesState.OPTIONAL_ARGUMENT && c == ']') || (state == RemoveBracesState.ARGUMENT && c == '}')) {
-                    state = RemoveBracesState.BEFORE_POSSIBLE_ARGUMENT;
-                }
-
-                result.append(c);
-            } else if (state == RemoveBracesState.BEFORE_POSSIBLE_ARGUMENT) {
-                if (c == '{') {
-                    state = RemoveBracesState.ARGUMENT;
-                } else {
-                    state = RemoveBracesState.DEFAULT;
-                }
-
-                result.append(c);
-            }
-        }
-
-        return result.toString();
-    }
-
-    private enum ChangeQuotesState {
-
-        DEFAULT, IN_TAG, AFTER_QUOTE, AFTER_GRAVE;
+        return process(field, true, false);
     }
 
     protected String changeQuotes(String string) {
-        StringBuilder sb = new StringBuilder(string.length());
-        ChangeQuotesState state = ChangeQuotesState.DEFAULT;
-
-        for (char c : string.toCharArray()) {
-            if (state == ChangeQuotesState.AFTER_GRAVE) {
-                // Single or double quote?
-                if (c == '`') {
-                    // Double `` -> U+201C (left double quotation mark)
-                    sb.append('\u201C');
-                    // state is reset at the end of the loop
-                } else {
-                    // Single ` -> U+2018 (left single quotation mark)
-                    sb.append('\u2018');
-                    state = ChangeQuotesState.DEFAULT; // Reset state here so current char gets processed regularly
-                }
-            } else if (state == ChangeQuotesState.AFTER_QUOTE) {
-                // Single or double quote?
-                if (c == '\'') {
-                    // Double '' -> U+201D (right double quotation mark)
-                    sb.append('\u201D');
-                    // state is reset at the end of the loop
-                } else {
-                    // Single ' -> U+2019 (right single quotation mark)
-                    sb.append('\u2019');
-                    state = ChangeQuotesState.DEFAULT; // Reset state here so current char gets processed regularly
-                }
-            }
+        return process(string, false, true);
+    }
 
-            if (state == ChangeQuotesState.DEFAULT) {
-                // Regular case
-                switch (c) {
-                    case '<': // HTML tag open
-                        state = ChangeQuotesState.IN_TAG;
-                        sb.append(c);
-                        break;
-                    case '"': // Single " -> U+201D (right double quotation mark)
-                        sb.append('\u201D');
-                        break;
-                    case '`': // Single or double `
-                        state = ChangeQuotesState.AFTER_GRAVE;
-                        break;
-                    case '\'': // Single or double '
-                        state = ChangeQuotesState.AFTER_QUOTE;
-                        break;
-                    default:
-                        sb.append(c);
-                        break;
-                }
-            } else if (state == ChangeQuotesState.IN_TAG) {
-                // In an HTML tag
-                if (c == '>') {
-                    // Close the tag
-                    state = ChangeQuotesState.DEFAULT;
-                }
+    private static String process(String string, boolean removeBraces, boolean changeQuotes) {
+        StringBuilder result = new StringBuilder(string.length());
+        ProcessingWriter processor = new ProcessingWriter(result, removeBraces, changeQuotes, false);
 
-                sb.append(c);
-            } else {
-                state = ChangeQuotesState.DEFAULT;
-            }
+        try {
+            processor.write(string);
+        } catch (IOException ex) {
+            // Cannot happen when writing to memory
+            throw new AssertionError(ex);
         }
 
-        return sb.toString();
+        return result.toString();
     }
 
     protected String get(BibItem item, String field) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Checks whether files exist, remembering the results.
+ * <p>
+ * Publication lists can link to thousands of files, and on network file
+ * systems every check can take milliseconds. Callers should therefore first
+ * pass all files they are interested in to {@link #prefetch(Collection)},
+ * which checks them concurrently on a small pool of threads, and then ask for
+ * the results one by one, in whatever order they want to report them. Every
+ * file is checked at most once until the cache is cleared, which should happen
+ * at the start of every run, as files may have been added or removed since.
+ */
+public class FileExistenceCache {
+
+    private static final int THREADS = 8;
+    private static final ConcurrentMap<Path, Future<Boolean>> results = new ConcurrentHashMap<>();
+
+    /**
+     * Starts checking whether the given files exist, without waiting for the
+     * results. Files that were checked before are not checked again.
+     *
+     * @param files the files to check
+     */
+    public static void prefetch(Collection<Path> files) {
+        for (Path file : files) {
+            getResult(file);
+        }
+    }
+
+    /**
+     * Tests whether the given file exists. Like
+     * {@link Files#notExists(Path, java.nio.file.LinkOption...)}, a file whose
+     * existence cannot be determined counts as existing.
+     *
+     * @param file the file to check
+     * @return false if the file is known not to exist, true otherwise
+     */
+    public static boolean exists(Path file) {
+        try {
+            return getResult(file).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return !Files.notExists(file);
+        } catch (ExecutionException ex) {
+            return !Files.notExists(file);
+        }
+    }
+
+    /**
+     * Forgets all results, so every file is checked again.
+     */
+    public static void clear() {
+        results.clear();
+    }
+
+    private static Future<Boolean> getResult(final Path file) {
+        Future<Boolean> result = results.get(file);
+
+        if (result == null) {
+            result = Pool.EXECUTOR.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return !Files.notExists(file);
+                }
+            });
+
+            Future<Boolean> previous = results.putIfAbsent(file, result);
+
+            if (previous != null) {
+                // Another thread got there first
+                result.cancel(false);
+                result = previous;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Holds the threads that perform the checks. They are only started when
+     * the first file is checked, and do not keep Publy running when it is
+     * done.
+     */
+    private static class Pool {
+
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "File existence check");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private FileExistenceCache() {
+    }
+}
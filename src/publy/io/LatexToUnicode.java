@@ -15,2423 +15,2602 @@
  */
 package publy.io;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
- *
- *
+ * Converts LaTeX commands for special characters to the corresponding Unicode
+ * characters.
+ * <p>
+ * The text is converted in a single pass from left to right. The commands are
+ * stored in a prefix tree, so a command is recognized by following the
+ * characters of the input through the tree, without creating intermediate
+ * strings. The following forms are recognized:
+ * <ul>
+ * <li> Commands without argument, terminated by a space, brace, backslash, or
+ * the end of the text: {@code \o}, {@code {\o}}
+ * <li> Commands with an argument: {@code \'{o}}, {@code \'{\i}},
+ * {@code \cyrchar{\'\CYRG}}. If there is no version of the command with
+ * the given argument, the version without argument is used, followed by the
+ * argument.
+ * <li> Accents on a single character, without braces: {@code \'o},
+ * {@code \'\i}
+ * </ul>
+ * Text in math mode, delimited by $...$ or \(...\), is left untouched.
  */
 public class LatexToUnicode {
 
     /**
-     * A generic LaTeX command:
-     * A backslash - \\\\
-     * One or more non-terminating characters - [^ \\\\{}]+
-     * A closing character or argument - ($| |\\}|\\\\|\\{[^}]*\\})
-     */
-    private static final Pattern LATEX_COMMAND_1 = Pattern.compile("(\\\\[^ \\\\{}]+)($| |\\}|\\\\|\\{[^}]*\\})");
-    /**
-     * Special syntax for LaTeX commands that operate on a single character:
-     * A backslash - \\\\
-     * One symbol among the following: ', `, ^, ", ~, ., = - (['`\\^\"~=.])
-     * A one-character argument - (\\\\i ?|\\\\j ?|.)
+     * The accents that can be applied to a single character without braces,
+     * as in {@code \'o}.
      */
-    private static final Pattern LATEX_COMMAND_2 = Pattern.compile("\\\\(['`\\^\"~=.])(\\\\i ?|\\\\j ?|.)");
-    private static final Map<String, Character> LATEX_TO_UNICODE = populateSpecialCharacters();
+    private static final String SHORT_ACCENTS = "'`^\"~=.";
 
     private LatexToUnicode() {
     }
 
     public static String convertToUnicode(String s) {
+        if (s.indexOf('\\') < 0 && s.indexOf('$') < 0) {
+            return s; // Nothing to convert
+        }
+
+        StringBuilder result = new StringBuilder(s.length());
+
+        try {
+            convertToUnicode(s, result);
+        } catch (IOException ex) {
+            // Cannot happen when writing to memory
+            throw new AssertionError(ex);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Converts the given text and appends the result to the given output,
+     * without creating intermediate strings.
+     *
+     * @param s the text to convert
+     * @param result the output
+     * @throws IOException if the output throws an exception
+     */
+    public static void convertToUnicode(String s, Appendable result) throws IOException {
+        int n = s.length();
+
+        if (s.indexOf('\\') < 0 && s.indexOf('$') < 0) {
+            result.append(s); // Nothing to convert
+            return;
+        }
+
         // Split into parts that are not in math-mode and treat each seperately
-        StringBuilder result = new StringBuilder();
-        StringBuilder part = new StringBuilder();
-
-        boolean math = false;
-        boolean escape = false;
-
-        for (char c : s.toCharArray()) {
-            if (!math) {
-                if (!escape) {
-                    switch (c) {
-                        case '$':
-                            math = true;
-                            break;
-                        case '\\':
-                            escape = true;
-                            break;
-                        default:
-                            part.append(c);
-                            break;
-                    }
-                } else {
-                    switch (c) {
-                        case '(':
-                            math = true;
-                            break;
-                        default:
-                            part.append('\\');
-                            part.append(c);
+        int partStart = 0;
+        int i = 0;
+
+        while (i < n) {
+            char c = s.charAt(i);
+
+            if (c == '$' || (c == '\\' && i + 1 < n && s.charAt(i + 1) == '(')) {
+                // Math mode starts; process the previous non-math block
+                convertNonMathToUnicode(s, partStart, i, result);
+
+                // Copy the math block, including its delimiters
+                int mathStart = i;
+                i += (c == '$' ? 1 : 2);
+
+                while (i < n) {
+                    char m = s.charAt(i);
+
+                    if (m == '$') {
+                        i++;
+                        break;
+                    } else if (m == '\\' && i + 1 < n) {
+                        i += 2;
+
+                        if (s.charAt(i - 1) == ')') {
                             break;
+                        }
+                    } else {
+                        i++;
                     }
-
-                    escape = false;
                 }
 
-                if (math) {
-                    // Math mode was just entered; process the previous non-math block
-                    if (part.length() > 0) {
-                        result.append(convertNonMathToUnicode(part.toString()));
-                        part.setLength(0);
-                    }
+                result.append(s, mathStart, Math.min(i, n));
+                partStart = i;
+            } else if (c == '\\') {
+                i += 2; // Escaped character
+            } else {
+                i++;
+            }
+        }
 
-                    // Add the command sequence that started the current math block
-                    if (c == '(') {
-                        result.append('\\');
-                    }
+        // Add the remaining non-math part. A backslash at the very end escapes nothing and is dropped.
+        int partEnd = (n > partStart && s.charAt(n - 1) == '\\' && isTrailingEscape(s, partStart) ? n - 1 : n);
+        convertNonMathToUnicode(s, partStart, partEnd, result);
+    }
 
-                    result.append(c);
-                }
-            } else { // math
-                if (!escape) {
-                    if (c == '$') {
-                        math = false;
-                    } else if (c == '\\') {
-                        escape = true;
-                    }
-                } else {
-                    if (c == ')') {
-                        math = false;
-                    }
+    /**
+     * Tests whether the text ends with a backslash that does not belong to an
+     * escape sequence.
+     */
+    private static boolean isTrailingEscape(String s, int from) {
+        int i = from;
 
-                    escape = false;
-                }
+        while (i < s.length() - 1) {
+            i += (s.charAt(i) == '\\' ? 2 : 1);
+        }
+
+        return i == s.length() - 1;
+    }
+
+    /**
+     * Converts all commands in s[start .. end - 1] and appends the result.
+     */
+    private static void convertNonMathToUnicode(String s, int start, int end, Appendable result) throws IOException {
+        int copied = start; // Everything before this index has been appended
+        int i = s.indexOf('\\', start);
 
-                result.append(c);
+        while (i >= 0 && i + 1 < end) {
+            if (s.charAt(i + 1) == '\\') {
+                // An escaped backslash, like the line break \\, which does not start a command
+                i = s.indexOf('\\', i + 2);
+                continue;
             }
+
+            result.append(s, copied, i);
+
+            int next = convertShortAccent(s, i, end, result);
+
+            if (next < 0) {
+                next = convertCommand(s, i, end, result);
+            }
+
+            if (next < 0) {
+                result.append('\\');
+                next = i + 1;
+            }
+
+            copied = next;
+            i = s.indexOf('\\', next);
         }
 
-        // Add the remaining non-math part
-        if (part.length() > 0) {
-            result.append(convertNonMathToUnicode(part.toString()));
+        if (copied < end) {
+            result.append(s, copied, end);
         }
+    }
 
-        return result.toString();
+    /**
+     * Converts an accent on a single character without braces, like
+     * {@code \'o} or {@code \'\i }, that starts at the given index.
+     *
+     * @return the index after the command, or -1 if there is no such command
+     * at the given index
+     */
+    private static int convertShortAccent(String s, int start, int end, Appendable result) throws IOException {
+        if (start + 2 >= end || SHORT_ACCENTS.indexOf(s.charAt(start + 1)) < 0) {
+            return -1;
+        }
+
+        // Look up \'{o}, or \'{\i}
+        TrieNode node = Commands.ROOT.getChild('\\').getChild(s.charAt(start + 1)).getChild('{');
+        int next;
+        char c = s.charAt(start + 2);
+
+        if (c == '\\' && start + 3 < end && (s.charAt(start + 3) == 'i' || s.charAt(start + 3) == 'j')) {
+            // Dotless i or j, optionally followed by a space
+            node = node.getChild('\\').getChild(s.charAt(start + 3));
+            next = (start + 4 < end && s.charAt(start + 4) == ' ' ? start + 5 : start + 4);
+        } else if (!isLineTerminator(c)) {
+            node = node.getChild(c);
+            next = start + 3;
+        } else {
+            return -1;
+        }
+
+        node = node.getChild('}');
+
+        if (node.isCommand) {
+            result.append(node.character);
+            return next;
+        } else {
+            return -1;
+        }
     }
 
-    private static String convertNonMathToUnicode(String s) {
-        // Processing 2 first, because otherwise \\'\\i will be processed as
-        // separate commands, instead of a single one.
-        String result = replaceCommands(s, LATEX_COMMAND_2);
-        return replaceCommands(result, LATEX_COMMAND_1);
+    /**
+     * Converts a general command that starts at the given index. Its name
+     * extends up to the first space, brace, or backslash.
+     *
+     * @return the index after the command, or -1 if there is no command at
+     * the given index
+     */
+    private static int convertCommand(String s, int start, int end, Appendable result) throws IOException {
+        TrieNode node = Commands.ROOT.getChild('\\');
+        int nameEnd = start + 1;
+
+        while (nameEnd < end && !isCommandTerminator(s.charAt(nameEnd))) {
+            node = node.getChild(s.charAt(nameEnd));
+            nameEnd++;
+        }
+
+        if (nameEnd == start + 1) {
+            return -1; // No name
+        }
+
+        if (nameEnd == end) {
+            return appendCommand(node, s, start, nameEnd, nameEnd, result);
+        }
+
+        char terminator = s.charAt(nameEnd);
+
+        if (terminator != '{') {
+            // Keep the terminating space or brace, unless it is the start of the next command
+            return appendCommand(node, s, start, nameEnd, nameEnd, result);
+        }
+
+        int argumentEnd = s.indexOf('}', nameEnd);
+
+        if (argumentEnd < 0 || argumentEnd >= end) {
+            return -1; // Unterminated argument
+        }
+
+        // Try the version with argument first
+        TrieNode withArgument = node;
+
+        for (int i = nameEnd; i <= argumentEnd; i++) {
+            withArgument = withArgument.getChild(s.charAt(i));
+        }
+
+        if (withArgument.isCommand) {
+            result.append(withArgument.character);
+            return argumentEnd + 1;
+        }
+
+        if (node.isCommand && argumentEnd == nameEnd + 1) {
+            // Drop empty braces, as in \ss{}
+            result.append(node.character);
+            return argumentEnd + 1;
+        }
+
+        return appendCommand(node, s, start, nameEnd, nameEnd, result);
     }
 
-    private static String replaceCommands(String input, Pattern commandPattern) {
-        StringBuilder result = new StringBuilder();
-        Matcher m = commandPattern.matcher(input);
+    /**
+     * Appends the character for the given command, if it exists, or the
+     * command itself otherwise.
+     */
+    private static int appendCommand(TrieNode node, String s, int start, int nameEnd, int next, Appendable result) throws IOException {
+        if (node.isCommand) {
+            result.append(node.character);
+        } else {
+            result.append(s, start, nameEnd);
+        }
 
-        int currentSearchPosition = 0;
+        return next;
+    }
 
-        while (m.find(currentSearchPosition)) {
-            int nextSearchPosition = m.end();
+    private static boolean isCommandTerminator(char c) {
+        return c == ' ' || c == '\\' || c == '{' || c == '}';
+    }
 
-            // Convert the argument-less version (\'o) to the version with argument (\'{o}) if necessary
-            String command;
-            String tail = "";
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
 
-            if (commandPattern == LATEX_COMMAND_1) {
-                if (m.group().endsWith("}") && m.group().contains("{")) {
-                    command = m.group();
-                } else {
-                    // Do not take the closing character into account
-                    command = m.group(1);
+    /**
+     * Builds the prefix tree of the commands in the given table, in the format
+     * of {@link #SPECIAL_CHARACTERS}.
+     */
+    private static TrieNode buildTrie(String table) {
+        TrieNode root = new TrieNode();
+        int lineStart = 0;
 
-                    if (m.group(2).equals("\\")) {
-                        // This character has to be taken into account for the next command
-                        nextSearchPosition--;
-                    } else {
-                        tail = m.group(2);
-                    }
-                }
-            } else if (commandPattern == LATEX_COMMAND_2) {
-                if (m.group(2).length() > 1) {
-                    command = '\\' + m.group(1) + '{' + m.group(2).trim() + '}';
-                } else {
-                    command = '\\' + m.group(1) + '{' + m.group(2) + '}';
-                }
-            } else {
-                throw new AssertionError("Unexpected command pattern: " + commandPattern);
-            }
+        while (lineStart < table.length()) {
+            int lineEnd = table.indexOf('\n', lineStart);
+            TrieNode node = root;
 
-            if (LATEX_TO_UNICODE.containsKey(command)) {
-                // Replace the command with the corresponding Unicode character
-                result.append(input.substring(currentSearchPosition, m.start()))
-                        .append(Character.toString(LATEX_TO_UNICODE.get(command)))
-                        .append(tail);
-            } else if (commandPattern == LATEX_COMMAND_1 && LATEX_TO_UNICODE.containsKey(m.group(1))) {
-                // Apparently the part in braces doesn't actually belong to the command
-                // Replace the command with the corresponding Unicode character
-                result.append(input.substring(currentSearchPosition, m.start()))
-                        .append(Character.toString(LATEX_TO_UNICODE.get(m.group(1))));
-
-                if (!m.group(2).equals("{}")) {
-                    result.append(m.group(2));
-                }
-            } else {
-                // Keep the command in
-                result.append(input.substring(currentSearchPosition, nextSearchPosition));
+            for (int i = lineStart; i < lineEnd - 2; i++) {
+                node = node.getOrAddChild(table.charAt(i));
             }
 
-            currentSearchPosition = nextSearchPosition;
+            node.isCommand = true;
+            node.character = table.charAt(lineEnd - 1);
+            lineStart = lineEnd + 1;
         }
 
-        result.append(input.substring(currentSearchPosition));
+        return root;
+    }
 
-        return result.toString();
+    /**
+     * Holds the prefix tree of all commands. Since the tree is only built when
+     * this class is first used, converting text without any commands does not
+     * pay for it.
+     */
+    private static class Commands {
+
+        static final TrieNode ROOT = buildTrie(SPECIAL_CHARACTERS);
     }
 
-    private static Map<String, Character> populateSpecialCharacters() {
-        Map<String, Character> characters = new HashMap<>();
-
-        // Data obtained, with permission, from John D. Cook's Unicode / LaTeX conversion
-        // http://www.johndcook.com/unicode_latex.html
-        characters.put("\'\'\'\'", '\u2057');
-        characters.put("\'n", '\u0149');
-        characters.put(",,", '\u201E');
-        characters.put("..", '\u2025');
-        characters.put(":=", '\u2254');
-        characters.put("<\\kern-0.58em(", '\u2993');
-        characters.put("=:", '\u2255');
-        characters.put("IJ", '\u0132');
-        characters.put("\\#", '\u0023');
-        characters.put("\\%", '\u0025');
-        characters.put("\\&", '\u0026');
-        characters.put("\\'", '\u0301');
-        characters.put("\\'{$\\alpha$}", '\u03AC');
-        characters.put("\\'{A}", '\u00C1');
-        characters.put("\\'{C}", '\u0106');
-        characters.put("\\'{E}", '\u00C9');
-        characters.put("\\'{H}", '\u0389');
-        characters.put("\\'{I}", '\u00CD');
-        characters.put("\\'{L}", '\u0139');
-        characters.put("\\'{N}", '\u0143');
-        characters.put("\\'{O}", '\u00D3');
-        characters.put("\\'{R}", '\u0154');
-        characters.put("\\'{S}", '\u015A');
-        characters.put("\\'{U}", '\u00DA');
-        characters.put("\\'{Y}", '\u00DD');
-        characters.put("\\'{Z}", '\u0179');
-        characters.put("\\'{\\i}", '\u00ED');
-        characters.put("\\'{i}", '\u00ED');
-        characters.put("\\'{a}", '\u00E1');
-        characters.put("\\'{c}", '\u0107');
-        characters.put("\\'{e}", '\u00E9');
-        characters.put("\\'{g}", '\u01F5');
-        characters.put("\\'{l}", '\u013A');
-        characters.put("\\'{n}", '\u0144');
-        characters.put("\\'{o}", '\u00F3');
-        characters.put("\\'{r}", '\u0155');
-        characters.put("\\'{s}", '\u015B');
-        characters.put("\\'{u}", '\u00FA');
-        characters.put("\\'{y}", '\u00FD');
-        characters.put("\\'{z}", '\u017A');
-        characters.put("\\'{}O", '\u038C');
-        characters.put("\\'{}{I}", '\u038A');
-        characters.put("\\-", '\u00AD');
-        characters.put("\\.", '\u0307');
-        characters.put("\\.{C}", '\u010A');
-        characters.put("\\.{E}", '\u0116');
-        characters.put("\\.{G}", '\u0120');
-        characters.put("\\.{I}", '\u0130');
-        characters.put("\\.{Z}", '\u017B');
-        characters.put("\\.{c}", '\u010B');
-        characters.put("\\.{e}", '\u0117');
-        characters.put("\\.{g}", '\u0121');
-        characters.put("\\.{z}", '\u017C');
-        characters.put("\\.{o}", '\u022F');
-        characters.put("\\.{i}", 'i');
-        characters.put("\\.{j}", 'j');
-        characters.put("\\.{\\i}", 'i');
-        characters.put("\\.{\\j}", 'j');
-        //"\\;":"U+2009-0200A-0200A",
-        characters.put("\\=", '\u0304');
-        characters.put("\\={A}", '\u0100');
-        characters.put("\\={E}", '\u0112');
-        characters.put("\\={I}", '\u012A');
-        characters.put("\\={O}", '\u014C');
-        characters.put("\\={U}", '\u016A');
-        characters.put("\\={\\i}", '\u012B');
-        characters.put("\\={a}", '\u0101');
-        characters.put("\\={e}", '\u0113');
-        characters.put("\\={o}", '\u014D');
-        characters.put("\\={u}", '\u016B');
-        characters.put("\\AA", '\u00C5');
-        characters.put("\\AE", '\u00C6');
-        characters.put("\\Alpha", '\u0391');
-        characters.put("\\Angle", '\u299C');
-        characters.put("\\Beta", '\u0392');
-        characters.put("\\Bumpeq", '\u224E');
-        characters.put("\\Cap", '\u22D2');
-        characters.put("\\Chi", '\u03A7');
-        characters.put("\\Colon", '\u2237');
-        characters.put("\\Cup", '\u22D3');
-        characters.put("\\DH", '\u00D0');
-        characters.put("\\DJ", '\u0110');
-        characters.put("\\Delta", '\u0394');
-        characters.put("\\Digamma", '\u03DC');
-        characters.put("\\DownArrowBar", '\u2913');
-        characters.put("\\DownArrowUpArrow", '\u21F5');
-        characters.put("\\DownLeftRightVector", '\u2950');
-        characters.put("\\DownLeftTeeVector", '\u295E');
-        characters.put("\\DownLeftVectorBar", '\u2956');
-        characters.put("\\DownRightTeeVector", '\u295F');
-        characters.put("\\DownRightVectorBar", '\u2957');
-        characters.put("\\Downarrow", '\u21D3');
-        characters.put("\\ElOr", '\u2A56');
-        characters.put("\\Elolarr", '\u2940');
-        characters.put("\\Elorarr", '\u2941');
-        characters.put("\\Elroang", '\u2986');
-        characters.put("\\ElsevierGlyph{2129}", '\u2129');
-        characters.put("\\ElsevierGlyph{21B3}", '\u21B3');
-        characters.put("\\ElsevierGlyph{2232}", '\u2232');
-        characters.put("\\ElsevierGlyph{2233}", '\u2233');
-        characters.put("\\ElsevierGlyph{2238}", '\u2238');
-        characters.put("\\ElsevierGlyph{2242}", '\u2242');
-        characters.put("\\ElsevierGlyph{225A}", '\u225A');
-        characters.put("\\ElsevierGlyph{225F}", '\u225F');
-        characters.put("\\ElsevierGlyph{2274}", '\u2274');
-        characters.put("\\ElsevierGlyph{2275}", '\u2275');
-        characters.put("\\ElsevierGlyph{22C0}", '\u22C0');
-        characters.put("\\ElsevierGlyph{22C1}", '\u22C1');
-        characters.put("\\ElsevierGlyph{300A}", '\u300A');
-        characters.put("\\ElsevierGlyph{300B}", '\u300B');
-        characters.put("\\ElsevierGlyph{3018}", '\u3018');
-        characters.put("\\ElsevierGlyph{3019}", '\u3019');
-        characters.put("\\ElsevierGlyph{E20A}", '\u2926');
-        characters.put("\\ElsevierGlyph{E20B}", '\u2925');
-        characters.put("\\ElsevierGlyph{E20C}", '\u2923');
-        characters.put("\\ElsevierGlyph{E20D}", '\u2924');
-        characters.put("\\ElsevierGlyph{E20E}", '\u2928');
-        characters.put("\\ElsevierGlyph{E20F}", '\u2929');
-        characters.put("\\ElsevierGlyph{E210}", '\u292A');
-        characters.put("\\ElsevierGlyph{E211}", '\u2927');
-        characters.put("\\ElsevierGlyph{E212}", '\u2905');
-        characters.put("\\ElsevierGlyph{E214}", '\u297C');
-        characters.put("\\ElsevierGlyph{E215}", '\u297D');
-        characters.put("\\ElsevierGlyph{E219}", '\u2937');
-        characters.put("\\ElsevierGlyph{E21A}", '\u2936');
-        characters.put("\\ElsevierGlyph{E21C}", '\u2933');
-        //"\\ElsevierGlyph{E21D}":"U+2933-00338",
-        characters.put("\\ElsevierGlyph{E259}", '\u2A3C');
-        characters.put("\\ElsevierGlyph{E25A}", '\u2A25');
-        characters.put("\\ElsevierGlyph{E25B}", '\u2A2A');
-        characters.put("\\ElsevierGlyph{E25C}", '\u2A2D');
-        characters.put("\\ElsevierGlyph{E25D}", '\u2A2E');
-        characters.put("\\ElsevierGlyph{E25E}", '\u2A35');
-        characters.put("\\ElsevierGlyph{E260}", '\u29B5');
-        characters.put("\\ElsevierGlyph{E291}", '\u2994');
-        characters.put("\\ElsevierGlyph{E30D}", '\u2AEB');
-        characters.put("\\ElsevierGlyph{E36E}", '\u2A55');
-        characters.put("\\ElsevierGlyph{E372}", '\u29DC');
-        characters.put("\\ElsevierGlyph{E381}", '\u25B1');
-        characters.put("\\ElsevierGlyph{E395}", '\u2A10');
-        characters.put("\\ElsevierGlyph{E61B}", '\u29B6');
-        characters.put("\\ElsevierGlyph{E838}", '\u233D');
-        characters.put("\\Elxsqcup", '\u2A06');
-        characters.put("\\Elxuplus", '\u2A04');
-        characters.put("\\ElzAnd", '\u2A53');
-        characters.put("\\ElzCint", '\u2A0D');
-        characters.put("\\ElzInf", '\u2A07');
-        characters.put("\\ElzLap", '\u29CA');
-        characters.put("\\ElzOr", '\u2A54');
-        characters.put("\\ElzRlarr", '\u2942');
-        characters.put("\\ElzSup", '\u2A08');
-        characters.put("\\ElzThr", '\u2A05');
-        characters.put("\\ElzTimes", '\u2A2F');
-        characters.put("\\Elzbar", '\u0336');
-        characters.put("\\Elzbtdl", '\u026C');
-        characters.put("\\Elzcirfb", '\u25D2');
-        characters.put("\\Elzcirfl", '\u25D0');
-        characters.put("\\Elzcirfr", '\u25D1');
-        characters.put("\\Elzclomeg", '\u0277');
-        characters.put("\\Elzddfnc", '\u2999');
-        characters.put("\\Elzdefas", '\u29CB');
-        characters.put("\\Elzdlcorn", '\u23A3');
-        characters.put("\\Elzdshfnc", '\u2506');
-        characters.put("\\Elzdyogh", '\u02A4');
-        characters.put("\\Elzesh", '\u0283');
-        characters.put("\\Elzfhr", '\u027E');
-        characters.put("\\Elzglst", '\u0294');
-        characters.put("\\Elzhlmrk", '\u02D1');
-        characters.put("\\Elzinglst", '\u0296');
-        characters.put("\\Elzinvv", '\u028C');
-        characters.put("\\Elzinvw", '\u028D');
-        characters.put("\\Elzlmrk", '\u02D0');
-        characters.put("\\Elzlow", '\u02D5');
-        characters.put("\\Elzlpargt", '\u29A0');
-        characters.put("\\Elzltlmr", '\u0271');
-        characters.put("\\Elzltln", '\u0272');
-        characters.put("\\Elzminhat", '\u2A5F');
-        characters.put("\\Elzopeno", '\u0254');
-        characters.put("\\Elzpalh", '\u0321');
-        characters.put("\\Elzpbgam", '\u0264');
-        characters.put("\\Elzpgamma", '\u0263');
-        characters.put("\\Elzpscrv", '\u028B');
-        characters.put("\\Elzpupsil", '\u028A');
-        characters.put("\\ElzrLarr", '\u2944');
-        characters.put("\\Elzrais", '\u02D4');
-        characters.put("\\Elzrarrx", '\u2947');
-        characters.put("\\Elzreapos", '\u201B');
-        characters.put("\\Elzreglst", '\u0295');
-        characters.put("\\Elzrh", '\u0322');
-        characters.put("\\Elzrl", '\u027C');
-        characters.put("\\Elzrtld", '\u0256');
-        characters.put("\\Elzrtll", '\u026D');
-        characters.put("\\Elzrtln", '\u0273');
-        characters.put("\\Elzrtlr", '\u027D');
-        characters.put("\\Elzrtls", '\u0282');
-        characters.put("\\Elzrtlt", '\u0288');
-        characters.put("\\Elzrtlz", '\u0290');
-        characters.put("\\Elzrttrnr", '\u027B');
-        characters.put("\\Elzrvbull", '\u25D8');
-        characters.put("\\Elzsbbrg", '\u032A');
-        characters.put("\\Elzsblhr", '\u02D3');
-        characters.put("\\Elzsbrhr", '\u02D2');
-        characters.put("\\Elzschwa", '\u0259');
-        characters.put("\\Elzsqfl", '\u25E7');
-        characters.put("\\Elzsqfnw", '\u2519');
-        characters.put("\\Elzsqfr", '\u25E8');
-        characters.put("\\Elzsqfse", '\u25EA');
-        characters.put("\\Elzsqspne", '\u22E5');
-        characters.put("\\Elztdcol", '\u2AF6');
-        characters.put("\\Elztesh", '\u02A7');
-        characters.put("\\Elztfnc", '\u2980');
-        characters.put("\\Elztrna", '\u0250');
-        characters.put("\\Elztrnh", '\u0265');
-        characters.put("\\Elztrnm", '\u026F');
-        characters.put("\\Elztrnmlr", '\u0270');
-        characters.put("\\Elztrnr", '\u0279');
-        characters.put("\\Elztrnrl", '\u027A');
-        characters.put("\\Elztrnsa", '\u0252');
-        characters.put("\\Elztrnt", '\u0287');
-        characters.put("\\Elztrny", '\u028E');
-        characters.put("\\Elzverti", '\u02CC');
-        characters.put("\\Elzverts", '\u02C8');
-        characters.put("\\Elzvrecto", '\u25AF');
-        characters.put("\\Elzxh", '\u0127');
-        characters.put("\\Elzxl", '\u0335');
-        characters.put("\\Elzxrat", '\u211E');
-        characters.put("\\Elzyogh", '\u0292');
-        characters.put("\\Epsilon", '\u0395');
-        characters.put("\\Equal", '\u2A75');
-        characters.put("\\Eta", '\u0397');
-        characters.put("\\Gamma", '\u0393');
-        characters.put("\\H", '\u030B');
-        characters.put("\\H{O}", '\u0150');
-        characters.put("\\H{U}", '\u0170');
-        characters.put("\\H{o}", '\u0151');
-        characters.put("\\H{u}", '\u0171');
-        characters.put("\\H{}", '\u02DD');
-        characters.put("\\Iota", '\u0399');
-        characters.put("\\Kappa", '\u039A');
-        characters.put("\\Koppa", '\u03DE');
-        characters.put("\\L", '\u0141');
-        characters.put("\\Lambda", '\u039B');
-        characters.put("\\LeftDownTeeVector", '\u2961');
-        characters.put("\\LeftDownVectorBar", '\u2959');
-        characters.put("\\LeftRightVector", '\u294E');
-        characters.put("\\LeftTeeVector", '\u295A');
-        characters.put("\\LeftTriangleBar", '\u29CF');
-        characters.put("\\LeftUpDownVector", '\u2951');
-        characters.put("\\LeftUpTeeVector", '\u2960');
-        characters.put("\\LeftUpVectorBar", '\u2958');
-        characters.put("\\LeftVectorBar", '\u2952');
-        characters.put("\\Leftarrow", '\u21D0');
-        characters.put("\\Leftrightarrow", '\u21D4');
-        characters.put("\\Lleftarrow", '\u21DA');
-        characters.put("\\Longleftarrow", '\u27F8');
-        characters.put("\\Longleftrightarrow", '\u27FA');
-        characters.put("\\Longrightarrow", '\u27F9');
-        characters.put("\\Lsh", '\u21B0');
-        characters.put("\\NG", '\u014A');
-        characters.put("\\NestedGreaterGreater", '\u2AA2');
-        characters.put("\\NestedLessLess", '\u2AA1');
-        /*
-         "\\NotEqualTilde":"U+2242-00338",
-         "\\NotGreaterGreater":"U+226B-00338",
-         "\\NotHumpDownHump":"U+224E-00338",
-         "\\NotHumpEqual":"U+224F-00338",
-         "\\NotLeftTriangleBar":"U+29CF-00338",
-         "\\NotLessLess":"U+226A-00338",
-         "\\NotNestedGreaterGreater":"U+2AA2-00338",
-         "\\NotNestedLessLess":"U+2AA1-00338",
-         "\\NotPrecedesTilde":"U+227E-00338",
-         "\\NotRightTriangleBar":"U+29D0-00338",
-         "\\NotSquareSubset":"U+228F-00338",
-         "\\NotSquareSuperset":"U+2290-00338",
-         "\\NotSucceedsTilde":"U+227F-00338",
-         */
-        characters.put("\\O", '\u00D8');
-        characters.put("\\OE", '\u0152');
-        characters.put("\\Omega", '\u03A9');
-        characters.put("\\Omicron", '\u039F');
-        characters.put("\\Phi", '\u03A6');
-        characters.put("\\Pi", '\u03A0');
-        characters.put("\\Pisymbol{ppi020}{105}", '\u2A9E');
-        characters.put("\\Pisymbol{ppi020}{117}", '\u2A9D');
-        characters.put("\\Pisymbol{ppi022}{87}", '\u03D0');
-        characters.put("\\Psi", '\u03A8');
-        characters.put("\\ReverseUpEquilibrium", '\u296F');
-        characters.put("\\Rho", '\u03A1');
-        characters.put("\\RightDownTeeVector", '\u295D');
-        characters.put("\\RightDownVectorBar", '\u2955');
-        characters.put("\\RightTeeVector", '\u295B');
-        characters.put("\\RightTriangleBar", '\u29D0');
-        characters.put("\\RightUpDownVector", '\u294F');
-        characters.put("\\RightUpTeeVector", '\u295C');
-        characters.put("\\RightUpVectorBar", '\u2954');
-        characters.put("\\RightVectorBar", '\u2953');
-        characters.put("\\Rightarrow", '\u21D2');
-        characters.put("\\RoundImplies", '\u2970');
-        characters.put("\\Rrightarrow", '\u21DB');
-        characters.put("\\Rsh", '\u21B1');
-        characters.put("\\RuleDelayed", '\u29F4');
-        characters.put("\\Sampi", '\u03E0');
-        characters.put("\\Sigma", '\u03A3');
-        characters.put("\\Stigma", '\u03DA');
-        characters.put("\\Subset", '\u22D0');
-        characters.put("\\Supset", '\u22D1');
-        characters.put("\\TH", '\u00DE');
-        characters.put("\\Tau", '\u03A4');
-        characters.put("\\Theta", '\u0398');
-        characters.put("\\UpArrowBar", '\u2912');
-        characters.put("\\UpEquilibrium", '\u296E');
-        characters.put("\\Uparrow", '\u21D1');
-        characters.put("\\Updownarrow", '\u21D5');
-        characters.put("\\Upsilon", '\u03A5');
-        characters.put("\\VDash", '\u22AB');
-        characters.put("\\Vdash", '\u22A9');
-        characters.put("\\Vert", '\u2016');
-        characters.put("\\Vvdash", '\u22AA');
-        characters.put("\\Xi", '\u039E');
-        characters.put("\\Zeta", '\u0396');
-        characters.put("\\\"", '\u0308');
-        characters.put("\\\"{A}", '\u00C4');
-        characters.put("\\\"{E}", '\u00CB');
-        characters.put("\\\"{I}", '\u00CF');
-        characters.put("\\\"{O}", '\u00D6');
-        characters.put("\\\"{U}", '\u00DC');
-        characters.put("\\\"{Y}", '\u0178');
-        characters.put("\\\"{a}", '\u00E4');
-        characters.put("\\\"{e}", '\u00EB');
-        characters.put("\\\"{i}", '\u00EF');
-        characters.put("\\\"{\\i}", '\u00EF');
-        characters.put("\\\"{o}", '\u00F6');
-        characters.put("\\\"{u}", '\u00FC');
-        characters.put("\\\"{y}", '\u00FF');
-        characters.put("\\^", '\u0302');
-        characters.put("\\^{A}", '\u00C2');
-        characters.put("\\^{C}", '\u0108');
-        characters.put("\\^{E}", '\u00CA');
-        characters.put("\\^{G}", '\u011C');
-        characters.put("\\^{H}", '\u0124');
-        characters.put("\\^{I}", '\u00CE');
-        characters.put("\\^{J}", '\u0134');
-        characters.put("\\^{O}", '\u00D4');
-        characters.put("\\^{S}", '\u015C');
-        characters.put("\\^{U}", '\u00DB');
-        characters.put("\\^{W}", '\u0174');
-        characters.put("\\^{Y}", '\u0176');
-        characters.put("\\^{\\i}", '\u00EE');
-        characters.put("\\^{i}", '\u00EE');
-        characters.put("\\^{\\j}", '\u0135');
-        characters.put("\\^{j}", '\u0135');
-        characters.put("\\^{a}", '\u00E2');
-        characters.put("\\^{c}", '\u0109');
-        characters.put("\\^{e}", '\u00EA');
-        characters.put("\\^{g}", '\u011D');
-        characters.put("\\^{h}", '\u0125');
-        characters.put("\\^{o}", '\u00F4');
-        characters.put("\\^{s}", '\u015D');
-        characters.put("\\^{u}", '\u00FB');
-        characters.put("\\^{w}", '\u0175');
-        characters.put("\\^{y}", '\u0177');
-        characters.put("\\^{}", '\u005E');
-        characters.put("\\_", '\u005F');
-        characters.put("\\`", '\u0300');
-        characters.put("\\`{A}", '\u00C0');
-        characters.put("\\`{E}", '\u00C8');
-        characters.put("\\`{I}", '\u00CC');
-        characters.put("\\`{O}", '\u00D2');
-        characters.put("\\`{U}", '\u00D9');
-        characters.put("\\`{\\i}", '\u00EC');
-        characters.put("\\`{i}", '\u00EC');
-        characters.put("\\`{a}", '\u00E0');
-        characters.put("\\`{e}", '\u00E8');
-        characters.put("\\`{o}", '\u00F2');
-        characters.put("\\`{u}", '\u00F9');
-        characters.put("\\aa", '\u00E5');
-        characters.put("\\acute{\\ddot{\\iota}}", '\u0390');
-        characters.put("\\acute{\\ddot{\\upsilon}}", '\u03B0');
-        characters.put("\\acute{\\epsilon}", '\u03AD');
-        characters.put("\\acute{\\eta}", '\u03AE');
-        characters.put("\\acute{\\iota}", '\u03AF');
-        characters.put("\\acute{\\omega}", '\u03CE');
-        characters.put("\\acute{\\upsilon}", '\u03CD');
-        characters.put("\\ae", '\u00E6');
-        characters.put("\\aleph", '\u2135');
-        characters.put("\\allequal", '\u224C');
-        characters.put("\\alpha", '\u03B1');
-        characters.put("\\amalg", '\u2A3F');
-        characters.put("\\angle", '\u2220');
-        characters.put("\\approx", '\u2248');
-        characters.put("\\approxeq", '\u224A');
-        characters.put("\\approxnotequal", '\u2246');
-        characters.put("\\aquarius", '\u2652');
-        characters.put("\\aries", '\u2648');
-        characters.put("\\arrowwaveright", '\u219C');
-        characters.put("\\ast", '\u002A');
-        characters.put("\\asymp", '\u224D');
-        characters.put("\\backepsilon", '\u03F6');
-        characters.put("\\backprime", '\u2035');
-        characters.put("\\backsim", '\u223D');
-        characters.put("\\backsimeq", '\u22CD');
-        characters.put("\\barwedge", '\u2305');
-        characters.put("\\because", '\u2235');
-        characters.put("\\beta", '\u03B2');
-        characters.put("\\beth", '\u2136');
-        characters.put("\\between", '\u226C');
-        characters.put("\\bigcap", '\u22C2');
-        characters.put("\\bigcirc", '\u25EF');
-        characters.put("\\bigcup", '\u22C3');
-        characters.put("\\bigtriangledown", '\u25BD');
-        characters.put("\\bigtriangleup", '\u25B3');
-        characters.put("\\blacklozenge", '\u29EB');
-        characters.put("\\blacksquare", '\u25AA');
-        characters.put("\\blacktriangle", '\u25B4');
-        characters.put("\\blacktriangledown", '\u25BE');
-        characters.put("\\blacktriangleleft", '\u25C2');
-        characters.put("\\blacktriangleright", '\u25B8');
-        characters.put("\\bowtie", '\u22C8');
-        characters.put("\\boxdot", '\u22A1');
-        characters.put("\\boxminus", '\u229F');
-        characters.put("\\boxplus", '\u229E');
-        characters.put("\\boxtimes", '\u22A0');
-        characters.put("\\bullet", '\u2219');
-        characters.put("\\bumpeq", '\u224F');
-        characters.put("\\c", '\u0327');
-        characters.put("\\cancer", '\u264B');
-        characters.put("\\cap", '\u2229');
-        characters.put("\\capricornus", '\u2651');
-        characters.put("\\cdot", '\u00B7');
-        characters.put("\\cdots", '\u22EF');
-        characters.put("\\chi", '\u03C7');
-        characters.put("\\circ", '\u2218');
-        characters.put("\\circeq", '\u2257');
-        characters.put("\\circlearrowleft", '\u21BA');
-        characters.put("\\circlearrowright", '\u21BB');
-        characters.put("\\circledS", '\u24C8');
-        characters.put("\\circledast", '\u229B');
-        characters.put("\\circledcirc", '\u229A');
-        characters.put("\\circleddash", '\u229D');
-        characters.put("\\clockoint", '\u2A0F');
-        characters.put("\\clwintegral", '\u2231');
-        characters.put("\\complement", '\u2201');
-        characters.put("\\cong", '\u2245');
-        characters.put("\\coprod", '\u2210');
-        characters.put("\\cup", '\u222A');
-        characters.put("\\curlyeqprec", '\u22DE');
-        characters.put("\\curlyeqsucc", '\u22DF');
-        characters.put("\\curlyvee", '\u22CE');
-        characters.put("\\curlywedge", '\u22CF');
-        characters.put("\\curvearrowleft", '\u21B6');
-        characters.put("\\curvearrowright", '\u21B7');
-        characters.put("\\cyrchar\\C", '\u030F');
-        characters.put("\\cyrchar\\CYRA", '\u0410');
-        characters.put("\\cyrchar\\CYRABHCH", '\u04BC');
-        characters.put("\\cyrchar\\CYRABHCHDSC", '\u04BE');
-        characters.put("\\cyrchar\\CYRABHDZE", '\u04E0');
-        characters.put("\\cyrchar\\CYRABHHA", '\u04A8');
-        characters.put("\\cyrchar\\CYRAE", '\u04D4');
-        characters.put("\\cyrchar\\CYRB", '\u0411');
-        characters.put("\\cyrchar\\CYRBYUS", '\u046A');
-        characters.put("\\cyrchar\\CYRC", '\u0426');
-        characters.put("\\cyrchar\\CYRCH", '\u0427');
-        characters.put("\\cyrchar\\CYRCHLDSC", '\u04CB');
-        characters.put("\\cyrchar\\CYRCHRDSC", '\u04B6');
-        characters.put("\\cyrchar\\CYRCHVCRS", '\u04B8');
-        characters.put("\\cyrchar\\CYRD", '\u0414');
-        characters.put("\\cyrchar\\CYRDJE", '\u0402');
-        characters.put("\\cyrchar\\CYRDZE", '\u0405');
-        characters.put("\\cyrchar\\CYRDZHE", '\u040F');
-        characters.put("\\cyrchar\\CYRE", '\u0415');
-        characters.put("\\cyrchar\\CYREREV", '\u042D');
-        characters.put("\\cyrchar\\CYRERY", '\u042B');
-        characters.put("\\cyrchar\\CYRF", '\u0424');
-        characters.put("\\cyrchar\\CYRFITA", '\u0472');
-        characters.put("\\cyrchar\\CYRG", '\u0413');
-        characters.put("\\cyrchar\\CYRGHCRS", '\u0492');
-        characters.put("\\cyrchar\\CYRGHK", '\u0494');
-        characters.put("\\cyrchar\\CYRGUP", '\u0490');
-        characters.put("\\cyrchar\\CYRH", '\u0425');
-        characters.put("\\cyrchar\\CYRHDSC", '\u04B2');
-        characters.put("\\cyrchar\\CYRHRDSN", '\u042A');
-        characters.put("\\cyrchar\\CYRI", '\u0418');
-        characters.put("\\cyrchar\\CYRIE", '\u0404');
-        characters.put("\\cyrchar\\CYRII", '\u0406');
-        characters.put("\\cyrchar\\CYRIOTBYUS", '\u046C');
-        characters.put("\\cyrchar\\CYRIOTE", '\u0464');
-        characters.put("\\cyrchar\\CYRIOTLYUS", '\u0468');
-        characters.put("\\cyrchar\\CYRISHRT", '\u0419');
-        characters.put("\\cyrchar\\CYRIZH", '\u0474');
-        characters.put("\\cyrchar\\CYRJE", '\u0408');
-        characters.put("\\cyrchar\\CYRK", '\u041A');
-        characters.put("\\cyrchar\\CYRKBEAK", '\u04A0');
-        characters.put("\\cyrchar\\CYRKDSC", '\u049A');
-        characters.put("\\cyrchar\\CYRKHCRS", '\u049E');
-        characters.put("\\cyrchar\\CYRKHK", '\u04C3');
-        characters.put("\\cyrchar\\CYRKOPPA", '\u0480');
-        characters.put("\\cyrchar\\CYRKSI", '\u046E');
-        characters.put("\\cyrchar\\CYRKVCRS", '\u049C');
-        characters.put("\\cyrchar\\CYRL", '\u041B');
-        characters.put("\\cyrchar\\CYRLJE", '\u0409');
-        characters.put("\\cyrchar\\CYRLYUS", '\u0466');
-        characters.put("\\cyrchar\\CYRM", '\u041C');
-        characters.put("\\cyrchar\\CYRN", '\u041D');
-        characters.put("\\cyrchar\\CYRNDSC", '\u04A2');
-        characters.put("\\cyrchar\\CYRNG", '\u04A4');
-        characters.put("\\cyrchar\\CYRNHK", '\u04C7');
-        characters.put("\\cyrchar\\CYRNJE", '\u040A');
-        characters.put("\\cyrchar\\CYRO", '\u041E');
-        characters.put("\\cyrchar\\CYROMEGA", '\u0460');
-        characters.put("\\cyrchar\\CYROMEGARND", '\u047A');
-        characters.put("\\cyrchar\\CYROMEGATITLO", '\u047C');
-        characters.put("\\cyrchar\\CYROT", '\u047E');
-        characters.put("\\cyrchar\\CYROTLD", '\u04E8');
-        characters.put("\\cyrchar\\CYRP", '\u041F');
-        characters.put("\\cyrchar\\CYRPHK", '\u04A6');
-        characters.put("\\cyrchar\\CYRPSI", '\u0470');
-        characters.put("\\cyrchar\\CYRR", '\u0420');
-        characters.put("\\cyrchar\\CYRRTICK", '\u048E');
-        characters.put("\\cyrchar\\CYRS", '\u0421');
-        characters.put("\\cyrchar\\CYRSCHWA", '\u04D8');
-        characters.put("\\cyrchar\\CYRSDSC", '\u04AA');
-        characters.put("\\cyrchar\\CYRSEMISFTSN", '\u048C');
-        characters.put("\\cyrchar\\CYRSFTSN", '\u042C');
-        characters.put("\\cyrchar\\CYRSH", '\u0428');
-        characters.put("\\cyrchar\\CYRSHCH", '\u0429');
-        characters.put("\\cyrchar\\CYRSHHA", '\u04BA');
-        characters.put("\\cyrchar\\CYRT", '\u0422');
-        characters.put("\\cyrchar\\CYRTDSC", '\u04AC');
-        characters.put("\\cyrchar\\CYRTETSE", '\u04B4');
-        characters.put("\\cyrchar\\CYRTSHE", '\u040B');
-        characters.put("\\cyrchar\\CYRU", '\u0423');
-        characters.put("\\cyrchar\\CYRUK", '\u0478');
-        characters.put("\\cyrchar\\CYRUSHRT", '\u040E');
-        characters.put("\\cyrchar\\CYRV", '\u0412');
-        characters.put("\\cyrchar\\CYRY", '\u04AE');
-        characters.put("\\cyrchar\\CYRYA", '\u042F');
-        characters.put("\\cyrchar\\CYRYAT", '\u0462');
-        characters.put("\\cyrchar\\CYRYHCRS", '\u04B0');
-        characters.put("\\cyrchar\\CYRYI", '\u0407');
-        characters.put("\\cyrchar\\CYRYO", '\u0401');
-        characters.put("\\cyrchar\\CYRYU", '\u042E');
-        characters.put("\\cyrchar\\CYRZ", '\u0417');
-        characters.put("\\cyrchar\\CYRZDSC", '\u0498');
-        characters.put("\\cyrchar\\CYRZH", '\u0416');
-        characters.put("\\cyrchar\\CYRZHDSC", '\u0496');
-        characters.put("\\cyrchar\\CYRpalochka", '\u04C0');
-        characters.put("\\cyrchar\\cyra", '\u0430');
-        characters.put("\\cyrchar\\cyrabhch", '\u04BD');
-        characters.put("\\cyrchar\\cyrabhchdsc", '\u04BF');
-        characters.put("\\cyrchar\\cyrabhdze", '\u04E1');
-        characters.put("\\cyrchar\\cyrabhha", '\u04A9');
-        characters.put("\\cyrchar\\cyrae", '\u04D5');
-        characters.put("\\cyrchar\\cyrb", '\u0431');
-        characters.put("\\cyrchar\\cyrc", '\u0446');
-        characters.put("\\cyrchar\\cyrch", '\u0447');
-        characters.put("\\cyrchar\\cyrchldsc", '\u04CC');
-        characters.put("\\cyrchar\\cyrchrdsc", '\u04B7');
-        characters.put("\\cyrchar\\cyrchvcrs", '\u04B9');
-        characters.put("\\cyrchar\\cyrd", '\u0434');
-        characters.put("\\cyrchar\\cyrdje", '\u0452');
-        characters.put("\\cyrchar\\cyrdze", '\u0455');
-        characters.put("\\cyrchar\\cyrdzhe", '\u045F');
-        characters.put("\\cyrchar\\cyre", '\u0435');
-        characters.put("\\cyrchar\\cyrerev", '\u044D');
-        characters.put("\\cyrchar\\cyrery", '\u044B');
-        characters.put("\\cyrchar\\cyrf", '\u0444');
-        characters.put("\\cyrchar\\cyrg", '\u0433');
-        characters.put("\\cyrchar\\cyrghcrs", '\u0493');
-        characters.put("\\cyrchar\\cyrghk", '\u0495');
-        characters.put("\\cyrchar\\cyrgup", '\u0491');
-        characters.put("\\cyrchar\\cyrh", '\u0445');
-        characters.put("\\cyrchar\\cyrhdsc", '\u04B3');
-        characters.put("\\cyrchar\\cyrhrdsn", '\u044A');
-        characters.put("\\cyrchar\\cyrhundredthousands", '\u0488');
-        characters.put("\\cyrchar\\cyri", '\u0438');
-        characters.put("\\cyrchar\\cyrie", '\u0454');
-        characters.put("\\cyrchar\\cyrii", '\u0456');
-        characters.put("\\cyrchar\\cyriotbyus", '\u046D');
-        characters.put("\\cyrchar\\cyriote", '\u0465');
-        characters.put("\\cyrchar\\cyriotlyus", '\u0469');
-        characters.put("\\cyrchar\\cyrishrt", '\u0439');
-        characters.put("\\cyrchar\\cyrje", '\u0458');
-        characters.put("\\cyrchar\\cyrk", '\u043A');
-        characters.put("\\cyrchar\\cyrkbeak", '\u04A1');
-        characters.put("\\cyrchar\\cyrkdsc", '\u049B');
-        characters.put("\\cyrchar\\cyrkhcrs", '\u049F');
-        characters.put("\\cyrchar\\cyrkhk", '\u04C4');
-        characters.put("\\cyrchar\\cyrkoppa", '\u0481');
-        characters.put("\\cyrchar\\cyrksi", '\u046F');
-        characters.put("\\cyrchar\\cyrkvcrs", '\u049D');
-        characters.put("\\cyrchar\\cyrl", '\u043B');
-        characters.put("\\cyrchar\\cyrlje", '\u0459');
-        characters.put("\\cyrchar\\cyrlyus", '\u0467');
-        characters.put("\\cyrchar\\cyrm", '\u043C');
-        characters.put("\\cyrchar\\cyrmillions", '\u0489');
-        characters.put("\\cyrchar\\cyrn", '\u043D');
-        characters.put("\\cyrchar\\cyrndsc", '\u04A3');
-        characters.put("\\cyrchar\\cyrng", '\u04A5');
-        characters.put("\\cyrchar\\cyrnhk", '\u04C8');
-        characters.put("\\cyrchar\\cyrnje", '\u045A');
-        characters.put("\\cyrchar\\cyro", '\u043E');
-        characters.put("\\cyrchar\\cyromega", '\u0461');
-        characters.put("\\cyrchar\\cyromegarnd", '\u047B');
-        characters.put("\\cyrchar\\cyromegatitlo", '\u047D');
-        characters.put("\\cyrchar\\cyrot", '\u047F');
-        characters.put("\\cyrchar\\cyrotld", '\u04E9');
-        characters.put("\\cyrchar\\cyrp", '\u043F');
-        characters.put("\\cyrchar\\cyrphk", '\u04A7');
-        characters.put("\\cyrchar\\cyrpsi", '\u0471');
-        characters.put("\\cyrchar\\cyrr", '\u0440');
-        characters.put("\\cyrchar\\cyrrtick", '\u048F');
-        characters.put("\\cyrchar\\cyrs", '\u0441');
-        characters.put("\\cyrchar\\cyrschwa", '\u04D9');
-        characters.put("\\cyrchar\\cyrsdsc", '\u04AB');
-        characters.put("\\cyrchar\\cyrsemisftsn", '\u048D');
-        characters.put("\\cyrchar\\cyrsftsn", '\u044C');
-        characters.put("\\cyrchar\\cyrsh", '\u0448');
-        characters.put("\\cyrchar\\cyrshch", '\u0449');
-        characters.put("\\cyrchar\\cyrshha", '\u04BB');
-        characters.put("\\cyrchar\\cyrt", '\u0442');
-        characters.put("\\cyrchar\\cyrtdsc", '\u04AD');
-        characters.put("\\cyrchar\\cyrtetse", '\u04B5');
-        characters.put("\\cyrchar\\cyrthousands", '\u0482');
-        characters.put("\\cyrchar\\cyrtshe", '\u045B');
-        characters.put("\\cyrchar\\cyru", '\u0443');
-        characters.put("\\cyrchar\\cyruk", '\u0479');
-        characters.put("\\cyrchar\\cyrushrt", '\u045E');
-        characters.put("\\cyrchar\\cyrv", '\u0432');
-        characters.put("\\cyrchar\\cyry", '\u04AF');
-        characters.put("\\cyrchar\\cyrya", '\u044F');
-        characters.put("\\cyrchar\\cyryhcrs", '\u04B1');
-        characters.put("\\cyrchar\\cyryi", '\u0457');
-        characters.put("\\cyrchar\\cyryo", '\u0451');
-        characters.put("\\cyrchar\\cyryu", '\u044E');
-        characters.put("\\cyrchar\\cyrz", '\u0437');
-        characters.put("\\cyrchar\\cyrzdsc", '\u0499');
-        characters.put("\\cyrchar\\cyrzh", '\u0436');
-        characters.put("\\cyrchar\\cyrzhdsc", '\u0497');
-        characters.put("\\cyrchar\\textnumero", '\u2116');
-        characters.put("\\cyrchar{\\'\\CYRG}", '\u0403');
-        characters.put("\\cyrchar{\\'\\CYRK}", '\u040C');
-        characters.put("\\cyrchar{\\'\\cyrg}", '\u0453');
-        characters.put("\\cyrchar{\\'\\cyrk}", '\u045C');
-        characters.put("\\c{C}", '\u00C7');
-        characters.put("\\c{G}", '\u0122');
-        characters.put("\\c{K}", '\u0136');
-        characters.put("\\c{L}", '\u013B');
-        characters.put("\\c{N}", '\u0145');
-        characters.put("\\c{R}", '\u0156');
-        characters.put("\\c{S}", '\u015E');
-        characters.put("\\c{T}", '\u0162');
-        characters.put("\\c{c}", '\u00E7');
-        characters.put("\\c{g}", '\u0123');
-        characters.put("\\c{k}", '\u0137');
-        characters.put("\\c{l}", '\u013C');
-        characters.put("\\c{n}", '\u0146');
-        characters.put("\\c{r}", '\u0157');
-        characters.put("\\c{s}", '\u015F');
-        characters.put("\\c{t}", '\u0163');
-        characters.put("\\c{}", '\u00B8');
-        characters.put("\\daleth", '\u2138');
-        characters.put("\\dashv", '\u22A3');
-        characters.put("\\dblarrowupdown", '\u21C5');
-        characters.put("\\ddddot", '\u20DC');
-        characters.put("\\dddot", '\u20DB');
-        characters.put("\\ddot{\\iota}", '\u03CA');
-        characters.put("\\ddot{\\upsilon}", '\u03CB');
-        characters.put("\\delta", '\u03B4');
-        characters.put("\\dh", '\u00F0');
-        characters.put("\\diagup", '\u2571');
-        characters.put("\\diamond", '\u22C4');
-        characters.put("\\digamma", '\u03DD');
-        characters.put("\\ding{100}", '\u2744');
-        characters.put("\\ding{101}", '\u2745');
-        characters.put("\\ding{102}", '\u2746');
-        characters.put("\\ding{103}", '\u2747');
-        characters.put("\\ding{104}", '\u2748');
-        characters.put("\\ding{105}", '\u2749');
-        characters.put("\\ding{106}", '\u274A');
-        characters.put("\\ding{107}", '\u274B');
-        characters.put("\\ding{108}", '\u25CF');
-        characters.put("\\ding{109}", '\u274D');
-        characters.put("\\ding{110}", '\u25A0');
-        characters.put("\\ding{111}", '\u274F');
-        characters.put("\\ding{112}", '\u2750');
-        characters.put("\\ding{113}", '\u2751');
-        characters.put("\\ding{114}", '\u2752');
-        characters.put("\\ding{115}", '\u25B2');
-        characters.put("\\ding{116}", '\u25BC');
-        characters.put("\\ding{117}", '\u25C6');
-        characters.put("\\ding{118}", '\u2756');
-        characters.put("\\ding{119}", '\u25D7');
-        characters.put("\\ding{120}", '\u2758');
-        characters.put("\\ding{121}", '\u2759');
-        characters.put("\\ding{122}", '\u275A');
-        characters.put("\\ding{123}", '\u275B');
-        characters.put("\\ding{124}", '\u275C');
-        characters.put("\\ding{125}", '\u275D');
-        characters.put("\\ding{126}", '\u275E');
-        characters.put("\\ding{161}", '\u2761');
-        characters.put("\\ding{162}", '\u2762');
-        characters.put("\\ding{163}", '\u2763');
-        characters.put("\\ding{164}", '\u2764');
-        characters.put("\\ding{165}", '\u2765');
-        characters.put("\\ding{166}", '\u2766');
-        characters.put("\\ding{167}", '\u2767');
-        characters.put("\\ding{168}", '\u2663');
-        characters.put("\\ding{169}", '\u2666');
-        characters.put("\\ding{170}", '\u2665');
-        characters.put("\\ding{171}", '\u2660');
-        characters.put("\\ding{172}", '\u2460');
-        characters.put("\\ding{173}", '\u2461');
-        characters.put("\\ding{174}", '\u2462');
-        characters.put("\\ding{175}", '\u2463');
-        characters.put("\\ding{176}", '\u2464');
-        characters.put("\\ding{177}", '\u2465');
-        characters.put("\\ding{178}", '\u2466');
-        characters.put("\\ding{179}", '\u2467');
-        characters.put("\\ding{180}", '\u2468');
-        characters.put("\\ding{181}", '\u2469');
-        characters.put("\\ding{182}", '\u2776');
-        characters.put("\\ding{183}", '\u2777');
-        characters.put("\\ding{184}", '\u2778');
-        characters.put("\\ding{185}", '\u2779');
-        characters.put("\\ding{186}", '\u277A');
-        characters.put("\\ding{187}", '\u277B');
-        characters.put("\\ding{188}", '\u277C');
-        characters.put("\\ding{189}", '\u277D');
-        characters.put("\\ding{190}", '\u277E');
-        characters.put("\\ding{191}", '\u277F');
-        characters.put("\\ding{192}", '\u2780');
-        characters.put("\\ding{193}", '\u2781');
-        characters.put("\\ding{194}", '\u2782');
-        characters.put("\\ding{195}", '\u2783');
-        characters.put("\\ding{196}", '\u2784');
-        characters.put("\\ding{197}", '\u2785');
-        characters.put("\\ding{198}", '\u2786');
-        characters.put("\\ding{199}", '\u2787');
-        characters.put("\\ding{200}", '\u2788');
-        characters.put("\\ding{201}", '\u2789');
-        characters.put("\\ding{202}", '\u278A');
-        characters.put("\\ding{203}", '\u278B');
-        characters.put("\\ding{204}", '\u278C');
-        characters.put("\\ding{205}", '\u278D');
-        characters.put("\\ding{206}", '\u278E');
-        characters.put("\\ding{207}", '\u278F');
-        characters.put("\\ding{208}", '\u2790');
-        characters.put("\\ding{209}", '\u2791');
-        characters.put("\\ding{210}", '\u2792');
-        characters.put("\\ding{211}", '\u2793');
-        characters.put("\\ding{212}", '\u2794');
-        characters.put("\\ding{216}", '\u2798');
-        characters.put("\\ding{217}", '\u2799');
-        characters.put("\\ding{218}", '\u279A');
-        characters.put("\\ding{219}", '\u279B');
-        characters.put("\\ding{220}", '\u279C');
-        characters.put("\\ding{221}", '\u279D');
-        characters.put("\\ding{222}", '\u279E');
-        characters.put("\\ding{223}", '\u279F');
-        characters.put("\\ding{224}", '\u27A0');
-        characters.put("\\ding{225}", '\u27A1');
-        characters.put("\\ding{226}", '\u27A2');
-        characters.put("\\ding{227}", '\u27A3');
-        characters.put("\\ding{228}", '\u27A4');
-        characters.put("\\ding{229}", '\u27A5');
-        characters.put("\\ding{230}", '\u27A6');
-        characters.put("\\ding{231}", '\u27A7');
-        characters.put("\\ding{232}", '\u27A8');
-        characters.put("\\ding{233}", '\u27A9');
-        characters.put("\\ding{234}", '\u27AA');
-        characters.put("\\ding{235}", '\u27AB');
-        characters.put("\\ding{236}", '\u27AC');
-        characters.put("\\ding{237}", '\u27AD');
-        characters.put("\\ding{238}", '\u27AE');
-        characters.put("\\ding{239}", '\u27AF');
-        characters.put("\\ding{241}", '\u27B1');
-        characters.put("\\ding{242}", '\u27B2');
-        characters.put("\\ding{243}", '\u27B3');
-        characters.put("\\ding{244}", '\u27B4');
-        characters.put("\\ding{245}", '\u27B5');
-        characters.put("\\ding{246}", '\u27B6');
-        characters.put("\\ding{247}", '\u27B7');
-        characters.put("\\ding{248}", '\u27B8');
-        characters.put("\\ding{249}", '\u27B9');
-        characters.put("\\ding{250}", '\u27BA');
-        characters.put("\\ding{251}", '\u27BB');
-        characters.put("\\ding{252}", '\u27BC');
-        characters.put("\\ding{253}", '\u27BD');
-        characters.put("\\ding{254}", '\u27BE');
-        characters.put("\\ding{33}", '\u2701');
-        characters.put("\\ding{34}", '\u2702');
-        characters.put("\\ding{35}", '\u2703');
-        characters.put("\\ding{36}", '\u2704');
-        characters.put("\\ding{37}", '\u260E');
-        characters.put("\\ding{38}", '\u2706');
-        characters.put("\\ding{39}", '\u2707');
-        characters.put("\\ding{40}", '\u2708');
-        characters.put("\\ding{41}", '\u2709');
-        characters.put("\\ding{42}", '\u261B');
-        characters.put("\\ding{43}", '\u261E');
-        characters.put("\\ding{44}", '\u270C');
-        characters.put("\\ding{45}", '\u270D');
-        characters.put("\\ding{46}", '\u270E');
-        characters.put("\\ding{47}", '\u270F');
-        characters.put("\\ding{48}", '\u2710');
-        characters.put("\\ding{49}", '\u2711');
-        characters.put("\\ding{50}", '\u2712');
-        characters.put("\\ding{51}", '\u2713');
-        characters.put("\\ding{52}", '\u2714');
-        characters.put("\\ding{53}", '\u2715');
-        characters.put("\\ding{54}", '\u2716');
-        characters.put("\\ding{55}", '\u2717');
-        characters.put("\\ding{56}", '\u2718');
-        characters.put("\\ding{57}", '\u2719');
-        characters.put("\\ding{58}", '\u271A');
-        characters.put("\\ding{59}", '\u271B');
-        characters.put("\\ding{60}", '\u271C');
-        characters.put("\\ding{61}", '\u271D');
-        characters.put("\\ding{62}", '\u271E');
-        characters.put("\\ding{63}", '\u271F');
-        characters.put("\\ding{64}", '\u2720');
-        characters.put("\\ding{65}", '\u2721');
-        characters.put("\\ding{66}", '\u2722');
-        characters.put("\\ding{67}", '\u2723');
-        characters.put("\\ding{68}", '\u2724');
-        characters.put("\\ding{69}", '\u2725');
-        characters.put("\\ding{70}", '\u2726');
-        characters.put("\\ding{71}", '\u2727');
-        characters.put("\\ding{72}", '\u2605');
-        characters.put("\\ding{73}", '\u2729');
-        characters.put("\\ding{74}", '\u272A');
-        characters.put("\\ding{75}", '\u272B');
-        characters.put("\\ding{76}", '\u272C');
-        characters.put("\\ding{77}", '\u272D');
-        characters.put("\\ding{78}", '\u272E');
-        characters.put("\\ding{79}", '\u272F');
-        characters.put("\\ding{80}", '\u2730');
-        characters.put("\\ding{81}", '\u2731');
-        characters.put("\\ding{82}", '\u2732');
-        characters.put("\\ding{83}", '\u2733');
-        characters.put("\\ding{84}", '\u2734');
-        characters.put("\\ding{85}", '\u2735');
-        characters.put("\\ding{86}", '\u2736');
-        characters.put("\\ding{87}", '\u2737');
-        characters.put("\\ding{88}", '\u2738');
-        characters.put("\\ding{89}", '\u2739');
-        characters.put("\\ding{90}", '\u273A');
-        characters.put("\\ding{91}", '\u273B');
-        characters.put("\\ding{92}", '\u273C');
-        characters.put("\\ding{93}", '\u273D');
-        characters.put("\\ding{94}", '\u273E');
-        characters.put("\\ding{95}", '\u273F');
-        characters.put("\\ding{96}", '\u2740');
-        characters.put("\\ding{97}", '\u2741');
-        characters.put("\\ding{98}", '\u2742');
-        characters.put("\\ding{99}", '\u2743');
-        characters.put("\\div", '\u00F7');
-        characters.put("\\divideontimes", '\u22C7');
-        characters.put("\\dj", '\u0111');
-        characters.put("\\doteq", '\u2250');
-        characters.put("\\doteqdot", '\u2251');
-        characters.put("\\dotplus", '\u2214');
-        characters.put("\\downarrow", '\u2193');
-        characters.put("\\downdownarrows", '\u21CA');
-        characters.put("\\downharpoonleft", '\u21C3');
-        characters.put("\\downharpoonright", '\u21C2');
-        characters.put("\\downslopeellipsis", '\u22F1');
-        characters.put("\\eighthnote", '\u266A');
-        characters.put("\\ensuremath{\\Elzpes}", '\u20A7');
-        characters.put("\\epsilon", '\u03B5');
-        characters.put("\\eqcirc", '\u2256');
-        characters.put("\\eqslantgtr", '\u2A96');
-        characters.put("\\eqslantless", '\u2A95');
-        characters.put("\\equiv", '\u2261');
-        characters.put("\\estimates", '\u2259');
-        characters.put("\\eta", '\u03B7');
-        characters.put("\\eth", '\u01AA');
-        characters.put("\\exists", '\u2203');
-        characters.put("\\fallingdotseq", '\u2252');
-        characters.put("\\fbox{~~}", '\u25AD');
-        characters.put("\\flat", '\u266D');
-        characters.put("\\forall", '\u2200');
-        characters.put("\\forcesextra", '\u22A8');
-        characters.put("\\frown", '\u2322');
-        characters.put("\\gamma", '\u03B3');
-        characters.put("\\gemini", '\u264A');
-        characters.put("\\geq", '\u2265');
-        characters.put("\\geqq", '\u2267');
-        characters.put("\\geqslant", '\u2A7E');
-        characters.put("\\gg", '\u226B');
-        characters.put("\\gimel", '\u2137');
-        characters.put("\\gnapprox", '\u2A8A');
-        characters.put("\\gneq", '\u2A88');
-        characters.put("\\gneqq", '\u2269');
-        characters.put("\\gnsim", '\u22E7');
-        characters.put("\\greaterequivlnt", '\u2273');
-        characters.put("\\gtrapprox", '\u2A86');
-        characters.put("\\gtrdot", '\u22D7');
-        characters.put("\\gtreqless", '\u22DB');
-        characters.put("\\gtreqqless", '\u2A8C');
-        characters.put("\\gtrless", '\u2277');
-        characters.put("\\guillemotleft", '\u00AB');
-        characters.put("\\guillemotright", '\u00BB');
-        characters.put("\\guilsinglleft", '\u2039');
-        characters.put("\\guilsinglright", '\u203A');
-        //"\\gvertneqq":"U+2269-0FE00",
-        characters.put("\\hermitconjmatrix", '\u22B9');
-        characters.put("\\homothetic", '\u223B');
-        characters.put("\\hookleftarrow", '\u21A9');
-        characters.put("\\hookrightarrow", '\u21AA');
-        characters.put("\\hphantom{,}", '\u2008');
-        characters.put("\\hphantom{0}", '\u2007');
-        characters.put("\\hslash", '\u210F');
-        characters.put("\\hspace{0.166em}", '\u2006');
-        characters.put("\\hspace{0.167em}", '\u2009');
-        characters.put("\\hspace{0.25em}", '\u2005');
-        characters.put("\\hspace{0.33em}", '\u2004');
-        characters.put("\\hspace{0.6em}", '\u2002');
-        characters.put("\\hspace{1em}", '\u2003');
-        characters.put("\\i", '\u0131');
-        characters.put("\\image", '\u22B7');
-        characters.put("\\in", '\uD750');
-        characters.put("\\in", '\u2208');
-        characters.put("\\infty", '\u221E');
-        characters.put("\\int", '\u222B');
-        characters.put("\\int\\!\\int", '\u222C');
-        characters.put("\\int\\!\\int\\!\\int", '\u222D');
-        characters.put("\\intercal", '\u22BA');
-        characters.put("\\iota", '\u03B9');
-        characters.put("\\jupiter", '\u2643');
-        characters.put("\\k", '\u0328');
-        characters.put("\\kappa", '\u03BA');
-        characters.put("\\k{A}", '\u0104');
-        characters.put("\\k{E}", '\u0118');
-        characters.put("\\k{I}", '\u012E');
-        characters.put("\\k{U}", '\u0172');
-        characters.put("\\k{a}", '\u0105');
-        characters.put("\\k{e}", '\u0119');
-        characters.put("\\k{i}", '\u012F');
-        characters.put("\\k{u}", '\u0173');
-        characters.put("\\k{}", '\u02DB');
-        characters.put("\\l", '\u0142');
-        characters.put("\\lambda", '\u03BB');
-        characters.put("\\langle", '\u2329');
-        characters.put("\\lazysinv", '\u223E');
-        characters.put("\\lbrace", '\u007B');
-        characters.put("\\lceil", '\u2308');
-        characters.put("\\ldots", '\u2026');
-        characters.put("\\leftarrow", '\u2190');
-        characters.put("\\leftarrowtail", '\u21A2');
-        characters.put("\\leftharpoondown", '\u21BD');
-        characters.put("\\leftharpoonup", '\u21BC');
-        characters.put("\\leftleftarrows", '\u21C7');
-        characters.put("\\leftrightarrow", '\u2194');
-        characters.put("\\leftrightarrows", '\u21C6');
-        characters.put("\\leftrightharpoons", '\u21CB');
-        characters.put("\\leftrightsquigarrow", '\u21AD');
-        characters.put("\\leftthreetimes", '\u22CB');
-        characters.put("\\leo", '\u264C');
-        characters.put("\\leq", '\u2264');
-        characters.put("\\leqq", '\u2266');
-        characters.put("\\leqslant", '\u2A7D');
-        characters.put("\\lessapprox", '\u2A85');
-        characters.put("\\lessdot", '\u22D6');
-        characters.put("\\lesseqgtr", '\u22DA');
-        characters.put("\\lesseqqgtr", '\u2A8B');
-        characters.put("\\lessequivlnt", '\u2272');
-        characters.put("\\lessgtr", '\u2276');
-        characters.put("\\lfloor", '\u230A');
-        characters.put("\\libra", '\u264E');
-        characters.put("\\ll", '\u226A');
-        characters.put("\\llcorner", '\u231E');
-        characters.put("\\lmoustache", '\u23B0');
-        characters.put("\\lnapprox", '\u2A89');
-        characters.put("\\lneq", '\u2A87');
-        characters.put("\\lneqq", '\u2268');
-        characters.put("\\lnot", '\u00AC');
-        characters.put("\\lnsim", '\u22E6');
-        characters.put("\\longleftarrow", '\u27F5');
-        characters.put("\\longleftrightarrow", '\u27F7');
-        characters.put("\\longmapsto", '\u27FC');
-        characters.put("\\longrightarrow", '\u27F6');
-        characters.put("\\looparrowleft", '\u21AB');
-        characters.put("\\looparrowright", '\u21AC');
-        characters.put("\\lozenge", '\u25CA');
-        characters.put("\\lrcorner", '\u231F');
-        characters.put("\\ltimes", '\u22C9');
-        //"\\lvertneqq":"U+2268-0FE00",
-        characters.put("\\male", '\u2642');
-        characters.put("\\mapsto", '\u21A6');
-        characters.put("\\mathbb{0}", '\uD7D8');
-        characters.put("\\mathbb{1}", '\uD7D9');
-        characters.put("\\mathbb{2}", '\uD7DA');
-        characters.put("\\mathbb{3}", '\uD7DB');
-        characters.put("\\mathbb{4}", '\uD7DC');
-        characters.put("\\mathbb{5}", '\uD7DD');
-        characters.put("\\mathbb{6}", '\uD7DE');
-        characters.put("\\mathbb{7}", '\uD7DF');
-        characters.put("\\mathbb{8}", '\uD7E0');
-        characters.put("\\mathbb{9}", '\uD7E1');
-        characters.put("\\mathbb{A}", '\uD538');
-        characters.put("\\mathbb{B}", '\uD539');
-        characters.put("\\mathbb{C}", '\u2102');
-        characters.put("\\mathbb{D}", '\uD53B');
-        characters.put("\\mathbb{E}", '\uD53C');
-        characters.put("\\mathbb{F}", '\uD53D');
-        characters.put("\\mathbb{G}", '\uD53E');
-        characters.put("\\mathbb{H}", '\u210D');
-        characters.put("\\mathbb{I}", '\uD540');
-        characters.put("\\mathbb{J}", '\uD541');
-        characters.put("\\mathbb{K}", '\uD542');
-        characters.put("\\mathbb{L}", '\uD543');
-        characters.put("\\mathbb{M}", '\uD544');
-        characters.put("\\mathbb{N}", '\u2115');
-        characters.put("\\mathbb{O}", '\uD546');
-        characters.put("\\mathbb{P}", '\u2119');
-        characters.put("\\mathbb{Q}", '\u211A');
-        characters.put("\\mathbb{R}", '\u211D');
-        characters.put("\\mathbb{S}", '\uD54A');
-        characters.put("\\mathbb{T}", '\uD54B');
-        characters.put("\\mathbb{U}", '\uD54C');
-        characters.put("\\mathbb{V}", '\uD54D');
-        characters.put("\\mathbb{W}", '\uD54E');
-        characters.put("\\mathbb{X}", '\uD54F');
-        characters.put("\\mathbb{Y}", '\uD550');
-        characters.put("\\mathbb{Z}", '\u2124');
-        characters.put("\\mathbb{a}", '\uD552');
-        characters.put("\\mathbb{b}", '\uD553');
-        characters.put("\\mathbb{c}", '\uD554');
-        characters.put("\\mathbb{d}", '\uD555');
-        characters.put("\\mathbb{e}", '\uD556');
-        characters.put("\\mathbb{f}", '\uD557');
-        characters.put("\\mathbb{g}", '\uD558');
-        characters.put("\\mathbb{h}", '\uD559');
-        characters.put("\\mathbb{i}", '\uD55A');
-        characters.put("\\mathbb{j}", '\uD55B');
-        characters.put("\\mathbb{k}", '\uD55C');
-        characters.put("\\mathbb{l}", '\uD55D');
-        characters.put("\\mathbb{m}", '\uD55E');
-        characters.put("\\mathbb{n}", '\uD55F');
-        characters.put("\\mathbb{o}", '\uD560');
-        characters.put("\\mathbb{p}", '\uD561');
-        characters.put("\\mathbb{q}", '\uD562');
-        characters.put("\\mathbb{r}", '\uD563');
-        characters.put("\\mathbb{s}", '\uD564');
-        characters.put("\\mathbb{t}", '\uD565');
-        characters.put("\\mathbb{u}", '\uD566');
-        characters.put("\\mathbb{v}", '\uD567');
-        characters.put("\\mathbb{w}", '\uD568');
-        characters.put("\\mathbb{x}", '\uD569');
-        characters.put("\\mathbb{y}", '\uD56A');
-        characters.put("\\mathbb{z}", '\uD56B');
-        characters.put("\\mathbf{0}", '\uD7CE');
-        characters.put("\\mathbf{1}", '\uD7CF');
-        characters.put("\\mathbf{2}", '\uD7D0');
-        characters.put("\\mathbf{3}", '\uD7D1');
-        characters.put("\\mathbf{4}", '\uD7D2');
-        characters.put("\\mathbf{5}", '\uD7D3');
-        characters.put("\\mathbf{6}", '\uD7D4');
-        characters.put("\\mathbf{7}", '\uD7D5');
-        characters.put("\\mathbf{8}", '\uD7D6');
-        characters.put("\\mathbf{9}", '\uD7D7');
-        characters.put("\\mathbf{A}", '\uD400');
-        characters.put("\\mathbf{B}", '\uD401');
-        characters.put("\\mathbf{C}", '\uD402');
-        characters.put("\\mathbf{D}", '\uD403');
-        characters.put("\\mathbf{E}", '\uD404');
-        characters.put("\\mathbf{F}", '\uD405');
-        characters.put("\\mathbf{G}", '\uD406');
-        characters.put("\\mathbf{H}", '\uD407');
-        characters.put("\\mathbf{I}", '\uD408');
-        characters.put("\\mathbf{J}", '\uD409');
-        characters.put("\\mathbf{K}", '\uD40A');
-        characters.put("\\mathbf{L}", '\uD40B');
-        characters.put("\\mathbf{M}", '\uD40C');
-        characters.put("\\mathbf{N}", '\uD40D');
-        characters.put("\\mathbf{O}", '\uD40E');
-        characters.put("\\mathbf{P}", '\uD40F');
-        characters.put("\\mathbf{Q}", '\uD410');
-        characters.put("\\mathbf{R}", '\uD411');
-        characters.put("\\mathbf{S}", '\uD412');
-        characters.put("\\mathbf{T}", '\uD413');
-        characters.put("\\mathbf{U}", '\uD414');
-        characters.put("\\mathbf{V}", '\uD415');
-        characters.put("\\mathbf{W}", '\uD416');
-        characters.put("\\mathbf{X}", '\uD417');
-        characters.put("\\mathbf{Y}", '\uD418');
-        characters.put("\\mathbf{Z}", '\uD419');
-        characters.put("\\mathbf{\\Alpha}", '\uD6C2');
-        characters.put("\\mathbf{\\Beta}", '\uD6C3');
-        characters.put("\\mathbf{\\Chi}", '\uD6D8');
-        characters.put("\\mathbf{\\Delta}", '\uD6AB');
-        characters.put("\\mathbf{\\Epsilon}", '\uD6AC');
-        characters.put("\\mathbf{\\Eta}", '\uD6AE');
-        characters.put("\\mathbf{\\Gamma}", '\uD6AA');
-        characters.put("\\mathbf{\\Iota}", '\uD6CA');
-        characters.put("\\mathbf{\\Kappa}", '\uD6CB');
-        characters.put("\\mathbf{\\Lambda}", '\uD6CC');
-        characters.put("\\mathbf{\\Omega}", '\uD6DA');
-        characters.put("\\mathbf{\\Phi}", '\uD6D7');
-        characters.put("\\mathbf{\\Pi}", '\uD6D1');
-        characters.put("\\mathbf{\\Psi}", '\uD6D9');
-        characters.put("\\mathbf{\\Rho}", '\uD6D2');
-        characters.put("\\mathbf{\\Sigma}", '\uD6BA');
-        characters.put("\\mathbf{\\Tau}", '\uD6D5');
-        characters.put("\\mathbf{\\Theta}", '\uD6AF');
-        characters.put("\\mathbf{\\Upsilon}", '\uD6D6');
-        characters.put("\\mathbf{\\Xi}", '\uD6B5');
-        characters.put("\\mathbf{\\Zeta}", '\uD6AD');
-        characters.put("\\mathbf{\\nabla}", '\uD6C1');
-        characters.put("\\mathbf{\\phi}", '\uD6DF');
-        characters.put("\\mathbf{\\theta}", '\uD6C9');
-        characters.put("\\mathbf{\\varkappa}", '\uD6DE');
-        characters.put("\\mathbf{\\varpi}", '\uD6E1');
-        characters.put("\\mathbf{\\varrho}", '\uD6E0');
-        characters.put("\\mathbf{\\varsigma}", '\uD6D3');
-        characters.put("\\mathbf{\\vartheta}", '\uD6DD');
-        characters.put("\\mathbf{a}", '\uD41A');
-        characters.put("\\mathbf{b}", '\uD41B');
-        characters.put("\\mathbf{c}", '\uD41C');
-        characters.put("\\mathbf{d}", '\uD41D');
-        characters.put("\\mathbf{e}", '\uD41E');
-        characters.put("\\mathbf{f}", '\uD41F');
-        characters.put("\\mathbf{g}", '\uD420');
-        characters.put("\\mathbf{h}", '\uD421');
-        characters.put("\\mathbf{i}", '\uD422');
-        characters.put("\\mathbf{j}", '\uD423');
-        characters.put("\\mathbf{k}", '\uD424');
-        characters.put("\\mathbf{l}", '\uD425');
-        characters.put("\\mathbf{m}", '\uD426');
-        characters.put("\\mathbf{n}", '\uD427');
-        characters.put("\\mathbf{o}", '\uD428');
-        characters.put("\\mathbf{p}", '\uD429');
-        characters.put("\\mathbf{q}", '\uD42A');
-        characters.put("\\mathbf{r}", '\uD42B');
-        characters.put("\\mathbf{s}", '\uD42C');
-        characters.put("\\mathbf{t}", '\uD42D');
-        characters.put("\\mathbf{u}", '\uD42E');
-        characters.put("\\mathbf{v}", '\uD42F');
-        characters.put("\\mathbf{w}", '\uD430');
-        characters.put("\\mathbf{x}", '\uD431');
-        characters.put("\\mathbf{y}", '\uD432');
-        characters.put("\\mathbf{z}", '\uD433');
-        characters.put("\\mathbin{{:}\\!\\!{-}\\!\\!{:}}", '\u223A');
-        characters.put("\\mathbit{A}", '\uD468');
-        characters.put("\\mathbit{B}", '\uD469');
-        characters.put("\\mathbit{C}", '\uD46A');
-        characters.put("\\mathbit{D}", '\uD46B');
-        characters.put("\\mathbit{E}", '\uD46C');
-        characters.put("\\mathbit{F}", '\uD46D');
-        characters.put("\\mathbit{G}", '\uD46E');
-        characters.put("\\mathbit{H}", '\uD46F');
-        characters.put("\\mathbit{I}", '\uD470');
-        characters.put("\\mathbit{J}", '\uD471');
-        characters.put("\\mathbit{K}", '\uD472');
-        characters.put("\\mathbit{L}", '\uD473');
-        characters.put("\\mathbit{M}", '\uD474');
-        characters.put("\\mathbit{N}", '\uD475');
-        characters.put("\\mathbit{O}", '\uD72D');
-        characters.put("\\mathbit{P}", '\uD477');
-        characters.put("\\mathbit{Q}", '\uD478');
-        characters.put("\\mathbit{R}", '\uD479');
-        characters.put("\\mathbit{S}", '\uD47A');
-        characters.put("\\mathbit{T}", '\uD47B');
-        characters.put("\\mathbit{U}", '\uD47C');
-        characters.put("\\mathbit{V}", '\uD47D');
-        characters.put("\\mathbit{W}", '\uD47E');
-        characters.put("\\mathbit{X}", '\uD47F');
-        characters.put("\\mathbit{Y}", '\uD480');
-        characters.put("\\mathbit{Z}", '\uD481');
-        characters.put("\\mathbit{\\Alpha}", '\uD736');
-        characters.put("\\mathbit{\\Beta}", '\uD71D');
-        characters.put("\\mathbit{\\Chi}", '\uD74C');
-        characters.put("\\mathbit{\\Delta}", '\uD739');
-        characters.put("\\mathbit{\\Epsilon}", '\uD720');
-        characters.put("\\mathbit{\\Eta}", '\uD722');
-        characters.put("\\mathbit{\\Gamma}", '\uD738');
-        characters.put("\\mathbit{\\Iota}", '\uD73E');
-        characters.put("\\mathbit{\\Kappa}", '\uD725');
-        characters.put("\\mathbit{\\Lambda}", '\uD726');
-        characters.put("\\mathbit{\\Omega}", '\uD74E');
-        characters.put("\\mathbit{\\Phi}", '\uD74B');
-        characters.put("\\mathbit{\\Pi}", '\uD745');
-        characters.put("\\mathbit{\\Psi}", '\uD74D');
-        characters.put("\\mathbit{\\Rho}", '\uD72C');
-        characters.put("\\mathbit{\\Sigma}", '\uD748');
-        characters.put("\\mathbit{\\Tau}", '\uD749');
-        characters.put("\\mathbit{\\Theta}", '\uD723');
-        characters.put("\\mathbit{\\Upsilon}", '\uD74A');
-        characters.put("\\mathbit{\\Xi}", '\uD729');
-        characters.put("\\mathbit{\\Zeta}", '\uD721');
-        characters.put("\\mathbit{\\nabla}", '\uD735');
-        characters.put("\\mathbit{\\phi}", '\uD753');
-        characters.put("\\mathbit{\\varkappa}", '\uD752');
-        characters.put("\\mathbit{\\varpi}", '\uD755');
-        characters.put("\\mathbit{\\varrho}", '\uD754');
-        characters.put("\\mathbit{\\varsigma}", '\uD747');
-        characters.put("\\mathbit{\\vartheta}", '\uD751');
-        characters.put("\\mathbit{a}", '\uD482');
-        characters.put("\\mathbit{b}", '\uD483');
-        characters.put("\\mathbit{c}", '\uD484');
-        characters.put("\\mathbit{d}", '\uD485');
-        characters.put("\\mathbit{e}", '\uD486');
-        characters.put("\\mathbit{f}", '\uD487');
-        characters.put("\\mathbit{g}", '\uD488');
-        characters.put("\\mathbit{h}", '\uD489');
-        characters.put("\\mathbit{i}", '\uD48A');
-        characters.put("\\mathbit{j}", '\uD48B');
-        characters.put("\\mathbit{k}", '\uD48C');
-        characters.put("\\mathbit{l}", '\uD48D');
-        characters.put("\\mathbit{m}", '\uD48E');
-        characters.put("\\mathbit{n}", '\uD48F');
-        characters.put("\\mathbit{o}", '\uD490');
-        characters.put("\\mathbit{p}", '\uD491');
-        characters.put("\\mathbit{q}", '\uD492');
-        characters.put("\\mathbit{r}", '\uD493');
-        characters.put("\\mathbit{s}", '\uD494');
-        characters.put("\\mathbit{t}", '\uD495');
-        characters.put("\\mathbit{u}", '\uD496');
-        characters.put("\\mathbit{v}", '\uD497');
-        characters.put("\\mathbit{w}", '\uD498');
-        characters.put("\\mathbit{x}", '\uD499');
-        characters.put("\\mathbit{y}", '\uD49A');
-        characters.put("\\mathbit{z}", '\uD49B');
-        characters.put("\\mathfrak{A}", '\uD504');
-        characters.put("\\mathfrak{B}", '\uD505');
-        characters.put("\\mathfrak{C}", '\u212D');
-        characters.put("\\mathfrak{D}", '\uD507');
-        characters.put("\\mathfrak{E}", '\uD508');
-        characters.put("\\mathfrak{F}", '\uD509');
-        characters.put("\\mathfrak{G}", '\uD50A');
-        characters.put("\\mathfrak{H}", '\u210C');
-        characters.put("\\mathfrak{I}", '\u2111');
-        characters.put("\\mathfrak{J}", '\uD50D');
-        characters.put("\\mathfrak{K}", '\uD50E');
-        characters.put("\\mathfrak{L}", '\uD50F');
-        characters.put("\\mathfrak{M}", '\uD510');
-        characters.put("\\mathfrak{N}", '\uD511');
-        characters.put("\\mathfrak{O}", '\uD512');
-        characters.put("\\mathfrak{P}", '\uD513');
-        characters.put("\\mathfrak{Q}", '\uD514');
-        characters.put("\\mathfrak{R}", '\u211C');
-        characters.put("\\mathfrak{S}", '\uD516');
-        characters.put("\\mathfrak{T}", '\uD517');
-        characters.put("\\mathfrak{U}", '\uD518');
-        characters.put("\\mathfrak{V}", '\uD519');
-        characters.put("\\mathfrak{W}", '\uD51A');
-        characters.put("\\mathfrak{X}", '\uD51B');
-        characters.put("\\mathfrak{Y}", '\uD51C');
-        characters.put("\\mathfrak{Z}", '\u2128');
-        characters.put("\\mathfrak{a}", '\uD51E');
-        characters.put("\\mathfrak{b}", '\uD51F');
-        characters.put("\\mathfrak{c}", '\uD520');
-        characters.put("\\mathfrak{d}", '\uD521');
-        characters.put("\\mathfrak{e}", '\uD522');
-        characters.put("\\mathfrak{f}", '\uD523');
-        characters.put("\\mathfrak{g}", '\uD524');
-        characters.put("\\mathfrak{h}", '\uD525');
-        characters.put("\\mathfrak{i}", '\uD526');
-        characters.put("\\mathfrak{j}", '\uD527');
-        characters.put("\\mathfrak{k}", '\uD528');
-        characters.put("\\mathfrak{l}", '\uD529');
-        characters.put("\\mathfrak{m}", '\uD52A');
-        characters.put("\\mathfrak{n}", '\uD52B');
-        characters.put("\\mathfrak{o}", '\uD52C');
-        characters.put("\\mathfrak{p}", '\uD52D');
-        characters.put("\\mathfrak{q}", '\uD52E');
-        characters.put("\\mathfrak{r}", '\uD52F');
-        characters.put("\\mathfrak{s}", '\uD530');
-        characters.put("\\mathfrak{t}", '\uD531');
-        characters.put("\\mathfrak{u}", '\uD532');
-        characters.put("\\mathfrak{v}", '\uD533');
-        characters.put("\\mathfrak{w}", '\uD534');
-        characters.put("\\mathfrak{x}", '\uD535');
-        characters.put("\\mathfrak{y}", '\uD536');
-        characters.put("\\mathfrak{z}", '\uD537');
-        characters.put("\\mathmit{A}", '\uD4D0');
-        characters.put("\\mathmit{B}", '\uD4D1');
-        characters.put("\\mathmit{C}", '\uD4D2');
-        characters.put("\\mathmit{D}", '\uD4D3');
-        characters.put("\\mathmit{E}", '\uD4D4');
-        characters.put("\\mathmit{F}", '\uD4D5');
-        characters.put("\\mathmit{G}", '\uD4D6');
-        characters.put("\\mathmit{H}", '\uD4D7');
-        characters.put("\\mathmit{I}", '\uD4D8');
-        characters.put("\\mathmit{J}", '\uD4D9');
-        characters.put("\\mathmit{K}", '\uD4DA');
-        characters.put("\\mathmit{L}", '\uD4DB');
-        characters.put("\\mathmit{M}", '\uD4DC');
-        characters.put("\\mathmit{N}", '\uD4DD');
-        characters.put("\\mathmit{O}", '\uD4DE');
-        characters.put("\\mathmit{P}", '\uD4DF');
-        characters.put("\\mathmit{Q}", '\uD4E0');
-        characters.put("\\mathmit{R}", '\uD4E1');
-        characters.put("\\mathmit{S}", '\uD4E2');
-        characters.put("\\mathmit{T}", '\uD4E3');
-        characters.put("\\mathmit{U}", '\uD4E4');
-        characters.put("\\mathmit{V}", '\uD4E5');
-        characters.put("\\mathmit{W}", '\uD4E6');
-        characters.put("\\mathmit{X}", '\uD4E7');
-        characters.put("\\mathmit{Y}", '\uD4E8');
-        characters.put("\\mathmit{Z}", '\uD4E9');
-        characters.put("\\mathmit{a}", '\uD4EA');
-        characters.put("\\mathmit{b}", '\uD4EB');
-        characters.put("\\mathmit{c}", '\uD4EC');
-        characters.put("\\mathmit{d}", '\uD4ED');
-        characters.put("\\mathmit{e}", '\uD4EE');
-        characters.put("\\mathmit{f}", '\uD4EF');
-        characters.put("\\mathmit{g}", '\uD4F0');
-        characters.put("\\mathmit{h}", '\uD4F1');
-        characters.put("\\mathmit{i}", '\uD4F2');
-        characters.put("\\mathmit{j}", '\uD4F3');
-        characters.put("\\mathmit{k}", '\uD4F4');
-        characters.put("\\mathmit{l}", '\uD4F5');
-        characters.put("\\mathmit{m}", '\uD4F6');
-        characters.put("\\mathmit{n}", '\uD4F7');
-        characters.put("\\mathmit{o}", '\uD4F8');
-        characters.put("\\mathmit{p}", '\uD4F9');
-        characters.put("\\mathmit{q}", '\uD4FA');
-        characters.put("\\mathmit{r}", '\uD4FB');
-        characters.put("\\mathmit{s}", '\uD4FC');
-        characters.put("\\mathmit{t}", '\uD4FD');
-        characters.put("\\mathmit{u}", '\uD4FE');
-        characters.put("\\mathmit{v}", '\uD4FF');
-        characters.put("\\mathmit{w}", '\uD500');
-        characters.put("\\mathmit{x}", '\uD501');
-        characters.put("\\mathmit{y}", '\uD502');
-        characters.put("\\mathmit{z}", '\uD503');
-        characters.put("\\mathrm{'Y}", '\u038E');
-        characters.put("\\mathrm{'\\Omega}", '\u038F');
-        characters.put("\\mathrm{\\ddot{I}}", '\u03AA');
-        characters.put("\\mathrm{\\ddot{Y}}", '\u03AB');
-        characters.put("\\mathrm{\\mu}", '\u00B5');
-        characters.put("\\mathscr{A}", '\uD49C');
-        characters.put("\\mathscr{B}", '\u212C');
-        characters.put("\\mathscr{C}", '\uD49E');
-        characters.put("\\mathscr{D}", '\uD49F');
-        characters.put("\\mathscr{E}", '\u2130');
-        characters.put("\\mathscr{F}", '\u2131');
-        characters.put("\\mathscr{G}", '\uD4A2');
-        characters.put("\\mathscr{H}", '\u210B');
-        characters.put("\\mathscr{I}", '\u2110');
-        characters.put("\\mathscr{J}", '\uD4A5');
-        characters.put("\\mathscr{K}", '\uD4A6');
-        characters.put("\\mathscr{L}", '\u2112');
-        characters.put("\\mathscr{M}", '\u2133');
-        characters.put("\\mathscr{N}", '\uD4A9');
-        characters.put("\\mathscr{O}", '\uD4AA');
-        characters.put("\\mathscr{P}", '\uD4AB');
-        characters.put("\\mathscr{Q}", '\uD4AC');
-        characters.put("\\mathscr{R}", '\u211B');
-        characters.put("\\mathscr{S}", '\uD4AE');
-        characters.put("\\mathscr{T}", '\uD4AF');
-        characters.put("\\mathscr{U}", '\uD4B0');
-        characters.put("\\mathscr{V}", '\uD4B1');
-        characters.put("\\mathscr{W}", '\uD4B2');
-        characters.put("\\mathscr{X}", '\uD4B3');
-        characters.put("\\mathscr{Y}", '\uD4B4');
-        characters.put("\\mathscr{Z}", '\uD4B5');
-        characters.put("\\mathscr{a}", '\uD4B6');
-        characters.put("\\mathscr{b}", '\uD4B7');
-        characters.put("\\mathscr{c}", '\uD4B8');
-        characters.put("\\mathscr{d}", '\uD4B9');
-        characters.put("\\mathscr{e}", '\u212F');
-        characters.put("\\mathscr{f}", '\uD4BB');
-        characters.put("\\mathscr{g}", '\u210A');
-        characters.put("\\mathscr{h}", '\uD4BD');
-        characters.put("\\mathscr{i}", '\uD4BE');
-        characters.put("\\mathscr{j}", '\uD4BF');
-        characters.put("\\mathscr{k}", '\uD4C0');
-        characters.put("\\mathscr{l}", '\uD4C1');
-        characters.put("\\mathscr{m}", '\uD4C2');
-        characters.put("\\mathscr{n}", '\uD4C3');
-        characters.put("\\mathscr{o}", '\u2134');
-        characters.put("\\mathscr{p}", '\uD4C5');
-        characters.put("\\mathscr{q}", '\uD4C6');
-        characters.put("\\mathscr{r}", '\uD4C7');
-        characters.put("\\mathscr{s}", '\uD4C8');
-        characters.put("\\mathscr{t}", '\uD4C9');
-        characters.put("\\mathscr{u}", '\uD4CA');
-        characters.put("\\mathscr{v}", '\uD4CB');
-        characters.put("\\mathscr{w}", '\uD4CC');
-        characters.put("\\mathscr{x}", '\uD4CD');
-        characters.put("\\mathscr{y}", '\uD4CE');
-        characters.put("\\mathscr{z}", '\uD4CF');
-        characters.put("\\mathsfbfsl{A}", '\uD63C');
-        characters.put("\\mathsfbfsl{B}", '\uD63D');
-        characters.put("\\mathsfbfsl{C}", '\uD63E');
-        characters.put("\\mathsfbfsl{D}", '\uD63F');
-        characters.put("\\mathsfbfsl{E}", '\uD640');
-        characters.put("\\mathsfbfsl{F}", '\uD641');
-        characters.put("\\mathsfbfsl{G}", '\uD642');
-        characters.put("\\mathsfbfsl{H}", '\uD643');
-        characters.put("\\mathsfbfsl{I}", '\uD644');
-        characters.put("\\mathsfbfsl{J}", '\uD645');
-        characters.put("\\mathsfbfsl{K}", '\uD646');
-        characters.put("\\mathsfbfsl{L}", '\uD647');
-        characters.put("\\mathsfbfsl{M}", '\uD648');
-        characters.put("\\mathsfbfsl{N}", '\uD649');
-        characters.put("\\mathsfbfsl{O}", '\uD64A');
-        characters.put("\\mathsfbfsl{P}", '\uD64B');
-        characters.put("\\mathsfbfsl{Q}", '\uD64C');
-        characters.put("\\mathsfbfsl{R}", '\uD64D');
-        characters.put("\\mathsfbfsl{S}", '\uD64E');
-        characters.put("\\mathsfbfsl{T}", '\uD64F');
-        characters.put("\\mathsfbfsl{U}", '\uD650');
-        characters.put("\\mathsfbfsl{V}", '\uD651');
-        characters.put("\\mathsfbfsl{W}", '\uD652');
-        characters.put("\\mathsfbfsl{X}", '\uD653');
-        characters.put("\\mathsfbfsl{Y}", '\uD654');
-        characters.put("\\mathsfbfsl{Z}", '\uD655');
-        characters.put("\\mathsfbfsl{\\Alpha}", '\uD7AA');
-        characters.put("\\mathsfbfsl{\\Beta}", '\uD7AB');
-        characters.put("\\mathsfbfsl{\\Chi}", '\uD7A6');
-        characters.put("\\mathsfbfsl{\\Delta}", '\uD793');
-        characters.put("\\mathsfbfsl{\\Epsilon}", '\uD7AE');
-        characters.put("\\mathsfbfsl{\\Eta}", '\uD796');
-        characters.put("\\mathsfbfsl{\\Gamma}", '\uD7AC');
-        characters.put("\\mathsfbfsl{\\Iota}", '\uD7B2');
-        characters.put("\\mathsfbfsl{\\Kappa}", '\uD799');
-        characters.put("\\mathsfbfsl{\\Lambda}", '\uD7B4');
-        characters.put("\\mathsfbfsl{\\Omega}", '\uD7A8');
-        characters.put("\\mathsfbfsl{\\Phi}", '\uD7A5');
-        characters.put("\\mathsfbfsl{\\Pi}", '\uD7B9');
-        characters.put("\\mathsfbfsl{\\Psi}", '\uD7C1');
-        characters.put("\\mathsfbfsl{\\Rho}", '\uD7A0');
-        characters.put("\\mathsfbfsl{\\Sigma}", '\uD7A2');
-        characters.put("\\mathsfbfsl{\\Tau}", '\uD7A3');
-        characters.put("\\mathsfbfsl{\\Upsilon}", '\uD7A4');
-        characters.put("\\mathsfbfsl{\\Xi}", '\uD7B7');
-        characters.put("\\mathsfbfsl{\\Zeta}", '\uD7AF');
-        characters.put("\\mathsfbfsl{\\nabla}", '\uD7A9');
-        characters.put("\\mathsfbfsl{\\phi}", '\uD7C7');
-        characters.put("\\mathsfbfsl{\\varkappa}", '\uD7C6');
-        characters.put("\\mathsfbfsl{\\varpi}", '\uD7C9');
-        characters.put("\\mathsfbfsl{\\varrho}", '\uD7C8');
-        characters.put("\\mathsfbfsl{\\varsigma}", '\uD7BB');
-        characters.put("\\mathsfbfsl{\\vartheta}", '\uD7C5');
-        characters.put("\\mathsfbfsl{a}", '\uD656');
-        characters.put("\\mathsfbfsl{b}", '\uD657');
-        characters.put("\\mathsfbfsl{c}", '\uD658');
-        characters.put("\\mathsfbfsl{d}", '\uD659');
-        characters.put("\\mathsfbfsl{e}", '\uD65A');
-        characters.put("\\mathsfbfsl{f}", '\uD65B');
-        characters.put("\\mathsfbfsl{g}", '\uD65C');
-        characters.put("\\mathsfbfsl{h}", '\uD65D');
-        characters.put("\\mathsfbfsl{i}", '\uD65E');
-        characters.put("\\mathsfbfsl{j}", '\uD65F');
-        characters.put("\\mathsfbfsl{k}", '\uD660');
-        characters.put("\\mathsfbfsl{l}", '\uD661');
-        characters.put("\\mathsfbfsl{m}", '\uD662');
-        characters.put("\\mathsfbfsl{n}", '\uD663');
-        characters.put("\\mathsfbfsl{o}", '\uD664');
-        characters.put("\\mathsfbfsl{p}", '\uD665');
-        characters.put("\\mathsfbfsl{q}", '\uD666');
-        characters.put("\\mathsfbfsl{r}", '\uD667');
-        characters.put("\\mathsfbfsl{s}", '\uD668');
-        characters.put("\\mathsfbfsl{t}", '\uD669');
-        characters.put("\\mathsfbfsl{u}", '\uD66A');
-        characters.put("\\mathsfbfsl{v}", '\uD66B');
-        characters.put("\\mathsfbfsl{w}", '\uD66C');
-        characters.put("\\mathsfbfsl{x}", '\uD66D');
-        characters.put("\\mathsfbfsl{y}", '\uD66E');
-        characters.put("\\mathsfbfsl{z}", '\uD66F');
-        characters.put("\\mathsfbf{0}", '\uD7EC');
-        characters.put("\\mathsfbf{1}", '\uD7ED');
-        characters.put("\\mathsfbf{2}", '\uD7EE');
-        characters.put("\\mathsfbf{3}", '\uD7EF');
-        characters.put("\\mathsfbf{4}", '\uD7F0');
-        characters.put("\\mathsfbf{5}", '\uD7F1');
-        characters.put("\\mathsfbf{6}", '\uD7F2');
-        characters.put("\\mathsfbf{7}", '\uD7F3');
-        characters.put("\\mathsfbf{8}", '\uD7F4');
-        characters.put("\\mathsfbf{9}", '\uD7F5');
-        characters.put("\\mathsfbf{A}", '\uD5D4');
-        characters.put("\\mathsfbf{B}", '\uD5D5');
-        characters.put("\\mathsfbf{C}", '\uD5D6');
-        characters.put("\\mathsfbf{D}", '\uD5D7');
-        characters.put("\\mathsfbf{E}", '\uD5D8');
-        characters.put("\\mathsfbf{F}", '\uD5D9');
-        characters.put("\\mathsfbf{G}", '\uD5DA');
-        characters.put("\\mathsfbf{H}", '\uD5DB');
-        characters.put("\\mathsfbf{I}", '\uD5DC');
-        characters.put("\\mathsfbf{J}", '\uD5DD');
-        characters.put("\\mathsfbf{K}", '\uD5DE');
-        characters.put("\\mathsfbf{L}", '\uD5DF');
-        characters.put("\\mathsfbf{M}", '\uD5E0');
-        characters.put("\\mathsfbf{N}", '\uD5E1');
-        characters.put("\\mathsfbf{O}", '\uD5E2');
-        characters.put("\\mathsfbf{P}", '\uD5E3');
-        characters.put("\\mathsfbf{Q}", '\uD5E4');
-        characters.put("\\mathsfbf{R}", '\uD5E5');
-        characters.put("\\mathsfbf{S}", '\uD5E6');
-        characters.put("\\mathsfbf{T}", '\uD5E7');
-        characters.put("\\mathsfbf{U}", '\uD5E8');
-        characters.put("\\mathsfbf{V}", '\uD5E9');
-        characters.put("\\mathsfbf{W}", '\uD5EA');
-        characters.put("\\mathsfbf{X}", '\uD5EB');
-        characters.put("\\mathsfbf{Y}", '\uD5EC');
-        characters.put("\\mathsfbf{Z}", '\uD5ED');
-        characters.put("\\mathsfbf{\\Alpha}", '\uD770');
-        characters.put("\\mathsfbf{\\Beta}", '\uD757');
-        characters.put("\\mathsfbf{\\Chi}", '\uD76C');
-        characters.put("\\mathsfbf{\\Delta}", '\uD773');
-        characters.put("\\mathsfbf{\\Epsilon}", '\uD75A');
-        characters.put("\\mathsfbf{\\Eta}", '\uD776');
-        characters.put("\\mathsfbf{\\Gamma}", '\uD772');
-        characters.put("\\mathsfbf{\\Iota}", '\uD778');
-        characters.put("\\mathsfbf{\\Kappa}", '\uD779');
-        characters.put("\\mathsfbf{\\Lambda}", '\uD77A');
-        characters.put("\\mathsfbf{\\Omega}", '\uD788');
-        characters.put("\\mathsfbf{\\Phi}", '\uD76B');
-        characters.put("\\mathsfbf{\\Pi}", '\uD765');
-        characters.put("\\mathsfbf{\\Psi}", '\uD76D');
-        characters.put("\\mathsfbf{\\Rho}", '\uD766');
-        characters.put("\\mathsfbf{\\Sigma}", '\uD768');
-        characters.put("\\mathsfbf{\\Tau}", '\uD769');
-        characters.put("\\mathsfbf{\\Theta}", '\uD777');
-        characters.put("\\mathsfbf{\\Upsilon}", '\uD784');
-        characters.put("\\mathsfbf{\\Xi}", '\uD763');
-        characters.put("\\mathsfbf{\\Zeta}", '\uD75B');
-        characters.put("\\mathsfbf{\\nabla}", '\uD76F');
-        characters.put("\\mathsfbf{\\phi}", '\uD78D');
-        characters.put("\\mathsfbf{\\varkappa}", '\uD78C');
-        characters.put("\\mathsfbf{\\varpi}", '\uD78F');
-        characters.put("\\mathsfbf{\\varrho}", '\uD78E');
-        characters.put("\\mathsfbf{\\varsigma}", '\uD781');
-        characters.put("\\mathsfbf{\\vartheta}", '\uD767');
-        characters.put("\\mathsfbf{a}", '\uD5EE');
-        characters.put("\\mathsfbf{b}", '\uD5EF');
-        characters.put("\\mathsfbf{c}", '\uD5F0');
-        characters.put("\\mathsfbf{d}", '\uD5F1');
-        characters.put("\\mathsfbf{e}", '\uD5F2');
-        characters.put("\\mathsfbf{f}", '\uD5F3');
-        characters.put("\\mathsfbf{g}", '\uD5F4');
-        characters.put("\\mathsfbf{h}", '\uD5F5');
-        characters.put("\\mathsfbf{i}", '\uD5F6');
-        characters.put("\\mathsfbf{j}", '\uD5F7');
-        characters.put("\\mathsfbf{k}", '\uD5F8');
-        characters.put("\\mathsfbf{l}", '\uD5F9');
-        characters.put("\\mathsfbf{m}", '\uD5FA');
-        characters.put("\\mathsfbf{n}", '\uD5FB');
-        characters.put("\\mathsfbf{o}", '\uD5FC');
-        characters.put("\\mathsfbf{p}", '\uD5FD');
-        characters.put("\\mathsfbf{q}", '\uD5FE');
-        characters.put("\\mathsfbf{r}", '\uD5FF');
-        characters.put("\\mathsfbf{s}", '\uD600');
-        characters.put("\\mathsfbf{t}", '\uD601');
-        characters.put("\\mathsfbf{u}", '\uD602');
-        characters.put("\\mathsfbf{v}", '\uD603');
-        characters.put("\\mathsfbf{w}", '\uD604');
-        characters.put("\\mathsfbf{x}", '\uD605');
-        characters.put("\\mathsfbf{y}", '\uD606');
-        characters.put("\\mathsfbf{z}", '\uD607');
-        characters.put("\\mathsfsl{A}", '\uD608');
-        characters.put("\\mathsfsl{B}", '\uD609');
-        characters.put("\\mathsfsl{C}", '\uD60A');
-        characters.put("\\mathsfsl{D}", '\uD60B');
-        characters.put("\\mathsfsl{E}", '\uD60C');
-        characters.put("\\mathsfsl{F}", '\uD60D');
-        characters.put("\\mathsfsl{G}", '\uD60E');
-        characters.put("\\mathsfsl{H}", '\uD60F');
-        characters.put("\\mathsfsl{I}", '\uD610');
-        characters.put("\\mathsfsl{J}", '\uD611');
-        characters.put("\\mathsfsl{K}", '\uD612');
-        characters.put("\\mathsfsl{L}", '\uD613');
-        characters.put("\\mathsfsl{M}", '\uD614');
-        characters.put("\\mathsfsl{N}", '\uD615');
-        characters.put("\\mathsfsl{O}", '\uD616');
-        characters.put("\\mathsfsl{P}", '\uD617');
-        characters.put("\\mathsfsl{Q}", '\uD618');
-        characters.put("\\mathsfsl{R}", '\uD619');
-        characters.put("\\mathsfsl{S}", '\uD61A');
-        characters.put("\\mathsfsl{T}", '\uD61B');
-        characters.put("\\mathsfsl{U}", '\uD61C');
-        characters.put("\\mathsfsl{V}", '\uD61D');
-        characters.put("\\mathsfsl{W}", '\uD61E');
-        characters.put("\\mathsfsl{X}", '\uD61F');
-        characters.put("\\mathsfsl{Y}", '\uD620');
-        characters.put("\\mathsfsl{Z}", '\uD621');
-        characters.put("\\mathsfsl{a}", '\uD622');
-        characters.put("\\mathsfsl{b}", '\uD623');
-        characters.put("\\mathsfsl{c}", '\uD624');
-        characters.put("\\mathsfsl{d}", '\uD625');
-        characters.put("\\mathsfsl{e}", '\uD626');
-        characters.put("\\mathsfsl{f}", '\uD627');
-        characters.put("\\mathsfsl{g}", '\uD628');
-        characters.put("\\mathsfsl{h}", '\uD629');
-        characters.put("\\mathsfsl{i}", '\uD62A');
-        characters.put("\\mathsfsl{j}", '\uD62B');
-        characters.put("\\mathsfsl{k}", '\uD62C');
-        characters.put("\\mathsfsl{l}", '\uD62D');
-        characters.put("\\mathsfsl{m}", '\uD62E');
-        characters.put("\\mathsfsl{n}", '\uD62F');
-        characters.put("\\mathsfsl{o}", '\uD630');
-        characters.put("\\mathsfsl{p}", '\uD631');
-        characters.put("\\mathsfsl{q}", '\uD632');
-        characters.put("\\mathsfsl{r}", '\uD633');
-        characters.put("\\mathsfsl{s}", '\uD634');
-        characters.put("\\mathsfsl{t}", '\uD635');
-        characters.put("\\mathsfsl{u}", '\uD636');
-        characters.put("\\mathsfsl{v}", '\uD637');
-        characters.put("\\mathsfsl{w}", '\uD638');
-        characters.put("\\mathsfsl{x}", '\uD639');
-        characters.put("\\mathsfsl{y}", '\uD63A');
-        characters.put("\\mathsfsl{z}", '\uD63B');
-        characters.put("\\mathsf{0}", '\uD7E2');
-        characters.put("\\mathsf{1}", '\uD7E3');
-        characters.put("\\mathsf{2}", '\uD7E4');
-        characters.put("\\mathsf{3}", '\uD7E5');
-        characters.put("\\mathsf{4}", '\uD7E6');
-        characters.put("\\mathsf{5}", '\uD7E7');
-        characters.put("\\mathsf{6}", '\uD7E8');
-        characters.put("\\mathsf{7}", '\uD7E9');
-        characters.put("\\mathsf{8}", '\uD7EA');
-        characters.put("\\mathsf{9}", '\uD7EB');
-        characters.put("\\mathsf{A}", '\uD5A0');
-        characters.put("\\mathsf{B}", '\uD5A1');
-        characters.put("\\mathsf{C}", '\uD5A2');
-        characters.put("\\mathsf{D}", '\uD5A3');
-        characters.put("\\mathsf{E}", '\uD5A4');
-        characters.put("\\mathsf{F}", '\uD5A5');
-        characters.put("\\mathsf{G}", '\uD5A6');
-        characters.put("\\mathsf{H}", '\uD5A7');
-        characters.put("\\mathsf{I}", '\uD5A8');
-        characters.put("\\mathsf{J}", '\uD5A9');
-        characters.put("\\mathsf{K}", '\uD5AA');
-        characters.put("\\mathsf{L}", '\uD5AB');
-        characters.put("\\mathsf{M}", '\uD5AC');
-        characters.put("\\mathsf{N}", '\uD5AD');
-        characters.put("\\mathsf{O}", '\uD5AE');
-        characters.put("\\mathsf{P}", '\uD5AF');
-        characters.put("\\mathsf{Q}", '\uD5B0');
-        characters.put("\\mathsf{R}", '\uD5B1');
-        characters.put("\\mathsf{S}", '\uD5B2');
-        characters.put("\\mathsf{T}", '\uD5B3');
-        characters.put("\\mathsf{U}", '\uD5B4');
-        characters.put("\\mathsf{V}", '\uD5B5');
-        characters.put("\\mathsf{W}", '\uD5B6');
-        characters.put("\\mathsf{X}", '\uD5B7');
-        characters.put("\\mathsf{Y}", '\uD5B8');
-        characters.put("\\mathsf{Z}", '\uD5B9');
-        characters.put("\\mathsf{a}", '\uD5BA');
-        characters.put("\\mathsf{b}", '\uD5BB');
-        characters.put("\\mathsf{c}", '\uD5BC');
-        characters.put("\\mathsf{d}", '\uD5BD');
-        characters.put("\\mathsf{e}", '\uD5BE');
-        characters.put("\\mathsf{f}", '\uD5BF');
-        characters.put("\\mathsf{g}", '\uD5C0');
-        characters.put("\\mathsf{h}", '\uD5C1');
-        characters.put("\\mathsf{i}", '\uD5C2');
-        characters.put("\\mathsf{j}", '\uD5C3');
-        characters.put("\\mathsf{k}", '\uD5C4');
-        characters.put("\\mathsf{l}", '\uD5C5');
-        characters.put("\\mathsf{m}", '\uD5C6');
-        characters.put("\\mathsf{n}", '\uD5C7');
-        characters.put("\\mathsf{o}", '\uD5C8');
-        characters.put("\\mathsf{p}", '\uD5C9');
-        characters.put("\\mathsf{q}", '\uD5CA');
-        characters.put("\\mathsf{r}", '\uD5CB');
-        characters.put("\\mathsf{s}", '\uD5CC');
-        characters.put("\\mathsf{t}", '\uD5CD');
-        characters.put("\\mathsf{u}", '\uD5CE');
-        characters.put("\\mathsf{v}", '\uD5CF');
-        characters.put("\\mathsf{w}", '\uD5D0');
-        characters.put("\\mathsf{x}", '\uD5D1');
-        characters.put("\\mathsf{y}", '\uD5D2');
-        characters.put("\\mathsf{z}", '\uD5D3');
-        characters.put("\\mathslbb{A}", '\uD56C');
-        characters.put("\\mathslbb{B}", '\uD56D');
-        characters.put("\\mathslbb{C}", '\uD56E');
-        characters.put("\\mathslbb{D}", '\uD56F');
-        characters.put("\\mathslbb{E}", '\uD570');
-        characters.put("\\mathslbb{F}", '\uD571');
-        characters.put("\\mathslbb{G}", '\uD572');
-        characters.put("\\mathslbb{H}", '\uD573');
-        characters.put("\\mathslbb{I}", '\uD574');
-        characters.put("\\mathslbb{J}", '\uD575');
-        characters.put("\\mathslbb{K}", '\uD576');
-        characters.put("\\mathslbb{L}", '\uD577');
-        characters.put("\\mathslbb{M}", '\uD578');
-        characters.put("\\mathslbb{N}", '\uD579');
-        characters.put("\\mathslbb{O}", '\uD57A');
-        characters.put("\\mathslbb{P}", '\uD57B');
-        characters.put("\\mathslbb{Q}", '\uD57C');
-        characters.put("\\mathslbb{R}", '\uD57D');
-        characters.put("\\mathslbb{S}", '\uD57E');
-        characters.put("\\mathslbb{T}", '\uD57F');
-        characters.put("\\mathslbb{U}", '\uD580');
-        characters.put("\\mathslbb{V}", '\uD581');
-        characters.put("\\mathslbb{W}", '\uD582');
-        characters.put("\\mathslbb{X}", '\uD583');
-        characters.put("\\mathslbb{Y}", '\uD584');
-        characters.put("\\mathslbb{Z}", '\uD585');
-        characters.put("\\mathslbb{a}", '\uD586');
-        characters.put("\\mathslbb{b}", '\uD587');
-        characters.put("\\mathslbb{c}", '\uD588');
-        characters.put("\\mathslbb{d}", '\uD589');
-        characters.put("\\mathslbb{e}", '\uD58A');
-        characters.put("\\mathslbb{f}", '\uD58B');
-        characters.put("\\mathslbb{g}", '\uD58C');
-        characters.put("\\mathslbb{h}", '\uD58D');
-        characters.put("\\mathslbb{i}", '\uD58E');
-        characters.put("\\mathslbb{j}", '\uD58F');
-        characters.put("\\mathslbb{k}", '\uD590');
-        characters.put("\\mathslbb{l}", '\uD591');
-        characters.put("\\mathslbb{m}", '\uD592');
-        characters.put("\\mathslbb{n}", '\uD593');
-        characters.put("\\mathslbb{o}", '\uD594');
-        characters.put("\\mathslbb{p}", '\uD595');
-        characters.put("\\mathslbb{q}", '\uD596');
-        characters.put("\\mathslbb{r}", '\uD597');
-        characters.put("\\mathslbb{s}", '\uD598');
-        characters.put("\\mathslbb{t}", '\uD599');
-        characters.put("\\mathslbb{u}", '\uD59A');
-        characters.put("\\mathslbb{v}", '\uD59B');
-        characters.put("\\mathslbb{w}", '\uD59C');
-        characters.put("\\mathslbb{x}", '\uD59D');
-        characters.put("\\mathslbb{y}", '\uD59E');
-        characters.put("\\mathslbb{z}", '\uD59F');
-        characters.put("\\mathsl{A}", '\uD434');
-        characters.put("\\mathsl{B}", '\uD435');
-        characters.put("\\mathsl{C}", '\uD436');
-        characters.put("\\mathsl{D}", '\uD437');
-        characters.put("\\mathsl{E}", '\uD438');
-        characters.put("\\mathsl{F}", '\uD439');
-        characters.put("\\mathsl{G}", '\uD43A');
-        characters.put("\\mathsl{H}", '\uD43B');
-        characters.put("\\mathsl{I}", '\uD43C');
-        characters.put("\\mathsl{J}", '\uD43D');
-        characters.put("\\mathsl{K}", '\uD43E');
-        characters.put("\\mathsl{L}", '\uD43F');
-        characters.put("\\mathsl{M}", '\uD440');
-        characters.put("\\mathsl{N}", '\uD441');
-        characters.put("\\mathsl{O}", '\uD442');
-        characters.put("\\mathsl{P}", '\uD443');
-        characters.put("\\mathsl{Q}", '\uD444');
-        characters.put("\\mathsl{R}", '\uD445');
-        characters.put("\\mathsl{S}", '\uD446');
-        characters.put("\\mathsl{T}", '\uD447');
-        characters.put("\\mathsl{U}", '\uD448');
-        characters.put("\\mathsl{V}", '\uD449');
-        characters.put("\\mathsl{W}", '\uD44A');
-        characters.put("\\mathsl{X}", '\uD44B');
-        characters.put("\\mathsl{Y}", '\uD44C');
-        characters.put("\\mathsl{Z}", '\uD44D');
-        characters.put("\\mathsl{\\Alpha}", '\uD6FC');
-        characters.put("\\mathsl{\\Beta}", '\uD6FD');
-        characters.put("\\mathsl{\\Chi}", '\uD6F8');
-        characters.put("\\mathsl{\\Delta}", '\uD6FF');
-        characters.put("\\mathsl{\\Epsilon}", '\uD700');
-        characters.put("\\mathsl{\\Eta}", '\uD702');
-        characters.put("\\mathsl{\\Gamma}", '\uD6FE');
-        characters.put("\\mathsl{\\Iota}", '\uD704');
-        characters.put("\\mathsl{\\Kappa}", '\uD705');
-        characters.put("\\mathsl{\\Lambda}", '\uD706');
-        characters.put("\\mathsl{\\Omega}", '\uD714');
-        characters.put("\\mathsl{\\Phi}", '\uD711');
-        characters.put("\\mathsl{\\Pi}", '\uD6F1');
-        characters.put("\\mathsl{\\Psi}", '\uD6F9');
-        characters.put("\\mathsl{\\Rho}", '\uD6F2');
-        characters.put("\\mathsl{\\Sigma}", '\uD6F4');
-        characters.put("\\mathsl{\\Tau}", '\uD6F5');
-        characters.put("\\mathsl{\\Theta}", '\uD703');
-        characters.put("\\mathsl{\\Upsilon}", '\uD6F6');
-        characters.put("\\mathsl{\\Xi}", '\uD709');
-        characters.put("\\mathsl{\\Zeta}", '\uD701');
-        characters.put("\\mathsl{\\nabla}", '\uD6FB');
-        characters.put("\\mathsl{\\phi}", '\uD719');
-        characters.put("\\mathsl{\\varkappa}", '\uD718');
-        characters.put("\\mathsl{\\varpi}", '\uD71B');
-        characters.put("\\mathsl{\\varrho}", '\uD71A');
-        characters.put("\\mathsl{\\varsigma}", '\uD70D');
-        characters.put("\\mathsl{\\vartheta}", '\uD717');
-        characters.put("\\mathsl{a}", '\uD44E');
-        characters.put("\\mathsl{b}", '\uD44F');
-        characters.put("\\mathsl{c}", '\uD450');
-        characters.put("\\mathsl{d}", '\uD451');
-        characters.put("\\mathsl{e}", '\uD452');
-        characters.put("\\mathsl{f}", '\uD453');
-        characters.put("\\mathsl{g}", '\uD454');
-        characters.put("\\mathsl{i}", '\uD456');
-        characters.put("\\mathsl{j}", '\uD457');
-        characters.put("\\mathsl{k}", '\uD458');
-        characters.put("\\mathsl{l}", '\uD459');
-        characters.put("\\mathsl{m}", '\uD45A');
-        characters.put("\\mathsl{n}", '\uD45B');
-        characters.put("\\mathsl{o}", '\uD45C');
-        characters.put("\\mathsl{p}", '\uD45D');
-        characters.put("\\mathsl{q}", '\uD45E');
-        characters.put("\\mathsl{r}", '\uD45F');
-        characters.put("\\mathsl{s}", '\uD460');
-        characters.put("\\mathsl{t}", '\uD461');
-        characters.put("\\mathsl{u}", '\uD462');
-        characters.put("\\mathsl{v}", '\uD463');
-        characters.put("\\mathsl{w}", '\uD464');
-        characters.put("\\mathsl{x}", '\uD465');
-        characters.put("\\mathsl{y}", '\uD466');
-        characters.put("\\mathsl{z}", '\uD467');
-        characters.put("\\mathtt{0}", '\uD7F6');
-        characters.put("\\mathtt{1}", '\uD7F7');
-        characters.put("\\mathtt{2}", '\uD7F8');
-        characters.put("\\mathtt{3}", '\uD7F9');
-        characters.put("\\mathtt{4}", '\uD7FA');
-        characters.put("\\mathtt{5}", '\uD7FB');
-        characters.put("\\mathtt{6}", '\uD7FC');
-        characters.put("\\mathtt{7}", '\uD7FD');
-        characters.put("\\mathtt{8}", '\uD7FE');
-        characters.put("\\mathtt{9}", '\uD7FF');
-        characters.put("\\mathtt{A}", '\uD670');
-        characters.put("\\mathtt{B}", '\uD671');
-        characters.put("\\mathtt{C}", '\uD672');
-        characters.put("\\mathtt{D}", '\uD673');
-        characters.put("\\mathtt{E}", '\uD674');
-        characters.put("\\mathtt{F}", '\uD675');
-        characters.put("\\mathtt{G}", '\uD676');
-        characters.put("\\mathtt{H}", '\uD677');
-        characters.put("\\mathtt{I}", '\uD678');
-        characters.put("\\mathtt{J}", '\uD679');
-        characters.put("\\mathtt{K}", '\uD67A');
-        characters.put("\\mathtt{L}", '\uD67B');
-        characters.put("\\mathtt{M}", '\uD67C');
-        characters.put("\\mathtt{N}", '\uD67D');
-        characters.put("\\mathtt{O}", '\uD67E');
-        characters.put("\\mathtt{P}", '\uD67F');
-        characters.put("\\mathtt{Q}", '\uD680');
-        characters.put("\\mathtt{R}", '\uD681');
-        characters.put("\\mathtt{S}", '\uD682');
-        characters.put("\\mathtt{T}", '\uD683');
-        characters.put("\\mathtt{U}", '\uD684');
-        characters.put("\\mathtt{V}", '\uD685');
-        characters.put("\\mathtt{W}", '\uD686');
-        characters.put("\\mathtt{X}", '\uD687');
-        characters.put("\\mathtt{Y}", '\uD688');
-        characters.put("\\mathtt{Z}", '\uD689');
-        characters.put("\\mathtt{a}", '\uD68A');
-        characters.put("\\mathtt{b}", '\uD68B');
-        characters.put("\\mathtt{c}", '\uD68C');
-        characters.put("\\mathtt{d}", '\uD68D');
-        characters.put("\\mathtt{e}", '\uD68E');
-        characters.put("\\mathtt{f}", '\uD68F');
-        characters.put("\\mathtt{g}", '\uD690');
-        characters.put("\\mathtt{h}", '\uD691');
-        characters.put("\\mathtt{i}", '\uD692');
-        characters.put("\\mathtt{j}", '\uD693');
-        characters.put("\\mathtt{k}", '\uD694');
-        characters.put("\\mathtt{l}", '\uD695');
-        characters.put("\\mathtt{m}", '\uD696');
-        characters.put("\\mathtt{n}", '\uD697');
-        characters.put("\\mathtt{o}", '\uD698');
-        characters.put("\\mathtt{p}", '\uD699');
-        characters.put("\\mathtt{q}", '\uD69A');
-        characters.put("\\mathtt{r}", '\uD69B');
-        characters.put("\\mathtt{s}", '\uD69C');
-        characters.put("\\mathtt{t}", '\uD69D');
-        characters.put("\\mathtt{u}", '\uD69E');
-        characters.put("\\mathtt{v}", '\uD69F');
-        characters.put("\\mathtt{w}", '\uD6A0');
-        characters.put("\\mathtt{x}", '\uD6A1');
-        characters.put("\\mathtt{y}", '\uD6A2');
-        characters.put("\\mathtt{z}", '\uD6A3');
-        characters.put("\\mbox{\\texteuro}", '\u20AC');
-        characters.put("\\measuredangle", '\u2221');
-        characters.put("\\mercury", '\u263F');
-        characters.put("\\mho", '\u2127');
-        characters.put("\\mid", '\u2223');
-        characters.put("\\mkern1mu", '\u200A');
-        characters.put("\\mkern4mu", '\u205F');
-        characters.put("\\mp", '\u2213');
-        characters.put("\\mu", '\u03BC');
-        characters.put("\\multimap", '\u22B8');
-        characters.put("\\nLeftarrow", '\u21CD');
-        characters.put("\\nLeftrightarrow", '\u21CE');
-        characters.put("\\nRightarrow", '\u21CF');
-        characters.put("\\nVDash", '\u22AF');
-        characters.put("\\nVdash", '\u22AE');
-        characters.put("\\nabla", '\u2207');
-        characters.put("\\natural", '\u266E');
-        characters.put("\\nearrow", '\u2197');
-        characters.put("\\neptune", '\u2646');
-        characters.put("\\nexists", '\u2204');
-        characters.put("\\ng", '\u014B');
-        //"\\ngeqslant":"U+2A7E-00338",
-        characters.put("\\ni", '\u220B');
-        characters.put("\\nleftarrow", '\u219A');
-        characters.put("\\nleftrightarrow", '\u21AE');
-        //"\\nleqslant":"U+2A7D-00338",
-        characters.put("\\nmid", '\u2224');
-        characters.put("\\nolinebreak", '\u2060');
-        characters.put("\\not =", '\u2260');
-        characters.put("\\not<", '\u226E');
-        characters.put("\\not>", '\u226F');
-        //"\\not\\apid":"U+224B-00338",
-        characters.put("\\not\\approx", '\u2249');
-        characters.put("\\not\\cong", '\u2247');
-        //"\\not\\doteq":"U+2250-00338",
-        characters.put("\\not\\equiv", '\u2262');
-        characters.put("\\not\\geq", '\u2271');
-        characters.put("\\not\\in", '\u2209');
-        characters.put("\\not\\kern-0.3em\\times", '\u226D');
-        characters.put("\\not\\leq", '\u2270');
-        characters.put("\\not\\ni", '\u220C');
-        characters.put("\\not\\prec", '\u2280');
-        //"\\not\\preceq":"U+2AAF-00338",
-        characters.put("\\not\\sim", '\u2241');
-        characters.put("\\not\\simeq", '\u2244');
-        characters.put("\\not\\sqsubseteq", '\u22E2');
-        characters.put("\\not\\sqsupseteq", '\u22E3');
-        characters.put("\\not\\subset", '\u2284');
-        characters.put("\\not\\subseteq", '\u2288');
-        characters.put("\\not\\succ", '\u2281');
-        //"\\not\\succeq":"U+2AB0-00338",
-        characters.put("\\not\\supset", '\u2285');
-        characters.put("\\not\\supseteq", '\u2289');
-        characters.put("\\notgreaterless", '\u2279');
-        characters.put("\\notlessgreater", '\u2278');
-        characters.put("\\nparallel", '\u2226');
-        characters.put("\\nrightarrow", '\u219B');
-        //"\\nsubseteqq":"U+2AC5-00338",
-        //"\\nsupseteqq":"U+2AC6-00338",
-        characters.put("\\ntriangleleft", '\u22EA');
-        characters.put("\\ntrianglelefteq", '\u22EC');
-        characters.put("\\ntriangleright", '\u22EB');
-        characters.put("\\ntrianglerighteq", '\u22ED');
-        characters.put("\\nu", '\u03BD');
-        characters.put("\\nvDash", '\u22AD');
-        characters.put("\\nvdash", '\u22AC');
-        characters.put("\\nwarrow", '\u2196');
-        characters.put("\\o", '\u00F8');
-        characters.put("\\odot", '\u2299');
-        characters.put("\\oe", '\u0153');
-        characters.put("\\oint", '\u222E');
-        characters.put("\\omega", '\u03C9');
-        characters.put("\\ominus", '\u2296');
-        characters.put("\\omicron", '\u03BF');
-        characters.put("\\openbracketleft", '\u301A');
-        characters.put("\\openbracketright", '\u301B');
-        characters.put("\\oplus", '\u2295');
-        characters.put("\\original", '\u22B6');
-        characters.put("\\oslash", '\u2298');
-        characters.put("\\otimes", '\u2297');
-        characters.put("\\parallel", '\u2225');
-        characters.put("\\partial", '\u2202');
-        characters.put("\\perp", '\u22A5');
-        characters.put("\\perspcorrespond", '\u2306');
-        characters.put("\\phi", '\u03D5');
-        characters.put("\\pi", '\u03C0');
-        characters.put("\\pisces", '\u2653');
-        characters.put("\\pitchfork", '\u22D4');
-        characters.put("\\pluto", '\u2647');
-        characters.put("\\pm", '\u00B1');
-        characters.put("\\prec", '\u227A');
-        characters.put("\\precapprox", '\u2AB7');
-        characters.put("\\preccurlyeq", '\u227C');
-        characters.put("\\precedesnotsimilar", '\u22E8');
-        characters.put("\\preceq", '\u2AAF');
-        characters.put("\\precnapprox", '\u2AB9');
-        characters.put("\\precneqq", '\u2AB5');
-        characters.put("\\prod", '\u220F');
-        characters.put("\\propto", '\u221D');
-        characters.put("\\psi", '\u03C8');
-        characters.put("\\quarternote", '\u2669');
-        characters.put("\\r", '\u030A');
-        characters.put("\\rangle", '\u232A');
-        characters.put("\\rbrace", '\u007D');
-        characters.put("\\rceil", '\u2309');
-        characters.put("\\recorder", '\u2315');
-        characters.put("\\rfloor", '\u230B');
-        characters.put("\\rho", '\u03C1');
-        characters.put("\\rightangle", '\u221F');
-        characters.put("\\rightanglearc", '\u22BE');
-        characters.put("\\rightarrow", '\u2192');
-        characters.put("\\rightarrowtail", '\u21A3');
-        characters.put("\\rightharpoondown", '\u21C1');
-        characters.put("\\rightharpoonup", '\u21C0');
-        characters.put("\\rightleftarrows", '\u21C4');
-        characters.put("\\rightleftharpoons", '\u21CC');
-        characters.put("\\rightmoon", '\u263E');
-        characters.put("\\rightrightarrows", '\u21C9');
-        characters.put("\\rightsquigarrow", '\u21DD');
-        characters.put("\\rightthreetimes", '\u22CC');
-        characters.put("\\risingdotseq", '\u2253');
-        characters.put("\\rmoustache", '\u23B1');
-        characters.put("\\rtimes", '\u22CA');
-        characters.put("\\rule{1em}{1pt}", '\u2015');
-        characters.put("\\r{U}", '\u016E');
-        characters.put("\\r{u}", '\u016F');
-        characters.put("\\r{}", '\u02DA');
-        characters.put("\\sagittarius", '\u2650');
-        characters.put("\\saturn", '\u2644');
-        characters.put("\\scorpio", '\u264F');
-        characters.put("\\searrow", '\u2198');
-        characters.put("\\setminus", '\u2216');
-        characters.put("\\sharp", '\u266F');
-        characters.put("\\sigma", '\u03C3');
-        characters.put("\\sim", '\u223C');
-        characters.put("\\sim\\joinrel\\leadsto", '\u27FF');
-        characters.put("\\simeq", '\u2243');
-        characters.put("\\smile", '\u2323');
-        characters.put("\\space", '\u0020');
-        characters.put("\\sphericalangle", '\u2222');
-        characters.put("\\sqcap", '\u2293');
-        characters.put("\\sqcup", '\u2294');
-        characters.put("\\sqrint", '\u2A16');
-        characters.put("\\sqsubset", '\u228F');
-        characters.put("\\sqsubseteq", '\u2291');
-        characters.put("\\sqsupset", '\u2290');
-        characters.put("\\sqsupseteq", '\u2292');
-        characters.put("\\square", '\u25A1');
-        characters.put("\\ss", '\u00DF');
-        characters.put("\\stackrel{*}{=}", '\u2A6E');
-        characters.put("\\star", '\u22C6');
-        characters.put("\\starequal", '\u225B');
-        characters.put("\\subset", '\u2282');
-        characters.put("\\subseteq", '\u2286');
-        characters.put("\\subseteqq", '\u2AC5');
-        characters.put("\\subsetneq", '\u228A');
-        characters.put("\\subsetneqq", '\u2ACB');
-        characters.put("\\succ", '\u227B');
-        characters.put("\\succapprox", '\u227F');
-        characters.put("\\succcurlyeq", '\u227D');
-        characters.put("\\succeq", '\u2AB0');
-        characters.put("\\succnapprox", '\u2ABA');
-        characters.put("\\succneqq", '\u2AB6');
-        characters.put("\\succnsim", '\u22E9');
-        characters.put("\\sum", '\u2211');
-        characters.put("\\supset", '\u2283');
-        characters.put("\\supseteq", '\u2287');
-        characters.put("\\supseteqq", '\u2AC6');
-        characters.put("\\supsetneq", '\u228B');
-        characters.put("\\supsetneqq", '\u2ACC');
-        characters.put("\\surd", '\u221A');
-        characters.put("\\surfintegral", '\u222F');
-        characters.put("\\swarrow", '\u2199');
-        characters.put("\\tau", '\u03C4');
-        characters.put("\\taurus", '\u2649');
-        characters.put("\\textTheta", '\u03F4');
-        characters.put("\\textasciiacute", '\u00B4');
-        characters.put("\\textasciibreve", '\u02D8');
-        characters.put("\\textasciicaron", '\u02C7');
-        characters.put("\\textasciidieresis", '\u00A8');
-        characters.put("\\textasciigrave", '\u0060');
-        characters.put("\\textasciimacron", '\u00AF');
-        characters.put("\\textasciitilde", '\u007E');
-        characters.put("\\textbackslash", '\u005C\u005C'); // Resolves to a backslash, and therefore tries to escape the closing '
-        characters.put("\\textbrokenbar", '\u00A6');
-        characters.put("\\textbullet", '\u2022');
-        characters.put("\\textcent", '\u00A2');
-        characters.put("\\textcopyright", '\u00A9');
-        characters.put("\\textcurrency", '\u00A4');
-        characters.put("\\textdagger", '\u2020');
-        characters.put("\\textdaggerdbl", '\u2021');
-        characters.put("\\textdegree", '\u00B0');
-        characters.put("\\textdollar", '\u0024');
-        characters.put("\\textdoublepipe", '\u01C2');
-        characters.put("\\textemdash", '\u2014');
-        characters.put("\\textendash", '\u2013');
-        characters.put("\\textexclamdown", '\u00A1');
-        characters.put("\\textfrac{1}{3}", '\u2153');
-        characters.put("\\textfrac{1}{5}", '\u2155');
-        characters.put("\\textfrac{1}{6}", '\u2159');
-        characters.put("\\textfrac{1}{8}", '\u215B');
-        characters.put("\\textfrac{2}{3}", '\u2154');
-        characters.put("\\textfrac{2}{5}", '\u2156');
-        characters.put("\\textfrac{3}{5}", '\u2157');
-        characters.put("\\textfrac{3}{8}", '\u215C');
-        characters.put("\\textfrac{4}{5}", '\u2158');
-        characters.put("\\textfrac{5}{6}", '\u215A');
-        characters.put("\\textfrac{5}{8}", '\u215D');
-        characters.put("\\textfrac{7}{8}", '\u215E');
-        characters.put("\\texthvlig", '\u0195');
-        characters.put("\\textnrleg", '\u019E');
-        characters.put("\\textonehalf", '\u00BD');
-        characters.put("\\textonequarter", '\u00BC');
-        characters.put("\\textordfeminine", '\u00AA');
-        characters.put("\\textordmasculine", '\u00BA');
-        characters.put("\\textparagraph", '\u00B6');
-        characters.put("\\textperiodcentered", '\u02D9');
-        characters.put("\\textpertenthousand", '\u2031');
-        characters.put("\\textperthousand", '\u2030');
-        characters.put("\\textphi", '\u0278');
-        characters.put("\\textquestiondown", '\u00BF');
-        characters.put("\\textquotedblleft", '\u201C');
-        characters.put("\\textquotedblright", '\u201D');
-        characters.put("\\textquotesingle", '\'');
-        characters.put("\\textregistered", '\u00AE');
-        characters.put("\\textsection", '\u00A7');
-        characters.put("\\textsterling", '\u00A3');
-        characters.put("\\texttheta", '\u03B8');
-        characters.put("\\textthreequarters", '\u00BE');
-        characters.put("\\texttildelow", '\u02DC');
-        characters.put("\\texttimes", '\u00D7');
-        characters.put("\\texttrademark", '\u2122');
-        characters.put("\\textturnk", '\u029E');
-        characters.put("\\textvartheta", '\u03D1');
-        characters.put("\\textvisiblespace", '\u2423');
-        characters.put("\\textyen", '\u00A5');
-        characters.put("\\th", '\u00FE');
-        characters.put("\\therefore", '\u2234');
-        characters.put("\\tildetrpl", '\u224B');
-        characters.put("\\tone{11}", '\u02E9');
-        characters.put("\\tone{22}", '\u02E8');
-        characters.put("\\tone{33}", '\u02E7');
-        characters.put("\\tone{44}", '\u02E6');
-        characters.put("\\tone{55}", '\u02E5');
-        characters.put("\\top", '\u22A4');
-        characters.put("\\triangledown", '\u25BF');
-        characters.put("\\triangleleft", '\u25C3');
-        characters.put("\\trianglelefteq", '\u22B4');
-        characters.put("\\triangleq", '\u225C');
-        characters.put("\\triangleright", '\u25B9');
-        characters.put("\\trianglerighteq", '\u22B5');
-        characters.put("\\truestate", '\u22A7');
-        characters.put("\\twoheadleftarrow", '\u219E');
-        characters.put("\\twoheadrightarrow", '\u21A0');
-        characters.put("\\u", '\u0306');
-        characters.put("\\ulcorner", '\u231C');
-        characters.put("\\uparrow", '\u2191');
-        characters.put("\\updownarrow", '\u2195');
-        characters.put("\\upharpoonleft", '\u21BF');
-        characters.put("\\upharpoonright", '\u21BE');
-        characters.put("\\uplus", '\u228E');
-        characters.put("\\upsilon", '\u03C5');
-        characters.put("\\upslopeellipsis", '\u22F0');
-        characters.put("\\upuparrows", '\u21C8');
-        characters.put("\\uranus", '\u2645');
-        characters.put("\\urcorner", '\u231D');
-        characters.put("\\u{A}", '\u0102');
-        characters.put("\\u{E}", '\u0114');
-        characters.put("\\u{G}", '\u011E');
-        characters.put("\\u{I}", '\u012C');
-        characters.put("\\u{O}", '\u014E');
-        characters.put("\\u{U}", '\u016C');
-        characters.put("\\u{\\i}", '\u012D');
-        characters.put("\\u{a}", '\u0103');
-        characters.put("\\u{e}", '\u0115');
-        characters.put("\\u{g}", '\u011F');
-        characters.put("\\u{o}", '\u014F');
-        characters.put("\\u{u}", '\u016D');
-        characters.put("\\v", '\u030C');
-        characters.put("\\varepsilon", '\u025B');
-        characters.put("\\varkappa", '\u03F0');
-        characters.put("\\varnothing", '\u2205');
-        characters.put("\\varphi", '\u03C6');
-        characters.put("\\varpi", '\u03D6');
-        characters.put("\\varrho", '\u03F1');
-        characters.put("\\varsigma", '\u03C2');
-        //"\\varsubsetneqq":"U+228A-0FE00",
-        //"\\varsupsetneq":"U+228B-0FE00",
-        characters.put("\\vartriangle", '\u25B5');
-        characters.put("\\vartriangleleft", '\u22B2');
-        characters.put("\\vartriangleright", '\u22B3');
-        characters.put("\\vdash", '\u22A2');
-        characters.put("\\vdots", '\u22EE');
-        characters.put("\\vee", '\u2228');
-        characters.put("\\veebar", '\u22BB');
-        characters.put("\\venus", '\u2640');
-        characters.put("\\vert", '\u007C');
-        characters.put("\\verymuchgreater", '\u22D9');
-        characters.put("\\verymuchless", '\u22D8');
-        characters.put("\\virgo", '\u264D');
-        characters.put("\\volintegral", '\u2230');
-        characters.put("\\v{C}", '\u010C');
-        characters.put("\\v{D}", '\u010E');
-        characters.put("\\v{E}", '\u011A');
-        characters.put("\\v{L}", '\u013D');
-        characters.put("\\v{N}", '\u0147');
-        characters.put("\\v{R}", '\u0158');
-        characters.put("\\v{S}", '\u0160');
-        characters.put("\\v{T}", '\u0164');
-        characters.put("\\v{Z}", '\u017D');
-        characters.put("\\v{c}", '\u010D');
-        characters.put("\\v{d}", '\u010F');
-        characters.put("\\v{e}", '\u011B');
-        characters.put("\\v{l}", '\u013E');
-        characters.put("\\v{n}", '\u0148');
-        characters.put("\\v{r}", '\u0159');
-        characters.put("\\v{s}", '\u0161');
-        characters.put("\\v{t}", '\u0165');
-        characters.put("\\v{z}", '\u017E');
-        characters.put("\\wedge", '\u2227');
-        characters.put("\\wp", '\u2118');
-        characters.put("\\wr", '\u2240');
-        characters.put("\\xi", '\u03BE');
-        characters.put("\\zeta", '\u03B6');
-        characters.put("\\~", '\u0303');
-        characters.put("\\~{A}", '\u00C3');
-        characters.put("\\~{I}", '\u0128');
-        characters.put("\\~{N}", '\u00D1');
-        characters.put("\\~{O}", '\u00D5');
-        characters.put("\\~{U}", '\u0168');
-        characters.put("\\~{\\i}", '\u0129');
-        characters.put("\\~{a}", '\u00E3');
-        characters.put("\\~{n}", '\u00F1');
-        characters.put("\\~{o}", '\u00F5');
-        characters.put("\\~{u}", '\u0169');
-        characters.put("ff", '\uFB00');
-        characters.put("ffi", '\uFB03');
-        characters.put("ffl", '\uFB04');
-        characters.put("fi", '\uFB01');
-        characters.put("fl", '\uFB02');
-        characters.put("ij", '\u0133');
-        characters.put("{'''}", '\u2034');
-        characters.put("{''}", '\u2033');
-        characters.put("{'}", '\u2032');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char177}", '\u0311');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char184}", '\u0318');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char185}", '\u0319');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char203}", '\u032B');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char207}", '\u032F');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char215}", '\u0337');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char216}", '\u0338');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char218}", '\u033A');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char219}", '\u033B');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char220}", '\u033C');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char221}", '\u033D');
-        characters.put("{\\fontencoding{LECO}\\selectfont\\char225}", '\u0361');
-        characters.put("{\\fontencoding{LEIP}\\selectfont\\char202}", '\u027F');
-        characters.put("{\\fontencoding{LEIP}\\selectfont\\char61}", '\u0258');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char195}", '\u01BA');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char201}", '\u013F');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char202}", '\u0140');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char40}", '\u0126');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char47}", '\u0166');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char63}", '\u0167');
-        characters.put("{\\fontencoding{LELA}\\selectfont\\char91}", '\u0138');
-        //"{\rlap{\textbackslash}{{/}\!\!{/}}}":"U+2AFD-020E5",
-        characters.put("{^1}", '\u00B9');
-        characters.put("{^2}", '\u00B2');
-        characters.put("{^3}", '\u00B3');
-        characters.put("{_\\ast}", '\u2217');
-        characters.put("{{/}\\!\\!{/}}", '\u2AFD');
-
-        return Collections.unmodifiableMap(characters);
+    /**
+     * A node in the prefix tree of all commands. The children are sorted by
+     * their character. Following a character that is not in the tree leads to
+     * an empty node, so lookups never need to check for null.
+     */
+    private static class TrieNode {
+
+        static final TrieNode EMPTY = new TrieNode();
+        char[] characters = new char[0];
+        TrieNode[] children = new TrieNode[0];
+        boolean isCommand = false; // Whether the path to this node is a complete command
+        char character; // The character for that command
+
+        TrieNode getChild(char c) {
+            int index = Arrays.binarySearch(characters, c);
+            return (index < 0 ? EMPTY : children[index]);
+        }
+
+        TrieNode getOrAddChild(char c) {
+            int index = Arrays.binarySearch(characters, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            index = -index - 1;
+
+            char[] newCharacters = new char[characters.length + 1];
+            System.arraycopy(characters, 0, newCharacters, 0, index);
+            System.arraycopy(characters, index, newCharacters, index + 1, characters.length - index);
+            newCharacters[index] = c;
+
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            newChildren[index] = new TrieNode();
+
+            characters = newCharacters;
+            children = newChildren;
+            return newChildren[index];
+        }
     }
+
+    /**
+     * The commands and the characters they represent. Each line consists of a
+     * command, a tab, and the character. Parsing a single string constant is
+     * much cheaper than executing a separate statement for every command.
+     */
+    private static final String SPECIAL_CHARACTERS = ""
+            // Data obtained, with permission, from John D. Cook's Unicode / LaTeX conversion
+            // http://www.johndcook.com/unicode_latex.html
+            + "\'\'\'\'\t\u2057\n"
+            + "\'n\t\u0149\n"
+            + ",,\t\u201E\n"
+            + "..\t\u2025\n"
+            + ":=\t\u2254\n"
+            + "<\\kern-0.58em(\t\u2993\n"
+            + "=:\t\u2255\n"
+            + "IJ\t\u0132\n"
+            + "\\#\t\u0023\n"
+            + "\\%\t\u0025\n"
+            + "\\&\t\u0026\n"
+            + "\\'\t\u0301\n"
+            + "\\'{$\\alpha$}\t\u03AC\n"
+            + "\\'{A}\t\u00C1\n"
+            + "\\'{C}\t\u0106\n"
+            + "\\'{E}\t\u00C9\n"
+            + "\\'{H}\t\u0389\n"
+            + "\\'{I}\t\u00CD\n"
+            + "\\'{L}\t\u0139\n"
+            + "\\'{N}\t\u0143\n"
+            + "\\'{O}\t\u00D3\n"
+            + "\\'{R}\t\u0154\n"
+            + "\\'{S}\t\u015A\n"
+            + "\\'{U}\t\u00DA\n"
+            + "\\'{Y}\t\u00DD\n"
+            + "\\'{Z}\t\u0179\n"
+            + "\\'{\\i}\t\u00ED\n"
+            + "\\'{i}\t\u00ED\n"
+            + "\\'{a}\t\u00E1\n"
+            + "\\'{c}\t\u0107\n"
+            + "\\'{e}\t\u00E9\n"
+            + "\\'{g}\t\u01F5\n"
+            + "\\'{l}\t\u013A\n"
+            + "\\'{n}\t\u0144\n"
+            + "\\'{o}\t\u00F3\n"
+            + "\\'{r}\t\u0155\n"
+            + "\\'{s}\t\u015B\n"
+            + "\\'{u}\t\u00FA\n"
+            + "\\'{y}\t\u00FD\n"
+            + "\\'{z}\t\u017A\n"
+            + "\\'{}O\t\u038C\n"
+            + "\\'{}{I}\t\u038A\n"
+            + "\\-\t\u00AD\n"
+            + "\\.\t\u0307\n"
+            + "\\.{C}\t\u010A\n"
+            + "\\.{E}\t\u0116\n"
+            + "\\.{G}\t\u0120\n"
+            + "\\.{I}\t\u0130\n"
+            + "\\.{Z}\t\u017B\n"
+            + "\\.{c}\t\u010B\n"
+            + "\\.{e}\t\u0117\n"
+            + "\\.{g}\t\u0121\n"
+            + "\\.{z}\t\u017C\n"
+            + "\\.{o}\t\u022F\n"
+            + "\\.{i}\ti\n"
+            + "\\.{j}\tj\n"
+            + "\\.{\\i}\ti\n"
+            + "\\.{\\j}\tj\n"
+            //"\\;":"U+2009-0200A-0200A",
+            + "\\=\t\u0304\n"
+            + "\\={A}\t\u0100\n"
+            + "\\={E}\t\u0112\n"
+            + "\\={I}\t\u012A\n"
+            + "\\={O}\t\u014C\n"
+            + "\\={U}\t\u016A\n"
+            + "\\={\\i}\t\u012B\n"
+            + "\\={a}\t\u0101\n"
+            + "\\={e}\t\u0113\n"
+            + "\\={o}\t\u014D\n"
+            + "\\={u}\t\u016B\n"
+            + "\\AA\t\u00C5\n"
+            + "\\AE\t\u00C6\n"
+            + "\\Alpha\t\u0391\n"
+            + "\\Angle\t\u299C\n"
+            + "\\Beta\t\u0392\n"
+            + "\\Bumpeq\t\u224E\n"
+            + "\\Cap\t\u22D2\n"
+            + "\\Chi\t\u03A7\n"
+            + "\\Colon\t\u2237\n"
+            + "\\Cup\t\u22D3\n"
+            + "\\DH\t\u00D0\n"
+            + "\\DJ\t\u0110\n"
+            + "\\Delta\t\u0394\n"
+            + "\\Digamma\t\u03DC\n"
+            + "\\DownArrowBar\t\u2913\n"
+            + "\\DownArrowUpArrow\t\u21F5\n"
+            + "\\DownLeftRightVector\t\u2950\n"
+            + "\\DownLeftTeeVector\t\u295E\n"
+            + "\\DownLeftVectorBar\t\u2956\n"
+            + "\\DownRightTeeVector\t\u295F\n"
+            + "\\DownRightVectorBar\t\u2957\n"
+            + "\\Downarrow\t\u21D3\n"
+            + "\\ElOr\t\u2A56\n"
+            + "\\Elolarr\t\u2940\n"
+            + "\\Elorarr\t\u2941\n"
+            + "\\Elroang\t\u2986\n"
+            + "\\ElsevierGlyph{2129}\t\u2129\n"
+            + "\\ElsevierGlyph{21B3}\t\u21B3\n"
+            + "\\ElsevierGlyph{2232}\t\u2232\n"
+            + "\\ElsevierGlyph{2233}\t\u2233\n"
+            + "\\ElsevierGlyph{2238}\t\u2238\n"
+            + "\\ElsevierGlyph{2242}\t\u2242\n"
+            + "\\ElsevierGlyph{225A}\t\u225A\n"
+            + "\\ElsevierGlyph{225F}\t\u225F\n"
+            + "\\ElsevierGlyph{2274}\t\u2274\n"
+            + "\\ElsevierGlyph{2275}\t\u2275\n"
+            + "\\ElsevierGlyph{22C0}\t\u22C0\n"
+            + "\\ElsevierGlyph{22C1}\t\u22C1\n"
+            + "\\ElsevierGlyph{300A}\t\u300A\n"
+            + "\\ElsevierGlyph{300B}\t\u300B\n"
+            + "\\ElsevierGlyph{3018}\t\u3018\n"
+            + "\\ElsevierGlyph{3019}\t\u3019\n"
+            + "\\ElsevierGlyph{E20A}\t\u2926\n"
+            + "\\ElsevierGlyph{E20B}\t\u2925\n"
+            + "\\ElsevierGlyph{E20C}\t\u2923\n"
+            + "\\ElsevierGlyph{E20D}\t\u2924\n"
+            + "\\ElsevierGlyph{E20E}\t\u2928\n"
+            + "\\ElsevierGlyph{E20F}\t\u2929\n"
+            + "\\ElsevierGlyph{E210}\t\u292A\n"
+            + "\\ElsevierGlyph{E211}\t\u2927\n"
+            + "\\ElsevierGlyph{E212}\t\u2905\n"
+            + "\\ElsevierGlyph{E214}\t\u297C\n"
+            + "\\ElsevierGlyph{E215}\t\u297D\n"
+            + "\\ElsevierGlyph{E219}\t\u2937\n"
+            + "\\ElsevierGlyph{E21A}\t\u2936\n"
+            + "\\ElsevierGlyph{E21C}\t\u2933\n"
+            //"\\ElsevierGlyph{E21D}":"U+2933-00338",
+            + "\\ElsevierGlyph{E259}\t\u2A3C\n"
+            + "\\ElsevierGlyph{E25A}\t\u2A25\n"
+            + "\\ElsevierGlyph{E25B}\t\u2A2A\n"
+            + "\\ElsevierGlyph{E25C}\t\u2A2D\n"
+            + "\\ElsevierGlyph{E25D}\t\u2A2E\n"
+            + "\\ElsevierGlyph{E25E}\t\u2A35\n"
+            + "\\ElsevierGlyph{E260}\t\u29B5\n"
+            + "\\ElsevierGlyph{E291}\t\u2994\n"
+            + "\\ElsevierGlyph{E30D}\t\u2AEB\n"
+            + "\\ElsevierGlyph{E36E}\t\u2A55\n"
+            + "\\ElsevierGlyph{E372}\t\u29DC\n"
+            + "\\ElsevierGlyph{E381}\t\u25B1\n"
+            + "\\ElsevierGlyph{E395}\t\u2A10\n"
+            + "\\ElsevierGlyph{E61B}\t\u29B6\n"
+            + "\\ElsevierGlyph{E838}\t\u233D\n"
+            + "\\Elxsqcup\t\u2A06\n"
+            + "\\Elxuplus\t\u2A04\n"
+            + "\\ElzAnd\t\u2A53\n"
+            + "\\ElzCint\t\u2A0D\n"
+            + "\\ElzInf\t\u2A07\n"
+            + "\\ElzLap\t\u29CA\n"
+            + "\\ElzOr\t\u2A54\n"
+            + "\\ElzRlarr\t\u2942\n"
+            + "\\ElzSup\t\u2A08\n"
+            + "\\ElzThr\t\u2A05\n"
+            + "\\ElzTimes\t\u2A2F\n"
+            + "\\Elzbar\t\u0336\n"
+            + "\\Elzbtdl\t\u026C\n"
+            + "\\Elzcirfb\t\u25D2\n"
+            + "\\Elzcirfl\t\u25D0\n"
+            + "\\Elzcirfr\t\u25D1\n"
+            + "\\Elzclomeg\t\u0277\n"
+            + "\\Elzddfnc\t\u2999\n"
+            + "\\Elzdefas\t\u29CB\n"
+            + "\\Elzdlcorn\t\u23A3\n"
+            + "\\Elzdshfnc\t\u2506\n"
+            + "\\Elzdyogh\t\u02A4\n"
+            + "\\Elzesh\t\u0283\n"
+            + "\\Elzfhr\t\u027E\n"
+            + "\\Elzglst\t\u0294\n"
+            + "\\Elzhlmrk\t\u02D1\n"
+            + "\\Elzinglst\t\u0296\n"
+            + "\\Elzinvv\t\u028C\n"
+            + "\\Elzinvw\t\u028D\n"
+            + "\\Elzlmrk\t\u02D0\n"
+            + "\\Elzlow\t\u02D5\n"
+            + "\\Elzlpargt\t\u29A0\n"
+            + "\\Elzltlmr\t\u0271\n"
+            + "\\Elzltln\t\u0272\n"
+            + "\\Elzminhat\t\u2A5F\n"
+            + "\\Elzopeno\t\u0254\n"
+            + "\\Elzpalh\t\u0321\n"
+            + "\\Elzpbgam\t\u0264\n"
+            + "\\Elzpgamma\t\u0263\n"
+            + "\\Elzpscrv\t\u028B\n"
+            + "\\Elzpupsil\t\u028A\n"
+            + "\\ElzrLarr\t\u2944\n"
+            + "\\Elzrais\t\u02D4\n"
+            + "\\Elzrarrx\t\u2947\n"
+            + "\\Elzreapos\t\u201B\n"
+            + "\\Elzreglst\t\u0295\n"
+            + "\\Elzrh\t\u0322\n"
+            + "\\Elzrl\t\u027C\n"
+            + "\\Elzrtld\t\u0256\n"
+            + "\\Elzrtll\t\u026D\n"
+            + "\\Elzrtln\t\u0273\n"
+            + "\\Elzrtlr\t\u027D\n"
+            + "\\Elzrtls\t\u0282\n"
+            + "\\Elzrtlt\t\u0288\n"
+            + "\\Elzrtlz\t\u0290\n"
+            + "\\Elzrttrnr\t\u027B\n"
+            + "\\Elzrvbull\t\u25D8\n"
+            + "\\Elzsbbrg\t\u032A\n"
+            + "\\Elzsblhr\t\u02D3\n"
+            + "\\Elzsbrhr\t\u02D2\n"
+            + "\\Elzschwa\t\u0259\n"
+            + "\\Elzsqfl\t\u25E7\n"
+            + "\\Elzsqfnw\t\u2519\n"
+            + "\\Elzsqfr\t\u25E8\n"
+            + "\\Elzsqfse\t\u25EA\n"
+            + "\\Elzsqspne\t\u22E5\n"
+            + "\\Elztdcol\t\u2AF6\n"
+            + "\\Elztesh\t\u02A7\n"
+            + "\\Elztfnc\t\u2980\n"
+            + "\\Elztrna\t\u0250\n"
+            + "\\Elztrnh\t\u0265\n"
+            + "\\Elztrnm\t\u026F\n"
+            + "\\Elztrnmlr\t\u0270\n"
+            + "\\Elztrnr\t\u0279\n"
+            + "\\Elztrnrl\t\u027A\n"
+            + "\\Elztrnsa\t\u0252\n"
+            + "\\Elztrnt\t\u0287\n"
+            + "\\Elztrny\t\u028E\n"
+            + "\\Elzverti\t\u02CC\n"
+            + "\\Elzverts\t\u02C8\n"
+            + "\\Elzvrecto\t\u25AF\n"
+            + "\\Elzxh\t\u0127\n"
+            + "\\Elzxl\t\u0335\n"
+            + "\\Elzxrat\t\u211E\n"
+            + "\\Elzyogh\t\u0292\n"
+            + "\\Epsilon\t\u0395\n"
+            + "\\Equal\t\u2A75\n"
+            + "\\Eta\t\u0397\n"
+            + "\\Gamma\t\u0393\n"
+            + "\\H\t\u030B\n"
+            + "\\H{O}\t\u0150\n"
+            + "\\H{U}\t\u0170\n"
+            + "\\H{o}\t\u0151\n"
+            + "\\H{u}\t\u0171\n"
+            + "\\H{}\t\u02DD\n"
+            + "\\Iota\t\u0399\n"
+            + "\\Kappa\t\u039A\n"
+            + "\\Koppa\t\u03DE\n"
+            + "\\L\t\u0141\n"
+            + "\\Lambda\t\u039B\n"
+            + "\\LeftDownTeeVector\t\u2961\n"
+            + "\\LeftDownVectorBar\t\u2959\n"
+            + "\\LeftRightVector\t\u294E\n"
+            + "\\LeftTeeVector\t\u295A\n"
+            + "\\LeftTriangleBar\t\u29CF\n"
+            + "\\LeftUpDownVector\t\u2951\n"
+            + "\\LeftUpTeeVector\t\u2960\n"
+            + "\\LeftUpVectorBar\t\u2958\n"
+            + "\\LeftVectorBar\t\u2952\n"
+            + "\\Leftarrow\t\u21D0\n"
+            + "\\Leftrightarrow\t\u21D4\n"
+            + "\\Lleftarrow\t\u21DA\n"
+            + "\\Longleftarrow\t\u27F8\n"
+            + "\\Longleftrightarrow\t\u27FA\n"
+            + "\\Longrightarrow\t\u27F9\n"
+            + "\\Lsh\t\u21B0\n"
+            + "\\NG\t\u014A\n"
+            + "\\NestedGreaterGreater\t\u2AA2\n"
+            + "\\NestedLessLess\t\u2AA1\n"
+            /*
+             "\\NotEqualTilde":"U+2242-00338",
+             "\\NotGreaterGreater":"U+226B-00338",
+             "\\NotHumpDownHump":"U+224E-00338",
+             "\\NotHumpEqual":"U+224F-00338",
+             "\\NotLeftTriangleBar":"U+29CF-00338",
+             "\\NotLessLess":"U+226A-00338",
+             "\\NotNestedGreaterGreater":"U+2AA2-00338",
+             "\\NotNestedLessLess":"U+2AA1-00338",
+             "\\NotPrecedesTilde":"U+227E-00338",
+             "\\NotRightTriangleBar":"U+29D0-00338",
+             "\\NotSquareSubset":"U+228F-00338",
+             "\\NotSquareSuperset":"U+2290-00338",
+             "\\NotSucceedsTilde":"U+227F-00338",
+             */
+            + "\\O\t\u00D8\n"
+            + "\\OE\t\u0152\n"
+            + "\\Omega\t\u03A9\n"
+            + "\\Omicron\t\u039F\n"
+            + "\\Phi\t\u03A6\n"
+            + "\\Pi\t\u03A0\n"
+            + "\\Pisymbol{ppi020}{105}\t\u2A9E\n"
+            + "\\Pisymbol{ppi020}{117}\t\u2A9D\n"
+            + "\\Pisymbol{ppi022}{87}\t\u03D0\n"
+            + "\\Psi\t\u03A8\n"
+            + "\\ReverseUpEquilibrium\t\u296F\n"
+            + "\\Rho\t\u03A1\n"
+            + "\\RightDownTeeVector\t\u295D\n"
+            + "\\RightDownVectorBar\t\u2955\n"
+            + "\\RightTeeVector\t\u295B\n"
+            + "\\RightTriangleBar\t\u29D0\n"
+            + "\\RightUpDownVector\t\u294F\n"
+            + "\\RightUpTeeVector\t\u295C\n"
+            + "\\RightUpVectorBar\t\u2954\n"
+            + "\\RightVectorBar\t\u2953\n"
+            + "\\Rightarrow\t\u21D2\n"
+            + "\\RoundImplies\t\u2970\n"
+            + "\\Rrightarrow\t\u21DB\n"
+            + "\\Rsh\t\u21B1\n"
+            + "\\RuleDelayed\t\u29F4\n"
+            + "\\Sampi\t\u03E0\n"
+            + "\\Sigma\t\u03A3\n"
+            + "\\Stigma\t\u03DA\n"
+            + "\\Subset\t\u22D0\n"
+            + "\\Supset\t\u22D1\n"
+            + "\\TH\t\u00DE\n"
+            + "\\Tau\t\u03A4\n"
+            + "\\Theta\t\u0398\n"
+            + "\\UpArrowBar\t\u2912\n"
+            + "\\UpEquilibrium\t\u296E\n"
+            + "\\Uparrow\t\u21D1\n"
+            + "\\Updownarrow\t\u21D5\n"
+            + "\\Upsilon\t\u03A5\n"
+            + "\\VDash\t\u22AB\n"
+            + "\\Vdash\t\u22A9\n"
+            + "\\Vert\t\u2016\n"
+            + "\\Vvdash\t\u22AA\n"
+            + "\\Xi\t\u039E\n"
+            + "\\Zeta\t\u0396\n"
+            + "\\\"\t\u0308\n"
+            + "\\\"{A}\t\u00C4\n"
+            + "\\\"{E}\t\u00CB\n"
+            + "\\\"{I}\t\u00CF\n"
+            + "\\\"{O}\t\u00D6\n"
+            + "\\\"{U}\t\u00DC\n"
+            + "\\\"{Y}\t\u0178\n"
+            + "\\\"{a}\t\u00E4\n"
+            + "\\\"{e}\t\u00EB\n"
+            + "\\\"{i}\t\u00EF\n"
+            + "\\\"{\\i}\t\u00EF\n"
+            + "\\\"{o}\t\u00F6\n"
+            + "\\\"{u}\t\u00FC\n"
+            + "\\\"{y}\t\u00FF\n"
+            + "\\^\t\u0302\n"
+            + "\\^{A}\t\u00C2\n"
+            + "\\^{C}\t\u0108\n"
+            + "\\^{E}\t\u00CA\n"
+            + "\\^{G}\t\u011C\n"
+            + "\\^{H}\t\u0124\n"
+            + "\\^{I}\t\u00CE\n"
+            + "\\^{J}\t\u0134\n"
+            + "\\^{O}\t\u00D4\n"
+            + "\\^{S}\t\u015C\n"
+            + "\\^{U}\t\u00DB\n"
+            + "\\^{W}\t\u0174\n"
+            + "\\^{Y}\t\u0176\n"
+            + "\\^{\\i}\t\u00EE\n"
+            + "\\^{i}\t\u00EE\n"
+            + "\\^{\\j}\t\u0135\n"
+            + "\\^{j}\t\u0135\n"
+            + "\\^{a}\t\u00E2\n"
+            + "\\^{c}\t\u0109\n"
+            + "\\^{e}\t\u00EA\n"
+            + "\\^{g}\t\u011D\n"
+            + "\\^{h}\t\u0125\n"
+            + "\\^{o}\t\u00F4\n"
+            + "\\^{s}\t\u015D\n"
+            + "\\^{u}\t\u00FB\n"
+            + "\\^{w}\t\u0175\n"
+            + "\\^{y}\t\u0177\n"
+            + "\\^{}\t\u005E\n"
+            + "\\_\t\u005F\n"
+            + "\\`\t\u0300\n"
+            + "\\`{A}\t\u00C0\n"
+            + "\\`{E}\t\u00C8\n"
+            + "\\`{I}\t\u00CC\n"
+            + "\\`{O}\t\u00D2\n"
+            + "\\`{U}\t\u00D9\n"
+            + "\\`{\\i}\t\u00EC\n"
+            + "\\`{i}\t\u00EC\n"
+            + "\\`{a}\t\u00E0\n"
+            + "\\`{e}\t\u00E8\n"
+            + "\\`{o}\t\u00F2\n"
+            + "\\`{u}\t\u00F9\n"
+            + "\\aa\t\u00E5\n"
+            + "\\acute{\\ddot{\\iota}}\t\u0390\n"
+            + "\\acute{\\ddot{\\upsilon}}\t\u03B0\n"
+            + "\\acute{\\epsilon}\t\u03AD\n"
+            + "\\acute{\\eta}\t\u03AE\n"
+            + "\\acute{\\iota}\t\u03AF\n"
+            + "\\acute{\\omega}\t\u03CE\n"
+            + "\\acute{\\upsilon}\t\u03CD\n"
+            + "\\ae\t\u00E6\n"
+            + "\\aleph\t\u2135\n"
+            + "\\allequal\t\u224C\n"
+            + "\\alpha\t\u03B1\n"
+            + "\\amalg\t\u2A3F\n"
+            + "\\angle\t\u2220\n"
+            + "\\approx\t\u2248\n"
+            + "\\approxeq\t\u224A\n"
+            + "\\approxnotequal\t\u2246\n"
+            + "\\aquarius\t\u2652\n"
+            + "\\aries\t\u2648\n"
+            + "\\arrowwaveright\t\u219C\n"
+            + "\\ast\t\u002A\n"
+            + "\\asymp\t\u224D\n"
+            + "\\backepsilon\t\u03F6\n"
+            + "\\backprime\t\u2035\n"
+            + "\\backsim\t\u223D\n"
+            + "\\backsimeq\t\u22CD\n"
+            + "\\barwedge\t\u2305\n"
+            + "\\because\t\u2235\n"
+            + "\\beta\t\u03B2\n"
+            + "\\beth\t\u2136\n"
+            + "\\between\t\u226C\n"
+            + "\\bigcap\t\u22C2\n"
+            + "\\bigcirc\t\u25EF\n"
+            + "\\bigcup\t\u22C3\n"
+            + "\\bigtriangledown\t\u25BD\n"
+            + "\\bigtriangleup\t\u25B3\n"
+            + "\\blacklozenge\t\u29EB\n"
+            + "\\blacksquare\t\u25AA\n"
+            + "\\blacktriangle\t\u25B4\n"
+            + "\\blacktriangledown\t\u25BE\n"
+            + "\\blacktriangleleft\t\u25C2\n"
+            + "\\blacktriangleright\t\u25B8\n"
+            + "\\bowtie\t\u22C8\n"
+            + "\\boxdot\t\u22A1\n"
+            + "\\boxminus\t\u229F\n"
+            + "\\boxplus\t\u229E\n"
+            + "\\boxtimes\t\u22A0\n"
+            + "\\bullet\t\u2219\n"
+            + "\\bumpeq\t\u224F\n"
+            + "\\c\t\u0327\n"
+            + "\\cancer\t\u264B\n"
+            + "\\cap\t\u2229\n"
+            + "\\capricornus\t\u2651\n"
+            + "\\cdot\t\u00B7\n"
+            + "\\cdots\t\u22EF\n"
+            + "\\chi\t\u03C7\n"
+            + "\\circ\t\u2218\n"
+            + "\\circeq\t\u2257\n"
+            + "\\circlearrowleft\t\u21BA\n"
+            + "\\circlearrowright\t\u21BB\n"
+            + "\\circledS\t\u24C8\n"
+            + "\\circledast\t\u229B\n"
+            + "\\circledcirc\t\u229A\n"
+            + "\\circleddash\t\u229D\n"
+            + "\\clockoint\t\u2A0F\n"
+            + "\\clwintegral\t\u2231\n"
+            + "\\complement\t\u2201\n"
+            + "\\cong\t\u2245\n"
+            + "\\coprod\t\u2210\n"
+            + "\\cup\t\u222A\n"
+            + "\\curlyeqprec\t\u22DE\n"
+            + "\\curlyeqsucc\t\u22DF\n"
+            + "\\curlyvee\t\u22CE\n"
+            + "\\curlywedge\t\u22CF\n"
+            + "\\curvearrowleft\t\u21B6\n"
+            + "\\curvearrowright\t\u21B7\n"
+            + "\\cyrchar\\C\t\u030F\n"
+            + "\\cyrchar\\CYRA\t\u0410\n"
+            + "\\cyrchar\\CYRABHCH\t\u04BC\n"
+            + "\\cyrchar\\CYRABHCHDSC\t\u04BE\n"
+            + "\\cyrchar\\CYRABHDZE\t\u04E0\n"
+            + "\\cyrchar\\CYRABHHA\t\u04A8\n"
+            + "\\cyrchar\\CYRAE\t\u04D4\n"
+            + "\\cyrchar\\CYRB\t\u0411\n"
+            + "\\cyrchar\\CYRBYUS\t\u046A\n"
+            + "\\cyrchar\\CYRC\t\u0426\n"
+            + "\\cyrchar\\CYRCH\t\u0427\n"
+            + "\\cyrchar\\CYRCHLDSC\t\u04CB\n"
+            + "\\cyrchar\\CYRCHRDSC\t\u04B6\n"
+            + "\\cyrchar\\CYRCHVCRS\t\u04B8\n"
+            + "\\cyrchar\\CYRD\t\u0414\n"
+            + "\\cyrchar\\CYRDJE\t\u0402\n"
+            + "\\cyrchar\\CYRDZE\t\u0405\n"
+            + "\\cyrchar\\CYRDZHE\t\u040F\n"
+            + "\\cyrchar\\CYRE\t\u0415\n"
+            + "\\cyrchar\\CYREREV\t\u042D\n"
+            + "\\cyrchar\\CYRERY\t\u042B\n"
+            + "\\cyrchar\\CYRF\t\u0424\n"
+            + "\\cyrchar\\CYRFITA\t\u0472\n"
+            + "\\cyrchar\\CYRG\t\u0413\n"
+            + "\\cyrchar\\CYRGHCRS\t\u0492\n"
+            + "\\cyrchar\\CYRGHK\t\u0494\n"
+            + "\\cyrchar\\CYRGUP\t\u0490\n"
+            + "\\cyrchar\\CYRH\t\u0425\n"
+            + "\\cyrchar\\CYRHDSC\t\u04B2\n"
+            + "\\cyrchar\\CYRHRDSN\t\u042A\n"
+            + "\\cyrchar\\CYRI\t\u0418\n"
+            + "\\cyrchar\\CYRIE\t\u0404\n"
+            + "\\cyrchar\\CYRII\t\u0406\n"
+            + "\\cyrchar\\CYRIOTBYUS\t\u046C\n"
+            + "\\cyrchar\\CYRIOTE\t\u0464\n"
+            + "\\cyrchar\\CYRIOTLYUS\t\u0468\n"
+            + "\\cyrchar\\CYRISHRT\t\u0419\n"
+            + "\\cyrchar\\CYRIZH\t\u0474\n"
+            + "\\cyrchar\\CYRJE\t\u0408\n"
+            + "\\cyrchar\\CYRK\t\u041A\n"
+            + "\\cyrchar\\CYRKBEAK\t\u04A0\n"
+            + "\\cyrchar\\CYRKDSC\t\u049A\n"
+            + "\\cyrchar\\CYRKHCRS\t\u049E\n"
+            + "\\cyrchar\\CYRKHK\t\u04C3\n"
+            + "\\cyrchar\\CYRKOPPA\t\u0480\n"
+            + "\\cyrchar\\CYRKSI\t\u046E\n"
+            + "\\cyrchar\\CYRKVCRS\t\u049C\n"
+            + "\\cyrchar\\CYRL\t\u041B\n"
+            + "\\cyrchar\\CYRLJE\t\u0409\n"
+            + "\\cyrchar\\CYRLYUS\t\u0466\n"
+            + "\\cyrchar\\CYRM\t\u041C\n"
+            + "\\cyrchar\\CYRN\t\u041D\n"
+            + "\\cyrchar\\CYRNDSC\t\u04A2\n"
+            + "\\cyrchar\\CYRNG\t\u04A4\n"
+            + "\\cyrchar\\CYRNHK\t\u04C7\n"
+            + "\\cyrchar\\CYRNJE\t\u040A\n"
+            + "\\cyrchar\\CYRO\t\u041E\n"
+            + "\\cyrchar\\CYROMEGA\t\u0460\n"
+            + "\\cyrchar\\CYROMEGARND\t\u047A\n"
+            + "\\cyrchar\\CYROMEGATITLO\t\u047C\n"
+            + "\\cyrchar\\CYROT\t\u047E\n"
+            + "\\cyrchar\\CYROTLD\t\u04E8\n"
+            + "\\cyrchar\\CYRP\t\u041F\n"
+            + "\\cyrchar\\CYRPHK\t\u04A6\n"
+            + "\\cyrchar\\CYRPSI\t\u0470\n"
+            + "\\cyrchar\\CYRR\t\u0420\n"
+            + "\\cyrchar\\CYRRTICK\t\u048E\n"
+            + "\\cyrchar\\CYRS\t\u0421\n"
+            + "\\cyrchar\\CYRSCHWA\t\u04D8\n"
+            + "\\cyrchar\\CYRSDSC\t\u04AA\n"
+            + "\\cyrchar\\CYRSEMISFTSN\t\u048C\n"
+            + "\\cyrchar\\CYRSFTSN\t\u042C\n"
+            + "\\cyrchar\\CYRSH\t\u0428\n"
+            + "\\cyrchar\\CYRSHCH\t\u0429\n"
+            + "\\cyrchar\\CYRSHHA\t\u04BA\n"
+            + "\\cyrchar\\CYRT\t\u0422\n"
+            + "\\cyrchar\\CYRTDSC\t\u04AC\n"
+            + "\\cyrchar\\CYRTETSE\t\u04B4\n"
+            + "\\cyrchar\\CYRTSHE\t\u040B\n"
+            + "\\cyrchar\\CYRU\t\u0423\n"
+            + "\\cyrchar\\CYRUK\t\u0478\n"
+            + "\\cyrchar\\CYRUSHRT\t\u040E\n"
+            + "\\cyrchar\\CYRV\t\u0412\n"
+            + "\\cyrchar\\CYRY\t\u04AE\n"
+            + "\\cyrchar\\CYRYA\t\u042F\n"
+            + "\\cyrchar\\CYRYAT\t\u0462\n"
+            + "\\cyrchar\\CYRYHCRS\t\u04B0\n"
+            + "\\cyrchar\\CYRYI\t\u0407\n"
+            + "\\cyrchar\\CYRYO\t\u0401\n"
+            + "\\cyrchar\\CYRYU\t\u042E\n"
+            + "\\cyrchar\\CYRZ\t\u0417\n"
+            + "\\cyrchar\\CYRZDSC\t\u0498\n"
+            + "\\cyrchar\\CYRZH\t\u0416\n"
+            + "\\cyrchar\\CYRZHDSC\t\u0496\n"
+            + "\\cyrchar\\CYRpalochka\t\u04C0\n"
+            + "\\cyrchar\\cyra\t\u0430\n"
+            + "\\cyrchar\\cyrabhch\t\u04BD\n"
+            + "\\cyrchar\\cyrabhchdsc\t\u04BF\n"
+            + "\\cyrchar\\cyrabhdze\t\u04E1\n"
+            + "\\cyrchar\\cyrabhha\t\u04A9\n"
+            + "\\cyrchar\\cyrae\t\u04D5\n"
+            + "\\cyrchar\\cyrb\t\u0431\n"
+            + "\\cyrchar\\cyrc\t\u0446\n"
+            + "\\cyrchar\\cyrch\t\u0447\n"
+            + "\\cyrchar\\cyrchldsc\t\u04CC\n"
+            + "\\cyrchar\\cyrchrdsc\t\u04B7\n"
+            + "\\cyrchar\\cyrchvcrs\t\u04B9\n"
+            + "\\cyrchar\\cyrd\t\u0434\n"
+            + "\\cyrchar\\cyrdje\t\u0452\n"
+            + "\\cyrchar\\cyrdze\t\u0455\n"
+            + "\\cyrchar\\cyrdzhe\t\u045F\n"
+            + "\\cyrchar\\cyre\t\u0435\n"
+            + "\\cyrchar\\cyrerev\t\u044D\n"
+            + "\\cyrchar\\cyrery\t\u044B\n"
+            + "\\cyrchar\\cyrf\t\u0444\n"
+            + "\\cyrchar\\cyrg\t\u0433\n"
+            + "\\cyrchar\\cyrghcrs\t\u0493\n"
+            + "\\cyrchar\\cyrghk\t\u0495\n"
+            + "\\cyrchar\\cyrgup\t\u0491\n"
+            + "\\cyrchar\\cyrh\t\u0445\n"
+            + "\\cyrchar\\cyrhdsc\t\u04B3\n"
+            + "\\cyrchar\\cyrhrdsn\t\u044A\n"
+            + "\\cyrchar\\cyrhundredthousands\t\u0488\n"
+            + "\\cyrchar\\cyri\t\u0438\n"
+            + "\\cyrchar\\cyrie\t\u0454\n"
+            + "\\cyrchar\\cyrii\t\u0456\n"
+            + "\\cyrchar\\cyriotbyus\t\u046D\n"
+            + "\\cyrchar\\cyriote\t\u0465\n"
+            + "\\cyrchar\\cyriotlyus\t\u0469\n"
+            + "\\cyrchar\\cyrishrt\t\u0439\n"
+            + "\\cyrchar\\cyrje\t\u0458\n"
+            + "\\cyrchar\\cyrk\t\u043A\n"
+            + "\\cyrchar\\cyrkbeak\t\u04A1\n"
+            + "\\cyrchar\\cyrkdsc\t\u049B\n"
+            + "\\cyrchar\\cyrkhcrs\t\u049F\n"
+            + "\\cyrchar\\cyrkhk\t\u04C4\n"
+            + "\\cyrchar\\cyrkoppa\t\u0481\n"
+            + "\\cyrchar\\cyrksi\t\u046F\n"
+            + "\\cyrchar\\cyrkvcrs\t\u049D\n"
+            + "\\cyrchar\\cyrl\t\u043B\n"
+            + "\\cyrchar\\cyrlje\t\u0459\n"
+            + "\\cyrchar\\cyrlyus\t\u0467\n"
+            + "\\cyrchar\\cyrm\t\u043C\n"
+            + "\\cyrchar\\cyrmillions\t\u0489\n"
+            + "\\cyrchar\\cyrn\t\u043D\n"
+            + "\\cyrchar\\cyrndsc\t\u04A3\n"
+            + "\\cyrchar\\cyrng\t\u04A5\n"
+            + "\\cyrchar\\cyrnhk\t\u04C8\n"
+            + "\\cyrchar\\cyrnje\t\u045A\n"
+            + "\\cyrchar\\cyro\t\u043E\n"
+            + "\\cyrchar\\cyromega\t\u0461\n"
+            + "\\cyrchar\\cyromegarnd\t\u047B\n"
+            + "\\cyrchar\\cyromegatitlo\t\u047D\n"
+            + "\\cyrchar\\cyrot\t\u047F\n"
+            + "\\cyrchar\\cyrotld\t\u04E9\n"
+            + "\\cyrchar\\cyrp\t\u043F\n"
+            + "\\cyrchar\\cyrphk\t\u04A7\n"
+            + "\\cyrchar\\cyrpsi\t\u0471\n"
+            + "\\cyrchar\\cyrr\t\u0440\n"
+            + "\\cyrchar\\cyrrtick\t\u048F\n"
+            + "\\cyrchar\\cyrs\t\u0441\n"
+            + "\\cyrchar\\cyrschwa\t\u04D9\n"
+            + "\\cyrchar\\cyrsdsc\t\u04AB\n"
+            + "\\cyrchar\\cyrsemisftsn\t\u048D\n"
+            + "\\cyrchar\\cyrsftsn\t\u044C\n"
+            + "\\cyrchar\\cyrsh\t\u0448\n"
+            + "\\cyrchar\\cyrshch\t\u0449\n"
+            + "\\cyrchar\\cyrshha\t\u04BB\n"
+            + "\\cyrchar\\cyrt\t\u0442\n"
+            + "\\cyrchar\\cyrtdsc\t\u04AD\n"
+            + "\\cyrchar\\cyrtetse\t\u04B5\n"
+            + "\\cyrchar\\cyrthousands\t\u0482\n"
+            + "\\cyrchar\\cyrtshe\t\u045B\n"
+            + "\\cyrchar\\cyru\t\u0443\n"
+            + "\\cyrchar\\cyruk\t\u0479\n"
+            + "\\cyrchar\\cyrushrt\t\u045E\n"
+            + "\\cyrchar\\cyrv\t\u0432\n"
+            + "\\cyrchar\\cyry\t\u04AF\n"
+            + "\\cyrchar\\cyrya\t\u044F\n"
+            + "\\cyrchar\\cyryhcrs\t\u04B1\n"
+            + "\\cyrchar\\cyryi\t\u0457\n"
+            + "\\cyrchar\\cyryo\t\u0451\n"
+            + "\\cyrchar\\cyryu\t\u044E\n"
+            + "\\cyrchar\\cyrz\t\u0437\n"
+            + "\\cyrchar\\cyrzdsc\t\u0499\n"
+            + "\\cyrchar\\cyrzh\t\u0436\n"
+            + "\\cyrchar\\cyrzhdsc\t\u0497\n"
+            + "\\cyrchar\\textnumero\t\u2116\n"
+            + "\\cyrchar{\\'\\CYRG}\t\u0403\n"
+            + "\\cyrchar{\\'\\CYRK}\t\u040C\n"
+            + "\\cyrchar{\\'\\cyrg}\t\u0453\n"
+            + "\\cyrchar{\\'\\cyrk}\t\u045C\n"
+            + "\\c{C}\t\u00C7\n"
+            + "\\c{G}\t\u0122\n"
+            + "\\c{K}\t\u0136\n"
+            + "\\c{L}\t\u013B\n"
+            + "\\c{N}\t\u0145\n"
+            + "\\c{R}\t\u0156\n"
+            + "\\c{S}\t\u015E\n"
+            + "\\c{T}\t\u0162\n"
+            + "\\c{c}\t\u00E7\n"
+            + "\\c{g}\t\u0123\n"
+            + "\\c{k}\t\u0137\n"
+            + "\\c{l}\t\u013C\n"
+            + "\\c{n}\t\u0146\n"
+            + "\\c{r}\t\u0157\n"
+            + "\\c{s}\t\u015F\n"
+            + "\\c{t}\t\u0163\n"
+            + "\\c{}\t\u00B8\n"
+            + "\\daleth\t\u2138\n"
+            + "\\dashv\t\u22A3\n"
+            + "\\dblarrowupdown\t\u21C5\n"
+            + "\\ddddot\t\u20DC\n"
+            + "\\dddot\t\u20DB\n"
+            + "\\ddot{\\iota}\t\u03CA\n"
+            + "\\ddot{\\upsilon}\t\u03CB\n"
+            + "\\delta\t\u03B4\n"
+            + "\\dh\t\u00F0\n"
+            + "\\diagup\t\u2571\n"
+            + "\\diamond\t\u22C4\n"
+            + "\\digamma\t\u03DD\n"
+            + "\\ding{100}\t\u2744\n"
+            + "\\ding{101}\t\u2745\n"
+            + "\\ding{102}\t\u2746\n"
+            + "\\ding{103}\t\u2747\n"
+            + "\\ding{104}\t\u2748\n"
+            + "\\ding{105}\t\u2749\n"
+            + "\\ding{106}\t\u274A\n"
+            + "\\ding{107}\t\u274B\n"
+            + "\\ding{108}\t\u25CF\n"
+            + "\\ding{109}\t\u274D\n"
+            + "\\ding{110}\t\u25A0\n"
+            + "\\ding{111}\t\u274F\n"
+            + "\\ding{112}\t\u2750\n"
+            + "\\ding{113}\t\u2751\n"
+            + "\\ding{114}\t\u2752\n"
+            + "\\ding{115}\t\u25B2\n"
+            + "\\ding{116}\t\u25BC\n"
+            + "\\ding{117}\t\u25C6\n"
+            + "\\ding{118}\t\u2756\n"
+            + "\\ding{119}\t\u25D7\n"
+            + "\\ding{120}\t\u2758\n"
+            + "\\ding{121}\t\u2759\n"
+            + "\\ding{122}\t\u275A\n"
+            + "\\ding{123}\t\u275B\n"
+            + "\\ding{124}\t\u275C\n"
+            + "\\ding{125}\t\u275D\n"
+            + "\\ding{126}\t\u275E\n"
+            + "\\ding{161}\t\u2761\n"
+            + "\\ding{162}\t\u2762\n"
+            + "\\ding{163}\t\u2763\n"
+            + "\\ding{164}\t\u2764\n"
+            + "\\ding{165}\t\u2765\n"
+            + "\\ding{166}\t\u2766\n"
+            + "\\ding{167}\t\u2767\n"
+            + "\\ding{168}\t\u2663\n"
+            + "\\ding{169}\t\u2666\n"
+            + "\\ding{170}\t\u2665\n"
+            + "\\ding{171}\t\u2660\n"
+            + "\\ding{172}\t\u2460\n"
+            + "\\ding{173}\t\u2461\n"
+            + "\\ding{174}\t\u2462\n"
+            + "\\ding{175}\t\u2463\n"
+            + "\\ding{176}\t\u2464\n"
+            + "\\ding{177}\t\u2465\n"
+            + "\\ding{178}\t\u2466\n"
+            + "\\ding{179}\t\u2467\n"
+            + "\\ding{180}\t\u2468\n"
+            + "\\ding{181}\t\u2469\n"
+            + "\\ding{182}\t\u2776\n"
+            + "\\ding{183}\t\u2777\n"
+            + "\\ding{184}\t\u2778\n"
+            + "\\ding{185}\t\u2779\n"
+            + "\\ding{186}\t\u277A\n"
+            + "\\ding{187}\t\u277B\n"
+            + "\\ding{188}\t\u277C\n"
+            + "\\ding{189}\t\u277D\n"
+            + "\\ding{190}\t\u277E\n"
+            + "\\ding{191}\t\u277F\n"
+            + "\\ding{192}\t\u2780\n"
+            + "\\ding{193}\t\u2781\n"
+            + "\\ding{194}\t\u2782\n"
+            + "\\ding{195}\t\u2783\n"
+            + "\\ding{196}\t\u2784\n"
+            + "\\ding{197}\t\u2785\n"
+            + "\\ding{198}\t\u2786\n"
+            + "\\ding{199}\t\u2787\n"
+            + "\\ding{200}\t\u2788\n"
+            + "\\ding{201}\t\u2789\n"
+            + "\\ding{202}\t\u278A\n"
+            + "\\ding{203}\t\u278B\n"
+            + "\\ding{204}\t\u278C\n"
+            + "\\ding{205}\t\u278D\n"
+            + "\\ding{206}\t\u278E\n"
+            + "\\ding{207}\t\u278F\n"
+            + "\\ding{208}\t\u2790\n"
+            + "\\ding{209}\t\u2791\n"
+            + "\\ding{210}\t\u2792\n"
+            + "\\ding{211}\t\u2793\n"
+            + "\\ding{212}\t\u2794\n"
+            + "\\ding{216}\t\u2798\n"
+            + "\\ding{217}\t\u2799\n"
+            + "\\ding{218}\t\u279A\n"
+            + "\\ding{219}\t\u279B\n"
+            + "\\ding{220}\t\u279C\n"
+            + "\\ding{221}\t\u279D\n"
+            + "\\ding{222}\t\u279E\n"
+            + "\\ding{223}\t\u279F\n"
+            + "\\ding{224}\t\u27A0\n"
+            + "\\ding{225}\t\u27A1\n"
+            + "\\ding{226}\t\u27A2\n"
+            + "\\ding{227}\t\u27A3\n"
+            + "\\ding{228}\t\u27A4\n"
+            + "\\ding{229}\t\u27A5\n"
+            + "\\ding{230}\t\u27A6\n"
+            + "\\ding{231}\t\u27A7\n"
+            + "\\ding{232}\t\u27A8\n"
+            + "\\ding{233}\t\u27A9\n"
+            + "\\ding{234}\t\u27AA\n"
+            + "\\ding{235}\t\u27AB\n"
+            + "\\ding{236}\t\u27AC\n"
+            + "\\ding{237}\t\u27AD\n"
+            + "\\ding{238}\t\u27AE\n"
+            + "\\ding{239}\t\u27AF\n"
+            + "\\ding{241}\t\u27B1\n"
+            + "\\ding{242}\t\u27B2\n"
+            + "\\ding{243}\t\u27B3\n"
+            + "\\ding{244}\t\u27B4\n"
+            + "\\ding{245}\t\u27B5\n"
+            + "\\ding{246}\t\u27B6\n"
+            + "\\ding{247}\t\u27B7\n"
+            + "\\ding{248}\t\u27B8\n"
+            + "\\ding{249}\t\u27B9\n"
+            + "\\ding{250}\t\u27BA\n"
+            + "\\ding{251}\t\u27BB\n"
+            + "\\ding{252}\t\u27BC\n"
+            + "\\ding{253}\t\u27BD\n"
+            + "\\ding{254}\t\u27BE\n"
+            + "\\ding{33}\t\u2701\n"
+            + "\\ding{34}\t\u2702\n"
+            + "\\ding{35}\t\u2703\n"
+            + "\\ding{36}\t\u2704\n"
+            + "\\ding{37}\t\u260E\n"
+            + "\\ding{38}\t\u2706\n"
+            + "\\ding{39}\t\u2707\n"
+            + "\\ding{40}\t\u2708\n"
+            + "\\ding{41}\t\u2709\n"
+            + "\\ding{42}\t\u261B\n"
+            + "\\ding{43}\t\u261E\n"
+            + "\\ding{44}\t\u270C\n"
+            + "\\ding{45}\t\u270D\n"
+            + "\\ding{46}\t\u270E\n"
+            + "\\ding{47}\t\u270F\n"
+            + "\\ding{48}\t\u2710\n"
+            + "\\ding{49}\t\u2711\n"
+            + "\\ding{50}\t\u2712\n"
+            + "\\ding{51}\t\u2713\n"
+            + "\\ding{52}\t\u2714\n"
+            + "\\ding{53}\t\u2715\n"
+            + "\\ding{54}\t\u2716\n"
+            + "\\ding{55}\t\u2717\n"
+            + "\\ding{56}\t\u2718\n"
+            + "\\ding{57}\t\u2719\n"
+            + "\\ding{58}\t\u271A\n"
+            + "\\ding{59}\t\u271B\n"
+            + "\\ding{60}\t\u271C\n"
+            + "\\ding{61}\t\u271D\n"
+            + "\\ding{62}\t\u271E\n"
+            + "\\ding{63}\t\u271F\n"
+            + "\\ding{64}\t\u2720\n"
+            + "\\ding{65}\t\u2721\n"
+            + "\\ding{66}\t\u2722\n"
+            + "\\ding{67}\t\u2723\n"
+            + "\\ding{68}\t\u2724\n"
+            + "\\ding{69}\t\u2725\n"
+            + "\\ding{70}\t\u2726\n"
+            + "\\ding{71}\t\u2727\n"
+            + "\\ding{72}\t\u2605\n"
+            + "\\ding{73}\t\u2729\n"
+            + "\\ding{74}\t\u272A\n"
+            + "\\ding{75}\t\u272B\n"
+            + "\\ding{76}\t\u272C\n"
+            + "\\ding{77}\t\u272D\n"
+            + "\\ding{78}\t\u272E\n"
+            + "\\ding{79}\t\u272F\n"
+            + "\\ding{80}\t\u2730\n"
+            + "\\ding{81}\t\u2731\n"
+            + "\\ding{82}\t\u2732\n"
+            + "\\ding{83}\t\u2733\n"
+            + "\\ding{84}\t\u2734\n"
+            + "\\ding{85}\t\u2735\n"
+            + "\\ding{86}\t\u2736\n"
+            + "\\ding{87}\t\u2737\n"
+            + "\\ding{88}\t\u2738\n"
+            + "\\ding{89}\t\u2739\n"
+            + "\\ding{90}\t\u273A\n"
+            + "\\ding{91}\t\u273B\n"
+            + "\\ding{92}\t\u273C\n"
+            + "\\ding{93}\t\u273D\n"
+            + "\\ding{94}\t\u273E\n"
+            + "\\ding{95}\t\u273F\n"
+            + "\\ding{96}\t\u2740\n"
+            + "\\ding{97}\t\u2741\n"
+            + "\\ding{98}\t\u2742\n"
+            + "\\ding{99}\t\u2743\n"
+            + "\\div\t\u00F7\n"
+            + "\\divideontimes\t\u22C7\n"
+            + "\\dj\t\u0111\n"
+            + "\\doteq\t\u2250\n"
+            + "\\doteqdot\t\u2251\n"
+            + "\\dotplus\t\u2214\n"
+            + "\\downarrow\t\u2193\n"
+            + "\\downdownarrows\t\u21CA\n"
+            + "\\downharpoonleft\t\u21C3\n"
+            + "\\downharpoonright\t\u21C2\n"
+            + "\\downslopeellipsis\t\u22F1\n"
+            + "\\eighthnote\t\u266A\n"
+            + "\\ensuremath{\\Elzpes}\t\u20A7\n"
+            + "\\epsilon\t\u03B5\n"
+            + "\\eqcirc\t\u2256\n"
+            + "\\eqslantgtr\t\u2A96\n"
+            + "\\eqslantless\t\u2A95\n"
+            + "\\equiv\t\u2261\n"
+            + "\\estimates\t\u2259\n"
+            + "\\eta\t\u03B7\n"
+            + "\\eth\t\u01AA\n"
+            + "\\exists\t\u2203\n"
+            + "\\fallingdotseq\t\u2252\n"
+            + "\\fbox{~~}\t\u25AD\n"
+            + "\\flat\t\u266D\n"
+            + "\\forall\t\u2200\n"
+            + "\\forcesextra\t\u22A8\n"
+            + "\\frown\t\u2322\n"
+            + "\\gamma\t\u03B3\n"
+            + "\\gemini\t\u264A\n"
+            + "\\geq\t\u2265\n"
+            + "\\geqq\t\u2267\n"
+            + "\\geqslant\t\u2A7E\n"
+            + "\\gg\t\u226B\n"
+            + "\\gimel\t\u2137\n"
+            + "\\gnapprox\t\u2A8A\n"
+            + "\\gneq\t\u2A88\n"
+            + "\\gneqq\t\u2269\n"
+            + "\\gnsim\t\u22E7\n"
+            + "\\greaterequivlnt\t\u2273\n"
+            + "\\gtrapprox\t\u2A86\n"
+            + "\\gtrdot\t\u22D7\n"
+            + "\\gtreqless\t\u22DB\n"
+            + "\\gtreqqless\t\u2A8C\n"
+            + "\\gtrless\t\u2277\n"
+            + "\\guillemotleft\t\u00AB\n"
+            + "\\guillemotright\t\u00BB\n"
+            + "\\guilsinglleft\t\u2039\n"
+            + "\\guilsinglright\t\u203A\n"
+            //"\\gvertneqq":"U+2269-0FE00",
+            + "\\hermitconjmatrix\t\u22B9\n"
+            + "\\homothetic\t\u223B\n"
+            + "\\hookleftarrow\t\u21A9\n"
+            + "\\hookrightarrow\t\u21AA\n"
+            + "\\hphantom{,}\t\u2008\n"
+            + "\\hphantom{0}\t\u2007\n"
+            + "\\hslash\t\u210F\n"
+            + "\\hspace{0.166em}\t\u2006\n"
+            + "\\hspace{0.167em}\t\u2009\n"
+            + "\\hspace{0.25em}\t\u2005\n"
+            + "\\hspace{0.33em}\t\u2004\n"
+            + "\\hspace{0.6em}\t\u2002\n"
+            + "\\hspace{1em}\t\u2003\n"
+            + "\\i\t\u0131\n"
+            + "\\image\t\u22B7\n"
+            + "\\in\t\uD750\n"
+            + "\\in\t\u2208\n"
+            + "\\infty\t\u221E\n"
+            + "\\int\t\u222B\n"
+            + "\\int\\!\\int\t\u222C\n"
+            + "\\int\\!\\int\\!\\int\t\u222D\n"
+            + "\\intercal\t\u22BA\n"
+            + "\\iota\t\u03B9\n"
+            + "\\jupiter\t\u2643\n"
+            + "\\k\t\u0328\n"
+            + "\\kappa\t\u03BA\n"
+            + "\\k{A}\t\u0104\n"
+            + "\\k{E}\t\u0118\n"
+            + "\\k{I}\t\u012E\n"
+            + "\\k{U}\t\u0172\n"
+            + "\\k{a}\t\u0105\n"
+            + "\\k{e}\t\u0119\n"
+            + "\\k{i}\t\u012F\n"
+            + "\\k{u}\t\u0173\n"
+            + "\\k{}\t\u02DB\n"
+            + "\\l\t\u0142\n"
+            + "\\lambda\t\u03BB\n"
+            + "\\langle\t\u2329\n"
+            + "\\lazysinv\t\u223E\n"
+            + "\\lbrace\t\u007B\n"
+            + "\\lceil\t\u2308\n"
+            + "\\ldots\t\u2026\n"
+            + "\\leftarrow\t\u2190\n"
+            + "\\leftarrowtail\t\u21A2\n"
+            + "\\leftharpoondown\t\u21BD\n"
+            + "\\leftharpoonup\t\u21BC\n"
+            + "\\leftleftarrows\t\u21C7\n"
+            + "\\leftrightarrow\t\u2194\n"
+            + "\\leftrightarrows\t\u21C6\n"
+            + "\\leftrightharpoons\t\u21CB\n"
+            + "\\leftrightsquigarrow\t\u21AD\n"
+            + "\\leftthreetimes\t\u22CB\n"
+            + "\\leo\t\u264C\n"
+            + "\\leq\t\u2264\n"
+            + "\\leqq\t\u2266\n"
+            + "\\leqslant\t\u2A7D\n"
+            + "\\lessapprox\t\u2A85\n"
+            + "\\lessdot\t\u22D6\n"
+            + "\\lesseqgtr\t\u22DA\n"
+            + "\\lesseqqgtr\t\u2A8B\n"
+            + "\\lessequivlnt\t\u2272\n"
+            + "\\lessgtr\t\u2276\n"
+            + "\\lfloor\t\u230A\n"
+            + "\\libra\t\u264E\n"
+            + "\\ll\t\u226A\n"
+            + "\\llcorner\t\u231E\n"
+            + "\\lmoustache\t\u23B0\n"
+            + "\\lnapprox\t\u2A89\n"
+            + "\\lneq\t\u2A87\n"
+            + "\\lneqq\t\u2268\n"
+            + "\\lnot\t\u00AC\n"
+            + "\\lnsim\t\u22E6\n"
+            + "\\longleftarrow\t\u27F5\n"
+            + "\\longleftrightarrow\t\u27F7\n"
+            + "\\longmapsto\t\u27FC\n"
+            + "\\longrightarrow\t\u27F6\n"
+            + "\\looparrowleft\t\u21AB\n"
+            + "\\looparrowright\t\u21AC\n"
+            + "\\lozenge\t\u25CA\n"
+            + "\\lrcorner\t\u231F\n"
+            + "\\ltimes\t\u22C9\n"
+            //"\\lvertneqq":"U+2268-0FE00",
+            + "\\male\t\u2642\n"
+            + "\\mapsto\t\u21A6\n"
+            + "\\mathbb{0}\t\uD7D8\n"
+            + "\\mathbb{1}\t\uD7D9\n"
+            + "\\mathbb{2}\t\uD7DA\n"
+            + "\\mathbb{3}\t\uD7DB\n"
+            + "\\mathbb{4}\t\uD7DC\n"
+            + "\\mathbb{5}\t\uD7DD\n"
+            + "\\mathbb{6}\t\uD7DE\n"
+            + "\\mathbb{7}\t\uD7DF\n"
+            + "\\mathbb{8}\t\uD7E0\n"
+            + "\\mathbb{9}\t\uD7E1\n"
+            + "\\mathbb{A}\t\uD538\n"
+            + "\\mathbb{B}\t\uD539\n"
+            + "\\mathbb{C}\t\u2102\n"
+            + "\\mathbb{D}\t\uD53B\n"
+            + "\\mathbb{E}\t\uD53C\n"
+            + "\\mathbb{F}\t\uD53D\n"
+            + "\\mathbb{G}\t\uD53E\n"
+            + "\\mathbb{H}\t\u210D\n"
+            + "\\mathbb{I}\t\uD540\n"
+            + "\\mathbb{J}\t\uD541\n"
+            + "\\mathbb{K}\t\uD542\n"
+            + "\\mathbb{L}\t\uD543\n"
+            + "\\mathbb{M}\t\uD544\n"
+            + "\\mathbb{N}\t\u2115\n"
+            + "\\mathbb{O}\t\uD546\n"
+            + "\\mathbb{P}\t\u2119\n"
+            + "\\mathbb{Q}\t\u211A\n"
+            + "\\mathbb{R}\t\u211D\n"
+            + "\\mathbb{S}\t\uD54A\n"
+            + "\\mathbb{T}\t\uD54B\n"
+            + "\\mathbb{U}\t\uD54C\n"
+            + "\\mathbb{V}\t\uD54D\n"
+            + "\\mathbb{W}\t\uD54E\n"
+            + "\\mathbb{X}\t\uD54F\n"
+            + "\\mathbb{Y}\t\uD550\n"
+            + "\\mathbb{Z}\t\u2124\n"
+            + "\\mathbb{a}\t\uD552\n"
+            + "\\mathbb{b}\t\uD553\n"
+            + "\\mathbb{c}\t\uD554\n"
+            + "\\mathbb{d}\t\uD555\n"
+            + "\\mathbb{e}\t\uD556\n"
+            + "\\mathbb{f}\t\uD557\n"
+            + "\\mathbb{g}\t\uD558\n"
+            + "\\mathbb{h}\t\uD559\n"
+            + "\\mathbb{i}\t\uD55A\n"
+            + "\\mathbb{j}\t\uD55B\n"
+            + "\\mathbb{k}\t\uD55C\n"
+            + "\\mathbb{l}\t\uD55D\n"
+            + "\\mathbb{m}\t\uD55E\n"
+            + "\\mathbb{n}\t\uD55F\n"
+            + "\\mathbb{o}\t\uD560\n"
+            + "\\mathbb{p}\t\uD561\n"
+            + "\\mathbb{q}\t\uD562\n"
+            + "\\mathbb{r}\t\uD563\n"
+            + "\\mathbb{s}\t\uD564\n"
+            + "\\mathbb{t}\t\uD565\n"
+            + "\\mathbb{u}\t\uD566\n"
+            + "\\mathbb{v}\t\uD567\n"
+            + "\\mathbb{w}\t\uD568\n"
+            + "\\mathbb{x}\t\uD569\n"
+            + "\\mathbb{y}\t\uD56A\n"
+            + "\\mathbb{z}\t\uD56B\n"
+            + "\\mathbf{0}\t\uD7CE\n"
+            + "\\mathbf{1}\t\uD7CF\n"
+            + "\\mathbf{2}\t\uD7D0\n"
+            + "\\mathbf{3}\t\uD7D1\n"
+            + "\\mathbf{4}\t\uD7D2\n"
+            + "\\mathbf{5}\t\uD7D3\n"
+            + "\\mathbf{6}\t\uD7D4\n"
+            + "\\mathbf{7}\t\uD7D5\n"
+            + "\\mathbf{8}\t\uD7D6\n"
+            + "\\mathbf{9}\t\uD7D7\n"
+            + "\\mathbf{A}\t\uD400\n"
+            + "\\mathbf{B}\t\uD401\n"
+            + "\\mathbf{C}\t\uD402\n"
+            + "\\mathbf{D}\t\uD403\n"
+            + "\\mathbf{E}\t\uD404\n"
+            + "\\mathbf{F}\t\uD405\n"
+            + "\\mathbf{G}\t\uD406\n"
+            + "\\mathbf{H}\t\uD407\n"
+            + "\\mathbf{I}\t\uD408\n"
+            + "\\mathbf{J}\t\uD409\n"
+            + "\\mathbf{K}\t\uD40A\n"
+            + "\\mathbf{L}\t\uD40B\n"
+            + "\\mathbf{M}\t\uD40C\n"
+            + "\\mathbf{N}\t\uD40D\n"
+            + "\\mathbf{O}\t\uD40E\n"
+            + "\\mathbf{P}\t\uD40F\n"
+            + "\\mathbf{Q}\t\uD410\n"
+            + "\\mathbf{R}\t\uD411\n"
+            + "\\mathbf{S}\t\uD412\n"
+            + "\\mathbf{T}\t\uD413\n"
+            + "\\mathbf{U}\t\uD414\n"
+            + "\\mathbf{V}\t\uD415\n"
+            + "\\mathbf{W}\t\uD416\n"
+            + "\\mathbf{X}\t\uD417\n"
+            + "\\mathbf{Y}\t\uD418\n"
+            + "\\mathbf{Z}\t\uD419\n"
+            + "\\mathbf{\\Alpha}\t\uD6C2\n"
+            + "\\mathbf{\\Beta}\t\uD6C3\n"
+            + "\\mathbf{\\Chi}\t\uD6D8\n"
+            + "\\mathbf{\\Delta}\t\uD6AB\n"
+            + "\\mathbf{\\Epsilon}\t\uD6AC\n"
+            + "\\mathbf{\\Eta}\t\uD6AE\n"
+            + "\\mathbf{\\Gamma}\t\uD6AA\n"
+            + "\\mathbf{\\Iota}\t\uD6CA\n"
+            + "\\mathbf{\\Kappa}\t\uD6CB\n"
+            + "\\mathbf{\\Lambda}\t\uD6CC\n"
+            + "\\mathbf{\\Omega}\t\uD6DA\n"
+            + "\\mathbf{\\Phi}\t\uD6D7\n"
+            + "\\mathbf{\\Pi}\t\uD6D1\n"
+            + "\\mathbf{\\Psi}\t\uD6D9\n"
+            + "\\mathbf{\\Rho}\t\uD6D2\n"
+            + "\\mathbf{\\Sigma}\t\uD6BA\n"
+            + "\\mathbf{\\Tau}\t\uD6D5\n"
+            + "\\mathbf{\\Theta}\t\uD6AF\n"
+            + "\\mathbf{\\Upsilon}\t\uD6D6\n"
+            + "\\mathbf{\\Xi}\t\uD6B5\n"
+            + "\\mathbf{\\Zeta}\t\uD6AD\n"
+            + "\\mathbf{\\nabla}\t\uD6C1\n"
+            + "\\mathbf{\\phi}\t\uD6DF\n"
+            + "\\mathbf{\\theta}\t\uD6C9\n"
+            + "\\mathbf{\\varkappa}\t\uD6DE\n"
+            + "\\mathbf{\\varpi}\t\uD6E1\n"
+            + "\\mathbf{\\varrho}\t\uD6E0\n"
+            + "\\mathbf{\\varsigma}\t\uD6D3\n"
+            + "\\mathbf{\\vartheta}\t\uD6DD\n"
+            + "\\mathbf{a}\t\uD41A\n"
+            + "\\mathbf{b}\t\uD41B\n"
+            + "\\mathbf{c}\t\uD41C\n"
+            + "\\mathbf{d}\t\uD41D\n"
+            + "\\mathbf{e}\t\uD41E\n"
+            + "\\mathbf{f}\t\uD41F\n"
+            + "\\mathbf{g}\t\uD420\n"
+            + "\\mathbf{h}\t\uD421\n"
+            + "\\mathbf{i}\t\uD422\n"
+            + "\\mathbf{j}\t\uD423\n"
+            + "\\mathbf{k}\t\uD424\n"
+            + "\\mathbf{l}\t\uD425\n"
+            + "\\mathbf{m}\t\uD426\n"
+            + "\\mathbf{n}\t\uD427\n"
+            + "\\mathbf{o}\t\uD428\n"
+            + "\\mathbf{p}\t\uD429\n"
+            + "\\mathbf{q}\t\uD42A\n"
+            + "\\mathbf{r}\t\uD42B\n"
+            + "\\mathbf{s}\t\uD42C\n"
+            + "\\mathbf{t}\t\uD42D\n"
+            + "\\mathbf{u}\t\uD42E\n"
+            + "\\mathbf{v}\t\uD42F\n"
+            + "\\mathbf{w}\t\uD430\n"
+            + "\\mathbf{x}\t\uD431\n"
+            + "\\mathbf{y}\t\uD432\n"
+            + "\\mathbf{z}\t\uD433\n"
+            + "\\mathbin{{:}\\!\\!{-}\\!\\!{:}}\t\u223A\n"
+            + "\\mathbit{A}\t\uD468\n"
+            + "\\mathbit{B}\t\uD469\n"
+            + "\\mathbit{C}\t\uD46A\n"
+            + "\\mathbit{D}\t\uD46B\n"
+            + "\\mathbit{E}\t\uD46C\n"
+            + "\\mathbit{F}\t\uD46D\n"
+            + "\\mathbit{G}\t\uD46E\n"
+            + "\\mathbit{H}\t\uD46F\n"
+            + "\\mathbit{I}\t\uD470\n"
+            + "\\mathbit{J}\t\uD471\n"
+            + "\\mathbit{K}\t\uD472\n"
+            + "\\mathbit{L}\t\uD473\n"
+            + "\\mathbit{M}\t\uD474\n"
+            + "\\mathbit{N}\t\uD475\n"
+            + "\\mathbit{O}\t\uD72D\n"
+            + "\\mathbit{P}\t\uD477\n"
+            + "\\mathbit{Q}\t\uD478\n"
+            + "\\mathbit{R}\t\uD479\n"
+            + "\\mathbit{S}\t\uD47A\n"
+            + "\\mathbit{T}\t\uD47B\n"
+            + "\\mathbit{U}\t\uD47C\n"
+            + "\\mathbit{V}\t\uD47D\n"
+            + "\\mathbit{W}\t\uD47E\n"
+            + "\\mathbit{X}\t\uD47F\n"
+            + "\\mathbit{Y}\t\uD480\n"
+            + "\\mathbit{Z}\t\uD481\n"
+            + "\\mathbit{\\Alpha}\t\uD736\n"
+            + "\\mathbit{\\Beta}\t\uD71D\n"
+            + "\\mathbit{\\Chi}\t\uD74C\n"
+            + "\\mathbit{\\Delta}\t\uD739\n"
+            + "\\mathbit{\\Epsilon}\t\uD720\n"
+            + "\\mathbit{\\Eta}\t\uD722\n"
+            + "\\mathbit{\\Gamma}\t\uD738\n"
+            + "\\mathbit{\\Iota}\t\uD73E\n"
+            + "\\mathbit{\\Kappa}\t\uD725\n"
+            + "\\mathbit{\\Lambda}\t\uD726\n"
+            + "\\mathbit{\\Omega}\t\uD74E\n"
+            + "\\mathbit{\\Phi}\t\uD74B\n"
+            + "\\mathbit{\\Pi}\t\uD745\n"
+            + "\\mathbit{\\Psi}\t\uD74D\n"
+            + "\\mathbit{\\Rho}\t\uD72C\n"
+            + "\\mathbit{\\Sigma}\t\uD748\n"
+            + "\\mathbit{\\Tau}\t\uD749\n"
+            + "\\mathbit{\\Theta}\t\uD723\n"
+            + "\\mathbit{\\Upsilon}\t\uD74A\n"
+            + "\\mathbit{\\Xi}\t\uD729\n"
+            + "\\mathbit{\\Zeta}\t\uD721\n"
+            + "\\mathbit{\\nabla}\t\uD735\n"
+            + "\\mathbit{\\phi}\t\uD753\n"
+            + "\\mathbit{\\varkappa}\t\uD752\n"
+            + "\\mathbit{\\varpi}\t\uD755\n"
+            + "\\mathbit{\\varrho}\t\uD754\n"
+            + "\\mathbit{\\varsigma}\t\uD747\n"
+            + "\\mathbit{\\vartheta}\t\uD751\n"
+            + "\\mathbit{a}\t\uD482\n"
+            + "\\mathbit{b}\t\uD483\n"
+            + "\\mathbit{c}\t\uD484\n"
+            + "\\mathbit{d}\t\uD485\n"
+            + "\\mathbit{e}\t\uD486\n"
+            + "\\mathbit{f}\t\uD487\n"
+            + "\\mathbit{g}\t\uD488\n"
+            + "\\mathbit{h}\t\uD489\n"
+            + "\\mathbit{i}\t\uD48A\n"
+            + "\\mathbit{j}\t\uD48B\n"
+            + "\\mathbit{k}\t\uD48C\n"
+            + "\\mathbit{l}\t\uD48D\n"
+            + "\\mathbit{m}\t\uD48E\n"
+            + "\\mathbit{n}\t\uD48F\n"
+            + "\\mathbit{o}\t\uD490\n"
+            + "\\mathbit{p}\t\uD491\n"
+            + "\\mathbit{q}\t\uD492\n"
+            + "\\mathbit{r}\t\uD493\n"
+            + "\\mathbit{s}\t\uD494\n"
+            + "\\mathbit{t}\t\uD495\n"
+            + "\\mathbit{u}\t\uD496\n"
+            + "\\mathbit{v}\t\uD497\n"
+            + "\\mathbit{w}\t\uD498\n"
+            + "\\mathbit{x}\t\uD499\n"
+            + "\\mathbit{y}\t\uD49A\n"
+            + "\\mathbit{z}\t\uD49B\n"
+            + "\\mathfrak{A}\t\uD504\n"
+            + "\\mathfrak{B}\t\uD505\n"
+            + "\\mathfrak{C}\t\u212D\n"
+            + "\\mathfrak{D}\t\uD507\n"
+            + "\\mathfrak{E}\t\uD508\n"
+            + "\\mathfrak{F}\t\uD509\n"
+            + "\\mathfrak{G}\t\uD50A\n"
+            + "\\mathfrak{H}\t\u210C\n"
+            + "\\mathfrak{I}\t\u2111\n"
+            + "\\mathfrak{J}\t\uD50D\n"
+            + "\\mathfrak{K}\t\uD50E\n"
+            + "\\mathfrak{L}\t\uD50F\n"
+            + "\\mathfrak{M}\t\uD510\n"
+            + "\\mathfrak{N}\t\uD511\n"
+            + "\\mathfrak{O}\t\uD512\n"
+            + "\\mathfrak{P}\t\uD513\n"
+            + "\\mathfrak{Q}\t\uD514\n"
+            + "\\mathfrak{R}\t\u211C\n"
+            + "\\mathfrak{S}\t\uD516\n"
+            + "\\mathfrak{T}\t\uD517\n"
+            + "\\mathfrak{U}\t\uD518\n"
+            + "\\mathfrak{V}\t\uD519\n"
+            + "\\mathfrak{W}\t\uD51A\n"
+            + "\\mathfrak{X}\t\uD51B\n"
+            + "\\mathfrak{Y}\t\uD51C\n"
+            + "\\mathfrak{Z}\t\u2128\n"
+            + "\\mathfrak{a}\t\uD51E\n"
+            + "\\mathfrak{b}\t\uD51F\n"
+            + "\\mathfrak{c}\t\uD520\n"
+            + "\\mathfrak{d}\t\uD521\n"
+            + "\\mathfrak{e}\t\uD522\n"
+            + "\\mathfrak{f}\t\uD523\n"
+            + "\\mathfrak{g}\t\uD524\n"
+            + "\\mathfrak{h}\t\uD525\n"
+            + "\\mathfrak{i}\t\uD526\n"
+            + "\\mathfrak{j}\t\uD527\n"
+            + "\\mathfrak{k}\t\uD528\n"
+            + "\\mathfrak{l}\t\uD529\n"
+            + "\\mathfrak{m}\t\uD52A\n"
+            + "\\mathfrak{n}\t\uD52B\n"
+            + "\\mathfrak{o}\t\uD52C\n"
+            + "\\mathfrak{p}\t\uD52D\n"
+            + "\\mathfrak{q}\t\uD52E\n"
+            + "\\mathfrak{r}\t\uD52F\n"
+            + "\\mathfrak{s}\t\uD530\n"
+            + "\\mathfrak{t}\t\uD531\n"
+            + "\\mathfrak{u}\t\uD532\n"
+            + "\\mathfrak{v}\t\uD533\n"
+            + "\\mathfrak{w}\t\uD534\n"
+            + "\\mathfrak{x}\t\uD535\n"
+            + "\\mathfrak{y}\t\uD536\n"
+            + "\\mathfrak{z}\t\uD537\n"
+            + "\\mathmit{A}\t\uD4D0\n"
+            + "\\mathmit{B}\t\uD4D1\n"
+            + "\\mathmit{C}\t\uD4D2\n"
+            + "\\mathmit{D}\t\uD4D3\n"
+            + "\\mathmit{E}\t\uD4D4\n"
+            + "\\mathmit{F}\t\uD4D5\n"
+            + "\\mathmit{G}\t\uD4D6\n"
+            + "\\mathmit{H}\t\uD4D7\n"
+            + "\\mathmit{I}\t\uD4D8\n"
+            + "\\mathmit{J}\t\uD4D9\n"
+            + "\\mathmit{K}\t\uD4DA\n"
+            + "\\mathmit{L}\t\uD4DB\n"
+            + "\\mathmit{M}\t\uD4DC\n"
+            + "\\mathmit{N}\t\uD4DD\n"
+            + "\\mathmit{O}\t\uD4DE\n"
+            + "\\mathmit{P}\t\uD4DF\n"
+            + "\\mathmit{Q}\t\uD4E0\n"
+            + "\\mathmit{R}\t\uD4E1\n"
+            + "\\mathmit{S}\t\uD4E2\n"
+            + "\\mathmit{T}\t\uD4E3\n"
+            + "\\mathmit{U}\t\uD4E4\n"
+            + "\\mathmit{V}\t\uD4E5\n"
+            + "\\mathmit{W}\t\uD4E6\n"
+            + "\\mathmit{X}\t\uD4E7\n"
+            + "\\mathmit{Y}\t\uD4E8\n"
+            + "\\mathmit{Z}\t\uD4E9\n"
+            + "\\mathmit{a}\t\uD4EA\n"
+            + "\\mathmit{b}\t\uD4EB\n"
+            + "\\mathmit{c}\t\uD4EC\n"
+            + "\\mathmit{d}\t\uD4ED\n"
+            + "\\mathmit{e}\t\uD4EE\n"
+            + "\\mathmit{f}\t\uD4EF\n"
+            + "\\mathmit{g}\t\uD4F0\n"
+            + "\\mathmit{h}\t\uD4F1\n"
+            + "\\mathmit{i}\t\uD4F2\n"
+            + "\\mathmit{j}\t\uD4F3\n"
+            + "\\mathmit{k}\t\uD4F4\n"
+            + "\\mathmit{l}\t\uD4F5\n"
+            + "\\mathmit{m}\t\uD4F6\n"
+            + "\\mathmit{n}\t\uD4F7\n"
+            + "\\mathmit{o}\t\uD4F8\n"
+            + "\\mathmit{p}\t\uD4F9\n"
+            + "\\mathmit{q}\t\uD4FA\n"
+            + "\\mathmit{r}\t\uD4FB\n"
+            + "\\mathmit{s}\t\uD4FC\n"
+            + "\\mathmit{t}\t\uD4FD\n"
+            + "\\mathmit{u}\t\uD4FE\n"
+            + "\\mathmit{v}\t\uD4FF\n"
+            + "\\mathmit{w}\t\uD500\n"
+            + "\\mathmit{x}\t\uD501\n"
+            + "\\mathmit{y}\t\uD502\n"
+            + "\\mathmit{z}\t\uD503\n"
+            + "\\mathrm{'Y}\t\u038E\n"
+            + "\\mathrm{'\\Omega}\t\u038F\n"
+            + "\\mathrm{\\ddot{I}}\t\u03AA\n"
+            + "\\mathrm{\\ddot{Y}}\t\u03AB\n"
+            + "\\mathrm{\\mu}\t\u00B5\n"
+            + "\\mathscr{A}\t\uD49C\n"
+            + "\\mathscr{B}\t\u212C\n"
+            + "\\mathscr{C}\t\uD49E\n"
+            + "\\mathscr{D}\t\uD49F\n"
+            + "\\mathscr{E}\t\u2130\n"
+            + "\\mathscr{F}\t\u2131\n"
+            + "\\mathscr{G}\t\uD4A2\n"
+            + "\\mathscr{H}\t\u210B\n"
+            + "\\mathscr{I}\t\u2110\n"
+            + "\\mathscr{J}\t\uD4A5\n"
+            + "\\mathscr{K}\t\uD4A6\n"
+            + "\\mathscr{L}\t\u2112\n"
+            + "\\mathscr{M}\t\u2133\n"
+            + "\\mathscr{N}\t\uD4A9\n"
+            + "\\mathscr{O}\t\uD4AA\n"
+            + "\\mathscr{P}\t\uD4AB\n"
+            + "\\mathscr{Q}\t\uD4AC\n"
+            + "\\mathscr{R}\t\u211B\n"
+            + "\\mathscr{S}\t\uD4AE\n"
+            + "\\mathscr{T}\t\uD4AF\n"
+            + "\\mathscr{U}\t\uD4B0\n"
+            + "\\mathscr{V}\t\uD4B1\n"
+            + "\\mathscr{W}\t\uD4B2\n"
+            + "\\mathscr{X}\t\uD4B3\n"
+            + "\\mathscr{Y}\t\uD4B4\n"
+            + "\\mathscr{Z}\t\uD4B5\n"
+            + "\\mathscr{a}\t\uD4B6\n"
+            + "\\mathscr{b}\t\uD4B7\n"
+            + "\\mathscr{c}\t\uD4B8\n"
+            + "\\mathscr{d}\t\uD4B9\n"
+            + "\\mathscr{e}\t\u212F\n"
+            + "\\mathscr{f}\t\uD4BB\n"
+            + "\\mathscr{g}\t\u210A\n"
+            + "\\mathscr{h}\t\uD4BD\n"
+            + "\\mathscr{i}\t\uD4BE\n"
+            + "\\mathscr{j}\t\uD4BF\n"
+            + "\\mathscr{k}\t\uD4C0\n"
+            + "\\mathscr{l}\t\uD4C1\n"
+            + "\\mathscr{m}\t\uD4C2\n"
+            + "\\mathscr{n}\t\uD4C3\n"
+            + "\\mathscr{o}\t\u2134\n"
+            + "\\mathscr{p}\t\uD4C5\n"
+            + "\\mathscr{q}\t\uD4C6\n"
+            + "\\mathscr{r}\t\uD4C7\n"
+            + "\\mathscr{s}\t\uD4C8\n"
+            + "\\mathscr{t}\t\uD4C9\n"
+            + "\\mathscr{u}\t\uD4CA\n"
+            + "\\mathscr{v}\t\uD4CB\n"
+            + "\\mathscr{w}\t\uD4CC\n"
+            + "\\mathscr{x}\t\uD4CD\n"
+            + "\\mathscr{y}\t\uD4CE\n"
+            + "\\mathscr{z}\t\uD4CF\n"
+            + "\\mathsfbfsl{A}\t\uD63C\n"
+            + "\\mathsfbfsl{B}\t\uD63D\n"
+            + "\\mathsfbfsl{C}\t\uD63E\n"
+            + "\\mathsfbfsl{D}\t\uD63F\n"
+            + "\\mathsfbfsl{E}\t\uD640\n"
+            + "\\mathsfbfsl{F}\t\uD641\n"
+            + "\\mathsfbfsl{G}\t\uD642\n"
+            + "\\mathsfbfsl{H}\t\uD643\n"
+            + "\\mathsfbfsl{I}\t\uD644\n"
+            + "\\mathsfbfsl{J}\t\uD645\n"
+            + "\\mathsfbfsl{K}\t\uD646\n"
+            + "\\mathsfbfsl{L}\t\uD647\n"
+            + "\\mathsfbfsl{M}\t\uD648\n"
+            + "\\mathsfbfsl{N}\t\uD649\n"
+            + "\\mathsfbfsl{O}\t\uD64A\n"
+            + "\\mathsfbfsl{P}\t\uD64B\n"
+            + "\\mathsfbfsl{Q}\t\uD64C\n"
+            + "\\mathsfbfsl{R}\t\uD64D\n"
+            + "\\mathsfbfsl{S}\t\uD64E\n"
+            + "\\mathsfbfsl{T}\t\uD64F\n"
+            + "\\mathsfbfsl{U}\t\uD650\n"
+            + "\\mathsfbfsl{V}\t\uD651\n"
+            + "\\mathsfbfsl{W}\t\uD652\n"
+            + "\\mathsfbfsl{X}\t\uD653\n"
+            + "\\mathsfbfsl{Y}\t\uD654\n"
+            + "\\mathsfbfsl{Z}\t\uD655\n"
+            + "\\mathsfbfsl{\\Alpha}\t\uD7AA\n"
+            + "\\mathsfbfsl{\\Beta}\t\uD7AB\n"
+            + "\\mathsfbfsl{\\Chi}\t\uD7A6\n"
+            + "\\mathsfbfsl{\\Delta}\t\uD793\n"
+            + "\\mathsfbfsl{\\Epsilon}\t\uD7AE\n"
+            + "\\mathsfbfsl{\\Eta}\t\uD796\n"
+            + "\\mathsfbfsl{\\Gamma}\t\uD7AC\n"
+            + "\\mathsfbfsl{\\Iota}\t\uD7B2\n"
+            + "\\mathsfbfsl{\\Kappa}\t\uD799\n"
+            + "\\mathsfbfsl{\\Lambda}\t\uD7B4\n"
+            + "\\mathsfbfsl{\\Omega}\t\uD7A8\n"
+            + "\\mathsfbfsl{\\Phi}\t\uD7A5\n"
+            + "\\mathsfbfsl{\\Pi}\t\uD7B9\n"
+            + "\\mathsfbfsl{\\Psi}\t\uD7C1\n"
+            + "\\mathsfbfsl{\\Rho}\t\uD7A0\n"
+            + "\\mathsfbfsl{\\Sigma}\t\uD7A2\n"
+            + "\\mathsfbfsl{\\Tau}\t\uD7A3\n"
+            + "\\mathsfbfsl{\\Upsilon}\t\uD7A4\n"
+            + "\\mathsfbfsl{\\Xi}\t\uD7B7\n"
+            + "\\mathsfbfsl{\\Zeta}\t\uD7AF\n"
+            + "\\mathsfbfsl{\\nabla}\t\uD7A9\n"
+            + "\\mathsfbfsl{\\phi}\t\uD7C7\n"
+            + "\\mathsfbfsl{\\varkappa}\t\uD7C6\n"
+            + "\\mathsfbfsl{\\varpi}\t\uD7C9\n"
+            + "\\mathsfbfsl{\\varrho}\t\uD7C8\n"
+            + "\\mathsfbfsl{\\varsigma}\t\uD7BB\n"
+            + "\\mathsfbfsl{\\vartheta}\t\uD7C5\n"
+            + "\\mathsfbfsl{a}\t\uD656\n"
+            + "\\mathsfbfsl{b}\t\uD657\n"
+            + "\\mathsfbfsl{c}\t\uD658\n"
+            + "\\mathsfbfsl{d}\t\uD659\n"
+            + "\\mathsfbfsl{e}\t\uD65A\n"
+            + "\\mathsfbfsl{f}\t\uD65B\n"
+            + "\\mathsfbfsl{g}\t\uD65C\n"
+            + "\\mathsfbfsl{h}\t\uD65D\n"
+            + "\\mathsfbfsl{i}\t\uD65E\n"
+            + "\\mathsfbfsl{j}\t\uD65F\n"
+            + "\\mathsfbfsl{k}\t\uD660\n"
+            + "\\mathsfbfsl{l}\t\uD661\n"
+            + "\\mathsfbfsl{m}\t\uD662\n"
+            + "\\mathsfbfsl{n}\t\uD663\n"
+            + "\\mathsfbfsl{o}\t\uD664\n"
+            + "\\mathsfbfsl{p}\t\uD665\n"
+            + "\\mathsfbfsl{q}\t\uD666\n"
+            + "\\mathsfbfsl{r}\t\uD667\n"
+            + "\\mathsfbfsl{s}\t\uD668\n"
+            + "\\mathsfbfsl{t}\t\uD669\n"
+            + "\\mathsfbfsl{u}\t\uD66A\n"
+            + "\\mathsfbfsl{v}\t\uD66B\n"
+            + "\\mathsfbfsl{w}\t\uD66C\n"
+            + "\\mathsfbfsl{x}\t\uD66D\n"
+            + "\\mathsfbfsl{y}\t\uD66E\n"
+            + "\\mathsfbfsl{z}\t\uD66F\n"
+            + "\\mathsfbf{0}\t\uD7EC\n"
+            + "\\mathsfbf{1}\t\uD7ED\n"
+            + "\\mathsfbf{2}\t\uD7EE\n"
+            + "\\mathsfbf{3}\t\uD7EF\n"
+            + "\\mathsfbf{4}\t\uD7F0\n"
+            + "\\mathsfbf{5}\t\uD7F1\n"
+            + "\\mathsfbf{6}\t\uD7F2\n"
+            + "\\mathsfbf{7}\t\uD7F3\n"
+            + "\\mathsfbf{8}\t\uD7F4\n"
+            + "\\mathsfbf{9}\t\uD7F5\n"
+            + "\\mathsfbf{A}\t\uD5D4\n"
+            + "\\mathsfbf{B}\t\uD5D5\n"
+            + "\\mathsfbf{C}\t\uD5D6\n"
+            + "\\mathsfbf{D}\t\uD5D7\n"
+            + "\\mathsfbf{E}\t\uD5D8\n"
+            + "\\mathsfbf{F}\t\uD5D9\n"
+            + "\\mathsfbf{G}\t\uD5DA\n"
+            + "\\mathsfbf{H}\t\uD5DB\n"
+            + "\\mathsfbf{I}\t\uD5DC\n"
+            + "\\mathsfbf{J}\t\uD5DD\n"
+            + "\\mathsfbf{K}\t\uD5DE\n"
+            + "\\mathsfbf{L}\t\uD5DF\n"
+            + "\\mathsfbf{M}\t\uD5E0\n"
+            + "\\mathsfbf{N}\t\uD5E1\n"
+            + "\\mathsfbf{O}\t\uD5E2\n"
+            + "\\mathsfbf{P}\t\uD5E3\n"
+            + "\\mathsfbf{Q}\t\uD5E4\n"
+            + "\\mathsfbf{R}\t\uD5E5\n"
+            + "\\mathsfbf{S}\t\uD5E6\n"
+            + "\\mathsfbf{T}\t\uD5E7\n"
+            + "\\mathsfbf{U}\t\uD5E8\n"
+            + "\\mathsfbf{V}\t\uD5E9\n"
+            + "\\mathsfbf{W}\t\uD5EA\n"
+            + "\\mathsfbf{X}\t\uD5EB\n"
+            + "\\mathsfbf{Y}\t\uD5EC\n"
+            + "\\mathsfbf{Z}\t\uD5ED\n"
+            + "\\mathsfbf{\\Alpha}\t\uD770\n"
+            + "\\mathsfbf{\\Beta}\t\uD757\n"
+            + "\\mathsfbf{\\Chi}\t\uD76C\n"
+            + "\\mathsfbf{\\Delta}\t\uD773\n"
+            + "\\mathsfbf{\\Epsilon}\t\uD75A\n"
+            + "\\mathsfbf{\\Eta}\t\uD776\n"
+            + "\\mathsfbf{\\Gamma}\t\uD772\n"
+            + "\\mathsfbf{\\Iota}\t\uD778\n"
+            + "\\mathsfbf{\\Kappa}\t\uD779\n"
+            + "\\mathsfbf{\\Lambda}\t\uD77A\n"
+            + "\\mathsfbf{\\Omega}\t\uD788\n"
+            + "\\mathsfbf{\\Phi}\t\uD76B\n"
+            + "\\mathsfbf{\\Pi}\t\uD765\n"
+            + "\\mathsfbf{\\Psi}\t\uD76D\n"
+            + "\\mathsfbf{\\Rho}\t\uD766\n"
+            + "\\mathsfbf{\\Sigma}\t\uD768\n"
+            + "\\mathsfbf{\\Tau}\t\uD769\n"
+            + "\\mathsfbf{\\Theta}\t\uD777\n"
+            + "\\mathsfbf{\\Upsilon}\t\uD784\n"
+            + "\\mathsfbf{\\Xi}\t\uD763\n"
+            + "\\mathsfbf{\\Zeta}\t\uD75B\n"
+            + "\\mathsfbf{\\nabla}\t\uD76F\n"
+            + "\\mathsfbf{\\phi}\t\uD78D\n"
+            + "\\mathsfbf{\\varkappa}\t\uD78C\n"
+            + "\\mathsfbf{\\varpi}\t\uD78F\n"
+            + "\\mathsfbf{\\varrho}\t\uD78E\n"
+            + "\\mathsfbf{\\varsigma}\t\uD781\n"
+            + "\\mathsfbf{\\vartheta}\t\uD767\n"
+            + "\\mathsfbf{a}\t\uD5EE\n"
+            + "\\mathsfbf{b}\t\uD5EF\n"
+            + "\\mathsfbf{c}\t\uD5F0\n"
+            + "\\mathsfbf{d}\t\uD5F1\n"
+            + "\\mathsfbf{e}\t\uD5F2\n"
+            + "\\mathsfbf{f}\t\uD5F3\n"
+            + "\\mathsfbf{g}\t\uD5F4\n"
+            + "\\mathsfbf{h}\t\uD5F5\n"
+            + "\\mathsfbf{i}\t\uD5F6\n"
+            + "\\mathsfbf{j}\t\uD5F7\n"
+            + "\\mathsfbf{k}\t\uD5F8\n"
+            + "\\mathsfbf{l}\t\uD5F9\n"
+            + "\\mathsfbf{m}\t\uD5FA\n"
+            + "\\mathsfbf{n}\t\uD5FB\n"
+            + "\\mathsfbf{o}\t\uD5FC\n"
+            + "\\mathsfbf{p}\t\uD5FD\n"
+            + "\\mathsfbf{q}\t\uD5FE\n"
+            + "\\mathsfbf{r}\t\uD5FF\n"
+            + "\\mathsfbf{s}\t\uD600\n"
+            + "\\mathsfbf{t}\t\uD601\n"
+            + "\\mathsfbf{u}\t\uD602\n"
+            + "\\mathsfbf{v}\t\uD603\n"
+            + "\\mathsfbf{w}\t\uD604\n"
+            + "\\mathsfbf{x}\t\uD605\n"
+            + "\\mathsfbf{y}\t\uD606\n"
+            + "\\mathsfbf{z}\t\uD607\n"
+            + "\\mathsfsl{A}\t\uD608\n"
+            + "\\mathsfsl{B}\t\uD609\n"
+            + "\\mathsfsl{C}\t\uD60A\n"
+            + "\\mathsfsl{D}\t\uD60B\n"
+            + "\\mathsfsl{E}\t\uD60C\n"
+            + "\\mathsfsl{F}\t\uD60D\n"
+            + "\\mathsfsl{G}\t\uD60E\n"
+            + "\\mathsfsl{H}\t\uD60F\n"
+            + "\\mathsfsl{I}\t\uD610\n"
+            + "\\mathsfsl{J}\t\uD611\n"
+            + "\\mathsfsl{K}\t\uD612\n"
+            + "\\mathsfsl{L}\t\uD613\n"
+            + "\\mathsfsl{M}\t\uD614\n"
+            + "\\mathsfsl{N}\t\uD615\n"
+            + "\\mathsfsl{O}\t\uD616\n"
+            + "\\mathsfsl{P}\t\uD617\n"
+            + "\\mathsfsl{Q}\t\uD618\n"
+            + "\\mathsfsl{R}\t\uD619\n"
+            + "\\mathsfsl{S}\t\uD61A\n"
+            + "\\mathsfsl{T}\t\uD61B\n"
+            + "\\mathsfsl{U}\t\uD61C\n"
+            + "\\mathsfsl{V}\t\uD61D\n"
+            + "\\mathsfsl{W}\t\uD61E\n"
+            + "\\mathsfsl{X}\t\uD61F\n"
+            + "\\mathsfsl{Y}\t\uD620\n"
+            + "\\mathsfsl{Z}\t\uD621\n"
+            + "\\mathsfsl{a}\t\uD622\n"
+            + "\\mathsfsl{b}\t\uD623\n"
+            + "\\mathsfsl{c}\t\uD624\n"
+            + "\\mathsfsl{d}\t\uD625\n"
+            + "\\mathsfsl{e}\t\uD626\n"
+            + "\\mathsfsl{f}\t\uD627\n"
+            + "\\mathsfsl{g}\t\uD628\n"
+            + "\\mathsfsl{h}\t\uD629\n"
+            + "\\mathsfsl{i}\t\uD62A\n"
+            + "\\mathsfsl{j}\t\uD62B\n"
+            + "\\mathsfsl{k}\t\uD62C\n"
+            + "\\mathsfsl{l}\t\uD62D\n"
+            + "\\mathsfsl{m}\t\uD62E\n"
+            + "\\mathsfsl{n}\t\uD62F\n"
+            + "\\mathsfsl{o}\t\uD630\n"
+            + "\\mathsfsl{p}\t\uD631\n"
+            + "\\mathsfsl{q}\t\uD632\n"
+            + "\\mathsfsl{r}\t\uD633\n"
+            + "\\mathsfsl{s}\t\uD634\n"
+            + "\\mathsfsl{t}\t\uD635\n"
+            + "\\mathsfsl{u}\t\uD636\n"
+            + "\\mathsfsl{v}\t\uD637\n"
+            + "\\mathsfsl{w}\t\uD638\n"
+            + "\\mathsfsl{x}\t\uD639\n"
+            + "\\mathsfsl{y}\t\uD63A\n"
+            + "\\mathsfsl{z}\t\uD63B\n"
+            + "\\mathsf{0}\t\uD7E2\n"
+            + "\\mathsf{1}\t\uD7E3\n"
+            + "\\mathsf{2}\t\uD7E4\n"
+            + "\\mathsf{3}\t\uD7E5\n"
+            + "\\mathsf{4}\t\uD7E6\n"
+            + "\\mathsf{5}\t\uD7E7\n"
+            + "\\mathsf{6}\t\uD7E8\n"
+            + "\\mathsf{7}\t\uD7E9\n"
+            + "\\mathsf{8}\t\uD7EA\n"
+            + "\\mathsf{9}\t\uD7EB\n"
+            + "\\mathsf{A}\t\uD5A0\n"
+            + "\\mathsf{B}\t\uD5A1\n"
+            + "\\mathsf{C}\t\uD5A2\n"
+            + "\\mathsf{D}\t\uD5A3\n"
+            + "\\mathsf{E}\t\uD5A4\n"
+            + "\\mathsf{F}\t\uD5A5\n"
+            + "\\mathsf{G}\t\uD5A6\n"
+            + "\\mathsf{H}\t\uD5A7\n"
+            + "\\mathsf{I}\t\uD5A8\n"
+            + "\\mathsf{J}\t\uD5A9\n"
+            + "\\mathsf{K}\t\uD5AA\n"
+            + "\\mathsf{L}\t\uD5AB\n"
+            + "\\mathsf{M}\t\uD5AC\n"
+            + "\\mathsf{N}\t\uD5AD\n"
+            + "\\mathsf{O}\t\uD5AE\n"
+            + "\\mathsf{P}\t\uD5AF\n"
+            + "\\mathsf{Q}\t\uD5B0\n"
+            + "\\mathsf{R}\t\uD5B1\n"
+            + "\\mathsf{S}\t\uD5B2\n"
+            + "\\mathsf{T}\t\uD5B3\n"
+            + "\\mathsf{U}\t\uD5B4\n"
+            + "\\mathsf{V}\t\uD5B5\n"
+            + "\\mathsf{W}\t\uD5B6\n"
+            + "\\mathsf{X}\t\uD5B7\n"
+            + "\\mathsf{Y}\t\uD5B8\n"
+            + "\\mathsf{Z}\t\uD5B9\n"
+            + "\\mathsf{a}\t\uD5BA\n"
+            + "\\mathsf{b}\t\uD5BB\n"
+            + "\\mathsf{c}\t\uD5BC\n"
+            + "\\mathsf{d}\t\uD5BD\n"
+            + "\\mathsf{e}\t\uD5BE\n"
+            + "\\mathsf{f}\t\uD5BF\n"
+            + "\\mathsf{g}\t\uD5C0\n"
+            + "\\mathsf{h}\t\uD5C1\n"
+            + "\\mathsf{i}\t\uD5C2\n"
+            + "\\mathsf{j}\t\uD5C3\n"
+            + "\\mathsf{k}\t\uD5C4\n"
+            + "\\mathsf{l}\t\uD5C5\n"
+            + "\\mathsf{m}\t\uD5C6\n"
+            + "\\mathsf{n}\t\uD5C7\n"
+            + "\\mathsf{o}\t\uD5C8\n"
+            + "\\mathsf{p}\t\uD5C9\n"
+            + "\\mathsf{q}\t\uD5CA\n"
+            + "\\mathsf{r}\t\uD5CB\n"
+            + "\\mathsf{s}\t\uD5CC\n"
+            + "\\mathsf{t}\t\uD5CD\n"
+            + "\\mathsf{u}\t\uD5CE\n"
+            + "\\mathsf{v}\t\uD5CF\n"
+            + "\\mathsf{w}\t\uD5D0\n"
+            + "\\mathsf{x}\t\uD5D1\n"
+            + "\\mathsf{y}\t\uD5D2\n"
+            + "\\mathsf{z}\t\uD5D3\n"
+            + "\\mathslbb{A}\t\uD56C\n"
+            + "\\mathslbb{B}\t\uD56D\n"
+            + "\\mathslbb{C}\t\uD56E\n"
+            + "\\mathslbb{D}\t\uD56F\n"
+            + "\\mathslbb{E}\t\uD570\n"
+            + "\\mathslbb{F}\t\uD571\n"
+            + "\\mathslbb{G}\t\uD572\n"
+            + "\\mathslbb{H}\t\uD573\n"
+            + "\\mathslbb{I}\t\uD574\n"
+            + "\\mathslbb{J}\t\uD575\n"
+            + "\\mathslbb{K}\t\uD576\n"
+            + "\\mathslbb{L}\t\uD577\n"
+            + "\\mathslbb{M}\t\uD578\n"
+            + "\\mathslbb{N}\t\uD579\n"
+            + "\\mathslbb{O}\t\uD57A\n"
+            + "\\mathslbb{P}\t\uD57B\n"
+            + "\\mathslbb{Q}\t\uD57C\n"
+            + "\\mathslbb{R}\t\uD57D\n"
+            + "\\mathslbb{S}\t\uD57E\n"
+            + "\\mathslbb{T}\t\uD57F\n"
+            + "\\mathslbb{U}\t\uD580\n"
+            + "\\mathslbb{V}\t\uD581\n"
+            + "\\mathslbb{W}\t\uD582\n"
+            + "\\mathslbb{X}\t\uD583\n"
+            + "\\mathslbb{Y}\t\uD584\n"
+            + "\\mathslbb{Z}\t\uD585\n"
+            + "\\mathslbb{a}\t\uD586\n"
+            + "\\mathslbb{b}\t\uD587\n"
+            + "\\mathslbb{c}\t\uD588\n"
+            + "\\mathslbb{d}\t\uD589\n"
+            + "\\mathslbb{e}\t\uD58A\n"
+            + "\\mathslbb{f}\t\uD58B\n"
+            + "\\mathslbb{g}\t\uD58C\n"
+            + "\\mathslbb{h}\t\uD58D\n"
+            + "\\mathslbb{i}\t\uD58E\n"
+            + "\\mathslbb{j}\t\uD58F\n"
+            + "\\mathslbb{k}\t\uD590\n"
+            + "\\mathslbb{l}\t\uD591\n"
+            + "\\mathslbb{m}\t\uD592\n"
+            + "\\mathslbb{n}\t\uD593\n"
+            + "\\mathslbb{o}\t\uD594\n"
+            + "\\mathslbb{p}\t\uD595\n"
+            + "\\mathslbb{q}\t\uD596\n"
+            + "\\mathslbb{r}\t\uD597\n"
+            + "\\mathslbb{s}\t\uD598\n"
+            + "\\mathslbb{t}\t\uD599\n"
+            + "\\mathslbb{u}\t\uD59A\n"
+            + "\\mathslbb{v}\t\uD59B\n"
+            + "\\mathslbb{w}\t\uD59C\n"
+            + "\\mathslbb{x}\t\uD59D\n"
+            + "\\mathslbb{y}\t\uD59E\n"
+            + "\\mathslbb{z}\t\uD59F\n"
+            + "\\mathsl{A}\t\uD434\n"
+            + "\\mathsl{B}\t\uD435\n"
+            + "\\mathsl{C}\t\uD436\n"
+            + "\\mathsl{D}\t\uD437\n"
+            + "\\mathsl{E}\t\uD438\n"
+            + "\\mathsl{F}\t\uD439\n"
+            + "\\mathsl{G}\t\uD43A\n"
+            + "\\mathsl{H}\t\uD43B\n"
+            + "\\mathsl{I}\t\uD43C\n"
+            + "\\mathsl{J}\t\uD43D\n"
+            + "\\mathsl{K}\t\uD43E\n"
+            + "\\mathsl{L}\t\uD43F\n"
+            + "\\mathsl{M}\t\uD440\n"
+            + "\\mathsl{N}\t\uD441\n"
+            + "\\mathsl{O}\t\uD442\n"
+            + "\\mathsl{P}\t\uD443\n"
+            + "\\mathsl{Q}\t\uD444\n"
+            + "\\mathsl{R}\t\uD445\n"
+            + "\\mathsl{S}\t\uD446\n"
+            + "\\mathsl{T}\t\uD447\n"
+            + "\\mathsl{U}\t\uD448\n"
+            + "\\mathsl{V}\t\uD449\n"
+            + "\\mathsl{W}\t\uD44A\n"
+            + "\\mathsl{X}\t\uD44B\n"
+            + "\\mathsl{Y}\t\uD44C\n"
+            + "\\mathsl{Z}\t\uD44D\n"
+            + "\\mathsl{\\Alpha}\t\uD6FC\n"
+            + "\\mathsl{\\Beta}\t\uD6FD\n"
+            + "\\mathsl{\\Chi}\t\uD6F8\n"
+            + "\\mathsl{\\Delta}\t\uD6FF\n"
+            + "\\mathsl{\\Epsilon}\t\uD700\n"
+            + "\\mathsl{\\Eta}\t\uD702\n"
+            + "\\mathsl{\\Gamma}\t\uD6FE\n"
+            + "\\mathsl{\\Iota}\t\uD704\n"
+            + "\\mathsl{\\Kappa}\t\uD705\n"
+            + "\\mathsl{\\Lambda}\t\uD706\n"
+            + "\\mathsl{\\Omega}\t\uD714\n"
+            + "\\mathsl{\\Phi}\t\uD711\n"
+            + "\\mathsl{\\Pi}\t\uD6F1\n"
+            + "\\mathsl{\\Psi}\t\uD6F9\n"
+            + "\\mathsl{\\Rho}\t\uD6F2\n"
+            + "\\mathsl{\\Sigma}\t\uD6F4\n"
+            + "\\mathsl{\\Tau}\t\uD6F5\n"
+            + "\\mathsl{\\Theta}\t\uD703\n"
+            + "\\mathsl{\\Upsilon}\t\uD6F6\n"
+            + "\\mathsl{\\Xi}\t\uD709\n"
+            + "\\mathsl{\\Zeta}\t\uD701\n"
+            + "\\mathsl{\\nabla}\t\uD6FB\n"
+            + "\\mathsl{\\phi}\t\uD719\n"
+            + "\\mathsl{\\varkappa}\t\uD718\n"
+            + "\\mathsl{\\varpi}\t\uD71B\n"
+            + "\\mathsl{\\varrho}\t\uD71A\n"
+            + "\\mathsl{\\varsigma}\t\uD70D\n"
+            + "\\mathsl{\\vartheta}\t\uD717\n"
+            + "\\mathsl{a}\t\uD44E\n"
+            + "\\mathsl{b}\t\uD44F\n"
+            + "\\mathsl{c}\t\uD450\n"
+            + "\\mathsl{d}\t\uD451\n"
+            + "\\mathsl{e}\t\uD452\n"
+            + "\\mathsl{f}\t\uD453\n"
+            + "\\mathsl{g}\t\uD454\n"
+            + "\\mathsl{i}\t\uD456\n"
+            + "\\mathsl{j}\t\uD457\n"
+            + "\\mathsl{k}\t\uD458\n"
+            + "\\mathsl{l}\t\uD459\n"
+            + "\\mathsl{m}\t\uD45A\n"
+            + "\\mathsl{n}\t\uD45B\n"
+            + "\\mathsl{o}\t\uD45C\n"
+            + "\\mathsl{p}\t\uD45D\n"
+            + "\\mathsl{q}\t\uD45E\n"
+            + "\\mathsl{r}\t\uD45F\n"
+            + "\\mathsl{s}\t\uD460\n"
+            + "\\mathsl{t}\t\uD461\n"
+            + "\\mathsl{u}\t\uD462\n"
+            + "\\mathsl{v}\t\uD463\n"
+            + "\\mathsl{w}\t\uD464\n"
+            + "\\mathsl{x}\t\uD465\n"
+            + "\\mathsl{y}\t\uD466\n"
+            + "\\mathsl{z}\t\uD467\n"
+            + "\\mathtt{0}\t\uD7F6\n"
+            + "\\mathtt{1}\t\uD7F7\n"
+            + "\\mathtt{2}\t\uD7F8\n"
+            + "\\mathtt{3}\t\uD7F9\n"
+            + "\\mathtt{4}\t\uD7FA\n"
+            + "\\mathtt{5}\t\uD7FB\n"
+            + "\\mathtt{6}\t\uD7FC\n"
+            + "\\mathtt{7}\t\uD7FD\n"
+            + "\\mathtt{8}\t\uD7FE\n"
+            + "\\mathtt{9}\t\uD7FF\n"
+            + "\\mathtt{A}\t\uD670\n"
+            + "\\mathtt{B}\t\uD671\n"
+            + "\\mathtt{C}\t\uD672\n"
+            + "\\mathtt{D}\t\uD673\n"
+            + "\\mathtt{E}\t\uD674\n"
+            + "\\mathtt{F}\t\uD675\n"
+            + "\\mathtt{G}\t\uD676\n"
+            + "\\mathtt{H}\t\uD677\n"
+            + "\\mathtt{I}\t\uD678\n"
+            + "\\mathtt{J}\t\uD679\n"
+            + "\\mathtt{K}\t\uD67A\n"
+            + "\\mathtt{L}\t\uD67B\n"
+            + "\\mathtt{M}\t\uD67C\n"
+            + "\\mathtt{N}\t\uD67D\n"
+            + "\\mathtt{O}\t\uD67E\n"
+            + "\\mathtt{P}\t\uD67F\n"
+            + "\\mathtt{Q}\t\uD680\n"
+            + "\\mathtt{R}\t\uD681\n"
+            + "\\mathtt{S}\t\uD682\n"
+            + "\\mathtt{T}\t\uD683\n"
+            + "\\mathtt{U}\t\uD684\n"
+            + "\\mathtt{V}\t\uD685\n"
+            + "\\mathtt{W}\t\uD686\n"
+            + "\\mathtt{X}\t\uD687\n"
+            + "\\mathtt{Y}\t\uD688\n"
+            + "\\mathtt{Z}\t\uD689\n"
+            + "\\mathtt{a}\t\uD68A\n"
+            + "\\mathtt{b}\t\uD68B\n"
+            + "\\mathtt{c}\t\uD68C\n"
+            + "\\mathtt{d}\t\uD68D\n"
+            + "\\mathtt{e}\t\uD68E\n"
+            + "\\mathtt{f}\t\uD68F\n"
+            + "\\mathtt{g}\t\uD690\n"
+            + "\\mathtt{h}\t\uD691\n"
+            + "\\mathtt{i}\t\uD692\n"
+            + "\\mathtt{j}\t\uD693\n"
+            + "\\mathtt{k}\t\uD694\n"
+            + "\\mathtt{l}\t\uD695\n"
+            + "\\mathtt{m}\t\uD696\n"
+            + "\\mathtt{n}\t\uD697\n"
+            + "\\mathtt{o}\t\uD698\n"
+            + "\\mathtt{p}\t\uD699\n"
+            + "\\mathtt{q}\t\uD69A\n"
+            + "\\mathtt{r}\t\uD69B\n"
+            + "\\mathtt{s}\t\uD69C\n"
+            + "\\mathtt{t}\t\uD69D\n"
+            + "\\mathtt{u}\t\uD69E\n"
+            + "\\mathtt{v}\t\uD69F\n"
+            + "\\mathtt{w}\t\uD6A0\n"
+            + "\\mathtt{x}\t\uD6A1\n"
+            + "\\mathtt{y}\t\uD6A2\n"
+            + "\\mathtt{z}\t\uD6A3\n"
+            + "\\mbox{\\texteuro}\t\u20AC\n"
+            + "\\measuredangle\t\u2221\n"
+            + "\\mercury\t\u263F\n"
+            + "\\mho\t\u2127\n"
+            + "\\mid\t\u2223\n"
+            + "\\mkern1mu\t\u200A\n"
+            + "\\mkern4mu\t\u205F\n"
+            + "\\mp\t\u2213\n"
+            + "\\mu\t\u03BC\n"
+            + "\\multimap\t\u22B8\n"
+            + "\\nLeftarrow\t\u21CD\n"
+            + "\\nLeftrightarrow\t\u21CE\n"
+            + "\\nRightarrow\t\u21CF\n"
+            + "\\nVDash\t\u22AF\n"
+            + "\\nVdash\t\u22AE\n"
+            + "\\nabla\t\u2207\n"
+            + "\\natural\t\u266E\n"
+            + "\\nearrow\t\u2197\n"
+            + "\\neptune\t\u2646\n"
+            + "\\nexists\t\u2204\n"
+            + "\\ng\t\u014B\n"
+            //"\\ngeqslant":"U+2A7E-00338",
+            + "\\ni\t\u220B\n"
+            + "\\nleftarrow\t\u219A\n"
+            + "\\nleftrightarrow\t\u21AE\n"
+            //"\\nleqslant":"U+2A7D-00338",
+            + "\\nmid\t\u2224\n"
+            + "\\nolinebreak\t\u2060\n"
+            + "\\not =\t\u2260\n"
+            + "\\not<\t\u226E\n"
+            + "\\not>\t\u226F\n"
+            //"\\not\\apid":"U+224B-00338",
+            + "\\not\\approx\t\u2249\n"
+            + "\\not\\cong\t\u2247\n"
+            //"\\not\\doteq":"U+2250-00338",
+            + "\\not\\equiv\t\u2262\n"
+            + "\\not\\geq\t\u2271\n"
+            + "\\not\\in\t\u2209\n"
+            + "\\not\\kern-0.3em\\times\t\u226D\n"
+            + "\\not\\leq\t\u2270\n"
+            + "\\not\\ni\t\u220C\n"
+            + "\\not\\prec\t\u2280\n"
+            //"\\not\\preceq":"U+2AAF-00338",
+            + "\\not\\sim\t\u2241\n"
+            + "\\not\\simeq\t\u2244\n"
+            + "\\not\\sqsubseteq\t\u22E2\n"
+            + "\\not\\sqsupseteq\t\u22E3\n"
+            + "\\not\\subset\t\u2284\n"
+            + "\\not\\subseteq\t\u2288\n"
+            + "\\not\\succ\t\u2281\n"
+            //"\\not\\succeq":"U+2AB0-00338",
+            + "\\not\\supset\t\u2285\n"
+            + "\\not\\supseteq\t\u2289\n"
+            + "\\notgreaterless\t\u2279\n"
+            + "\\notlessgreater\t\u2278\n"
+            + "\\nparallel\t\u2226\n"
+            + "\\nrightarrow\t\u219B\n"
+            //"\\nsubseteqq":"U+2AC5-00338",
+            //"\\nsupseteqq":"U+2AC6-00338",
+            + "\\ntriangleleft\t\u22EA\n"
+            + "\\ntrianglelefteq\t\u22EC\n"
+            + "\\ntriangleright\t\u22EB\n"
+            + "\\ntrianglerighteq\t\u22ED\n"
+            + "\\nu\t\u03BD\n"
+            + "\\nvDash\t\u22AD\n"
+            + "\\nvdash\t\u22AC\n"
+            + "\\nwarrow\t\u2196\n"
+            + "\\o\t\u00F8\n"
+            + "\\odot\t\u2299\n"
+            + "\\oe\t\u0153\n"
+            + "\\oint\t\u222E\n"
+            + "\\omega\t\u03C9\n"
+            + "\\ominus\t\u2296\n"
+            + "\\omicron\t\u03BF\n"
+            + "\\openbracketleft\t\u301A\n"
+            + "\\openbracketright\t\u301B\n"
+            + "\\oplus\t\u2295\n"
+            + "\\original\t\u22B6\n"
+            + "\\oslash\t\u2298\n"
+            + "\\otimes\t\u2297\n"
+            + "\\parallel\t\u2225\n"
+            + "\\partial\t\u2202\n"
+            + "\\perp\t\u22A5\n"
+            + "\\perspcorrespond\t\u2306\n"
+            + "\\phi\t\u03D5\n"
+            + "\\pi\t\u03C0\n"
+            + "\\pisces\t\u2653\n"
+            + "\\pitchfork\t\u22D4\n"
+            + "\\pluto\t\u2647\n"
+            + "\\pm\t\u00B1\n"
+            + "\\prec\t\u227A\n"
+            + "\\precapprox\t\u2AB7\n"
+            + "\\preccurlyeq\t\u227C\n"
+            + "\\precedesnotsimilar\t\u22E8\n"
+            + "\\preceq\t\u2AAF\n"
+            + "\\precnapprox\t\u2AB9\n"
+            + "\\precneqq\t\u2AB5\n"
+            + "\\prod\t\u220F\n"
+            + "\\propto\t\u221D\n"
+            + "\\psi\t\u03C8\n"
+            + "\\quarternote\t\u2669\n"
+            + "\\r\t\u030A\n"
+            + "\\rangle\t\u232A\n"
+            + "\\rbrace\t\u007D\n"
+            + "\\rceil\t\u2309\n"
+            + "\\recorder\t\u2315\n"
+            + "\\rfloor\t\u230B\n"
+            + "\\rho\t\u03C1\n"
+            + "\\rightangle\t\u221F\n"
+            + "\\rightanglearc\t\u22BE\n"
+            + "\\rightarrow\t\u2192\n"
+            + "\\rightarrowtail\t\u21A3\n"
+            + "\\rightharpoondown\t\u21C1\n"
+            + "\\rightharpoonup\t\u21C0\n"
+            + "\\rightleftarrows\t\u21C4\n"
+            + "\\rightleftharpoons\t\u21CC\n"
+            + "\\rightmoon\t\u263E\n"
+            + "\\rightrightarrows\t\u21C9\n"
+            + "\\rightsquigarrow\t\u21DD\n"
+            + "\\rightthreetimes\t\u22CC\n"
+            + "\\risingdotseq\t\u2253\n"
+            + "\\rmoustache\t\u23B1\n"
+            + "\\rtimes\t\u22CA\n"
+            + "\\rule{1em}{1pt}\t\u2015\n"
+            + "\\r{U}\t\u016E\n"
+            + "\\r{u}\t\u016F\n"
+            + "\\r{}\t\u02DA\n"
+            + "\\sagittarius\t\u2650\n"
+            + "\\saturn\t\u2644\n"
+            + "\\scorpio\t\u264F\n"
+            + "\\searrow\t\u2198\n"
+            + "\\setminus\t\u2216\n"
+            + "\\sharp\t\u266F\n"
+            + "\\sigma\t\u03C3\n"
+            + "\\sim\t\u223C\n"
+            + "\\sim\\joinrel\\leadsto\t\u27FF\n"
+            + "\\simeq\t\u2243\n"
+            + "\\smile\t\u2323\n"
+            + "\\space\t\u0020\n"
+            + "\\sphericalangle\t\u2222\n"
+            + "\\sqcap\t\u2293\n"
+            + "\\sqcup\t\u2294\n"
+            + "\\sqrint\t\u2A16\n"
+            + "\\sqsubset\t\u228F\n"
+            + "\\sqsubseteq\t\u2291\n"
+            + "\\sqsupset\t\u2290\n"
+            + "\\sqsupseteq\t\u2292\n"
+            + "\\square\t\u25A1\n"
+            + "\\ss\t\u00DF\n"
+            + "\\stackrel{*}{=}\t\u2A6E\n"
+            + "\\star\t\u22C6\n"
+            + "\\starequal\t\u225B\n"
+            + "\\subset\t\u2282\n"
+            + "\\subseteq\t\u2286\n"
+            + "\\subseteqq\t\u2AC5\n"
+            + "\\subsetneq\t\u228A\n"
+            + "\\subsetneqq\t\u2ACB\n"
+            + "\\succ\t\u227B\n"
+            + "\\succapprox\t\u227F\n"
+            + "\\succcurlyeq\t\u227D\n"
+            + "\\succeq\t\u2AB0\n"
+            + "\\succnapprox\t\u2ABA\n"
+            + "\\succneqq\t\u2AB6\n"
+            + "\\succnsim\t\u22E9\n"
+            + "\\sum\t\u2211\n"
+            + "\\supset\t\u2283\n"
+            + "\\supseteq\t\u2287\n"
+            + "\\supseteqq\t\u2AC6\n"
+            + "\\supsetneq\t\u228B\n"
+            + "\\supsetneqq\t\u2ACC\n"
+            + "\\surd\t\u221A\n"
+            + "\\surfintegral\t\u222F\n"
+            + "\\swarrow\t\u2199\n"
+            + "\\tau\t\u03C4\n"
+            + "\\taurus\t\u2649\n"
+            + "\\textTheta\t\u03F4\n"
+            + "\\textasciiacute\t\u00B4\n"
+            + "\\textasciibreve\t\u02D8\n"
+            + "\\textasciicaron\t\u02C7\n"
+            + "\\textasciidieresis\t\u00A8\n"
+            + "\\textasciigrave\t\u0060\n"
+            + "\\textasciimacron\t\u00AF\n"
+            + "\\textasciitilde\t\u007E\n"
+            + "\\textbackslash\t\\\n"
+            + "\\textbrokenbar\t\u00A6\n"
+            + "\\textbullet\t\u2022\n"
+            + "\\textcent\t\u00A2\n"
+            + "\\textcopyright\t\u00A9\n"
+            + "\\textcurrency\t\u00A4\n"
+            + "\\textdagger\t\u2020\n"
+            + "\\textdaggerdbl\t\u2021\n"
+            + "\\textdegree\t\u00B0\n"
+            + "\\textdollar\t\u0024\n"
+            + "\\textdoublepipe\t\u01C2\n"
+            + "\\textemdash\t\u2014\n"
+            + "\\textendash\t\u2013\n"
+            + "\\textexclamdown\t\u00A1\n"
+            + "\\textfrac{1}{3}\t\u2153\n"
+            + "\\textfrac{1}{5}\t\u2155\n"
+            + "\\textfrac{1}{6}\t\u2159\n"
+            + "\\textfrac{1}{8}\t\u215B\n"
+            + "\\textfrac{2}{3}\t\u2154\n"
+            + "\\textfrac{2}{5}\t\u2156\n"
+            + "\\textfrac{3}{5}\t\u2157\n"
+            + "\\textfrac{3}{8}\t\u215C\n"
+            + "\\textfrac{4}{5}\t\u2158\n"
+            + "\\textfrac{5}{6}\t\u215A\n"
+            + "\\textfrac{5}{8}\t\u215D\n"
+            + "\\textfrac{7}{8}\t\u215E\n"
+            + "\\texthvlig\t\u0195\n"
+            + "\\textnrleg\t\u019E\n"
+            + "\\textonehalf\t\u00BD\n"
+            + "\\textonequarter\t\u00BC\n"
+            + "\\textordfeminine\t\u00AA\n"
+            + "\\textordmasculine\t\u00BA\n"
+            + "\\textparagraph\t\u00B6\n"
+            + "\\textperiodcentered\t\u02D9\n"
+            + "\\textpertenthousand\t\u2031\n"
+            + "\\textperthousand\t\u2030\n"
+            + "\\textphi\t\u0278\n"
+            + "\\textquestiondown\t\u00BF\n"
+            + "\\textquotedblleft\t\u201C\n"
+            + "\\textquotedblright\t\u201D\n"
+            + "\\textquotesingle\t\'\n"
+            + "\\textregistered\t\u00AE\n"
+            + "\\textsection\t\u00A7\n"
+            + "\\textsterling\t\u00A3\n"
+            + "\\texttheta\t\u03B8\n"
+            + "\\textthreequarters\t\u00BE\n"
+            + "\\texttildelow\t\u02DC\n"
+            + "\\texttimes\t\u00D7\n"
+            + "\\texttrademark\t\u2122\n"
+            + "\\textturnk\t\u029E\n"
+            + "\\textvartheta\t\u03D1\n"
+            + "\\textvisiblespace\t\u2423\n"
+            + "\\textyen\t\u00A5\n"
+            + "\\th\t\u00FE\n"
+            + "\\therefore\t\u2234\n"
+            + "\\tildetrpl\t\u224B\n"
+            + "\\tone{11}\t\u02E9\n"
+            + "\\tone{22}\t\u02E8\n"
+            + "\\tone{33}\t\u02E7\n"
+            + "\\tone{44}\t\u02E6\n"
+            + "\\tone{55}\t\u02E5\n"
+            + "\\top\t\u22A4\n"
+            + "\\triangledown\t\u25BF\n"
+            + "\\triangleleft\t\u25C3\n"
+            + "\\trianglelefteq\t\u22B4\n"
+            + "\\triangleq\t\u225C\n"
+            + "\\triangleright\t\u25B9\n"
+            + "\\trianglerighteq\t\u22B5\n"
+            + "\\truestate\t\u22A7\n"
+            + "\\twoheadleftarrow\t\u219E\n"
+            + "\\twoheadrightarrow\t\u21A0\n"
+            + "\\u\t\u0306\n"
+            + "\\ulcorner\t\u231C\n"
+            + "\\uparrow\t\u2191\n"
+            + "\\updownarrow\t\u2195\n"
+            + "\\upharpoonleft\t\u21BF\n"
+            + "\\upharpoonright\t\u21BE\n"
+            + "\\uplus\t\u228E\n"
+            + "\\upsilon\t\u03C5\n"
+            + "\\upslopeellipsis\t\u22F0\n"
+            + "\\upuparrows\t\u21C8\n"
+            + "\\uranus\t\u2645\n"
+            + "\\urcorner\t\u231D\n"
+            + "\\u{A}\t\u0102\n"
+            + "\\u{E}\t\u0114\n"
+            + "\\u{G}\t\u011E\n"
+            + "\\u{I}\t\u012C\n"
+            + "\\u{O}\t\u014E\n"
+            + "\\u{U}\t\u016C\n"
+            + "\\u{\\i}\t\u012D\n"
+            + "\\u{a}\t\u0103\n"
+            + "\\u{e}\t\u0115\n"
+            + "\\u{g}\t\u011F\n"
+            + "\\u{o}\t\u014F\n"
+            + "\\u{u}\t\u016D\n"
+            + "\\v\t\u030C\n"
+            + "\\varepsilon\t\u025B\n"
+            + "\\varkappa\t\u03F0\n"
+            + "\\varnothing\t\u2205\n"
+            + "\\varphi\t\u03C6\n"
+            + "\\varpi\t\u03D6\n"
+            + "\\varrho\t\u03F1\n"
+            + "\\varsigma\t\u03C2\n"
+            //"\\varsubsetneqq":"U+228A-0FE00",
+            //"\\varsupsetneq":"U+228B-0FE00",
+            + "\\vartriangle\t\u25B5\n"
+            + "\\vartriangleleft\t\u22B2\n"
+            + "\\vartriangleright\t\u22B3\n"
+            + "\\vdash\t\u22A2\n"
+            + "\\vdots\t\u22EE\n"
+            + "\\vee\t\u2228\n"
+            + "\\veebar\t\u22BB\n"
+            + "\\venus\t\u2640\n"
+            + "\\vert\t\u007C\n"
+            + "\\verymuchgreater\t\u22D9\n"
+            + "\\verymuchless\t\u22D8\n"
+            + "\\virgo\t\u264D\n"
+            + "\\volintegral\t\u2230\n"
+            + "\\v{C}\t\u010C\n"
+            + "\\v{D}\t\u010E\n"
+            + "\\v{E}\t\u011A\n"
+            + "\\v{L}\t\u013D\n"
+            + "\\v{N}\t\u0147\n"
+            + "\\v{R}\t\u0158\n"
+            + "\\v{S}\t\u0160\n"
+            + "\\v{T}\t\u0164\n"
+            + "\\v{Z}\t\u017D\n"
+            + "\\v{c}\t\u010D\n"
+            + "\\v{d}\t\u010F\n"
+            + "\\v{e}\t\u011B\n"
+            + "\\v{l}\t\u013E\n"
+            + "\\v{n}\t\u0148\n"
+            + "\\v{r}\t\u0159\n"
+            + "\\v{s}\t\u0161\n"
+            + "\\v{t}\t\u0165\n"
+            + "\\v{z}\t\u017E\n"
+            + "\\wedge\t\u2227\n"
+            + "\\wp\t\u2118\n"
+            + "\\wr\t\u2240\n"
+            + "\\xi\t\u03BE\n"
+            + "\\zeta\t\u03B6\n"
+            + "\\~\t\u0303\n"
+            + "\\~{A}\t\u00C3\n"
+            + "\\~{I}\t\u0128\n"
+            + "\\~{N}\t\u00D1\n"
+            + "\\~{O}\t\u00D5\n"
+            + "\\~{U}\t\u0168\n"
+            + "\\~{\\i}\t\u0129\n"
+            + "\\~{a}\t\u00E3\n"
+            + "\\~{n}\t\u00F1\n"
+            + "\\~{o}\t\u00F5\n"
+            + "\\~{u}\t\u0169\n"
+            + "ff\t\uFB00\n"
+            + "ffi\t\uFB03\n"
+            + "ffl\t\uFB04\n"
+            + "fi\t\uFB01\n"
+            + "fl\t\uFB02\n"
+            + "ij\t\u0133\n"
+            + "{'''}\t\u2034\n"
+            + "{''}\t\u2033\n"
+            + "{'}\t\u2032\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char177}\t\u0311\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char184}\t\u0318\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char185}\t\u0319\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char203}\t\u032B\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char207}\t\u032F\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char215}\t\u0337\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char216}\t\u0338\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char218}\t\u033A\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char219}\t\u033B\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char220}\t\u033C\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char221}\t\u033D\n"
+            + "{\\fontencoding{LECO}\\selectfont\\char225}\t\u0361\n"
+            + "{\\fontencoding{LEIP}\\selectfont\\char202}\t\u027F\n"
+            + "{\\fontencoding{LEIP}\\selectfont\\char61}\t\u0258\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char195}\t\u01BA\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char201}\t\u013F\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char202}\t\u0140\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char40}\t\u0126\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char47}\t\u0166\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char63}\t\u0167\n"
+            + "{\\fontencoding{LELA}\\selectfont\\char91}\t\u0138\n"
+            //"{\rlap{\textbackslash}{{/}\!\!{/}}}":"U+2AFD-020E5",
+            + "{^1}\t\u00B9\n"
+            + "{^2}\t\u00B2\n"
+            + "{^3}\t\u00B3\n"
+            + "{_\\ast}\t\u2217\n"
+            + "{{/}\\!\\!{/}}\t\u2AFD\n";
 }
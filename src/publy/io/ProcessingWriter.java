@@ -0,0 +1,307 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A writer that processes text on its way to the output, one character at a
+ * time. Each of the following steps can be enabled separately, and they are
+ * applied in this order:
+ * <ol>
+ * <li> Removing braces that are not part of a LaTeX command
+ * <li> Replacing quotes by their typographic equivalents
+ * <li> Escaping the characters that are special in HTML
+ * </ol>
+ * Since every step is a state machine that handles one character at a time,
+ * the text is processed in a single scan, without intermediate strings.
+ * Together with {@link #writeLatex(String)}, which converts LaTeX commands to
+ * Unicode as it writes, this replaces a chain of separate passes over the text.
+ * <p>
+ * Some characters are held back until the next character shows how they
+ * should be processed, like a backslash or a quote. The current piece of text
+ * should therefore be ended with {@link #finish()}. Since the output is often
+ * shared with other writers, this writer never flushes or closes it.
+ */
+public class ProcessingWriter extends Writer {
+
+    private enum RemoveBracesState {
+
+        DEFAULT, ESCAPE, COMMAND_NAME, OPTIONAL_ARGUMENT, ARGUMENT, BEFORE_POSSIBLE_ARGUMENT;
+    }
+
+    private enum ChangeQuotesState {
+
+        DEFAULT, IN_TAG, AFTER_QUOTE, AFTER_GRAVE;
+    }
+
+    private final Appendable out;
+    private final boolean removeBraces;
+    private final boolean changeQuotes;
+    private final boolean escapeHtml;
+    private RemoveBracesState bracesState = RemoveBracesState.DEFAULT;
+    private ChangeQuotesState quotesState = ChangeQuotesState.DEFAULT;
+
+    /**
+     * Creates a new writer that writes the processed text to the given output.
+     *
+     * @param out the output
+     * @param removeBraces whether to remove braces that are not part of a LaTeX
+     * command
+     * @param changeQuotes whether to replace quotes by their typographic
+     * equivalents
+     * @param escapeHtml whether to escape the characters that are special in
+     * HTML
+     */
+    public ProcessingWriter(Appendable out, boolean removeBraces, boolean changeQuotes, boolean escapeHtml) {
+        this.out = out;
+        this.removeBraces = removeBraces;
+        this.changeQuotes = changeQuotes;
+        this.escapeHtml = escapeHtml;
+    }
+
+    /**
+     * Converts the LaTeX commands in the given text to Unicode and processes
+     * the result, as a single piece of text.
+     *
+     * @param text the text to write
+     * @throws IOException if the output throws an exception
+     */
+    public void writeLatex(String text) throws IOException {
+        LatexToUnicode.convertToUnicode(text, this);
+        finish();
+    }
+
+    /**
+     * Ends the current piece of text. Characters that were held back, like a
+     * final backslash or quote, are dropped.
+     */
+    public void finish() {
+        bracesState = RemoveBracesState.DEFAULT;
+        quotesState = ChangeQuotesState.DEFAULT;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (removeBraces) {
+            removeBraces((char) c);
+        } else {
+            changeQuotes((char) c);
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++) {
+            write(str.charAt(i));
+        }
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        CharSequence s = (csq == null ? "null" : csq);
+        return append(s, 0, s.length());
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence s = (csq == null ? "null" : csq);
+
+        for (int i = start; i < end; i++) {
+            write(s.charAt(i));
+        }
+
+        return this;
+    }
+
+    /**
+     * Does nothing, as this writer does not buffer any characters. The output
+     * is not flushed; that is up to its owner.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Ends the current piece of text. The output is not closed; that is up to
+     * its owner.
+     */
+    @Override
+    public void close() {
+        finish();
+    }
+
+    private void removeBraces(char c) throws IOException {
+        switch (bracesState) {
+            case DEFAULT:
+                switch (c) {
+                    case '{': // Remove
+                    case '}': // Remove
+                        break;
+                    case '\\':
+                        bracesState = RemoveBracesState.ESCAPE;
+                        break;
+                    case '^':
+                    case '_':
+                        bracesState = RemoveBracesState.BEFORE_POSSIBLE_ARGUMENT;
+                        changeQuotes(c);
+                        break;
+                    default:
+                        changeQuotes(c);
+                        break;
+                }
+                break;
+            case ESCAPE:
+                if (Character.isLetter(c)) {
+                    bracesState = RemoveBracesState.COMMAND_NAME;
+                } else {
+                    bracesState = RemoveBracesState.DEFAULT;
+                }
+
+                // Discard the slash before braces
+                if (c != '{' && c != '}') {
+                    changeQuotes('\\');
+                }
+
+                changeQuotes(c);
+                break;
+            case COMMAND_NAME:
+                if (c == '[') {
+                    bracesState = RemoveBracesState.OPTIONAL_ARGUMENT;
+                } else if (c == '{') {
+                    bracesState = RemoveBracesState.ARGUMENT;
+                } else if (!Character.isLetter(c)) {
+                    bracesState = RemoveBracesState.DEFAULT;
+                }
+
+                changeQuotes(c);
+                break;
+            case OPTIONAL_ARGUMENT:
+            case ARGUMENT:
+                if ((bracesState == RemoveBracesState.OPTIONAL_ARGUMENT && c == ']') || (bracesState == RemoveBracesState.ARGUMENT && c == '}')) {
+                    bracesState = RemoveBracesState.BEFORE_POSSIBLE_ARGUMENT;
+                }
+
+                changeQuotes(c);
+                break;
+            case BEFORE_POSSIBLE_ARGUMENT:
+                if (c == '{') {
+                    bracesState = RemoveBracesState.ARGUMENT;
+                } else {
+                    bracesState = RemoveBracesState.DEFAULT;
+                }
+
+                changeQuotes(c);
+                break;
+        }
+    }
+
+    private void changeQuotes(char c) throws IOException {
+        if (!changeQuotes) {
+            escapeHtml(c);
+            return;
+        }
+
+        if (quotesState == ChangeQuotesState.AFTER_GRAVE) {
+            // Single or double quote?
+            if (c == '`') {
+                // Double `` -> U+201C (left double quotation mark)
+                escapeHtml('\u201C');
+                quotesState = ChangeQuotesState.DEFAULT;
+                return;
+            } else {
+                // Single ` -> U+2018 (left single quotation mark)
+                escapeHtml('\u2018');
+                quotesState = ChangeQuotesState.DEFAULT; // Current char gets processed regularly
+            }
+        } else if (quotesState == ChangeQuotesState.AFTER_QUOTE) {
+            // Single or double quote?
+            if (c == '\'') {
+                // Double '' -> U+201D (right double quotation mark)
+                escapeHtml('\u201D');
+                quotesState = ChangeQuotesState.DEFAULT;
+                return;
+            } else {
+                // Single ' -> U+2019 (right single quotation mark)
+                escapeHtml('\u2019');
+                quotesState = ChangeQuotesState.DEFAULT; // Current char gets processed regularly
+            }
+        }
+
+        if (quotesState == ChangeQuotesState.DEFAULT) {
+            // Regular case
+            switch (c) {
+                case '<': // HTML tag open
+                    quotesState = ChangeQuotesState.IN_TAG;
+                    escapeHtml(c);
+                    break;
+                case '"': // Single " -> U+201D (right double quotation mark)
+                    escapeHtml('\u201D');
+                    break;
+                case '`': // Single or double `
+                    quotesState = ChangeQuotesState.AFTER_GRAVE;
+                    break;
+                case '\'': // Single or double '
+                    quotesState = ChangeQuotesState.AFTER_QUOTE;
+                    break;
+                default:
+                    escapeHtml(c);
+                    break;
+            }
+        } else {
+            // In an HTML tag
+            if (c == '>') {
+                // Close the tag
+                quotesState = ChangeQuotesState.DEFAULT;
+            }
+
+            escapeHtml(c);
+        }
+    }
+
+    private void escapeHtml(char c) throws IOException {
+        if (!escapeHtml) {
+            out.append(c);
+            return;
+        }
+
+        switch (c) {
+            case '&':
+                out.append("&amp;");
+                break;
+            case '\u00A0':
+                out.append("&nbsp;");
+                break;
+            case '<':
+                out.append("&lt;");
+                break;
+            case '>':
+                out.append("&gt;");
+                break;
+            default:
+                out.append(c);
+                break;
+        }
+    }
+}
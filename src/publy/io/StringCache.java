@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, thread-safe cache of the results of a function on strings.
+ * <p>
+ * The size of the cache is measured in characters: each entry counts for the
+ * length of its key plus the length of its value. When adding an entry would
+ * make the cache exceed its maximum size, the least recently used entries are
+ * removed. To limit contention, the cache is divided into segments based on
+ * the hash of the key, each with its own lock and an equal share of the
+ * maximum size.
+ */
+public class StringCache {
+
+    private static final int SEGMENTS = 16;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new, empty cache.
+     *
+     * @param maxCharacters the maximum total number of characters in the keys
+     * and values of all entries
+     */
+    public StringCache(int maxCharacters) {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxCharacters / SEGMENTS);
+        }
+    }
+
+    /**
+     * Gets the value stored for the given key.
+     *
+     * @param key the key
+     * @return the value, or null if the key is not in the cache
+     */
+    public String get(String key) {
+        String value = getSegment(key).get(key);
+
+        if (value == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+
+        return value;
+    }
+
+    /**
+     * Stores the given value for the given key. Entries that are too large to
+     * fit in the cache are not stored.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(String key, String value) {
+        getSegment(key).put(key, value);
+    }
+
+    /**
+     * Removes all entries from the cache and resets the hit and miss counts.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Gets the number of calls to {@link #get(String)} that found a value.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of calls to {@link #get(String)} that did not find a
+     * value.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the total number of characters in the keys and values of all
+     * entries.
+     *
+     * @return the size of the cache
+     */
+    public long getSize() {
+        long size = 0;
+
+        for (Segment segment : segments) {
+            size += segment.getSize();
+        }
+
+        return size;
+    }
+
+    private Segment getSegment(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    /**
+     * A part of the cache with its own lock. The entries are kept in access
+     * order, so the least recently used entry comes first.
+     */
+    private static class Segment {
+
+        private final int maxSize;
+        private final LinkedHashMap<String, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private int size = 0;
+
+        Segment(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        synchronized String get(String key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(String key, String value) {
+            int entrySize = key.length() + value.length();
+
+            if (entrySize > maxSize) {
+                return;
+            }
+
+            String previous = entries.put(key, value);
+
+            if (previous != null) {
+                size -= key.length() + previous.length();
+            }
+
+            size += entrySize;
+
+            // Evict the least recently used entries
+            Iterator<Map.Entry<String, String>> it = entries.entrySet().iterator();
+
+            while (size > maxSize) {
+                Map.Entry<String, String> eldest = it.next();
+                size -= eldest.getKey().length() + eldest.getValue().length();
+                it.remove();
+            }
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            size = 0;
+        }
+
+        synchronized int getSize() {
+            return size;
+        }
+    }
+}
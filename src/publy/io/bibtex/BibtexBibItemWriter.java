@@ -17,6 +17,7 @@ package publy.io.bibtex;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -31,12 +32,45 @@ import publy.io.BibItemWriter;
  */
 public class BibtexBibItemWriter extends BibItemWriter {
 
+    private static final String RENDERED_VALUE_KEY = "bibtex";
+
     public BibtexBibItemWriter(BufferedWriter out, Settings settings) {
         super(out, settings);
     }
 
+    /**
+     * Writes the BibTeX version of the given publication. If no fields are
+     * ignored, the result is stored with the publication, so that other
+     * writers can reuse it, for example for the BibTeX included in the HTML
+     * version.
+     *
+     * @param item the publication
+     * @throws IOException
+     */
     @Override
     public void write(BibItem item) throws IOException {
+        if (!ignoredFields.isEmpty()) {
+            writeItem(item);
+            return;
+        }
+
+        String bibtex = item.getRenderedValue(RENDERED_VALUE_KEY);
+
+        if (bibtex == null) {
+            StringWriter rendered = new StringWriter();
+            BufferedWriter buffer = new BufferedWriter(rendered);
+
+            new BibtexBibItemWriter(buffer, settings).writeItem(item);
+            buffer.flush();
+
+            bibtex = rendered.toString();
+            item.putRenderedValue(RENDERED_VALUE_KEY, bibtex);
+        }
+
+        out.write(bibtex);
+    }
+
+    private void writeItem(BibItem item) throws IOException {
         // Item type
         out.write("@" + item.getOriginalType() + "{" + item.getId() + ",");
         out.newLine();
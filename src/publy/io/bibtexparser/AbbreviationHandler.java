@@ -15,29 +15,154 @@
  */
 package publy.io.bibtexparser;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import publy.Console;
 import publy.data.Author;
 import publy.data.bibitem.BibItem;
 
+/**
+ * Expands the abbreviations in the fields of publications, and replaces the
+ * authors and editors by the corresponding {@link Author} objects.
+ * <p>
+ * Each field is scanned once. This scan replaces every reference
+ * "&lt;&lt;abbr&gt;&gt;" to a general abbreviation by its full text, leaves
+ * references to authors in place, and warns about text that looks like a
+ * mistyped reference ("&lt;abbr&gt;", "&lt;&lt;abbr&gt;", or
+ * "&lt;abbr&gt;&gt;"). Abbreviations are looked up in a trie, directly from
+ * the characters of the field. The full text of an abbreviation is expanded
+ * the first time it is needed, so abbreviations can use others that are
+ * defined after them.
+ */
 public class AbbreviationHandler {
 
-    // Pattern for detecting an abbreviation
-    private static final Pattern abbrPattern = Pattern.compile("<<([^>]*)>>");
-    // Pattern to detect mistakes of the form <abbr>, <<abbr>, or <abbr>>
-    private static final Pattern mistakePattern = Pattern.compile("(?:^|[^<])<([^<>]*)>(?:$|[^>])|<<([^<>]*)>(?:$|[^>])|(?:^|[^<])<([^<>]*)>>");
+    private final Map<String, String> abbreviations;
+    private final Map<String, Author> authors;
+    private final TrieNode definitions = new TrieNode();
+    private final Map<String, Author> namedAuthors = new HashMap<>(); // Authors without an abbreviation, by name
 
     public static void handleAbbreviationsAndAuthors(List<BibItem> items, Map<String, String> abbreviations, Map<String, Author> authors) {
         ensureAbbreviationsAreUnique(abbreviations, authors);
-        expandAbbreviationsInAbbreviations(abbreviations, authors);
-        warnForPossibleAbbreviationMistakes(items, abbreviations, authors);
-        expandAbbreviations(items, abbreviations, authors);
-        replaceAuthorsAndEditors(items, authors);
+
+        AbbreviationHandler handler = new AbbreviationHandler(abbreviations, authors);
+
+        for (Map.Entry<String, Author> entry : authors.entrySet()) {
+            handler.define(entry.getKey()).author = entry.getValue();
+        }
+
+        for (Map.Entry<String, String> entry : abbreviations.entrySet()) {
+            handler.define(entry.getKey()).setFullText(entry.getValue());
+        }
+
+        handler.expandAbbreviationsInAbbreviations();
+
+        for (BibItem item : items) {
+            handler.expandAbbreviations(item);
+        }
+
+        for (BibItem item : items) {
+            handler.replaceAuthorsAndEditors(item);
+        }
+
+        new SymbolTable().shareValues(items);
+    }
+
+    /**
+     * Creates a handler for abbreviations and authors that are defined one at
+     * a time, before the publications that use them.
+     *
+     * @param abbreviations the map that collects the general abbreviations,
+     * with their full text expanded
+     * @param authors the map that collects the authors
+     */
+    AbbreviationHandler(Map<String, String> abbreviations, Map<String, Author> authors) {
+        this.abbreviations = abbreviations;
+        this.authors = authors;
+    }
+
+    /**
+     * Expands the abbreviations and authors in a single publication, using the
+     * definitions that were added so far.
+     *
+     * @param item the publication
+     */
+    void handleAbbreviationsAndAuthors(BibItem item) {
+        expandAbbreviations(item);
+        replaceAuthorsAndEditors(item);
+    }
+
+    /**
+     * Adds a general abbreviation that is defined after all existing
+     * definitions. Any abbreviations in its full text are expanded using the
+     * existing definitions.
+     *
+     * @param abbreviation the abbreviation
+     * @param fullText the text it stands for
+     */
+    void addAbbreviation(String abbreviation, String fullText) {
+        if (authors.containsKey(abbreviation)) {
+            warnForDuplicateAbbreviation(abbreviation);
+        }
+
+        Definition definition = new Definition(abbreviation);
+        definition.setFullText(fullText);
+        abbreviations.put(abbreviation, fullText == null ? null : resolve(definition));
+
+        Definition existing = getDefinition(abbreviation);
+        definition.author = (existing == null ? null : existing.author);
+        define(abbreviation, definition);
+    }
+
+    /**
+     * Adds an author that is defined after all existing definitions.
+     *
+     * @param abbreviation the abbreviation for the author
+     * @param author the author
+     */
+    void addAuthor(String abbreviation, Author author) {
+        if (abbreviations.containsKey(abbreviation)) {
+            warnForDuplicateAbbreviation(abbreviation);
+        }
+
+        authors.put(abbreviation, author);
+        define(abbreviation).author = author;
+    }
+
+    private Definition define(String abbreviation) {
+        Definition definition = getDefinition(abbreviation);
+
+        if (definition == null) {
+            definition = new Definition(abbreviation);
+            define(abbreviation, definition);
+        }
+
+        return definition;
+    }
+
+    private void define(String abbreviation, Definition definition) {
+        if (abbreviation == null) {
+            return; // Cannot be referenced
+        }
+
+        TrieNode node = definitions;
+
+        for (int i = 0; i < abbreviation.length(); i++) {
+            node = node.getOrAddChild(abbreviation.charAt(i));
+        }
+
+        node.definition = definition;
+    }
+
+    private Definition getDefinition(String abbreviation) {
+        return (abbreviation == null ? null : definitions.get(abbreviation, 0, abbreviation.length()));
+    }
+
+    private static void warnForDuplicateAbbreviation(String abbreviation) {
+        Console.error("The abbreviation \"%s\" is used as both an author and a general abbreviation. This could lead to unspecified behaviour.", abbreviation);
     }
 
     private static void ensureAbbreviationsAreUnique(Map<String, String> abbreviations, Map<String, Author> authors) {
@@ -66,112 +191,205 @@ public class AbbreviationHandler {
         }
     }
 
-    private static void expandAbbreviationsInAbbreviations(Map<String, String> abbreviations, Map<String, Author> authors) {
+    private void expandAbbreviationsInAbbreviations() {
         for (Map.Entry<String, String> entry : abbreviations.entrySet()) {
-            String fullText = entry.getValue();
+            Definition definition = getDefinition(entry.getKey());
 
-            if (fullText != null && !fullText.isEmpty()) {
-                entry.setValue(expandAbbreviations(fullText, abbreviations, authors));
+            if (entry.getValue() != null && definition != null) {
+                entry.setValue(resolve(definition));
             }
         }
     }
 
-    private static void expandAbbreviations(List<BibItem> items, Map<String, String> abbreviations, Map<String, Author> authors) {
-        for (BibItem item : items) {
-            for (String field : item.getFields()) {
-                String currentValue = item.get(field);
+    private void expandAbbreviations(BibItem item) {
+        for (String field : item.getFields()) {
+            String currentValue = item.get(field);
+
+            if (currentValue != null && !currentValue.isEmpty()) {
+                String expanded = expandAbbreviations(currentValue, item, field);
 
-                if (currentValue != null && !currentValue.isEmpty()) {
-                    item.put(field, expandAbbreviations(currentValue, abbreviations, authors));
+                if (expanded != currentValue) {
+                    item.put(field, expanded);
                 }
             }
         }
     }
 
-    private static void warnForPossibleAbbreviationMistakes(List<BibItem> items, Map<String, String> abbreviations, Map<String, Author> authors) {
-        for (BibItem item : items) {
-            for (String field : item.getFields()) {
-                String currentValue = item.get(field);
+    /**
+     * Gets the full text of an abbreviation, expanding any abbreviations it
+     * uses first.
+     */
+    private String resolve(Definition definition) {
+        switch (definition.state) {
+            case Definition.EXPANDED:
+                return definition.fullText;
+            case Definition.EXPANDING:
+                Console.error("The abbreviation \"%s\" is defined in terms of itself.", definition.name);
+                return "";
+            default:
+                definition.state = Definition.EXPANDING;
+                definition.fullText = expandAbbreviations(definition.fullText, null, null);
+                definition.state = Definition.EXPANDED;
+                return definition.fullText;
+        }
+    }
 
-                if (currentValue != null && !currentValue.isEmpty()) {
-                    Matcher matcher = mistakePattern.matcher(currentValue);
+    /**
+     * Expands all general abbreviations in the given text. If the text belongs
+     * to a field of a publication, possible mistakes in abbreviations are
+     * reported as well.
+     *
+     * @param text the text to expand
+     * @param item the publication the text belongs to, or null if it is the
+     * full text of an abbreviation
+     * @param field the field the text belongs to
+     * @return the expanded text. This is the same instance if the text does
+     * not contain any general abbreviations.
+     */
+    private String expandAbbreviations(String text, BibItem item, String field) {
+        int i = text.indexOf('<');
+
+        if (i < 0) {
+            return text;
+        }
+
+        int n = text.length();
+        StringBuilder result = null;
+        int copied = 0; // Everything before this index is in result
 
-                    while (matcher.find()) {
-                        // This is in the only non-null group
-                        String abbreviation = (matcher.group(1) != null ? matcher.group(1) : (matcher.group(2) != null ? matcher.group(2) : matcher.group(3)));
+        while (i >= 0) {
+            int runStart = i;
+
+            while (i < n && text.charAt(i) == '<') {
+                i++;
+            }
 
-                        if (abbreviations.containsKey(abbreviation) || authors.containsKey(abbreviation)) {
-                            Console.warn(Console.WarningType.POSSIBLE_MISTAKEN_ABBREVIATION, "I found the text \"%s\" in field \"%s\" of publication \"%s\". Did you mean to use an abbreviation (\"%s\") here?", matcher.group().trim(), field, item.getId(), "<<" + abbreviation + ">>");
+            if (i - runStart >= 2) {
+                int close = text.indexOf('>', runStart + 2);
+
+                if (close >= 0 && close + 1 < n && text.charAt(close + 1) == '>') {
+                    // <<abbr>>
+                    Definition definition = definitions.get(text, runStart + 2, close);
+
+                    if (definition == null || definition.general) {
+                        if (result == null) {
+                            result = new StringBuilder(n + 64);
                         }
-                    }
+
+                        result.append(text, copied, runStart);
+                        copied = close + 2;
+
+                        if (definition == null) {
+                            Console.error("Abbreviation \"%s\" is used, but never defined.", text.substring(runStart + 2, close));
+                        } else {
+                            result.append(resolve(definition));
+                        }
+                    } // Leave the author abbreviations
+
+                    i = text.indexOf('<', close + 2);
+                    continue;
                 }
             }
-        }
-    }
 
-    private static String expandAbbreviations(String currentValue, Map<String, String> abbreviations, Map<String, Author> authors) {
-        StringBuilder finalValue = new StringBuilder();
-        Matcher matcher = abbrPattern.matcher(currentValue);
-        int prevEnd = 0;
+            // Look for a mistake of the form <abbr>, <<abbr>, or <abbr>>
+            int nameStart = i;
 
-        while (matcher.find()) {
-            finalValue.append(currentValue.substring(prevEnd, matcher.start()));
+            while (i < n && text.charAt(i) != '<' && text.charAt(i) != '>') {
+                i++;
+            }
 
-            String abbreviation = matcher.group(1);
+            if (i < n && text.charAt(i) == '>') {
+                int nameEnd = i;
 
-            if (abbreviations.containsKey(abbreviation)) {
-                finalValue.append(abbreviations.get(abbreviation));
-            } else if (authors.containsKey(abbreviation)) {
-                finalValue.append("<<").append(abbreviation).append(">>"); // Leave the author abbreviations
-            } else {
-                Console.error("Abbreviation \"%s\" is used, but never defined.", abbreviation);
+                while (i < n && text.charAt(i) == '>') {
+                    i++;
+                }
+
+                if (item != null) {
+                    warnForPossibleAbbreviationMistake(text, nameStart, nameEnd, i, item, field);
+                }
             }
 
-            prevEnd = matcher.end();
+            i = text.indexOf('<', i);
         }
 
-        finalValue.append(currentValue.substring(prevEnd, currentValue.length()));
+        if (result == null) {
+            return text;
+        }
 
-        return finalValue.toString();
+        result.append(text, copied, n);
+        return result.toString();
     }
 
-    private static void replaceAuthorsAndEditors(List<BibItem> items, Map<String, Author> authors) {
-        for (BibItem item : items) {
-            String author = item.get("author");
-            if (author != null && !author.isEmpty()) {
-                item.put("author", replaceAuthors(author, authors, item.getAuthors()));
-            }
+    /**
+     * Warns if the given near-miss of an abbreviation refers to an existing
+     * abbreviation or author.
+     *
+     * @param text the text containing the near-miss
+     * @param nameStart the index of the first character after the opening
+     * brackets
+     * @param nameEnd the index of the first closing bracket
+     * @param closeEnd the index after the last closing bracket
+     */
+    private void warnForPossibleAbbreviationMistake(String text, int nameStart, int nameEnd, int closeEnd, BibItem item, String field) {
+        if (definitions.get(text, nameStart, nameEnd) == null) {
+            return;
+        }
 
-            String editor = item.get("editor");
-            if (editor != null && !editor.isEmpty()) {
-                item.put("editor", replaceAuthors(item.get("editor"), authors, item.getEditors()));
-            }
+        // Include the neighbouring characters, to help locate the text
+        boolean doubleOpen = nameStart >= 2 && text.charAt(nameStart - 2) == '<';
+        int start = (doubleOpen ? nameStart - 2 : Math.max(0, nameStart - 2));
+        int end = (closeEnd - nameEnd == 1 ? Math.min(text.length(), closeEnd + 1) : nameEnd + 2);
+        String abbreviation = text.substring(nameStart, nameEnd);
+
+        Console.warn(Console.WarningType.POSSIBLE_MISTAKEN_ABBREVIATION, "I found the text \"%s\" in field \"%s\" of publication \"%s\". Did you mean to use an abbreviation (\"%s\") here?", text.substring(start, end).trim(), field, item.getId(), "<<" + abbreviation + ">>");
+    }
+
+    private void replaceAuthorsAndEditors(BibItem item) {
+        String author = item.get("author");
+        if (author != null && !author.isEmpty()) {
+            item.put("author", replaceAuthors(author, item.getAuthors()));
+        }
+
+        String editor = item.get("editor");
+        if (editor != null && !editor.isEmpty()) {
+            item.put("editor", replaceAuthors(editor, item.getEditors()));
         }
     }
 
-    private static String replaceAuthors(String fieldValue, Map<String, Author> authors, List<Author> authorList) {
-        String[] names = fieldValue.split("\\s+[aA][nN][dD]\\s+"); // " and ", ignoring case
+    private String replaceAuthors(String fieldValue, List<Author> authorList) {
+        int n = fieldValue.length();
+        int nameStart = 0;
 
-        for (String name : names) {
-            Matcher matcher = abbrPattern.matcher(name);
+        // Split at " and ", ignoring case, with any white space around the "and"
+        for (int i = 0; i < n; i++) {
+            if (isWhiteSpace(fieldValue.charAt(i))) {
+                int andStart = i + 1;
 
-            if (matcher.find()) {
-                Author a = authors.get(matcher.group(1));
+                while (andStart < n && isWhiteSpace(fieldValue.charAt(andStart))) {
+                    andStart++;
+                }
 
-                if (a == null) {
-                    Console.error("Author abbreviation \"%s\" is used, but never defined.", matcher.group(1));
+                if (andStart + 3 < n && fieldValue.regionMatches(true, andStart, "and", 0, 3) && isWhiteSpace(fieldValue.charAt(andStart + 3))) {
+                    addAuthor(fieldValue, nameStart, i, authorList);
+
+                    nameStart = andStart + 4;
+
+                    while (nameStart < n && isWhiteSpace(fieldValue.charAt(nameStart))) {
+                        nameStart++;
+                    }
+
+                    i = nameStart - 1;
                 } else {
-                    authorList.add(a);
-                }
-            } else {
-                if (!name.trim().isEmpty()) {
-                    authorList.add(new Author(name));
+                    i = andStart - 1;
                 }
             }
         }
 
+        addAuthor(fieldValue, nameStart, n, authorList);
+
         // Update the author field
-        StringBuilder newFieldValue = new StringBuilder();
+        StringBuilder newFieldValue = new StringBuilder(n);
         boolean first = true;
 
         for (Author a : authorList) {
@@ -187,6 +405,175 @@ public class AbbreviationHandler {
         return newFieldValue.toString();
     }
 
-    private AbbreviationHandler() {
+    /**
+     * Adds the author whose name is fieldValue[start .. end - 1] to the list.
+     * This is either the author with the abbreviation used in the name, or the
+     * author with this name. All occurrences of the same name, up to white
+     * space, share a single Author object.
+     */
+    private void addAuthor(String fieldValue, int start, int end, List<Author> authorList) {
+        String abbreviation = findAbbreviation(fieldValue, start, end);
+
+        if (abbreviation != null) {
+            Author a = authors.get(abbreviation);
+
+            if (a == null) {
+                Console.error("Author abbreviation \"%s\" is used, but never defined.", abbreviation);
+            } else {
+                authorList.add(a);
+            }
+        } else {
+            String name = normalizeWhiteSpace(fieldValue, start, end);
+
+            if (!name.isEmpty()) {
+                Author a = namedAuthors.get(name);
+
+                if (a == null) {
+                    a = new Author(name);
+                    namedAuthors.put(name, a);
+                }
+
+                authorList.add(a);
+            }
+        }
+    }
+
+    /**
+     * Finds the first "&lt;&lt;abbr&gt;&gt;" in text[start .. end - 1].
+     *
+     * @return abbr, or null if there is none
+     */
+    private static String findAbbreviation(String text, int start, int end) {
+        for (int open = text.indexOf("<<", start); open >= 0 && open + 2 < end; open = text.indexOf("<<", open + 1)) {
+            int close = text.indexOf('>', open + 2);
+
+            if (close < 0 || close + 1 >= end) {
+                return null;
+            }
+
+            if (text.charAt(close + 1) == '>') {
+                return text.substring(open + 2, close);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets text[start .. end - 1], with all white space runs replaced by a
+     * single space and without leading or trailing white space.
+     */
+    private static String normalizeWhiteSpace(String text, int start, int end) {
+        while (start < end && isWhiteSpace(text.charAt(start))) {
+            start++;
+        }
+
+        while (end > start && isWhiteSpace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        StringBuilder result = null;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (isWhiteSpace(c) && (c != ' ' || isWhiteSpace(text.charAt(i + 1)))) {
+                if (result == null) {
+                    result = new StringBuilder(end - start).append(text, start, i);
+                }
+
+                result.append(' ');
+
+                while (isWhiteSpace(text.charAt(i + 1))) {
+                    i++;
+                }
+            } else if (result != null) {
+                result.append(c);
+            }
+        }
+
+        return (result == null ? text.substring(start, end) : result.toString());
+    }
+
+    /**
+     * Tests whether the given character is white space, in the sense of the
+     * regular expression class \s.
+     */
+    private static boolean isWhiteSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * What an abbreviation stands for.
+     */
+    private static class Definition {
+
+        static final int UNEXPANDED = 0;
+        static final int EXPANDING = 1;
+        static final int EXPANDED = 2;
+        final String name;
+        boolean general = false; // Whether this is a general abbreviation
+        String fullText; // The full text of a general abbreviation
+        int state = EXPANDED; // Whether the abbreviations in the full text have been expanded
+        Author author; // The author with this abbreviation, if any
+
+        Definition(String name) {
+            this.name = name;
+        }
+
+        void setFullText(String fullText) {
+            general = true;
+            this.fullText = (fullText == null ? "" : fullText);
+            state = UNEXPANDED;
+        }
+    }
+
+    /**
+     * A node of a trie that maps abbreviations to their definitions. The
+     * children are sorted by their character.
+     */
+    private static class TrieNode {
+
+        char[] characters = new char[0];
+        TrieNode[] children = new TrieNode[0];
+        Definition definition;
+
+        /**
+         * Gets the definition of the abbreviation text[start .. end - 1].
+         */
+        Definition get(String text, int start, int end) {
+            TrieNode node = this;
+
+            for (int i = start; i < end && node != null; i++) {
+                int index = Arrays.binarySearch(node.characters, text.charAt(i));
+                node = (index < 0 ? null : node.children[index]);
+            }
+
+            return (node == null ? null : node.definition);
+        }
+
+        TrieNode getOrAddChild(char c) {
+            int index = Arrays.binarySearch(characters, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            index = -index - 1;
+
+            char[] newCharacters = new char[characters.length + 1];
+            System.arraycopy(characters, 0, newCharacters, 0, index);
+            System.arraycopy(characters, index, newCharacters, index + 1, characters.length - index);
+            newCharacters[index] = c;
+
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            newChildren[index] = new TrieNode();
+
+            characters = newCharacters;
+            children = newChildren;
+            return newChildren[index];
+        }
     }
 }
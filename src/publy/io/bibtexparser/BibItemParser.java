@@ -16,9 +16,6 @@
 package publy.io.bibtexparser;
 
 import java.io.IOException;
-import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.util.regex.Pattern;
 import publy.data.Pair;
 import publy.data.bibitem.BibItem;
 
@@ -34,24 +31,42 @@ public class BibItemParser {
         '"', // Value delimiter "..."
         '#' // String concatenation
     };
-    private static final int MAX_RESET = 6000000; // ~12MB, Easily accomodates largest bib file I've found
-    private static final Pattern number = Pattern.compile("(\\d)+");
-    private static Tokenizer tokenizer;
+    private static final int[] BRACED_VALUE_TOKENS = new int[]{Tokenizer.TT_WORD, '(', ')', ',', '#', '=', '{', '"'};
+    private static final int[] QUOTED_VALUE_TOKENS = new int[]{Tokenizer.TT_WORD, '(', ')', ',', '#', '=', '{'};
+    private final Tokenizer tokenizer;
+    private final SymbolTable symbols = new SymbolTable();
 
-    public static Pair<Integer, BibItem> parseBibItem(Reader in) throws IOException, ParseException {
-        if (in.markSupported()) {
-            in.mark(MAX_RESET);
-        }
+    /**
+     * Creates a parser for entries read by the given tokenizer.
+     *
+     * @param tokenizer the input
+     */
+    BibItemParser(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
 
-        tokenizer = new Tokenizer(in);
+    /**
+     * Parses a single entry. The tokenizer should be positioned just after the
+     * '@' that starts the entry.
+     * <p>
+     * If the entry is malformed, the tokenizer skips to the start of the next
+     * entry or tag (see {@link Tokenizer#skipToNextEntry()}) before the
+     * exception is thrown.
+     *
+     * @return the parsed entry
+     * @throws IOException
+     * @throws ParseException
+     */
+    BibItem parseBibItem() throws IOException, ParseException {
+        tokenizer.startEntry();
         tokenizer.setSpecialCharacters(SPECIAL_CHARACTERS);
+        tokenizer.setWhiteSpaceMatters(false);
 
         BibItem result = null;
-        int extraNewLines = 0;
-        
+
         try {
-            tokenizer.match(StreamTokenizer.TT_WORD);
-            String type = tokenizer.getLastTokenAsString().toLowerCase();
+            tokenizer.match(Tokenizer.TT_WORD);
+            String type = symbols.getSymbol(tokenizer.getLastTokenAsString().toLowerCase());
 
             switch (type) {
                 case "comment":
@@ -64,17 +79,13 @@ public class BibItemParser {
                     result = parseString();
                     break;
                 default:
-                    Pair<Integer, BibItem> pub = parsePublication(type);
-                    extraNewLines = pub.getFirst();
-                    result = pub.getSecond();
+                    result = parsePublication(type);
                     break;
             }
-        } catch (ParseException ex) { // Do not reset upon IOException, as that is likely to be unrecoverable
-            if (in.markSupported()) {
-                in.reset();
-            }
-            
+        } catch (ParseException ex) { // Do not recover from an IOException, as that is likely to be unrecoverable
             ex.setLineNumber(tokenizer.lineno());
+            ex.setColumnNumber(tokenizer.column());
+            tokenizer.skipToNextEntry();
 
             if (ex.getType() == null || ex.getType().isEmpty()) {
                 ex.setType("entry");
@@ -82,8 +93,9 @@ public class BibItemParser {
 
             throw ex;
         }
-        
-        return new Pair<>(tokenizer.lineno() + extraNewLines, result);
+
+        tokenizer.endEntry();
+        return result;
     }
 
     /**
@@ -93,19 +105,19 @@ public class BibItemParser {
      * @throws ParseException
      * @throws IOException
      */
-    private static BibItem parseString() throws ParseException, IOException {
+    private BibItem parseString() throws ParseException, IOException {
         // <string> ::= "(" <short> "=" <value> ")" | "{" <short> "=" <value> "}"
         String shortName = null;
 
         try {
             int bracket = tokenizer.match('{', '(');
 
-            tokenizer.match(StreamTokenizer.TT_WORD);
+            tokenizer.match(Tokenizer.TT_WORD);
             shortName = tokenizer.getLastTokenAsString();
 
             tokenizer.match('=');
 
-            String fullText = parseValue();
+            String fullText = parseValue(false);
 
             if (bracket == '{') {
                 tokenizer.match('}');
@@ -136,15 +148,14 @@ public class BibItemParser {
      * @return
      * @throws ParseException
      */
-    private static Pair<Integer, BibItem> parsePublication(String type) throws ParseException, IOException {
+    private BibItem parsePublication(String type) throws ParseException, IOException {
         // <body> ::= "{" <id> ("," <field>)* "}" | "(" <id> ("," <field>)* ")"
         String id = null;
 
         try {
-            int fieldBodyNewLines = 0;
             int bracket = tokenizer.match('{', '(');
 
-            tokenizer.match(StreamTokenizer.TT_WORD);
+            tokenizer.match(Tokenizer.TT_WORD);
             id = tokenizer.getLastTokenAsString();
 
             BibItem result = new BibItem(type, id);
@@ -154,8 +165,7 @@ public class BibItemParser {
                 Pair<String, String> field = parseField();
 
                 if (field != null) {
-                    fieldBodyNewLines += countNewLines(field.getSecond());
-                    result.put(field.getFirst(), normalizeValue(field.getSecond()));
+                    result.put(field.getFirst(), field.getSecond());
                 }
             }
 
@@ -165,7 +175,7 @@ public class BibItemParser {
                 tokenizer.match(',', ')');
             }
 
-            return new Pair<>(fieldBodyNewLines, result);
+            return result;
         } catch (ParseException pe) {
             pe.setType('@' + type + " entry");
 
@@ -177,28 +187,42 @@ public class BibItemParser {
         }
     }
 
-    private static Pair<String, String> parseField() throws IOException, ParseException {
+    private Pair<String, String> parseField() throws IOException, ParseException {
         // <field> ::= (<name> "=" <value>)?
-        if (tokenizer.nextTokenIs(StreamTokenizer.TT_WORD)) {
-            tokenizer.match(StreamTokenizer.TT_WORD);
-            String name = tokenizer.getLastTokenAsString().toLowerCase();
+        if (tokenizer.nextTokenIs(Tokenizer.TT_WORD)) {
+            tokenizer.match(Tokenizer.TT_WORD);
+            String name = symbols.getSymbol(tokenizer.getLastTokenAsString().toLowerCase());
 
             tokenizer.match('=');
 
-            return new Pair<>(name, parseValue());
+            return new Pair<>(name, parseValue(true));
         } else {
             return null;
         }
     }
 
-    private static String parseValue() throws IOException, ParseException {
+    /**
+     * Parses a value, optionally normalizing its white space as it is read.
+     *
+     * @param normalize whether to collapse white space into single spaces and
+     * trim the result
+     * @return the value
+     * @throws IOException
+     * @throws ParseException
+     */
+    private String parseValue(boolean normalize) throws IOException, ParseException {
         // <value> ::= (<simple-value> ("#" <simple-value>)*)?
-        if (tokenizer.nextTokenIs(StreamTokenizer.TT_WORD, '{', '"')) {
-            StringBuilder value = new StringBuilder(parseSimpleValue());
+        if (tokenizer.nextTokenIs(Tokenizer.TT_WORD, '{', '"')) {
+            StringBuilder value = new StringBuilder();
+            parseSimpleValue(value, normalize);
 
             while (tokenizer.nextTokenIs('#')) {
                 tokenizer.match('#');
-                value.append(parseSimpleValue());
+                parseSimpleValue(value, normalize);
+            }
+
+            if (normalize) {
+                Tokenizer.trimTrailingWhiteSpace(value);
             }
 
             return value.toString();
@@ -207,21 +231,21 @@ public class BibItemParser {
         }
     }
 
-    private static String parseSimpleValue() throws IOException, ParseException {
+    private void parseSimpleValue(StringBuilder value, boolean normalize) throws IOException, ParseException {
         // <simple-value> ::= <abbreviation> | <number> | "{" <braced-value> "}" | "\"" <quoted-value> "\""
-        int token = tokenizer.match(StreamTokenizer.TT_WORD, '{', '"');
-
-        if (token == StreamTokenizer.TT_WORD) {
-            String value = tokenizer.getLastTokenAsString();
+        int token = tokenizer.match(Tokenizer.TT_WORD, '{', '"');
 
-            if (isNumeric(value)) {
-                return value;
+        if (token == Tokenizer.TT_WORD) {
+            if (tokenizer.isLastTokenNumeric()) {
+                tokenizer.appendLastToken(value, normalize);
             } else {
-                return "<<" + value + ">>";
+                value.append("<<");
+                tokenizer.appendLastToken(value, normalize);
+                value.append(">>");
             }
         } else {
             tokenizer.setWhiteSpaceMatters(true);
-            String value = parseDelimitedValue(token);
+            parseDelimitedValue(token, value, normalize);
             tokenizer.setWhiteSpaceMatters(false);
 
             if (token == '{') {
@@ -229,49 +253,23 @@ public class BibItemParser {
             } else {
                 tokenizer.match('"');
             }
-
-            return value;
         }
     }
 
-    private static String parseDelimitedValue(int delimiter) throws IOException, ParseException {
+    private void parseDelimitedValue(int delimiter, StringBuilder value, boolean normalize) throws IOException, ParseException {
         // <braced-value> ::= (word | nonBraceSpecialChars | "{" <braced-value> "}")*
         // <quoted-value> ::= (word | nonBraceAndQuoteSpecialChars | "{" <braced-value> "}")*
-        int[] wordCharacters = (delimiter == '{'
-                ? new int[]{StreamTokenizer.TT_WORD, '(', ')', ',', '#', '=', '{', '"'}
-                : new int[]{StreamTokenizer.TT_WORD, '(', ')', ',', '#', '=', '{'});
-
-        StringBuilder value = new StringBuilder();
+        int[] wordCharacters = (delimiter == '{' ? BRACED_VALUE_TOKENS : QUOTED_VALUE_TOKENS);
 
         while (tokenizer.nextTokenIs(wordCharacters)) {
             int token = tokenizer.match(wordCharacters);
-            value.append(tokenizer.getLastTokenAsString());
+            tokenizer.appendLastToken(value, normalize);
 
             if (token == '{') {
-                value.append(parseDelimitedValue('{'));
+                parseDelimitedValue('{', value, normalize);
                 tokenizer.match('}');
                 value.append('}');
             }
         }
-
-        return value.toString();
-    }
-
-    private static boolean isNumeric(String input) {
-        return number.matcher(input).matches();
-    }
-
-    private static String normalizeValue(String value) {
-        return value.replaceAll("\\s+", " ").trim();
-    }
-    
-    private static int countNewLines(String value) {
-        // (value + " ") so that it counts newlines on the end of value
-        // "\r?\n|\r" matches \r\n, \n, and \r
-        // - 1, because we only care about new lines, not the current one
-        return (value + " ").split("\r?\n|\r").length - 1;
-    }
-
-    private BibItemParser() {
     }
 }
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import publy.data.Author;
+import publy.data.bibitem.BibItem;
+
+/**
+ * A persistent cache of parse results, keyed by the content of the input.
+ * <p>
+ * The input is divided into segments, each starting at a line that starts
+ * with '@'. Entries rarely extend beyond such a line, so segments can usually
+ * be parsed independently. For every segment that parsed without errors or
+ * warnings, the cache stores a hash of its characters, together with the
+ * publications, abbreviations and authors it defines. When the same segment is
+ * encountered again, these are reused instead of parsing the segment.
+ * <p>
+ * The cache stores the parse results before abbreviations and authors are
+ * expanded. The expansion is always redone on the complete input, so changes
+ * to any definition are reflected in every publication that uses it.
+ * <p>
+ * Only segments that were used since the cache was loaded are saved, so the
+ * cache does not grow when the input changes.
+ */
+class ParseCache {
+
+    private static final int MAGIC = 0x50756250; // "PubP"
+    private static final int VERSION = 1;
+    private final Map<Long, Segment> loaded;
+    private final Map<Long, Segment> used = new LinkedHashMap<>();
+    private final SymbolTable symbols = new SymbolTable();
+    private boolean modified = false; // Whether any segment was added since loading
+
+    private ParseCache(Map<Long, Segment> loaded) {
+        this.loaded = loaded;
+    }
+
+    /**
+     * Reads the cache from the given file. If the file does not exist, or is
+     * not a valid cache, an empty cache is returned.
+     *
+     * @param file the file to read
+     * @return the cache
+     */
+    static ParseCache load(Path file) {
+        Map<Long, Segment> segments = new HashMap<>();
+
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+
+                if (in.getInt() == MAGIC && in.getInt() == VERSION) {
+                    int count = in.getInt();
+
+                    for (int i = 0; i < count; i++) {
+                        long hash = in.getLong();
+                        int length = in.getInt();
+                        int dataLength = in.getInt();
+
+                        segments.put(hash, new Segment(length, in.array(), in.position(), dataLength));
+                        in.position(in.position() + dataLength);
+                    }
+                }
+            } catch (IOException | RuntimeException ex) {
+                // Corrupt or unreadable: start from scratch
+                segments.clear();
+            }
+        }
+
+        return new ParseCache(segments);
+    }
+
+    /**
+     * Writes all segments that were used since this cache was loaded to the
+     * given file, unless these are exactly the segments that were loaded.
+     *
+     * @param file the file to write
+     * @throws IOException
+     */
+    void save(Path file) throws IOException {
+        if (!modified && used.size() == loaded.size() && Files.isRegularFile(file)) {
+            return;
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "publy-", ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(used.size());
+
+                for (Map.Entry<Long, Segment> entry : used.entrySet()) {
+                    Segment segment = entry.getValue();
+                    out.writeLong(entry.getKey());
+                    out.writeInt(segment.length);
+                    out.writeInt(segment.dataLength);
+                    out.write(segment.data, segment.dataStart, segment.dataLength);
+                }
+            }
+
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Gets the cached parse results of the given segment.
+     *
+     * @param input the array that holds the input
+     * @param start the index of the first character of the segment
+     * @param end the index after the last character of the segment
+     * @return a parser holding the results of the segment, or null if the
+     * segment is not cached
+     */
+    PublicationListParser get(char[] input, int start, int end) {
+        long hash = hash(input, start, end);
+        Segment segment = loaded.get(hash);
+
+        if (segment == null || segment.length != end - start) {
+            return null;
+        }
+
+        PublicationListParser result;
+
+        try {
+            result = segment.read(symbols);
+        } catch (RuntimeException ex) {
+            // Corrupt segment: parse it instead
+            return null;
+        }
+
+        used.put(hash, segment);
+        return result;
+    }
+
+    /**
+     * Stores the parse results of the given segment. These should be the
+     * results before abbreviations and authors are expanded.
+     *
+     * @param input the array that holds the input
+     * @param start the index of the first character of the segment
+     * @param end the index after the last character of the segment
+     * @param results a parser holding the results of the segment
+     */
+    void put(char[] input, int start, int end, PublicationListParser results) {
+        List<BibItem> items = results.getItems();
+        Map<String, String> abbreviations = results.getAbbreviations();
+        Map<String, Author> authors = results.getAuthors();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(items.size());
+
+            for (BibItem item : items) {
+                writeString(out, item.getOriginalType());
+                writeString(out, item.getId());
+                out.writeInt(item.getFields().size());
+
+                for (String field : item.getFields()) {
+                    writeString(out, field);
+                    writeString(out, item.get(field));
+                }
+            }
+
+            out.writeInt(abbreviations.size());
+
+            for (Map.Entry<String, String> abbreviation : abbreviations.entrySet()) {
+                writeString(out, abbreviation.getKey());
+                writeString(out, abbreviation.getValue());
+            }
+
+            out.writeInt(authors.size());
+
+            for (Map.Entry<String, Author> entry : authors.entrySet()) {
+                Author author = entry.getValue();
+                writeString(out, entry.getKey());
+                writeString(out, author.getAbbreviation());
+                writeString(out, author.getName());
+                writeString(out, author.getUrl());
+                writeString(out, author.getGroup());
+            }
+        } catch (IOException ex) {
+            // Cannot happen when writing to memory
+            throw new AssertionError(ex);
+        }
+
+        byte[] data = bytes.toByteArray();
+        modified = true;
+        used.put(hash(input, start, end), new Segment(end - start, data, 0, data.length));
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the given characters.
+     */
+    private static long hash(char[] input, int start, int end) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = start; i < end; i++) {
+            hash ^= input[i];
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    private static void writeString(DataOutput out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        String s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return s;
+    }
+
+    /**
+     * The cached parse results of a single segment.
+     */
+    private static class Segment {
+
+        final int length; // The number of characters in the segment
+        final byte[] data; // The parse results are stored in data[dataStart .. dataStart + dataLength - 1]
+        final int dataStart;
+        final int dataLength;
+
+        Segment(int length, byte[] data, int dataStart, int dataLength) {
+            this.length = length;
+            this.data = data;
+            this.dataStart = dataStart;
+            this.dataLength = dataLength;
+        }
+
+        PublicationListParser read(SymbolTable symbols) {
+            PublicationListParser result = new PublicationListParser();
+            ByteBuffer in = ByteBuffer.wrap(data, dataStart, dataLength);
+
+            for (int i = in.getInt(); i > 0; i--) {
+                BibItem item = new BibItem(symbols.getSymbol(readString(in)), readString(in));
+
+                for (int j = in.getInt(); j > 0; j--) {
+                    item.put(symbols.getSymbol(readString(in)), readString(in));
+                }
+
+                result.getItems().add(item);
+            }
+
+            for (int i = in.getInt(); i > 0; i--) {
+                result.getAbbreviations().put(readString(in), readString(in));
+            }
+
+            for (int i = in.getInt(); i > 0; i--) {
+                String key = readString(in);
+                Author author = new Author(readString(in), readString(in));
+                author.setUrl(readString(in));
+                author.setGroup(readString(in));
+
+                result.getAuthors().put(key, author);
+            }
+
+            return result;
+        }
+    }
+}
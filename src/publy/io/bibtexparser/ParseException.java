@@ -19,6 +19,7 @@ public class ParseException extends Exception {
 
     private static final long serialVersionUID = 1L;
     private int lineNumber = -1;
+    private int columnNumber = -1;
     private String item;
     private String type;
 
@@ -45,6 +46,10 @@ public class ParseException extends Exception {
         
         if (lineNumber >= 0) {
             result.append(", on line ").append(lineNumber);
+
+            if (columnNumber > 0) {
+                result.append(", column ").append(columnNumber);
+            }
         }
         
         result.append(": ").append(getMessage());
@@ -60,6 +65,14 @@ public class ParseException extends Exception {
         this.lineNumber = lineNumber;
     }
 
+    public int getColumnNumber() {
+        return columnNumber;
+    }
+
+    public void setColumnNumber(int columnNumber) {
+        this.columnNumber = columnNumber;
+    }
+
     public String getItem() {
         return item;
     }
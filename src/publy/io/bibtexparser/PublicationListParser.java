@@ -17,69 +17,432 @@ package publy.io.bibtexparser;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import publy.Console;
+import publy.algo.WorkerPool;
 import publy.data.Author;
-import publy.data.Pair;
 import publy.data.bibitem.BibItem;
 
+/**
+ * Parses a list of publications in BibTeX format, together with the tags that
+ * define abbreviations and authors.
+ * <p>
+ * Each input is parsed by its own parser objects, and there is no shared
+ * mutable state, so different inputs can safely be parsed concurrently.
+ */
 public class PublicationListParser {
 
+    /**
+     * Files of at least this many bytes are memory-mapped and decoded in bulk,
+     * instead of being read through a Reader.
+     */
+    private static final long MAPPED_INPUT_THRESHOLD = 1 << 20; // 1MB
+    /**
+     * The minimum number of characters in a chunk of input that is parsed in
+     * parallel with the others.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 18; // 256K characters
+
     public static List<BibItem> parseFile(Path file) throws IOException, ParseException {
+        if (Files.size(file) >= MAPPED_INPUT_THRESHOLD) {
+            return parseBibTeX(readMapped(file), true);
+        }
+
         try (BufferedReader in = Files.newBufferedReader(file, Charset.forName("UTF-8"))) {
             return parseBibTeX(in);
         }
     }
 
+    /**
+     * Parses the given file, reusing the results of a previous parse where the
+     * file did not change.
+     * <p>
+     * The cache file stores the parse results of each part of the input that
+     * starts with an entry (see {@link ParseCache}). Only the parts that
+     * changed since the cache was written are parsed again. If these are large
+     * enough, they are parsed in parallel, like {@link #parseFile(Path)} does.
+     * Afterwards, the cache file is replaced by the results of this parse. If
+     * the cache file cannot be written, a warning is shown, but the parse still
+     * succeeds.
+     *
+     * @param file the file to parse
+     * @param cacheFile the cache file, which need not exist yet
+     * @return the parsed publications
+     * @throws IOException
+     * @throws ParseException
+     */
+    public static List<BibItem> parseFile(Path file, Path cacheFile) throws IOException, ParseException {
+        ParseCache cache = ParseCache.load(cacheFile);
+        CharBuffer input = readFully(file);
+        List<BibItem> result;
+
+        if (input.hasArray()) {
+            result = parseCached(input.array(), input.arrayOffset() + input.position(), input.arrayOffset() + input.limit(), cache);
+        } else {
+            char[] chars = new char[input.remaining()];
+            input.get(chars);
+            result = parseCached(chars, 0, chars.length, cache);
+        }
+
+        try {
+            cache.save(cacheFile);
+        } catch (IOException ex) {
+            Console.warn(Console.WarningType.OTHER, "Could not write the parse cache \"%s\": %s", cacheFile, ex.getMessage());
+        }
+
+        return result;
+    }
+
     public static List<BibItem> parseBibTeX(Reader in) throws IOException, ParseException {
+        return parse(new Tokenizer(in));
+    }
+
+    /**
+     * Parses the remaining characters of the given buffer.
+     * <p>
+     * In parallel mode, large inputs are split into chunks at lines that start
+     * with an entry or tag, and these chunks are parsed concurrently. The
+     * results, including any messages shown to the user, are the same as those
+     * of a sequential parse.
+     *
+     * @param input the complete input
+     * @param parallel whether the input may be parsed in parallel
+     * @return the parsed publications
+     * @throws IOException
+     * @throws ParseException
+     */
+    public static List<BibItem> parseBibTeX(CharBuffer input, boolean parallel) throws IOException, ParseException {
+        if (!parallel || input.remaining() < 2 * MIN_CHUNK_SIZE || WorkerPool.getThreads() < 2) {
+            return parse(new Tokenizer(input));
+        }
+
+        if (input.hasArray()) {
+            return parseInParallel(input.array(), input.arrayOffset() + input.position(), input.arrayOffset() + input.limit());
+        } else {
+            char[] chars = new char[input.remaining()];
+            input.duplicate().get(chars);
+            return parseInParallel(chars, 0, chars.length);
+        }
+    }
+
+    /**
+     * Reads all characters of the given file. Large files are memory-mapped,
+     * smaller ones are read in one go.
+     *
+     * @param file the file to read
+     * @return a buffer holding all characters of the file
+     * @throws IOException if the file cannot be read, or is not valid UTF-8
+     */
+    private static CharBuffer readFully(Path file) throws IOException {
+        if (Files.size(file) >= MAPPED_INPUT_THRESHOLD) {
+            return readMapped(file);
+        }
+
+        return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Memory-maps the given file and decodes its contents as UTF-8 in one
+     * pass.
+     *
+     * @param file the file to read
+     * @return a buffer holding all characters of the file
+     * @throws IOException if the file cannot be read, or is not valid UTF-8
+     */
+    private static CharBuffer readMapped(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StandardCharsets.UTF_8.newDecoder().decode(bytes);
+        }
+    }
+
+    private static List<BibItem> parse(Tokenizer in) throws IOException {
         PublicationListParser parser = new PublicationListParser();
 
-        parser.parseBibTeXInternal(in);
+        parser.parseBibTeXInternal(in, Long.MAX_VALUE);
         AbbreviationHandler.handleAbbreviationsAndAuthors(parser.items, parser.abbreviations, parser.authors);
 
         return parser.items;
     }
 
+    private static List<BibItem> parseCached(char[] input, int start, int end, ParseCache cache) throws IOException {
+        // Reuse the cached segments, and group the others into runs of consecutive segments
+        List<Segment> segments = new ArrayList<>();
+        List<SegmentRun> runs = new ArrayList<>();
+        int uncached = 0;
+
+        for (int segmentStart = start; segmentStart < end;) {
+            int segmentEnd = nextSegmentStart(input, segmentStart, end);
+            Segment segment = new Segment(segmentStart, segmentEnd, cache.get(input, segmentStart, segmentEnd));
+            segments.add(segment);
+
+            if (!segment.cached) {
+                uncached += segmentEnd - segmentStart;
+            }
+
+            segmentStart = segmentEnd;
+        }
+
+        boolean parallel = uncached >= 2 * MIN_CHUNK_SIZE && WorkerPool.getThreads() > 1;
+        int runSize = Math.max(MIN_CHUNK_SIZE, uncached / (4 * WorkerPool.getThreads()));
+        SegmentRun run = null;
+        int line = 1;
+
+        for (Segment segment : segments) {
+            if (segment.cached) {
+                run = null;
+            } else {
+                if (run == null || run.size >= runSize) {
+                    run = new SegmentRun(new Tokenizer(input, segment.start, end, line));
+                    runs.add(run);
+                }
+
+                run.add(segment);
+            }
+
+            line += countLineBreaks(input, segment.start, segment.end);
+        }
+
+        if (parallel) {
+            for (Future<SegmentRun> result : WorkerPool.invokeAll(runs)) {
+                getResult(result);
+            }
+        } else {
+            for (SegmentRun segmentRun : runs) {
+                segmentRun.call();
+            }
+        }
+
+        // Merge the segments in order
+        PublicationListParser parser = new PublicationListParser();
+        Segment previous = null;
+
+        for (Segment segment : segments) {
+            if (previous != null && previous.stop > segment.start && previous.run != segment.run) {
+                // The last entry of the previous segment extends into this one,
+                // which was therefore parsed, or cached, starting from the middle of an entry.
+                // Discard its results, and continue parsing the previous segment's run instead.
+                segment.reparse(previous.run);
+            }
+
+            if (segment.isClean()) {
+                cache.put(input, segment.start, segment.end, segment.results);
+            } else if (segment.messages != null) {
+                // Segments with problems are parsed every time, so that the messages are shown every time
+                segment.messages.flush();
+            }
+
+            parser.addAll(segment.results);
+            previous = segment;
+        }
+
+        AbbreviationHandler.handleAbbreviationsAndAuthors(parser.items, parser.abbreviations, parser.authors);
+
+        return parser.items;
+    }
+
+    /**
+     * Finds the start of the first line after the given index whose first
+     * character is '@'. Entries rarely extend beyond such a line; segments
+     * where one does are not cached.
+     */
+    private static int nextSegmentStart(char[] input, int from, int end) {
+        for (int i = from; i + 1 < end; i++) {
+            if ((input[i] == '\n' || input[i] == '\r') && input[i + 1] == '@') {
+                return i + 1;
+            }
+        }
+
+        return end;
+    }
+
+    private static int countLineBreaks(char[] input, int start, int end) {
+        int lineBreaks = 0;
+
+        for (int i = start; i < end; i++) {
+            if (input[i] == '\r' || (input[i] == '\n' && (i == start || input[i - 1] != '\r'))) {
+                lineBreaks++;
+            }
+        }
+
+        return lineBreaks;
+    }
+
+    private static List<BibItem> parseInParallel(char[] input, int start, int end) throws IOException {
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (end - start) / (4 * WorkerPool.getThreads()));
+        List<Chunk> chunks = split(input, start, end, chunkSize);
+        List<Future<Chunk>> results = WorkerPool.invokeAll(chunks);
+
+        // Merge the chunks in order
+        PublicationListParser parser = new PublicationListParser();
+        Chunk previous = null;
+
+        for (Future<Chunk> result : results) {
+            Chunk chunk = getResult(result);
+
+            if (previous != null && previous.stop > chunk.start) {
+                // The last entry of the previous chunk extends into this one,
+                // so this chunk was parsed starting from the middle of an entry.
+                // Discard it, and continue parsing the previous chunk instead.
+                previous.messages.flush();
+                previous.stop = previous.parser.parseBibTeXInternal(previous.tokenizer, chunk.end);
+            } else {
+                if (previous != null) {
+                    previous.mergeInto(parser);
+                }
+
+                previous = chunk;
+            }
+        }
+
+        previous.mergeInto(parser);
+        AbbreviationHandler.handleAbbreviationsAndAuthors(parser.items, parser.abbreviations, parser.authors);
+
+        return parser.items;
+    }
+
+    /**
+     * Splits the input into chunks of roughly the given size. Each chunk
+     * except the first starts at a line whose first character starts an entry
+     * or tag.
+     */
+    private static List<Chunk> split(char[] input, int start, int end, int chunkSize) {
+        List<Chunk> chunks = new ArrayList<>();
+        int chunkStart = start;
+        int chunkLine = 1;
+        int line = 1;
+
+        for (int i = start; i < end; i++) {
+            char c = input[i];
+
+            if (c == '\r' || (c == '\n' && (i == start || input[i - 1] != '\r'))) {
+                line++;
+            }
+
+            boolean lineEnds = (c == '\n' || (c == '\r' && (i + 1 == end || input[i + 1] != '\n')));
+
+            if (lineEnds && i + 1 - chunkStart >= chunkSize && startsEntry(input, i + 1, end)) {
+                chunks.add(new Chunk(input, chunkStart, i + 1, end, chunkLine));
+                chunkStart = i + 1;
+                chunkLine = line;
+            }
+        }
+
+        chunks.add(new Chunk(input, chunkStart, end, end, chunkLine));
+        return chunks;
+    }
+
+    private static boolean startsEntry(char[] input, int lineStart, int end) {
+        // Only unindented entries, which are least likely to be part of a value.
+        // If the previous chunk still ends up extending into this one, the chunk is parsed again during the merge.
+        return lineStart < end && (input[lineStart] == '@' || input[lineStart] == '<');
+    }
+
+    private static <T> T getResult(Future<T> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing.");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new AssertionError(cause);
+            }
+        }
+    }
+
     private final List<BibItem> items = new ArrayList<>();
     private final Map<String, String> abbreviations = new LinkedHashMap<>(); // Ensure that order is preserved, so that abbreviations that use earlier abbreviations can be expanded properly
     private final Map<String, Author> authors = new HashMap<>();
 
-    private PublicationListParser() {
+    PublicationListParser() {
+    }
+
+    List<BibItem> getItems() {
+        return items;
+    }
+
+    Map<String, String> getAbbreviations() {
+        return abbreviations;
+    }
+
+    Map<String, Author> getAuthors() {
+        return authors;
     }
 
-    private void parseBibTeXInternal(Reader in) throws IOException {
-        int lineNumber = 1;
+    /**
+     * Adds all results of the given parser, as if its input followed the input
+     * of this parser.
+     *
+     * @param other the parser to take the results from
+     */
+    private void addAll(PublicationListParser other) {
+        items.addAll(other.items);
+        abbreviations.putAll(other.abbreviations); // Keeps the position of abbreviations that were defined earlier, like a sequential parse
+        authors.putAll(other.authors);
+    }
+
+    /**
+     * Parses all entries and tags that start before the given offset.
+     *
+     * @param in the input
+     * @param end the offset at which to stop
+     * @return the offset at which parsing stopped. This is larger than
+     * {@code end} if the last entry extends beyond it.
+     * @throws IOException
+     */
+    private long parseBibTeXInternal(Tokenizer in, long end) throws IOException {
+        BibItemParser itemParser = new BibItemParser(in);
+        TagParser tagParser = new TagParser(in);
+
+        while (in.getOffset() < end) {
+            int c = in.read();
+
+            if (c == -1) {
+                break;
+            }
 
-        for (int c = in.read(); c != -1; c = in.read()) {
             try {
                 switch (c) {
                     case '@':
-                        Pair<Integer, BibItem> parsedItem = BibItemParser.parseBibItem(in);
-                        lineNumber += parsedItem.getFirst() - 1;
-                        handleBibItem(parsedItem.getSecond());
+                        handleBibItem(itemParser.parseBibItem());
                         break;
                     case '<':
-                        Pair<Integer, Tag> parsedTag = TagParser.parseTag(in);
-                        lineNumber += parsedTag.getFirst() - 1;
-                        handleTag(parsedTag.getSecond());
-                        break;
-                    case '\n':
-                        lineNumber++;
+                        handleTag(tagParser.parseTag());
                         break;
                 }
             } catch (ParseException ex) {
-                ex.setLineNumber(ex.getLineNumber() + lineNumber - 1);
                 Console.error(ex.getErrorText());
             }
         }
+
+        return in.getOffset();
     }
 
     private void handleBibItem(BibItem item) {
@@ -116,4 +479,126 @@ public class PublicationListParser {
                 throw new InternalError("Tag with unexpected type: " + tag);
         }
     }
+
+    /**
+     * A part of the input that is parsed independently.
+     */
+    private static class Chunk implements Callable<Chunk> {
+
+        final int start;
+        final int end;
+        final Tokenizer tokenizer;
+        final PublicationListParser parser = new PublicationListParser();
+        Console.MessageBuffer messages;
+        long stop;
+
+        Chunk(char[] input, int start, int end, int inputEnd, int line) {
+            this.start = start;
+            this.end = end;
+            tokenizer = new Tokenizer(input, start, inputEnd, line);
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            messages = Console.startBuffering();
+
+            try {
+                stop = parser.parseBibTeXInternal(tokenizer, end);
+            } finally {
+                Console.stopBuffering();
+            }
+
+            return this;
+        }
+
+        void mergeInto(PublicationListParser result) {
+            messages.flush();
+            result.addAll(parser);
+        }
+    }
+
+    /**
+     * A part of the input that starts at a line that starts with '@', as used
+     * by the {@link ParseCache}.
+     */
+    private static class Segment {
+
+        final int start;
+        final int end;
+        boolean cached; // Whether the results were taken from the cache
+        PublicationListParser results;
+        SegmentRun run; // The run that parsed this segment, or null if it was cached
+        boolean inSync = true; // Whether parsing started at the start of this segment
+        Console.MessageBuffer messages; // The messages produced while parsing, or null if there were none
+        long stop;
+
+        Segment(int start, int end, PublicationListParser cachedResults) {
+            this.start = start;
+            this.end = end;
+            cached = (cachedResults != null);
+            results = (cached ? cachedResults : new PublicationListParser());
+            stop = end;
+        }
+
+        void parse(Tokenizer tokenizer) throws IOException {
+            inSync = (tokenizer.getOffset() == start);
+            messages = Console.startBuffering();
+
+            try {
+                stop = results.parseBibTeXInternal(tokenizer, end);
+            } finally {
+                Console.stopBuffering();
+            }
+        }
+
+        /**
+         * Parses this segment again, continuing where the given run stopped.
+         * Any messages are shown immediately.
+         */
+        void reparse(SegmentRun run) throws IOException {
+            this.run = run;
+            cached = false;
+            inSync = false;
+            messages = null;
+            results = new PublicationListParser();
+            stop = results.parseBibTeXInternal(run.tokenizer, end);
+        }
+
+        /**
+         * Checks whether this segment was parsed from its start to its end,
+         * without any messages, so its results can be cached.
+         */
+        boolean isClean() {
+            return !cached && inSync && stop == end && messages.isEmpty();
+        }
+    }
+
+    /**
+     * Consecutive segments that are parsed by a single tokenizer.
+     */
+    private static class SegmentRun implements Callable<SegmentRun> {
+
+        final Tokenizer tokenizer;
+        final List<Segment> segments = new ArrayList<>();
+        int size = 0; // The number of characters in all segments
+
+        SegmentRun(Tokenizer tokenizer) {
+            this.tokenizer = tokenizer;
+        }
+
+        void add(Segment segment) {
+            segments.add(segment);
+            segment.run = this;
+            size += segment.end - segment.start;
+        }
+
+        @Override
+        public SegmentRun call() throws IOException {
+            for (Segment segment : segments) {
+                segment.parse(tokenizer);
+            }
+
+            return this;
+        }
+    }
 }
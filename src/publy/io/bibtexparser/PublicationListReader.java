@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import publy.Console;
+import publy.data.Author;
+import publy.data.bibitem.BibItem;
+
+/**
+ * Reads the publications from a BibTeX file one at a time, parsing each entry
+ * only when it is requested.
+ * <p>
+ * Unlike {@link PublicationListParser}, which first parses the complete input,
+ * this reader only holds the current entry and the abbreviations and authors
+ * defined so far. Abbreviations and authors are therefore only expanded if
+ * they are defined before the publication that uses them, like BibTeX does for
+ * "@string" entries.
+ * <p>
+ * Errors in the input are reported to the {@link Console}, and the malformed
+ * entries are skipped. An {@link IOException} while reading is thrown as an
+ * {@link UncheckedIOException} by {@link #hasNext()} or {@link #next()}.
+ */
+public class PublicationListReader implements Iterator<BibItem>, Closeable {
+
+    private final Reader in;
+    private final Tokenizer tokenizer;
+    private final BibItemParser itemParser;
+    private final TagParser tagParser;
+    private final SymbolTable symbols = new SymbolTable();
+    private final Map<String, String> abbreviations = new LinkedHashMap<>();
+    private final Map<String, Author> authors = new HashMap<>();
+    private final AbbreviationHandler abbreviationHandler = new AbbreviationHandler(abbreviations, authors);
+    private BibItem next = null;
+    private boolean done = false;
+
+    /**
+     * Creates a reader for the publications in the given input.
+     *
+     * @param in the input
+     */
+    public PublicationListReader(Reader in) {
+        this.in = in;
+        tokenizer = new Tokenizer(in);
+        itemParser = new BibItemParser(tokenizer);
+        tagParser = new TagParser(tokenizer);
+    }
+
+    /**
+     * Opens the given file for reading. The caller is responsible for closing
+     * the returned reader.
+     *
+     * @param file the file to read
+     * @return a reader for the publications in the file
+     * @throws IOException
+     */
+    public static PublicationListReader open(Path file) throws IOException {
+        return new PublicationListReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = readNext();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            done = (next == null);
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public BibItem next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        BibItem result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Gets the general abbreviations that were defined before the last
+     * publication that was returned, with their full text expanded.
+     *
+     * @return the abbreviations defined so far
+     */
+    public Map<String, String> getAbbreviations() {
+        return Collections.unmodifiableMap(abbreviations);
+    }
+
+    /**
+     * Gets the authors that were defined before the last publication that was
+     * returned.
+     *
+     * @return the authors defined so far, by abbreviation
+     */
+    public Map<String, Author> getAuthors() {
+        return Collections.unmodifiableMap(authors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        done = true;
+        in.close();
+    }
+
+    private BibItem readNext() throws IOException {
+        for (int c = tokenizer.read(); c >= 0; c = tokenizer.read()) {
+            try {
+                if (c == '@') {
+                    BibItem item = itemParser.parseBibItem();
+
+                    if (handleBibItem(item)) {
+                        return item;
+                    }
+                } else if (c == '<') {
+                    handleTag(tagParser.parseTag());
+                }
+            } catch (ParseException ex) {
+                Console.error(ex.getErrorText());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Processes a parsed entry.
+     *
+     * @param item the entry
+     * @return true if the entry is a publication, false otherwise
+     */
+    private boolean handleBibItem(BibItem item) {
+        if (item == null) {
+            return false;
+        }
+
+        switch (item.getType()) {
+            case COMMENT: // fallthrough
+            case PREAMBLE:
+                return false; // Ignore
+            case STRING:
+                abbreviationHandler.addAbbreviation(item.get("short"), item.get("full"));
+                return false;
+            default:
+                abbreviationHandler.handleAbbreviationsAndAuthors(item);
+                symbols.shareValues(item);
+                return true;
+        }
+    }
+
+    private void handleTag(Tag tag) {
+        if (tag == null) {
+            return;
+        }
+
+        switch (tag.type) {
+            case ABBREVIATION:
+                abbreviationHandler.addAbbreviation(tag.values.get("short"), tag.values.get("full"));
+                break;
+            case AUTHOR:
+                abbreviationHandler.addAuthor(tag.values.get("short"), tag.toAuthor());
+                break;
+            default:
+                throw new InternalError("Tag with unexpected type: " + tag);
+        }
+    }
+}
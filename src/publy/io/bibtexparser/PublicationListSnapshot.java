@@ -0,0 +1,330 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import publy.Console;
+import publy.data.Author;
+import publy.data.bibitem.BibItem;
+
+/**
+ * A binary snapshot of a parsed publication list, including the expanded
+ * abbreviations and the authors and editors of each publication.
+ * <p>
+ * A snapshot records the size, modification time and a hash of the file it
+ * was created from, and is only loaded if all three still match. Loading a
+ * snapshot is much cheaper than parsing the file again, since the text does
+ * not need to be tokenized, abbreviations need not be expanded, and names need
+ * not be split.
+ * <p>
+ * The format starts with a fixed header (magic number, format version and
+ * source file properties). Next come a table of all distinct strings, a table
+ * of all distinct authors, and the publications. Authors and publications
+ * refer to strings by their index in the string table, and publications refer
+ * to authors by their index in the author table. All counts and indices are
+ * stored as variable-length integers, 7 bits per byte.
+ */
+public class PublicationListSnapshot {
+
+    private static final int MAGIC = 0x50756253; // "PubS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 1;
+
+    /**
+     * Loads the publications from the given snapshot file, if it is a valid
+     * snapshot of the current contents of the source file.
+     *
+     * @param snapshotFile the snapshot file
+     * @param sourceFile the file the snapshot was created from
+     * @return the publications, or null if there is no valid snapshot
+     */
+    public static List<BibItem> load(Path snapshotFile, Path sourceFile) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            // Check the header before mapping the file, so an outdated snapshot can be replaced right away
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading
+            }
+
+            header.flip();
+
+            if (header.remaining() < HEADER_SIZE
+                    || header.getInt() != MAGIC || header.getInt() != VERSION
+                    || header.getLong() != Files.size(sourceFile)
+                    || header.getLong() != Files.getLastModifiedTime(sourceFile).toMillis()
+                    || header.getLong() != hash(sourceFile)
+                    || header.get() != getWarningSettings()) {
+                return null;
+            }
+
+            return readPublications(channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, channel.size() - HEADER_SIZE));
+        } catch (IOException | RuntimeException ex) {
+            // Missing, outdated or corrupt: the file is parsed instead
+            return null;
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given publications, which were just parsed from
+     * the source file.
+     * <p>
+     * Messages shown while parsing are not part of the snapshot, so a snapshot
+     * should only be written for a parse that did not produce any.
+     *
+     * @param snapshotFile the snapshot file
+     * @param sourceFile the file the publications were parsed from
+     * @param items the publications
+     * @throws IOException
+     */
+    public static void save(Path snapshotFile, Path sourceFile, List<BibItem> items) throws IOException {
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "publy-", ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(Files.size(sourceFile));
+                out.writeLong(Files.getLastModifiedTime(sourceFile).toMillis());
+                out.writeLong(hash(sourceFile));
+                out.writeByte(getWarningSettings());
+
+                writePublications(out, items);
+            }
+
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writePublications(OutputStream out, List<BibItem> items) throws IOException {
+        // Encode the authors and publications first, to collect the strings they use
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+        Map<Author, Integer> authors = new IdentityHashMap<>(); // Authors defined by a tag are shared between publications
+        ByteArrayOutputStream authorTable = new ByteArrayOutputStream();
+        ByteArrayOutputStream publications = new ByteArrayOutputStream();
+
+        writeVarInt(publications, items.size());
+
+        for (BibItem item : items) {
+            writeString(publications, item.getOriginalType(), strings, stringTable);
+            writeString(publications, item.getId(), strings, stringTable);
+            writeVarInt(publications, item.getFields().size());
+
+            for (String field : item.getFields()) {
+                writeString(publications, field, strings, stringTable);
+                writeString(publications, item.get(field), strings, stringTable);
+            }
+
+            writeAuthors(publications, item.getAuthors(), authors, authorTable, strings, stringTable);
+            writeAuthors(publications, item.getEditors(), authors, authorTable, strings, stringTable);
+        }
+
+        writeVarInt(out, stringTable.size());
+
+        for (String s : stringTable) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarInt(out, authors.size());
+        authorTable.writeTo(out);
+        publications.writeTo(out);
+    }
+
+    private static void writeAuthors(OutputStream out, List<Author> list, Map<Author, Integer> authors, ByteArrayOutputStream authorTable, Map<String, Integer> strings, List<String> stringTable) throws IOException {
+        writeVarInt(out, list.size());
+
+        for (Author author : list) {
+            Integer index = authors.get(author);
+
+            if (index == null) {
+                index = authors.size();
+                authors.put(author, index);
+
+                writeString(authorTable, author.getAbbreviation(), strings, stringTable);
+                writeString(authorTable, author.getName(), strings, stringTable);
+                writeString(authorTable, author.getFirstName(), strings, stringTable);
+                writeString(authorTable, author.getVonPart(), strings, stringTable);
+                writeString(authorTable, author.getLastName(), strings, stringTable);
+                writeString(authorTable, author.getJuniorPart(), strings, stringTable);
+                writeString(authorTable, author.getUrl(), strings, stringTable);
+                writeString(authorTable, author.getGroup(), strings, stringTable);
+            }
+
+            writeVarInt(out, index);
+        }
+    }
+
+    /**
+     * Writes a reference to the given string: 0 for null, or one more than its
+     * index in the string table.
+     */
+    private static void writeString(OutputStream out, String s, Map<String, Integer> strings, List<String> stringTable) throws IOException {
+        if (s == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+
+        Integer index = strings.get(s);
+
+        if (index == null) {
+            index = stringTable.size();
+            strings.put(s, index);
+            stringTable.add(s);
+        }
+
+        writeVarInt(out, index + 1);
+    }
+
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.write(value);
+    }
+
+    private static List<BibItem> readPublications(ByteBuffer in) {
+        String[] strings = new String[readVarInt(in)];
+        byte[] bytes = new byte[256];
+
+        for (int i = 0; i < strings.length; i++) {
+            int length = readVarInt(in);
+
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+
+            in.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        Author[] authors = new Author[readVarInt(in)];
+
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = new Author(readString(in, strings), readString(in, strings), readString(in, strings), readString(in, strings), readString(in, strings), readString(in, strings));
+            authors[i].setUrl(readString(in, strings));
+            authors[i].setGroup(readString(in, strings));
+        }
+
+        SymbolTable symbols = new SymbolTable();
+        int nItems = readVarInt(in);
+        List<BibItem> items = new ArrayList<>(nItems);
+
+        for (int i = 0; i < nItems; i++) {
+            BibItem item = new BibItem(symbols.getSymbol(readString(in, strings)), readString(in, strings));
+
+            for (int j = readVarInt(in); j > 0; j--) {
+                item.put(symbols.getSymbol(readString(in, strings)), readString(in, strings));
+            }
+
+            for (int j = readVarInt(in); j > 0; j--) {
+                item.getAuthors().add(authors[readVarInt(in)]);
+            }
+
+            for (int j = readVarInt(in); j > 0; j--) {
+                item.getEditors().add(authors[readVarInt(in)]);
+            }
+
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    private static String readString(ByteBuffer in, String[] strings) {
+        int reference = readVarInt(in);
+        return (reference == 0 ? null : strings[reference - 1]);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+
+        for (int shift = 0;; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the contents of the given file.
+     */
+    private static long hash(Path file) throws IOException {
+        long hash = 0xcbf29ce484222325L;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] block = new byte[1 << 16];
+
+            while (bytes.hasRemaining()) {
+                int length = Math.min(block.length, bytes.remaining());
+                bytes.get(block, 0, length);
+
+                for (int i = 0; i < length; i++) {
+                    hash ^= (block[i] & 0xFF);
+                    hash *= 0x100000001b3L;
+                }
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Gets the settings that determine which warnings are shown while parsing.
+     * Since the snapshot does not contain the messages that were shown, it is
+     * not valid if these settings change.
+     */
+    private static byte getWarningSettings() {
+        boolean shown = Console.getSettings().isShowWarnings() && Console.getSettings().isWarnPossibleMistakenAbbreviation();
+        return (byte) (shown ? 1 : 0);
+    }
+
+    private PublicationListSnapshot() {
+    }
+}
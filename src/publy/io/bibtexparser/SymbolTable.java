@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import publy.data.bibitem.BibItem;
+
+/**
+ * Ensures that equal strings that occur in many publications are stored only
+ * once.
+ * <p>
+ * Field names and publication types are replaced by a single shared instance.
+ * For the names that Publy itself uses, this is the same instance as the
+ * string constant in the code, so looking up a field in a publication only
+ * needs to compare references. The values of fields that typically repeat
+ * across publications, like the journal or publisher, are shared as well.
+ * <p>
+ * A symbol table is not thread-safe. Each parse uses its own table.
+ */
+class SymbolTable {
+
+    /**
+     * Field names and publication types used by Publy. Since these are string
+     * literals, they are the same instances as the constants elsewhere in the
+     * code.
+     */
+    private static final Map<String, String> KNOWN_SYMBOLS = new HashMap<>();
+    /**
+     * Fields whose values are likely to be the same for many publications.
+     */
+    private static final Set<String> SHARED_VALUE_FIELDS = new HashSet<>(Arrays.asList(
+            "address", "booktitle", "edition", "howpublished", "institution",
+            "journal", "month", "organization", "publisher", "pubstate",
+            "school", "series", "type", "volume", "year"));
+
+    static {
+        List<String> symbols = Arrays.asList(
+                // Fields
+                "abstract", "address", "archiveprefix", "arxiv", "author",
+                "bookauthor", "booktitle", "chapter", "crossref", "doi",
+                "edition", "editor", "eid", "eprint", "eprintclass",
+                "eprinttype", "file", "holder", "howpublished", "image",
+                "institution", "isbn", "isrn", "issn", "journal",
+                "journaltitle", "keywords", "month", "note", "number",
+                "organization", "pages", "presented", "primaryclass",
+                "publisher", "pubstate", "school", "series", "title", "type",
+                "url", "urldate", "volume", "year",
+                // Types
+                "article", "book", "booklet", "bookinbook", "collection",
+                "comment", "conference", "electronic", "inbook",
+                "incollection", "inproceedings", "inreference", "manual",
+                "mastersthesis", "misc", "mvbook", "mvcollection",
+                "mvproceedings", "mvreference", "online", "patent",
+                "periodical", "phdthesis", "preamble", "proceedings",
+                "reference", "report", "string", "suppbook", "suppcollection",
+                "suppperiodical", "techreport", "thesis", "unpublished",
+                "www");
+
+        for (String symbol : symbols) {
+            KNOWN_SYMBOLS.put(symbol, symbol);
+        }
+    }
+
+    private final Map<String, String> symbols = new HashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * Gets the shared instance of the given field name or publication type.
+     *
+     * @param symbol the field name or type
+     * @return a string equal to the given one, which is the same instance for
+     * every call with an equal string
+     */
+    String getSymbol(String symbol) {
+        String shared = KNOWN_SYMBOLS.get(symbol);
+
+        if (shared == null) {
+            shared = symbols.get(symbol);
+
+            if (shared == null) {
+                shared = symbol;
+                symbols.put(symbol, symbol);
+            }
+        }
+
+        return shared;
+    }
+
+    /**
+     * Replaces the values of fields that typically repeat across publications
+     * by shared instances.
+     *
+     * @param item the publication
+     */
+    void shareValues(BibItem item) {
+        for (String field : item.getFields()) {
+            String value = item.get(field);
+
+            if (value != null && SHARED_VALUE_FIELDS.contains(field)) {
+                String shared = values.get(value);
+
+                if (shared == null) {
+                    values.put(value, value);
+                } else if (shared != value) {
+                    item.put(field, shared);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the values of fields that typically repeat across publications
+     * by shared instances.
+     *
+     * @param items the publications
+     */
+    void shareValues(List<BibItem> items) {
+        for (BibItem item : items) {
+            shareValues(item);
+        }
+    }
+}
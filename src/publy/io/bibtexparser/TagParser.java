@@ -16,10 +16,7 @@
 package publy.io.bibtexparser;
 
 import java.io.IOException;
-import java.io.Reader;
-import java.io.StreamTokenizer;
 import publy.Console;
-import publy.data.Pair;
 
 public class TagParser {
 
@@ -28,22 +25,38 @@ public class TagParser {
         '=', // Field-value separator
         '"', // Value delimiter "..."
     };
-    private static final int MAX_RESET = 6000000; // ~12MB, Easily accomodates largest bib file I've found
-    private static Tokenizer tokenizer;
-
-    public static Pair<Integer, Tag> parseTag(Reader in) throws IOException, ParseException {
-        if (in.markSupported()) {
-            in.mark(MAX_RESET);
-        }
+    private final Tokenizer tokenizer;
+
+    /**
+     * Creates a parser for tags read by the given tokenizer.
+     *
+     * @param tokenizer the input
+     */
+    TagParser(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
 
-        tokenizer = new Tokenizer(in);
+    /**
+     * Parses a single tag. The tokenizer should be positioned just after the
+     * '<' that starts the tag.
+     * <p>
+     * If the tag is malformed, the tokenizer is reset to its starting position
+     * before the exception is thrown.
+     *
+     * @return the parsed tag, or null if the tag should be ignored
+     * @throws IOException
+     * @throws ParseException
+     */
+    Tag parseTag() throws IOException, ParseException {
+        tokenizer.startEntry();
         tokenizer.setSpecialCharacters(SPECIAL_CHARACTERS);
+        tokenizer.setWhiteSpaceMatters(false);
 
         String type = null;
         Tag result = null;
 
         try {
-            tokenizer.match(StreamTokenizer.TT_WORD);
+            tokenizer.match(Tokenizer.TT_WORD);
             type = tokenizer.getLastTokenAsString().toLowerCase();
 
             switch (type) {
@@ -141,11 +154,10 @@ public class TagParser {
                     }
             }
         } catch (ParseException ex) { // Do not reset upon IOException, as that is likely to be unrecoverable
-            if (in.markSupported()) {
-                in.reset();
-            }
-
             ex.setLineNumber(tokenizer.lineno());
+            ex.setColumnNumber(tokenizer.column());
+            tokenizer.reset();
+            tokenizer.endEntry();
 
             if (type == null) {
                 ex.setType("tag");
@@ -155,11 +167,12 @@ public class TagParser {
 
             throw ex;
         }
-        
-        return new Pair<>(tokenizer.lineno(), result);
+
+        tokenizer.endEntry();
+        return result;
     }
 
-    private static Tag parseAuthor() throws IOException, ParseException {
+    private Tag parseAuthor() throws IOException, ParseException {
         Tag result = new Tag(Tag.Type.AUTHOR);
 
         parseFields(result);
@@ -174,7 +187,7 @@ public class TagParser {
         }
     }
 
-    private static Tag parseAbbreviation() throws IOException, ParseException {
+    private Tag parseAbbreviation() throws IOException, ParseException {
         Tag result = new Tag(Tag.Type.ABBREVIATION);
 
         parseFields(result);
@@ -189,10 +202,10 @@ public class TagParser {
         }
     }
 
-    private static void parseFields(Tag result) throws IOException, ParseException {
+    private void parseFields(Tag result) throws IOException, ParseException {
         // name = " value "
         while (!tokenizer.nextTokenIs('>')) {
-            tokenizer.match(StreamTokenizer.TT_WORD);
+            tokenizer.match(Tokenizer.TT_WORD);
             String name = tokenizer.getLastTokenAsString();
 
             tokenizer.match('=');
@@ -201,9 +214,9 @@ public class TagParser {
 
             StringBuilder value = new StringBuilder();
 
-            while (!tokenizer.nextTokenIs('"')) {
+            while (!tokenizer.nextTokenIs('"', Tokenizer.TT_EOF)) {
                 tokenizer.nextToken();
-                value.append(tokenizer.getLastTokenAsString());
+                tokenizer.appendLastToken(value, false);
             }
 
             result.values.put(name, value.toString());
@@ -212,7 +225,4 @@ public class TagParser {
             tokenizer.match('"');
         }
     }
-
-    private TagParser() {
-    }
 }
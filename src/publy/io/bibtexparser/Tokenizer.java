@@ -17,39 +17,390 @@ package publy.io.bibtexparser;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StreamTokenizer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
-public class Tokenizer extends StreamTokenizer {
+/**
+ * A single-pass lexer for BibTeX entries and Publy tags.
+ * <p>
+ * The tokenizer works directly on a character buffer. This buffer either holds
+ * the complete input, or is refilled in blocks from an underlying reader. A token is either a single special
+ * character, or a word: a maximal run of characters that are neither special,
+ * nor white space (unless white space matters). The current line and column
+ * are tracked while scanning, so parsers never need to re-scan values to count
+ * line breaks.
+ * <p>
+ * A single tokenizer is used for an entire input. Parsers call
+ * {@link #startEntry()} at the start of each entry. Entries are not bounded in
+ * any way: a value may contain anything, including lines that start with '@'.
+ * After an error, the parser can {@link #skipToNextEntry()}, which usually
+ * continues from the position of the error. Only the characters of the current
+ * entry are retained in the buffer.
+ */
+public class Tokenizer {
 
-    public Tokenizer(Reader reader) {
-        super(reader);
+    /**
+     * Token type indicating that the end of the input was reached.
+     */
+    public static final int TT_EOF = -1;
+    /**
+     * Token type indicating that a word was read.
+     */
+    public static final int TT_WORD = -3;
 
-        resetSyntax(); // The default syntax is based on Java code
-        eolIsSignificant(false);
+    private static final int BLOCK_SIZE = 8192;
 
-        // Treat everything as a word by default
-        wordChars(0, Character.MAX_CODE_POINT);
+    private final Reader in; // null if the buffer holds the complete input
+    private char[] buffer;
+    private int position = 0; // Index in buffer of the next character to read
+    private int limit = 0; // Index in buffer after the last valid character
+    private long bufferOffset = 0; // Offset in the input of buffer[0]
+    // Current line
+    private int line = 1;
+    private long lineStart = 0; // Offset in the input of the first character on this line
+    private boolean afterCarriageReturn = false; // Whether the last character read was '\r'
+    // Start of the current entry
+    private int markPosition = -1;
+    private int markLine;
+    private long markLineStart;
+    private boolean markAfterCarriageReturn;
+    // First word in the current entry that starts with '@' outside of a value: the likely start of the next entry
+    private int recoveryPosition = -1;
+    private int recoveryLine;
+    private long recoveryLineStart;
+    // Syntax
+    private final boolean[] special = new boolean[256];
+    private boolean whiteSpaceMatters = false;
+    // Current token
+    private int ttype = TT_EOF;
+    private int tokenStart = -1;
+    private int tokenEnd = -1;
+    private boolean pushedBack = false;
 
-        // White space
-        whitespaceChars(0, ' '); // ' ' = 20, and 0-19 are UTF-8 control characters, including \r, \n, and \t.
+    /**
+     * Creates a tokenizer that reads from the given reader.
+     *
+     * @param in the input
+     */
+    public Tokenizer(Reader in) {
+        this.in = in;
+        buffer = new char[BLOCK_SIZE];
     }
 
-    public void setWhiteSpaceMatters(boolean whiteSpaceMatters) {
-        if (whiteSpaceMatters) {
-            ordinaryChars(0, ' ');
-            wordChars(0, ' ');
+    /**
+     * Creates a tokenizer that reads the remaining characters of the given
+     * buffer. If the buffer is backed by an array, the tokenizer reads from
+     * that array directly, without copying.
+     *
+     * @param input the complete input
+     */
+    public Tokenizer(CharBuffer input) {
+        in = null;
+
+        if (input.hasArray()) {
+            buffer = input.array();
+            position = input.arrayOffset() + input.position();
+            limit = input.arrayOffset() + input.limit();
         } else {
-            ordinaryChars(0, ' ');
-            whitespaceChars(0, ' ');
+            buffer = new char[input.remaining()];
+            input.duplicate().get(buffer);
+            limit = buffer.length;
         }
+
+        bufferOffset = -position;
     }
 
+    /**
+     * Creates a tokenizer that reads the given range of characters. Offsets
+     * reported by this tokenizer are indices in the given array.
+     *
+     * @param input the array that holds the input
+     * @param start the index of the first character to read
+     * @param end the index after the last character that may be read
+     * @param line the line number of the first character, which should be
+     * the first character on its line
+     */
+    Tokenizer(char[] input, int start, int end, int line) {
+        in = null;
+        buffer = input;
+        position = start;
+        limit = end;
+        this.line = line;
+        lineStart = start;
+    }
+
+    public void setWhiteSpaceMatters(boolean whiteSpaceMatters) {
+        this.whiteSpaceMatters = whiteSpaceMatters;
+    }
+
+    /**
+     * Sets the characters that always form a token by themselves. This
+     * replaces any previously set special characters.
+     *
+     * @param specialCharacters the special characters
+     */
     public void setSpecialCharacters(int[] specialCharacters) {
+        Arrays.fill(special, false);
+
         for (int c : specialCharacters) {
-            // StreamTokenizer calls a character 'ordinary'
-            // if it is always a token by itself
-            ordinaryChar(c);
+            special[c] = true;
+        }
+    }
+
+    /**
+     * Gets the current line number.
+     *
+     * @return the current line number
+     */
+    public int lineno() {
+        return line;
+    }
+
+    /**
+     * Gets the offset of the next character that will be read.
+     *
+     * @return the current offset
+     */
+    long getOffset() {
+        return bufferOffset + position;
+    }
+
+    /**
+     * Gets the column of the last character that was read, or 0 if it was a
+     * line break.
+     *
+     * @return the current column
+     */
+    public int column() {
+        return (int) (bufferOffset + position - lineStart);
+    }
+
+    /**
+     * Starts a new entry at the current position. Until {@link #endEntry()}
+     * is called, the tokenizer remembers the start of the entry, so it can
+     * return to it by calling {@link #reset()}.
+     */
+    public void startEntry() {
+        markPosition = position;
+        markLine = line;
+        markLineStart = lineStart;
+        markAfterCarriageReturn = afterCarriageReturn;
+        recoveryPosition = -1;
+    }
+
+    /**
+     * Ends the current entry. The start of the entry is forgotten.
+     */
+    public void endEntry() {
+        markPosition = -1;
+        recoveryPosition = -1;
+    }
+
+    /**
+     * Returns to the start of the current entry. Any token that was pushed
+     * back is discarded.
+     */
+    public void reset() {
+        if (markPosition < 0) {
+            throw new IllegalStateException("Reset outside of an entry.");
+        }
+
+        position = markPosition;
+        line = markLine;
+        lineStart = markLineStart;
+        afterCarriageReturn = markAfterCarriageReturn;
+        pushedBack = false;
+        ttype = TT_EOF;
+        tokenStart = -1;
+    }
+
+    /**
+     * Reads a single character, ignoring the current syntax.
+     *
+     * @return the character read, or -1 if the end of the input has been
+     * reached
+     * @throws IOException
+     */
+    public int read() throws IOException {
+        if (peek() < 0) {
+            return -1;
+        }
+
+        char c = buffer[position++];
+
+        if (c == '\n') {
+            if (!afterCarriageReturn) {
+                line++;
+            }
+
+            lineStart = bufferOffset + position;
+        } else if (c == '\r') {
+            line++;
+            lineStart = bufferOffset + position;
+        }
+
+        afterCarriageReturn = (c == '\r');
+
+        return c;
+    }
+
+    /**
+     * Continues reading at the start of a later line, without reading the
+     * characters in between. This is only supported if the buffer holds the
+     * complete input.
+     *
+     * @param offset the offset of the first character of the line, or of the
+     * end of the input
+     * @param lineBreaks the number of line breaks that are skipped
+     */
+    void skipToLine(long offset, int lineBreaks) {
+        if (in != null) {
+            throw new IllegalStateException("Skipping requires the complete input.");
+        }
+
+        position = (int) (offset - bufferOffset);
+        line += lineBreaks;
+        lineStart = offset;
+        afterCarriageReturn = false;
+        pushedBack = false;
+        ttype = TT_EOF;
+        tokenStart = -1;
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the type of the token: {@link #TT_EOF}, {@link #TT_WORD}, or the
+     * special character itself
+     * @throws IOException
+     */
+    public int nextToken() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return ttype;
+        }
+
+        tokenStart = -1;
+        int c = read();
+
+        if (!whiteSpaceMatters) {
+            while (c >= 0 && c <= ' ') {
+                c = read();
+            }
+        }
+
+        if (c < 0) {
+            return ttype = TT_EOF;
+        }
+
+        if (isSpecial(c)) {
+            return ttype = c;
+        }
+
+        tokenStart = position - 1;
+
+        if (c == '@' && !whiteSpaceMatters && markPosition >= 0 && recoveryPosition < 0) {
+            // Words outside of values never start with '@', so this is most likely an entry whose predecessor is not closed
+            recoveryPosition = tokenStart;
+            recoveryLine = line;
+            recoveryLineStart = lineStart;
+        }
+
+        for (c = peek(); c >= 0 && isWordCharacter((char) c); c = peek()) {
+            read();
+        }
+
+        tokenEnd = position;
+        return ttype = TT_WORD;
+    }
+
+    /**
+     * Skips to the next '@' or '<' outside of braces, which starts the next
+     * entry or tag. This is used to resume parsing after a malformed entry.
+     * Braces are counted from the current position, so the closing brace of
+     * the malformed entry itself is skipped, while the '@' and '<' characters
+     * inside later brace-delimited values are not mistaken for a new entry.
+     * <p>
+     * If a word starting with '@' was read outside of a value since
+     * {@link #startEntry()}, the tokenizer returns to that word instead. This
+     * happens when an entry is not closed before the next one starts. If no
+     * entry or tag is found before the end of the input, the tokenizer returns
+     * to the first line of the current entry that starts with '@' instead, as
+     * the entry most likely contains an unclosed brace.
+     * <p>
+     * This ends the current entry, like {@link #endEntry()}.
+     *
+     * @throws IOException
+     */
+    public void skipToNextEntry() throws IOException {
+        pushedBack = false;
+        ttype = TT_EOF;
+        tokenStart = -1;
+
+        if (recoveryPosition >= 0) {
+            position = recoveryPosition;
+            line = recoveryLine;
+            lineStart = recoveryLineStart;
+            afterCarriageReturn = false; // The next character is the '@'
+            endEntry();
+            return;
         }
+
+        int depth = 0;
+
+        for (int c = peek(); c >= 0; c = peek()) {
+            if (depth == 0 && (c == '@' || c == '<')) {
+                endEntry();
+                return;
+            }
+
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && depth > 0) {
+                depth--;
+            }
+
+            read();
+        }
+
+        if (markPosition >= 0) {
+            // The entry most likely contains an unclosed brace that swallowed the rest of the input
+            int next = findLineStartingWithAt(markPosition);
+
+            if (next >= 0) {
+                reset();
+
+                while (position < next) {
+                    read();
+                }
+            }
+        }
+
+        endEntry();
+    }
+
+    /**
+     * Finds the index in the buffer of the first '@' at or after the given
+     * index that is the first character on its line.
+     *
+     * @return the index, or -1 if there is no such character
+     */
+    private int findLineStartingWithAt(int from) {
+        for (int i = Math.max(from, 1); i < limit; i++) {
+            if (buffer[i] == '@' && (buffer[i - 1] == '\n' || buffer[i - 1] == '\r')) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Causes the next call to {@link #nextToken()} to return the current token
+     * again.
+     */
+    public void pushBack() {
+        pushedBack = true;
     }
 
     /**
@@ -76,16 +427,10 @@ public class Tokenizer extends StreamTokenizer {
 
         for (int c : characters) {
             switch (c) {
-                case StreamTokenizer.TT_EOF:
+                case TT_EOF:
                     expected.append("EOF (end of file)");
                     break;
-                case StreamTokenizer.TT_EOL:
-                    expected.append("EOL (end of line)");
-                    break;
-                case StreamTokenizer.TT_NUMBER:
-                    expected.append("NUMBER");
-                    break;
-                case StreamTokenizer.TT_WORD:
+                case TT_WORD:
                     expected.append("WORD");
                     break;
                 default:
@@ -126,20 +471,183 @@ public class Tokenizer extends StreamTokenizer {
 
     public String getLastTokenAsString() {
         switch (ttype) {
-            case StreamTokenizer.TT_EOF:
+            case TT_EOF:
                 return "EOF (end of file)";
-            case StreamTokenizer.TT_EOL:
-                return "EOL (end of line)";
-            case StreamTokenizer.TT_NUMBER:
-                if (!Double.isNaN(nval) && !Double.isInfinite(nval) && nval == Math.rint(nval)) {
-                    return Integer.toString((int) nval);
-                } else {
-                    return Double.toString(nval);
-                }
-            case StreamTokenizer.TT_WORD:
-                return sval;
+            case TT_WORD:
+                return new String(buffer, tokenStart, tokenEnd - tokenStart);
             default:
                 return Character.toString((char) ttype);
         }
     }
+
+    /**
+     * Checks whether the last token is a word that consists of only digits.
+     *
+     * @return true if the last token is a number, false otherwise
+     */
+    public boolean isLastTokenNumeric() {
+        if (ttype != TT_WORD) {
+            return false;
+        }
+
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends the last token to the given value.
+     * <p>
+     * If {@code normalize} is true, each run of white space is collapsed into
+     * a single space and leading white space is dropped, as the value is
+     * copied. Trailing white space is left for
+     * {@link #trimTrailingWhiteSpace(java.lang.StringBuilder)}, since more
+     * tokens may follow.
+     *
+     * @param value the value to append to
+     * @param normalize whether to normalize white space
+     */
+    public void appendLastToken(StringBuilder value, boolean normalize) {
+        if (ttype == TT_WORD) {
+            if (normalize) {
+                for (int i = tokenStart; i < tokenEnd; i++) {
+                    appendNormalized(value, buffer[i]);
+                }
+            } else {
+                value.append(buffer, tokenStart, tokenEnd - tokenStart);
+            }
+        } else if (ttype != TT_EOF) {
+            if (normalize) {
+                appendNormalized(value, (char) ttype);
+            } else {
+                value.append((char) ttype);
+            }
+        }
+    }
+
+    /**
+     * Removes all trailing white space from a value that was built using
+     * {@link #appendLastToken(java.lang.StringBuilder, boolean)}.
+     *
+     * @param value the value to trim
+     */
+    public static void trimTrailingWhiteSpace(StringBuilder value) {
+        int length = value.length();
+
+        while (length > 0 && value.charAt(length - 1) <= ' ') {
+            length--;
+        }
+
+        value.setLength(length);
+    }
+
+    private static void appendNormalized(StringBuilder value, char c) {
+        // Equivalent to value.replaceAll("\\s+", " ").trim()
+        if (value.length() == 0) {
+            if (c > ' ') {
+                value.append(c);
+            }
+        } else if (isWhiteSpace(c)) {
+            if (value.charAt(value.length() - 1) != ' ') {
+                value.append(' ');
+            }
+        } else {
+            value.append(c);
+        }
+    }
+
+    private static boolean isWhiteSpace(char c) {
+        // The characters matched by \s
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private boolean isSpecial(int c) {
+        return c < special.length && special[c];
+    }
+
+    private boolean isWordCharacter(char c) {
+        return !isSpecial(c) && (whiteSpaceMatters || c > ' ');
+    }
+
+    /**
+     * Gets the next character without reading it.
+     *
+     * @return the next character, or -1 if the end of the input has been
+     * reached
+     * @throws IOException
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+
+        return buffer[position];
+    }
+
+    /**
+     * Reads the next block of input into the buffer, discarding all characters
+     * that are no longer needed.
+     *
+     * @return true if any characters were read, false if the end of the input
+     * has been reached
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        if (in == null) {
+            return false;
+        }
+
+        int keep = position;
+
+        if (markPosition >= 0) {
+            keep = Math.min(keep, markPosition);
+        }
+
+        if (tokenStart >= 0) {
+            keep = Math.min(keep, tokenStart);
+        }
+
+        if (recoveryPosition >= 0) {
+            keep = Math.min(keep, recoveryPosition);
+        }
+
+        int kept = limit - keep;
+
+        if (keep > 0) {
+            System.arraycopy(buffer, keep, buffer, 0, kept);
+            bufferOffset += keep;
+            position -= keep;
+            limit -= keep;
+
+            if (markPosition >= 0) {
+                markPosition -= keep;
+            }
+
+            if (recoveryPosition >= 0) {
+                recoveryPosition -= keep;
+            }
+
+            if (tokenStart >= 0) {
+                tokenStart -= keep;
+                tokenEnd -= keep;
+            }
+        }
+
+        if (kept == buffer.length) {
+            buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+        }
+
+        int read = in.read(buffer, limit, buffer.length - limit);
+
+        if (read <= 0) {
+            return false;
+        }
+
+        limit += read;
+        return true;
+    }
 }
@@ -17,10 +17,11 @@ package publy.io.html;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import publy.Console;
 import publy.data.PublicationStatus;
 import publy.data.Author;
@@ -29,6 +30,7 @@ import publy.data.bibitem.Type;
 import publy.data.settings.HTMLSettings;
 import publy.data.settings.Settings;
 import publy.io.BibItemWriter;
+import publy.io.ProcessingWriter;
 import publy.io.bibtex.BibtexBibItemWriter;
 
 /**
@@ -37,10 +39,22 @@ import publy.io.bibtex.BibtexBibItemWriter;
  */
 public class HTMLBibItemWriter extends BibItemWriter {
 
+    private Set<String> publicationIds = Collections.emptySet();
+
     public HTMLBibItemWriter(BufferedWriter out, Settings settings) {
         super(out, settings);
     }
 
+    /**
+     * Sets the identifiers of all publications in the list. Links to these
+     * publications are pointed at the anchors written for them.
+     *
+     * @param publicationIds the identifiers of all publications
+     */
+    public void setPublicationIds(Set<String> publicationIds) {
+        this.publicationIds = publicationIds;
+    }
+
     @Override
     public void write(BibItem item) throws IOException {
         writeImage(item);
@@ -648,20 +662,13 @@ public class HTMLBibItemWriter extends BibItemWriter {
 
         // arXiv link
         if (isPresent(item, "arxiv") && !(settings.getHtmlSettings().getTitleTarget() == HTMLSettings.TitleLinkTarget.PAPER && "arxiv".equals(getPaperLinkField(settings, item)))) {
-            writeLink(divOpened, "http://arxiv.org/abs/" + get(item, "arxiv"), "arXiv");
+            writeLink(divOpened, item.getDerivedData().getArxivLink(), "arXiv");
             divOpened = true;
         }
 
         // DOI link
         if (isPresent(item, "doi") && !(settings.getHtmlSettings().getTitleTarget() == HTMLSettings.TitleLinkTarget.PAPER && "doi".equals(getPaperLinkField(settings, item)))) {
-            String link = get(item, "doi");
-
-            // Add the general DOI part if necessary
-            if (!link.startsWith("http")) {
-                link = "https://dx.doi.org/" + link;
-            }
-
-            writeLink(divOpened, link, "DOI");
+            writeLink(divOpened, item.getDerivedData().getDoiLink(), "DOI");
             divOpened = true;
         }
 
@@ -765,7 +772,12 @@ public class HTMLBibItemWriter extends BibItemWriter {
                 String target = link.substring(divider + 1);
 
                 if (target.startsWith("#")) {
-                    // Link to another paper, good as-is
+                    // Link to another paper. Anchors cannot start with a digit, so those get a 'p' prefix.
+                    String id = target.substring(1);
+
+                    if (publicationIds.contains(id) && Character.isDigit(id.charAt(0))) {
+                        target = "#p" + id;
+                    }
                 } else if (target.contains(":")) {
                     // Most file systems prohibit colons in file names, so
                     // it seems safe to assume that this indicates an
@@ -793,8 +805,7 @@ public class HTMLBibItemWriter extends BibItemWriter {
         out.write(indentString + "  <pre class=\"bibtex\">");
         out.newLine();
 
-        String bibtex = htmlEscape(getBibtex(item));
-        out.write(bibtex);
+        writeBibtex(item);
 
         out.write("</pre>"); // No indent, as this would end up as part of the BibTeX
         out.newLine();
@@ -803,15 +814,16 @@ public class HTMLBibItemWriter extends BibItemWriter {
         out.newLine();
     }
 
-    private String getBibtex(BibItem item) throws IOException {
-        StringWriter bibtex = new StringWriter();
-        BufferedWriter buffer = new BufferedWriter(bibtex);
+    /**
+     * Writes the BibTeX version of the given publication, escaped for HTML,
+     * directly to the output.
+     */
+    private void writeBibtex(BibItem item) throws IOException {
+        BufferedWriter buffer = new BufferedWriter(new ProcessingWriter(out, false, false, true));
         BibItemWriter bibtexWriter = new BibtexBibItemWriter(buffer, settings);
 
         bibtexWriter.write(item);
         buffer.flush();
-
-        return bibtex.toString();
     }
 
     private void writeArxivBibtexHTML(BibItem item) throws IOException {
@@ -941,16 +953,9 @@ public class HTMLBibItemWriter extends BibItemWriter {
                     return null;
                 }
             case "doi":
-                String link = get(item, "doi");
-
-                // Add the general DOI part if necessary 
-                if (!link.startsWith("http")) {
-                    link = "https://dx.doi.org/" + link;
-                }
-
-                return link;
+                return item.getDerivedData().getDoiLink();
             case "arxiv":
-                return "http://arxiv.org/abs/" + get(item, "arxiv");
+                return item.getDerivedData().getArxivLink();
             case "url":
                 return get(item, "url");
             default:
@@ -968,9 +973,16 @@ public class HTMLBibItemWriter extends BibItemWriter {
     }
 
     private String htmlEscape(String text) {
-        return text.replaceAll("&", "&amp;")
-                .replaceAll("\u00A0", "&nbsp;")
-                .replaceAll("<", "&lt;")
-                .replaceAll(">", "&gt;");
+        StringBuilder escaped = new StringBuilder(text.length());
+        ProcessingWriter escaper = new ProcessingWriter(escaped, false, false, true);
+
+        try {
+            escaper.write(text);
+        } catch (IOException ex) {
+            // Cannot happen when writing to memory
+            throw new AssertionError(ex);
+        }
+
+        return escaped.toString();
     }
 }
@@ -36,6 +36,7 @@ import publy.data.settings.GeneralSettings;
 import publy.data.settings.HTMLSettings;
 import publy.data.settings.Settings;
 import publy.Constants;
+import publy.io.FileExistenceCache;
 import publy.io.PublicationListWriter;
 import publy.io.ResourceLocator;
 import publy.io.TempWriter;
@@ -63,6 +64,7 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
     @Override
     protected void writePublicationList(List<Section> sections, BufferedWriter out) throws IOException {
         itemWriter = new HTMLBibItemWriter(out, settings);
+        itemWriter.setPublicationIds(Section.getAllIds(sections));
         count = getInitialCount(sections);
 
         copyAuxiliaryFiles();
@@ -172,6 +174,8 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
             out.newLine();
             out.newLine();
 
+            List<String> referencedFiles = new ArrayList<>();
+
             for (line = reader.readLine(); line != null; line = reader.readLine()) {
                 // Detect the end of the HEAD element, so we can insert the Google Analytics Javascript
                 int headIndex = line.indexOf("</head>");
@@ -197,10 +201,12 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
                     String path = m.group(2);
 
                     if (!path.startsWith("http")) {
-                        ensureReferencedFileExists(path);
+                        referencedFiles.add(path);
                     }
                 }
             }
+
+            ensureReferencedFilesExist(referencedFiles);
         }
     }
 
@@ -213,23 +219,34 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
         }
     }
 
-    private void ensureReferencedFileExists(String file) {
-        try {
-            // First strip anything following a '#', as that's most likely a link inside the document
-            String strippedFile = file;
+    private void ensureReferencedFilesExist(List<String> files) {
+        // Check all files at once, then report the results in order
+        List<Path> paths = new ArrayList<>();
 
-            if (strippedFile.contains("#")) {
-                strippedFile = strippedFile.substring(0, strippedFile.indexOf('#'));
+        for (String file : files) {
+            try {
+                Path path = resolveReferencedFile(file);
 
-                if (strippedFile.isEmpty()) {
-                    return;
+                if (path != null) {
+                    paths.add(path);
                 }
+            } catch (Exception e) {
+                // Reported below
             }
+        }
 
-            // Resolve this via URI, to properly handle escaped characters like %20
-            Path path = Paths.get(settings.getFileSettings().getTarget().getParent().toUri().resolve(strippedFile));
+        FileExistenceCache.prefetch(paths);
 
-            if (Files.notExists(path)) {
+        for (String file : files) {
+            ensureReferencedFileExists(file);
+        }
+    }
+
+    private void ensureReferencedFileExists(String file) {
+        try {
+            Path path = resolveReferencedFile(file);
+
+            if (path != null && !FileExistenceCache.exists(path)) {
                 Console.warn(Console.WarningType.MISSING_REFERENCE, "Referenced file \"%s\" was not found at \"%s\".", file, path);
             }
         } catch (Exception e) {
@@ -237,6 +254,26 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
         }
     }
 
+    /**
+     * Gets the file that the given link in the header refers to, or null if
+     * it only refers to a location inside the document.
+     */
+    private Path resolveReferencedFile(String file) {
+        // First strip anything following a '#', as that's most likely a link inside the document
+        String strippedFile = file;
+
+        if (strippedFile.contains("#")) {
+            strippedFile = strippedFile.substring(0, strippedFile.indexOf('#'));
+
+            if (strippedFile.isEmpty()) {
+                return null;
+            }
+        }
+
+        // Resolve this via URI, to properly handle escaped characters like %20
+        return Paths.get(settings.getFileSettings().getTarget().getParent().toUri().resolve(strippedFile));
+    }
+
     private void writeSection(Section section, List<Section> sections, List<Section> parents, BufferedWriter out) throws IOException {
         // Section start
         indent(out, 2 * parents.size());
@@ -386,6 +423,9 @@ public class HTMLPublicationListWriter extends PublicationListWriter {
             id = sb.toString();
         }
 
+        // Sections by venue or author group can have names with spaces, which ids cannot contain
+        id = id.replaceAll("\\s+", "-");
+
         // In HTML4, ids are not allowed to start with a number. This might cause CSS selector rules to fail.
         return (Character.isDigit(id.charAt(0)) ? 's' + id : id);
     }
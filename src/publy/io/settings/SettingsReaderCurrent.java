@@ -18,7 +18,11 @@ package publy.io.settings;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
@@ -29,6 +33,7 @@ import publy.Console;
 import publy.data.PublicationStatus;
 import publy.data.category.OutputCategory;
 import publy.data.category.conditions.Condition;
+import publy.data.category.conditions.ConditionGroup;
 import publy.data.category.conditions.FieldCondition;
 import publy.data.category.conditions.FieldContainsCondition;
 import publy.data.category.conditions.FieldEqualsCondition;
@@ -53,6 +58,7 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
     private State state = State.DEFAULT;
     private OutputCategory currentCategory = null;
     private Condition currentCondition;
+    private final Deque<ConditionGroup> openGroups = new ArrayDeque<>(); // The condition groups that contain the current condition, innermost first
     private String activeCategories;
 
     public SettingsReaderCurrent() {
@@ -139,6 +145,16 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
             case "FieldContainsCondition":
                 newCondition = new FieldContainsCondition(false, null, (String) null);
                 break;
+            case "ConditionGroup":
+                ConditionGroup group = new ConditionGroup(false, ConditionGroup.Operator.AND);
+
+                if (attrs.getValue("operator") != null) {
+                    group.setOperator(ConditionGroup.Operator.valueOf(attrs.getValue("operator")));
+                }
+
+                openGroups.push(group); // Its conditions follow before it ends
+                newCondition = group;
+                break;
         }
 
         if (newCondition != null) {
@@ -194,6 +210,9 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
             case "publications":
                 settings.getFileSettings().setPublications(ResourceLocator.getFullPath(text));
                 break;
+            case "cacheParseResults":
+                settings.getFileSettings().setCacheParseResults(Boolean.parseBoolean(text));
+                break;
             case "target":
                 settings.getFileSettings().setTarget(ResourceLocator.getFullPath(text));
                 break;
@@ -253,21 +272,25 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
             // Conditions
             case "TypeCondition":
                 ((TypeCondition) currentCondition).setTypes(text.split(";"));
-                currentCategory.setTypeCondition((TypeCondition) currentCondition);
+                addCondition(currentCondition);
                 break;
             case "fieldConditions":
+            case "conditionGroups":
                 // No action required
                 break;
             case "FieldExistsCondition":
-                currentCategory.getFieldConditions().add((FieldCondition) currentCondition);
+                addCondition(currentCondition);
                 break;
             case "FieldEqualsCondition":
                 ((FieldEqualsCondition) currentCondition).setValues(text.split(";"));
-                currentCategory.getFieldConditions().add((FieldCondition) currentCondition);
+                addCondition(currentCondition);
                 break;
             case "FieldContainsCondition":
                 ((FieldContainsCondition) currentCondition).setValues(text.split(";"));
-                currentCategory.getFieldConditions().add((FieldCondition) currentCondition);
+                addCondition(currentCondition);
+                break;
+            case "ConditionGroup":
+                addCondition(openGroups.pop());
                 break;
 
             // Active categories
@@ -281,6 +304,22 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
         }
     }
 
+    /**
+     * Adds a condition that was just read to the innermost group that
+     * contains it, or to the current category if it is not in a group.
+     */
+    private void addCondition(Condition condition) {
+        if (!openGroups.isEmpty()) {
+            openGroups.peek().getConditions().add(condition);
+        } else if (condition instanceof TypeCondition) {
+            currentCategory.setTypeCondition((TypeCondition) condition);
+        } else if (condition instanceof FieldCondition) {
+            currentCategory.getFieldConditions().add((FieldCondition) condition);
+        } else {
+            currentCategory.getConditionGroups().add((ConditionGroup) condition);
+        }
+    }
+
     private void generalSettingsEndElement(String qName, String text) {
         switch (qName) {
             case "generalSettings":
@@ -317,6 +356,15 @@ public class SettingsReaderCurrent extends DefaultHandler implements SettingsRea
             case "groupWithinCategories":
                 settings.getGeneralSettings().setGroupWithinCategories(Boolean.parseBoolean(text));
                 break;
+            case "groupingDimensions":
+                List<GeneralSettings.GroupingDimension> dimensions = new ArrayList<>();
+
+                for (String dimension : text.split(";")) {
+                    dimensions.add(GeneralSettings.GroupingDimension.valueOf(dimension));
+                }
+
+                settings.getGeneralSettings().setGroupingDimensions(dimensions);
+                break;
             default:
                 Console.warn(Console.WarningType.OTHER, "Unrecognized tag in General settings: \"%s\".", qName);
                 break;
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.util.List;
 import publy.data.category.OutputCategory;
 import publy.data.category.conditions.Condition;
+import publy.data.category.conditions.ConditionGroup;
 import publy.data.category.conditions.FieldContainsCondition;
 import publy.data.category.conditions.FieldEqualsCondition;
 import publy.data.category.conditions.FieldExistsCondition;
@@ -80,6 +81,7 @@ public class SettingsWriter {
         out.newLine();
 
         output(out, 4, "publications", makeString(settings.getPublications()));
+        output(out, 4, "cacheParseResults", makeString(settings.isCacheParseResults()));
         output(out, 4, "target", makeString(settings.getTarget()));
         output(out, 4, "openOutput", makeString(settings.isOpenOutput()));
         output(out, 4, "header", makeString(settings.getHeader()));
@@ -123,6 +125,17 @@ public class SettingsWriter {
 
             out.write("        </fieldConditions>");
             out.newLine();
+
+            // condition groups
+            out.write("        <conditionGroups>");
+            out.newLine();
+
+            for (Condition group : c.getConditionGroups()) {
+                writeCondition(out, 10, group);
+            }
+
+            out.write("        </conditionGroups>");
+            out.newLine();
             
             // ignored fields
             output(out, 8, "ignoredFields", makeCData(c.getIgnoredFields()));
@@ -174,6 +187,7 @@ public class SettingsWriter {
         output(out, 4, "reverseNumbering", makeString(settings.isReverseNumbering()));
         output(out, 4, "grouping", makeString(settings.getGrouping()));
         output(out, 4, "groupWithinCategories", makeString(settings.isGroupWithinCategories()));
+        output(out, 4, "groupingDimensions", makeString(settings.getGroupingDimensions()));
 
         out.write("  </generalSettings>");
         out.newLine();
@@ -236,6 +250,18 @@ public class SettingsWriter {
             output(out, indent, "FieldEqualsCondition", makeCData(((FieldEqualsCondition) condition).getValues()), "inverted", makeString(condition.isInverted()), "field", ((FieldCondition) condition).getField());
         } else if (condition instanceof FieldContainsCondition) {
             output(out, indent, "FieldContainsCondition", makeCData(((FieldContainsCondition) condition).getValues()), "inverted", makeString(condition.isInverted()), "field", ((FieldCondition) condition).getField());
+        } else if (condition instanceof ConditionGroup) {
+            ConditionGroup group = (ConditionGroup) condition;
+
+            out.write(indent(indent) + "<ConditionGroup inverted=\"" + makeString(group.isInverted()) + "\" operator=\"" + makeString(group.getOperator()) + "\">");
+            out.newLine();
+
+            for (Condition member : group.getConditions()) {
+                writeCondition(out, indent + 2, member);
+            }
+
+            out.write(indent(indent) + "</ConditionGroup>");
+            out.newLine();
         } else {
             throw new AssertionError("Unknown condition type: " + condition);
         }
@@ -303,7 +329,14 @@ public class SettingsWriter {
             case 12:
                 return "            ";
             default:
-                throw new AssertionError("Unexpected indentation number: " + indent);
+                // Deeper levels only occur in nested condition groups
+                StringBuilder sb = new StringBuilder(indent);
+
+                for (int i = 0; i < indent; i++) {
+                    sb.append(' ');
+                }
+
+                return sb.toString();
         }
     }
 
@@ -320,6 +353,27 @@ public class SettingsWriter {
         return e.name();
     }
 
+    /**
+     * Saves a list of enum constants as a semicolon-separated string of their
+     * names.
+     *
+     * @param content
+     * @return
+     */
+    private static String makeString(List<? extends Enum<?>> content) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Enum<?> e : content) {
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+
+            sb.append(e.name());
+        }
+
+        return sb.toString();
+    }
+
     private static String makeCData(String content) {
         return "<![CDATA[" + (content == null ? "" : content) + "]]>";
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.bibitem.BibItem;
+import publy.data.category.OutputCategory;
+import publy.data.category.conditions.ConditionGroup;
+import publy.data.category.conditions.FieldCondition;
+import publy.data.category.conditions.FieldContainsCondition;
+import publy.data.category.conditions.FieldEqualsCondition;
+import publy.data.category.conditions.FieldExistsCondition;
+import publy.data.category.conditions.TypeCondition;
+import publy.data.settings.CategorySettings;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class CategoryIndexTest {
+
+    public CategoryIndexTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of findCategory method, of class CategoryIndex.
+     */
+    @Test
+    public void testFindCategory() {
+        System.out.println("findCategory");
+
+        OutputCategory submitted = new OutputCategory("sub", "Submitted", new TypeCondition(false, "*"));
+        submitted.setFieldConditions(Arrays.<FieldCondition>asList(new FieldEqualsCondition(false, "pubstate", "submitted", "in preparation")));
+        OutputCategory journal = new OutputCategory("journal", "Journal papers", new TypeCondition(false, "article"));
+        journal.setFieldConditions(Arrays.<FieldCondition>asList(new FieldContainsCondition(true, "journal", "arXiv"), new FieldExistsCondition(false, "journal")));
+        OutputCategory other = new OutputCategory("other", "Other", new TypeCondition(true, "article"));
+
+        CategorySettings settings = new CategorySettings();
+        settings.setAllCategories(Arrays.asList(submitted, journal, other));
+        settings.setActiveCategories(Arrays.asList(submitted, journal, other));
+
+        BibItem paper = new BibItem("article", "paper");
+        paper.put("journal", "Journal of Examples");
+
+        BibItem preprint = new BibItem("article", "preprint");
+        preprint.put("journal", "arXiv preprint");
+
+        BibItem submittedPaper = new BibItem("article", "submittedPaper");
+        submittedPaper.put("journal", "Journal of Examples");
+        submittedPaper.put("pubstate", "submitted");
+
+        BibItem talk = new BibItem("misc", "talk");
+
+        CategoryIndex index = CategoryIndex.getIndex(settings);
+        assertSame(journal, index.findCategory(paper));
+        assertNull(index.findCategory(preprint));
+        assertSame(submitted, index.findCategory(submittedPaper)); // First match wins
+        assertSame(other, index.findCategory(talk));
+
+        // The index is reused until the conditions change
+        assertSame(index, CategoryIndex.getIndex(settings));
+
+        ((FieldContainsCondition) journal.getFieldConditions().get(0)).setValues("Examples");
+        index = CategoryIndex.getIndex(settings);
+        assertNull(index.findCategory(paper));
+        assertSame(journal, index.findCategory(preprint));
+
+        journal.getTypeCondition().setTypes("misc");
+        index = CategoryIndex.getIndex(settings);
+        assertNull(index.findCategory(preprint));
+        assertSame(other, index.findCategory(talk));
+    }
+
+    /**
+     * Test of findCategory method with condition groups, of class
+     * CategoryIndex.
+     */
+    @Test
+    public void testFindCategoryWithGroups() {
+        System.out.println("findCategory with groups");
+
+        // Journal papers, and conference papers in a series that are not marked as invited
+        OutputCategory refereed = new OutputCategory("refereed", "Refereed papers", new TypeCondition(false, "article", "inproceedings"));
+        ConditionGroup group = new ConditionGroup(false, ConditionGroup.Operator.OR,
+                new TypeCondition(false, "article"),
+                new ConditionGroup(false, ConditionGroup.Operator.AND,
+                        new FieldExistsCondition(false, "series"),
+                        new FieldContainsCondition(true, "note", "Invited")));
+        refereed.getConditionGroups().add(group);
+        OutputCategory other = new OutputCategory("other", "Other", new TypeCondition(false, "*"));
+
+        CategorySettings settings = new CategorySettings();
+        settings.setAllCategories(Arrays.asList(refereed, other));
+        settings.setActiveCategories(Arrays.asList(refereed, other));
+
+        BibItem journal = new BibItem("article", "journal");
+        journal.put("note", "Invited paper");
+
+        BibItem conference = new BibItem("inproceedings", "conference");
+        conference.put("series", "LIPIcs");
+
+        BibItem invited = new BibItem("inproceedings", "invited");
+        invited.put("series", "LIPIcs");
+        invited.put("note", "Invited paper");
+
+        BibItem workshop = new BibItem("inproceedings", "workshop");
+
+        CategoryIndex index = CategoryIndex.getIndex(settings);
+        assertSame(refereed, index.findCategory(journal));
+        assertSame(refereed, index.findCategory(conference));
+        assertSame(other, index.findCategory(invited));
+        assertSame(other, index.findCategory(workshop));
+
+        for (BibItem item : Arrays.asList(journal, conference, invited, workshop)) {
+            assertEquals(item.getId(), refereed.fitsCategory(item), index.findCategory(item) == refereed);
+        }
+
+        // Changes to nested conditions are noticed
+        ((ConditionGroup) group.getConditions().get(1)).setOperator(ConditionGroup.Operator.OR);
+        index = CategoryIndex.getIndex(settings);
+        assertSame(refereed, index.findCategory(invited));
+        assertSame(refereed, index.findCategory(workshop));
+
+        group.setInverted(true);
+        index = CategoryIndex.getIndex(settings);
+        assertSame(other, index.findCategory(journal));
+        assertSame(other, index.findCategory(workshop));
+    }
+}
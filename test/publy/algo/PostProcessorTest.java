@@ -95,6 +95,70 @@ public class PostProcessorTest {
         assertEquals("2011", item3.get("year"));
     }
 
+    /**
+     * Test of applyCrossref method with chains of cross-references, of class
+     * PostProcessor.
+     */
+    @Test
+    public void testApplyCrossrefChains() {
+        System.out.println("applyCrossrefChains");
+
+        Settings settings = new Settings();
+        settings.getConsoleSettings().setShowWarnings(false);
+        Console.setSettings(settings.getConsoleSettings());
+        Console.setHeadless(true);
+
+        // The paper comes before the proceedings, which come before the series
+        BibItem paper = new BibItem("inproceedings", "paper");
+        paper.put("author", "Thor, Au");
+        paper.put("title", "Title");
+        paper.put("booktitle", "");
+        paper.put("crossref", "proc");
+
+        BibItem proceedings = new BibItem("proceedings", "proc");
+        proceedings.put("title", "Proceedings");
+        proceedings.put("booktitle", "Proceedings of the Symposium");
+        proceedings.put("crossref", "series");
+
+        BibItem series = new BibItem("proceedings", "series");
+        series.put("title", "Series");
+        series.put("publisher", "Springer");
+        series.put("year", "2011");
+
+        PublicationPostProcessor.postProcess(settings, new ArrayList<>(Arrays.asList(paper, proceedings, series)));
+
+        assertSame(proceedings, paper.getCrossref());
+        assertEquals("Title", paper.get("title"));
+        assertEquals("Proceedings of the Symposium", paper.get("booktitle"));
+        assertEquals("Springer", paper.get("publisher"));
+        assertEquals("2011", paper.get("year"));
+        assertTrue(paper.getFields().containsAll(Arrays.asList("booktitle", "publisher", "year")));
+
+        // Values are inherited, not copied
+        series.put("publisher", "ACM");
+        assertEquals("ACM", paper.get("publisher"));
+
+        // A cycle is broken instead of followed forever
+        BibItem first = new BibItem("inproceedings", "first");
+        first.put("author", "Thor, Au");
+        first.put("title", "First");
+        first.put("crossref", "second");
+
+        BibItem second = new BibItem("inproceedings", "second");
+        second.put("author", "Thor, Au");
+        second.put("title", "Second");
+        second.put("booktitle", "Book");
+        second.put("year", "2012");
+        second.put("crossref", "first");
+
+        PublicationPostProcessor.postProcess(settings, new ArrayList<>(Arrays.asList(first, second)));
+
+        assertSame(second, first.getCrossref());
+        assertNull(second.getCrossref());
+        assertEquals("Book", first.get("booktitle"));
+        assertEquals("First", first.get("title"));
+    }
+
     /**
      * Test of detectArxiv method, of class PostProcessor.
      */
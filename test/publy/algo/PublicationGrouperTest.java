@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.Console;
+import publy.data.Author;
+import publy.data.Section;
+import publy.data.bibitem.BibItem;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class PublicationGrouperTest {
+
+    public PublicationGrouperTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        Console.setHeadless(true);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of group method, of class PublicationGrouper.
+     */
+    @Test
+    public void testGroup() {
+        System.out.println("group");
+
+        BibItem journal2015 = makeItem("article", "journal2015", "2015", "journal", "Journal of Examples");
+        BibItem conference2015 = makeItem("inproceedings", "conference2015", "2015", "booktitle", "Proceedings of Examples");
+        BibItem journal2014 = makeItem("article", "journal2014", "2014", "journal", "Journal of Examples");
+        BibItem other2014 = makeItem("article", "other2014", "2014", "journal", "Annals of Examples");
+        BibItem noVenue = makeItem("article", "noVenue", "2014", "note", "Submitted");
+        BibItem noYear = makeItem("article", "noYear", "soon", "journal", "Journal of Examples");
+        List<BibItem> items = Arrays.asList(journal2015, conference2015, journal2014, other2014, noVenue, noYear);
+
+        List<Section> sections = PublicationGrouper.group(items, Arrays.asList(PublicationGrouper.byYear(), PublicationGrouper.byType(), PublicationGrouper.byVenue()));
+
+        // Years are ordered from new to old, items without a year are left out
+        assertEquals(2, sections.size());
+        assertEquals("2015", sections.get(0).getName());
+        assertEquals("2014", sections.get(1).getName());
+        assertEquals(5, sections.get(0).countAllItems() + sections.get(1).countAllItems());
+
+        // Types and venues are ordered alphabetically
+        Section year2015 = sections.get(0);
+        assertEquals(2, year2015.getSubsections().size());
+        assertEquals("article", year2015.getSubsections().get(0).getName());
+        assertEquals("inproceedings", year2015.getSubsections().get(1).getName());
+        assertEquals(Arrays.asList(conference2015), year2015.getSubsections().get(1).getSubsections().get(0).getItems());
+
+        // Items without a venue stay with their type
+        Section articles2014 = sections.get(1).getSubsections().get(0);
+        assertEquals(Arrays.asList(noVenue), articles2014.getItems());
+        assertEquals(2, articles2014.getSubsections().size());
+        assertEquals("Annals of Examples", articles2014.getSubsections().get(0).getName());
+        assertEquals(Arrays.asList(other2014), articles2014.getSubsections().get(0).getItems());
+        assertEquals("Journal of Examples", articles2014.getSubsections().get(1).getName());
+        assertEquals(Arrays.asList(journal2014), articles2014.getSubsections().get(1).getItems());
+
+        // Items keep their order within a section
+        sections = PublicationGrouper.group(items, Arrays.asList(PublicationGrouper.byVenue()));
+        assertEquals("Journal of Examples", sections.get(1).getName());
+        assertEquals(Arrays.asList(journal2015, journal2014, noYear), sections.get(1).getItems());
+
+        // The first author with a group decides the group
+        Author grouped = new Author("Grouped Author");
+        grouped.setGroup("Examples Lab");
+        journal2015.setAuthors(new Author("Plain Author"), grouped);
+        noVenue.setAuthors(grouped);
+        sections = PublicationGrouper.group(items, Arrays.asList(PublicationGrouper.byAuthorGroup()));
+        assertEquals(1, sections.size());
+        assertEquals("Examples Lab", sections.get(0).getName());
+        assertEquals(Arrays.asList(journal2015, noVenue), sections.get(0).getItems());
+    }
+
+    private static BibItem makeItem(String type, String id, String year, String field, String value) {
+        BibItem item = new BibItem(type, id);
+        item.put("year", year);
+        item.put(field, value);
+        return item;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.algo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class WorkerPoolTest {
+
+    private static int defaultThreads;
+
+    public WorkerPoolTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+        defaultThreads = WorkerPool.getThreads();
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        WorkerPool.setThreads(defaultThreads);
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of map method, of class WorkerPool.
+     */
+    @Test
+    public void testMap() {
+        System.out.println("map");
+
+        List<Integer> items = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            items.add(i);
+        }
+
+        for (int threads : new int[]{1, 2, 7}) {
+            WorkerPool.setThreads(threads);
+            List<Integer> squares = WorkerPool.map(items, i -> i * i);
+
+            assertEquals(items.size(), squares.size());
+
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(i * i, (int) squares.get(i));
+            }
+        }
+    }
+
+    /**
+     * Test of forEach method, of class WorkerPool.
+     */
+    @Test
+    public void testForEach() {
+        System.out.println("forEach");
+
+        List<Integer> items = new ArrayList<>();
+
+        for (int i = 0; i < 10000; i++) {
+            items.add(i);
+        }
+
+        for (int threads : new int[]{1, 4}) {
+            WorkerPool.setThreads(threads);
+            final AtomicIntegerArray visits = new AtomicIntegerArray(items.size());
+            WorkerPool.forEach(items, i -> visits.incrementAndGet(i));
+
+            for (int i = 0; i < items.size(); i++) {
+                assertEquals(1, visits.get(i));
+            }
+        }
+    }
+}
@@ -405,4 +405,22 @@ public class AuthorTest {
             assertEquals(name + " - ", expected.get(name), a.getFormattedName(GeneralSettings.FirstNameDisplay.INITIAL, true));
         }
     }
+
+    /**
+     * Tests that formatting the same author with different settings gives
+     * the right result each time.
+     */
+    @Test
+    public void testFormatChangingSettings() {
+        System.out.println("Format - Changing Settings");
+
+        Author a = new Author("van Renssen, Andr\\'e");
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Andr\\'e van Renssen", a.getFormattedName(GeneralSettings.FirstNameDisplay.FULL, false));
+            assertEquals("van Renssen, Andr\\'e", a.getFormattedName(GeneralSettings.FirstNameDisplay.FULL, true));
+            assertEquals("A. van Renssen", a.getFormattedName(GeneralSettings.FirstNameDisplay.INITIAL, false));
+            assertEquals("van Renssen", a.getFormattedName(GeneralSettings.FirstNameDisplay.NONE, false));
+        }
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.data.bibitem;
+
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.PublicationStatus;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class DerivedDataTest {
+
+    public DerivedDataTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of the derived values of a publication.
+     */
+    @Test
+    public void testDerivedData() {
+        System.out.println("derivedData");
+
+        BibItem item = new BibItem("article", "paper");
+        DerivedData data = item.getDerivedData();
+        assertNull(data.getYear());
+        assertEquals(0, data.getMonth());
+        assertFalse(data.isPageRange());
+        assertEquals(PublicationStatus.PUBLISHED, data.getStatus());
+        assertNull(data.getArxivLink());
+        assertNull(data.getDoiLink());
+        assertSame(data, item.getDerivedData()); // Computed only once
+
+        item.put("year", "2015");
+        item.put("month", "sep");
+        item.put("pages", "12--15");
+        item.put("pubstate", "submitted");
+        item.put("doi", "10.1000/182");
+        data = item.getDerivedData();
+        assertEquals(Integer.valueOf(2015), data.getYear());
+        assertEquals(9, data.getMonth());
+        assertTrue(data.isPageRange());
+        assertEquals(PublicationStatus.ALL, data.getStatus());
+        assertEquals("https://dx.doi.org/10.1000/182", data.getDoiLink());
+
+        item.put("month", "12");
+        item.put("pages", "12");
+        item.put("pubstate", "inpress");
+        item.put("doi", "http://doi.org/10.1000/182");
+        data = item.getDerivedData();
+        assertEquals(12, data.getMonth());
+        assertFalse(data.isPageRange());
+        assertEquals(PublicationStatus.ACCEPTED, data.getStatus());
+        assertEquals("http://doi.org/10.1000/182", data.getDoiLink());
+
+        item.put("month", "Spring");
+        item.put("pubstate", "submitted");
+        item.put("arxiv", "1501.00001");
+        data = item.getDerivedData();
+        assertEquals(0, data.getMonth());
+        assertEquals(PublicationStatus.ARXIV, data.getStatus());
+        assertEquals("http://arxiv.org/abs/1501.00001", data.getArxivLink());
+
+        // Values inherited through a cross-reference are included
+        BibItem proceedings = new BibItem("proceedings", "proceedings");
+        proceedings.put("year", "2014");
+        BibItem chapter = new BibItem("inproceedings", "chapter");
+        assertNull(chapter.getDerivedData().getYear());
+        chapter.setCrossref(proceedings);
+        assertEquals(Integer.valueOf(2014), chapter.getDerivedData().getYear());
+    }
+
+    /**
+     * Test of parseYear method, of class DerivedData.
+     */
+    @Test
+    public void testParseYear() {
+        System.out.println("parseYear");
+
+        for (String year : Arrays.asList("2015", "+2015", "-44", "0", "02015", "2147483647", "-2147483648", "\u0662\u0660\u0661\u0665")) {
+            assertEquals(year, Integer.valueOf(Integer.parseInt(year)), DerivedData.parseYear(year));
+        }
+
+        for (String year : Arrays.asList(null, "", "-", "+", "2015 ", "2015a", "MMXV", "2147483648", "-2147483649", "99999999999999999999")) {
+            assertNull(year, DerivedData.parseYear(year));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.data.category.conditions;
+
+import java.util.Collections;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.bibitem.BibItem;
+
+/**
+ *
+ *
+ */
+public class ConditionGroupTest {
+
+    public ConditionGroupTest() {
+    }
+
+    /**
+     * Test of matches method, of class ConditionGroup.
+     */
+    @Test
+    public void testMatches() {
+        BibItem journal = new BibItem("article", "journal");
+        journal.put("journal", "Journal of Examples");
+        BibItem preprint = new BibItem("article", "preprint");
+        preprint.put("journal", "arXiv preprint");
+        BibItem talk = new BibItem("misc", "talk");
+
+        ConditionGroup published = new ConditionGroup(false, ConditionGroup.Operator.AND,
+                new TypeCondition(false, "article"),
+                new FieldContainsCondition(true, "journal", "arXiv"));
+        ConditionGroup any = new ConditionGroup(false, ConditionGroup.Operator.OR,
+                new FieldContainsCondition(false, "journal", "arXiv"),
+                new TypeCondition(false, "misc"));
+
+        assertTrue(published.matches(journal));
+        assertFalse(published.matches(preprint));
+        assertFalse(published.matches(talk));
+
+        assertFalse(any.matches(journal));
+        assertTrue(any.matches(preprint));
+        assertTrue(any.matches(talk));
+
+        // NOT
+        published.setInverted(true);
+        assertFalse(published.matches(journal));
+        assertTrue(published.matches(preprint));
+        assertTrue(published.matches(talk));
+
+        // Nesting
+        ConditionGroup nested = new ConditionGroup(false, ConditionGroup.Operator.OR, published, new FieldExistsCondition(false, "journal"));
+        assertTrue(nested.matches(journal));
+        assertTrue(nested.matches(preprint));
+        assertTrue(nested.matches(talk));
+
+        nested.setOperator(ConditionGroup.Operator.AND);
+        assertFalse(nested.matches(journal));
+        assertTrue(nested.matches(preprint));
+        assertFalse(nested.matches(talk));
+
+        // Empty groups
+        assertTrue(new ConditionGroup(false, ConditionGroup.Operator.AND, Collections.<Condition>emptyList()).matches(talk));
+        assertFalse(new ConditionGroup(false, ConditionGroup.Operator.OR, Collections.<Condition>emptyList()).matches(talk));
+    }
+}
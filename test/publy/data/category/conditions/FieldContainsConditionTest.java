@@ -15,8 +15,10 @@
  */
 package publy.data.category.conditions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import publy.data.ExampleBibItems;
@@ -69,4 +71,59 @@ public class FieldContainsConditionTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of matches method with many values, of class FieldContainsCondition.
+     */
+    @Test
+    public void testMatchesManyValues() {
+        Random random = new Random(42);
+        String alphabet = "abc \u00E9\u4E2D";
+
+        for (int test = 0; test < 200; test++) {
+            List<String> values = new ArrayList<>();
+
+            for (int i = random.nextInt(20); i >= 0; i--) {
+                values.add(randomString(random, alphabet, 1 + random.nextInt(4)));
+            }
+
+            FieldContainsCondition condition = new FieldContainsCondition(false, "author", values);
+
+            for (int i = 0; i < 20; i++) {
+                BibItem item = new BibItem("article", "test");
+                item.put("author", randomString(random, alphabet, random.nextInt(15)));
+
+                boolean expected = false;
+
+                for (String v : values) {
+                    expected = expected || item.get("author").contains(v);
+                }
+
+                assertEquals("Values: " + values + " with " + item.get("author"), expected, condition.matches(item));
+            }
+        }
+
+        // Changing the values rebuilds the matcher
+        BibItem item = new BibItem("article", "test");
+        item.put("author", "Verdonschot, Sander and Bose, Prosenjit");
+
+        FieldContainsCondition condition = new FieldContainsCondition(false, "author", "Morin", "Dujmovi\u0107");
+        assertFalse(condition.matches(item));
+        condition.setValues("Morin", "Bose");
+        assertTrue(condition.matches(item));
+        condition.setValues(Arrays.asList("Morin"));
+        assertFalse(condition.matches(item));
+        condition.setValues("");
+        assertTrue(condition.matches(item));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return sb.toString();
+    }
+}
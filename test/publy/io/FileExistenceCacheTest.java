@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class FileExistenceCacheTest {
+
+    public FileExistenceCacheTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+        FileExistenceCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        FileExistenceCache.clear();
+    }
+
+    /**
+     * Test of exists method, of class FileExistenceCache.
+     */
+    @Test
+    public void testExists() throws IOException {
+        System.out.println("exists");
+
+        Path dir = Files.createTempDirectory("publy");
+        Path present = Files.createFile(dir.resolve("present.pdf"));
+        Path missing = dir.resolve("missing.pdf");
+
+        try {
+            FileExistenceCache.prefetch(Arrays.asList(present, missing, present));
+            assertTrue(FileExistenceCache.exists(present));
+            assertFalse(FileExistenceCache.exists(missing));
+
+            // Results are remembered until the cache is cleared
+            Files.delete(present);
+            Files.createFile(missing);
+            assertTrue(FileExistenceCache.exists(present));
+            assertFalse(FileExistenceCache.exists(missing));
+
+            FileExistenceCache.clear();
+            assertFalse(FileExistenceCache.exists(present));
+            assertTrue(FileExistenceCache.exists(missing));
+        } finally {
+            Files.deleteIfExists(present);
+            Files.deleteIfExists(missing);
+            Files.delete(dir);
+        }
+    }
+}
@@ -105,6 +105,11 @@ public class LatexToUnicodeTest {
         expected.put("Discrete {\\&} Computational Geometry", "Discrete {&} Computational Geometry");
         expected.put("Georgy Theodosiyovych Vorono\\\"i", "Georgy Theodosiyovych Voronoï");
         expected.put("K. Dou\\\"\\i eb", "K. Douïeb");
+
+        // An escaped backslash does not start a command
+        expected.put("Line\\\\ss{}", "Line\\\\ss{}");
+        expected.put("Line\\\\\\ss{}", "Line\\\\\u00df");
+        expected.put("Test\\\\'{o}test", "Test\\\\'{o}test");
         
         // From http://www.tex.ac.uk/ctan/biblio/bibtex/utils/bib2xhtml/example.bib
         expected.put("Albert-L\\'{a}szl\\'{o} Barab\\'{a}si", "Albert-László Barabási");
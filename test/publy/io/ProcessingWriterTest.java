@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import java.io.BufferedWriter;
+import java.io.StringWriter;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class ProcessingWriterTest {
+
+    public ProcessingWriterTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of writeLatex method, of class ProcessingWriter.
+     */
+    @Test
+    public void testWriteLatex() throws Exception {
+        System.out.println("writeLatex");
+
+        String[][] testCases = new String[][]{
+            {"", ""},
+            {"Plain text", "Plain text"},
+            {"{G}raph {D}rawing", "Graph Drawing"},
+            {"Universit\\'{e} de Montr\\'eal", "Université de Montréal"},
+            {"\\emph{Not} removed", "\\emph{Not} removed"},
+            {"``Quoted'' and `single' quotes", "“Quoted” and ‘single’ quotes"},
+            {"Rock 'n' roll", "Rock ’n’ roll"},
+            {"<b>It's</b> \\\"{o}", "<b>It’s</b> ö"},
+            {"Trailing\\", "Trailing"},
+            {"$x^{2}$ and x^{2}", "$x^{2}$ and x^{2}"}
+        };
+
+        for (String[] testCase : testCases) {
+            StringBuilder result = new StringBuilder();
+            new ProcessingWriter(result, true, true, false).writeLatex(testCase[0]);
+            assertEquals(testCase[1], result.toString());
+        }
+
+        // Each piece of text is processed separately
+        StringBuilder result = new StringBuilder();
+        ProcessingWriter writer = new ProcessingWriter(result, true, true, false);
+        writer.writeLatex("Ends with \\");
+        writer.writeLatex("{Braces}");
+        assertEquals("Ends with Braces", result.toString());
+    }
+
+    /**
+     * Test of HTML escaping, of class ProcessingWriter.
+     */
+    @Test
+    public void testEscapeHtml() throws Exception {
+        System.out.println("escapeHtml");
+
+        StringWriter result = new StringWriter();
+        BufferedWriter out = new BufferedWriter(new ProcessingWriter(result, false, false, true));
+        out.write("@misc{a,\n  title={Q&A <b>\u00A0</b> ``{B}''}\n}");
+        out.flush();
+
+        assertEquals("@misc{a,\n  title={Q&amp;A &lt;b&gt;&nbsp;&lt;/b&gt; ``{B}''}\n}", result.toString());
+    }
+}
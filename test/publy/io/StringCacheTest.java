@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class StringCacheTest {
+
+    public StringCacheTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of get and put methods, of class StringCache.
+     */
+    @Test
+    public void testGetAndPut() {
+        System.out.println("get and put");
+
+        StringCache cache = new StringCache(16 * 1000);
+
+        assertNull(cache.get("\\'{e}t\\'{e}"));
+        cache.put("\\'{e}t\\'{e}", "été");
+        assertEquals("été", cache.get("\\'{e}t\\'{e}"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(11 + 3, cache.getSize());
+
+        // Replacing a value updates the size
+        cache.put("\\'{e}t\\'{e}", "ete");
+        assertEquals("ete", cache.get("\\'{e}t\\'{e}"));
+        assertEquals(11 + 3, cache.getSize());
+
+        // Entries larger than a segment are not stored
+        char[] large = new char[2000];
+        cache.put(new String(large), "");
+        assertNull(cache.get(new String(large)));
+
+        cache.clear();
+        assertNull(cache.get("\\'{e}t\\'{e}"));
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    /**
+     * Test that the least recently used entries are evicted, of class
+     * StringCache.
+     */
+    @Test
+    public void testEviction() {
+        System.out.println("eviction");
+
+        StringCache cache = new StringCache(16 * 100);
+
+        for (int i = 0; i < 10000; i++) {
+            cache.put("key" + i, "value" + i);
+            assertTrue("Size " + cache.getSize() + " exceeds the maximum.", cache.getSize() <= 16 * 100);
+        }
+
+        assertNotNull(cache.get("key9999"));
+        assertNull(cache.get("key0"));
+
+        // Recently used entries stay in the cache
+        cache = new StringCache(16 * 100);
+        cache.put("frequent", "value");
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals("value", cache.get("frequent"));
+            cache.put("key" + i, "value" + i);
+        }
+
+        assertEquals("value", cache.get("frequent"));
+    }
+}
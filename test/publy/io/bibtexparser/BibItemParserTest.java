@@ -23,7 +23,6 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import static org.junit.Assert.*;
-import publy.data.Pair;
 import publy.data.bibitem.BibItem;
 
 /**
@@ -395,13 +394,14 @@ public class BibItemParserTest {
         for (Object[] test : tests) {
             i++;
             try {
-                Pair<Integer, BibItem> result = BibItemParser.parseBibItem(new StringReader((String) test[0]));
+                Tokenizer tokenizer = new Tokenizer(new StringReader((String) test[0]));
+                BibItem result = new BibItemParser(tokenizer).parseBibItem();
 
                 if ("EX".equals(test[1])) {
                     fail("parseBibItem did not throw an Exception with input " + i + " \"" + test[0] + "\".");
                 } else {
-                    assertEqualItems("Input " + i + ": <" + test[0] + ">", (BibItem) test[1], result.getSecond());
-                    assertEquals("Input " + i + ": <" + test[0] + ">", test[2], result.getFirst());
+                    assertEqualItems("Input " + i + ": <" + test[0] + ">", (BibItem) test[1], result);
+                    assertEquals("Input " + i + ": <" + test[0] + ">", test[2], tokenizer.lineno());
                 }
             } catch (IOException | ParseException ioe) {
                 if (!"EX".equals(test[1])) {
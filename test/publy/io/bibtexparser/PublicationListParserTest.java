@@ -18,15 +18,26 @@ package publy.io.bibtexparser;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import static org.junit.Assert.*;
+import publy.algo.WorkerPool;
+import publy.data.Author;
 import publy.data.bibitem.BibItem;
 
 /**
@@ -281,6 +292,102 @@ public class PublicationListParserTest {
                     }
                 }).init()
                 )
+            },
+            new Object[]{
+                "@Book{broken,\n"
+                + "  author =	 {Unterminated,\n"
+                + "\n"
+                + "  @Book{steward03,\n"
+                + "  author =	 {Testing},\n"
+                + "}",
+                Collections.emptyList()
+            },
+            new Object[]{
+                "@Book{broken,\n"
+                + "  author =	 {Unclosed},\n"
+                + "@Book{steward03,\n"
+                + "  author =	 {Testing},\n"
+                + "}\n"
+                + "@Book{broken2,\n"
+                + "  author =	 {Unclosed}\n"
+                + "@Book{steward04,\n"
+                + "  author =	 {Testing},\n"
+                + "}",
+                Arrays.asList(
+                (new BibItem("book", "steward03") {
+                    BibItem init() {
+                        put("author", "Testing");
+                        return this;
+                    }
+                }).init(),
+                (new BibItem("book", "steward04") {
+                    BibItem init() {
+                        put("author", "Testing");
+                        return this;
+                    }
+                }).init()
+                )
+            },
+            new Object[]{
+                "@Book{steward03,\n"
+                + "  note =	 {Contact\n"
+                + "@someone on twitter\n"
+                + "  @someone-else too},\n"
+                + "}\n"
+                + "@Book{steward04,\n"
+                + "  note =	 \"Not\n"
+                + "@Book{steward05}\",\n"
+                + "}",
+                Arrays.asList(
+                (new BibItem("book", "steward03") {
+                    BibItem init() {
+                        put("note", "Contact @someone on twitter @someone-else too");
+                        return this;
+                    }
+                }).init(),
+                (new BibItem("book", "steward04") {
+                    BibItem init() {
+                        put("note", "Not @Book{steward05}");
+                        return this;
+                    }
+                }).init()
+                )
+            },
+            new Object[]{
+                "@Book{broken author = {<<test>>}, @Book{recovered}}\n"
+                + "<author short=\"test\" name=\"Test Author\">\n"
+                + "@Book{steward03,\n"
+                + "  author =	 {<<test>>},\n"
+                + "}",
+                Arrays.asList(
+                new BibItem("book", "recovered"),
+                (new BibItem("book", "steward03") {
+                    BibItem init() {
+                        put("author", "Test Author");
+                        return this;
+                    }
+                }).init()
+                )
+            },
+            new Object[]{
+                "@Book{steward03,\n"
+                + "  publisher =	 series,\n"
+                + "  address =	 {<<nowhere>>},\n"
+                + "}\n"
+                + "<abbr short=\"series\" full=\"<<culinary>> Series\">\n"
+                + "@string{culinary = \"Culinary <<expert>>\"}\n"
+                + "<abbr short=\"expert\" full=\"Expert\">\n"
+                + "@string{nowhere = \"Nowhere <<elsewhere>>\"}\n"
+                + "@string{elsewhere = \"Elsewhere <<nowhere>>\"}",
+                Arrays.asList(
+                (new BibItem("book", "steward03") {
+                    BibItem init() {
+                        put("publisher", "Culinary Expert Series");
+                        put("address", "Nowhere Elsewhere ");
+                        return this;
+                    }
+                }).init()
+                )
             }
         };
 
@@ -301,6 +408,312 @@ public class PublicationListParserTest {
         }
     }
 
+    /**
+     * Test that publications share the Author objects of equal names.
+     */
+    @Test
+    public void testParseBibTeXSharedAuthors() throws Exception {
+        System.out.println("parseBibTeX (shared authors)");
+
+        String input = "@string{doe = \"Doe,   John\"}\n"
+                + "@article{a, author = {Doe, John AND Roe, Richard and Andersen, Hans}}\n"
+                + "@article{b, author = doe # \" and Roe, Richard\", editor = {Doe, John aNd Sandman}}";
+
+        List<BibItem> result = PublicationListParser.parseBibTeX(new StringReader(input));
+        assertEquals(2, result.size());
+
+        List<Author> authorsA = result.get(0).getAuthors();
+        List<Author> authorsB = result.get(1).getAuthors();
+        List<Author> editorsB = result.get(1).getEditors();
+
+        assertEquals("Doe, John and Roe, Richard and Andersen, Hans", result.get(0).get("author"));
+        assertEquals("Doe, John and Roe, Richard", result.get(1).get("author"));
+        assertEquals("Doe, John and Sandman", result.get(1).get("editor"));
+
+        assertEquals("Andersen", authorsA.get(2).getLastName());
+        assertSame(authorsA.get(0), authorsB.get(0));
+        assertSame(authorsA.get(0), editorsB.get(0));
+        assertSame(authorsA.get(1), authorsB.get(1));
+        assertEquals("Sandman", editorsB.get(1).getLastName());
+    }
+
+    /**
+     * Test of parseBibTeX method in parallel mode, of class
+     * PublicationListParser.
+     */
+    @Test
+    public void testParseBibTeXInParallel() throws Exception {
+        System.out.println("parseBibTeX (parallel)");
+
+        StringBuilder input = new StringBuilder();
+        input.append("<author short=\"me\" name=\"Verdonschot, Sander\">\n");
+        input.append("@string{proc = \"Proceedings of the\"}\n");
+
+        for (int i = 0; input.length() < 2000000; i++) {
+            switch (i % 5) {
+                case 0:
+                    // An entry with a value that contains lines that start another entry or tag
+                    input.append("@article{multi").append(i).append(",\n")
+                            .append("  title = {First line\n")
+                            .append("@article{fake").append(i).append(", title = {Inside}}\n")
+                            .append("<abbr short=\"fake\" full=\"Fake\">\n")
+                            .append("  last line},\n")
+                            .append("  year = 2000\n}\n");
+                    break;
+                case 1:
+                    // A malformed entry
+                    input.append("@article{broken").append(i).append(" title = {Broken}}\r\n");
+                    break;
+                case 2:
+                    input.append("@comment{\n  @misc{commented").append(i).append(", title = {Commented}, year = 2001}\n}\n");
+                    break;
+                default:
+                    input.append("@inproceedings{paper").append(i).append(",\r\n")
+                            .append("  title = {Paper ").append(i).append("},\n")
+                            .append("  author = {<<me>> and Doe, John},\n")
+                            .append("  booktitle = proc # \" Conference\",\n")
+                            .append("  year = ").append(1990 + i % 30).append("\n}\n");
+                    break;
+            }
+        }
+
+        List<BibItem> expResult = PublicationListParser.parseBibTeX(CharBuffer.wrap(input), false);
+        int threads = WorkerPool.getThreads();
+
+        try {
+            WorkerPool.setThreads(4);
+            List<BibItem> result = PublicationListParser.parseBibTeX(CharBuffer.wrap(input), true);
+            assertEqualLists("Parallel parse", expResult, result);
+        } finally {
+            WorkerPool.setThreads(threads);
+        }
+    }
+
+    /**
+     * Test of parseBibTeX method, with many tags.
+     */
+    @Test(timeout = 10000)
+    public void testParseBibTeXManyTags() throws Exception {
+        System.out.println("parseBibTeX (many tags)");
+
+        int n = 20000;
+        StringBuilder input = new StringBuilder();
+
+        for (int i = 0; i < n; i++) {
+            input.append("<abbr short=\"abbr").append(i).append("\" full=\"Abbreviation ").append(i).append("\">\n");
+        }
+
+        input.append("@Book{steward03,\n")
+                .append("  publisher =	 {<<abbr0>> and <<abbr").append(n - 1).append(">>},\n")
+                .append("}");
+
+        List<BibItem> result = PublicationListParser.parseBibTeX(new BufferedReader(new StringReader(input.toString())));
+
+        assertEquals(1, result.size());
+        assertEquals("Abbreviation 0 and Abbreviation " + (n - 1), result.get(0).get("publisher"));
+    }
+
+    /**
+     * Test of parseBibTeX method, with many inputs parsed concurrently.
+     */
+    @Test
+    public void testParseBibTeXConcurrently() throws Exception {
+        System.out.println("parseBibTeX (concurrent)");
+
+        final int nInputs = 32;
+        final List<String> inputs = new ArrayList<>();
+
+        for (int i = 0; i < nInputs; i++) {
+            // Every input defines the same abbreviations differently
+            StringBuilder input = new StringBuilder();
+            input.append("<author short=\"me\" name=\"Author, Number ").append(i).append("\">\n");
+            input.append("@string{venue = \"Venue ").append(i).append("\"}\n");
+
+            for (int j = 0; j < 200 + 10 * i; j++) {
+                if (j % 50 == 0) {
+                    input.append("@article{broken").append(j).append(" title = {Broken}}\n");
+                }
+
+                input.append("@inproceedings{paper").append(i).append('_').append(j).append(",\n")
+                        .append("  title = {Paper ").append(j).append(" of input ").append(i).append("},\n")
+                        .append("  author = {<<me>> and Doe, John},\n")
+                        .append("  booktitle = venue # \" ").append(j).append("\",\n")
+                        .append("  year = ").append(1990 + j % 30).append("\n}\n");
+            }
+
+            inputs.add(input.toString());
+        }
+
+        List<List<BibItem>> expResults = new ArrayList<>();
+
+        for (String input : inputs) {
+            expResults.add(PublicationListParser.parseBibTeX(new StringReader(input)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            for (int round = 0; round < 4; round++) {
+                List<Future<List<BibItem>>> results = new ArrayList<>();
+
+                for (final String input : inputs) {
+                    results.add(executor.submit(new Callable<List<BibItem>>() {
+                        @Override
+                        public List<BibItem> call() throws Exception {
+                            return PublicationListParser.parseBibTeX(new StringReader(input));
+                        }
+                    }));
+                }
+
+                for (int i = 0; i < nInputs; i++) {
+                    assertEqualLists("Concurrent parse of input " + i, expResults.get(i), results.get(i).get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test of parseFile method with a cache, of class PublicationListParser.
+     */
+    @Test
+    public void testParseFileCached() throws Exception {
+        System.out.println("parseFile (cached)");
+
+        Path file = Files.createTempFile("publy-test-", ".bib");
+        Path cacheFile = Files.createTempFile("publy-test-", ".cache");
+        Files.delete(cacheFile);
+
+        try {
+            String[] inputs = new String[]{
+                "<author short=\"me\" name=\"Verdonschot, Sander\">\n"
+                + "@string{proc = \"Proceedings of the\"}\n"
+                + "@inproceedings{paper1,\n"
+                + "  title = {Paper 1},\n"
+                + "  author = {<<me>> and Doe, John},\n"
+                + "  booktitle = proc # \" Conference\",\n"
+                + "  year = 2015\n"
+                + "}\n"
+                + "@techreport{paper2,\n"
+                + "  title = {Paper 2},\n"
+                + "  author = {<<me>>},\n"
+                + "  year = 2016\n"
+                + "}\n"
+                + "@article{broken title = {Broken}}\n",
+                // Changed definitions
+                "<author short=\"me\" name=\"Verdonschot, Alexander\">\n"
+                + "@string{proc = \"Proc. of the\"}\n"
+                + "@inproceedings{paper1,\n"
+                + "  title = {Paper 1},\n"
+                + "  author = {<<me>> and Doe, John},\n"
+                + "  booktitle = proc # \" Conference\",\n"
+                + "  year = 2015\n"
+                + "}\n"
+                + "@techreport{paper2,\n"
+                + "  title = {Paper 2},\n"
+                + "  author = {<<me>>},\n"
+                + "  year = 2016\n"
+                + "}\n"
+                + "@article{broken title = {Broken}}\n",
+                // Changed and added publications
+                "<author short=\"me\" name=\"Verdonschot, Alexander\">\n"
+                + "@string{proc = \"Proc. of the\"}\n"
+                + "@inproceedings{paper1,\n"
+                + "  title = {Paper One},\n"
+                + "  author = {<<me>> and Doe, John},\n"
+                + "  booktitle = proc # \" Conference\",\n"
+                + "  year = 2015\n"
+                + "}\n"
+                + "@misc{paper3, title = {Paper 3}, year = 2017}\n"
+                + "@techreport{paper2,\n"
+                + "  title = {Paper 2},\n"
+                + "  author = {<<me>>},\n"
+                + "  year = 2016\n"
+                + "}\n"
+                + "@article{broken title = {Broken}}\n"
+            };
+
+            for (String input : inputs) {
+                Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+                List<BibItem> expResult = PublicationListParser.parseBibTeX(new StringReader(input));
+
+                // Once to fill the cache, once to use it
+                for (int i = 0; i < 2; i++) {
+                    List<BibItem> result = PublicationListParser.parseFile(file, cacheFile);
+                    assertEqualLists("Cached parse of <" + input + ">", expResult, result);
+
+                    for (int j = 0; j < expResult.size(); j++) {
+                        assertEquals(expResult.get(j).getAuthors().toString(), result.get(j).getAuthors().toString());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    /**
+     * Test of parseFile method, with a cache, on an input that is large enough
+     * to be parsed in parallel.
+     */
+    @Test
+    public void testParseFileCachedLarge() throws Exception {
+        System.out.println("parseFile (cached, large)");
+
+        Path file = Files.createTempFile("publy-test-", ".bib");
+        Path cacheFile = Files.createTempFile("publy-test-", ".cache");
+        Files.delete(cacheFile);
+        int threads = WorkerPool.getThreads();
+
+        try {
+            WorkerPool.setThreads(4);
+            StringBuilder input = new StringBuilder();
+            input.append("<author short=\"me\" name=\"Verdonschot, Sander\">\n");
+
+            for (int i = 0; input.length() < 2000000; i++) {
+                if (i % 4 == 0) {
+                    // An entry with a value that contains a line that starts another entry
+                    input.append("@article{multi").append(i).append(",\n")
+                            .append("  title = {First line\n")
+                            .append("@article{fake").append(i).append(", title = {Inside}}\n")
+                            .append("  last line},\n")
+                            .append("  year = 2000\n}\n");
+                } else {
+                    input.append("@misc{paper").append(i).append(",\n")
+                            .append("  title = {Paper ").append(i).append("},\n")
+                            .append("  author = {<<me>>},\n")
+                            .append("  year = ").append(1990 + i % 30).append("\n}\n");
+                }
+            }
+
+            String original = input.toString();
+            String[] inputs = new String[]{
+                original,
+                // Changed publication
+                original.replace("title = {Paper 1001}", "title = {Paper One Thousand and One}"),
+                // An unclosed brace that extends an entry over many cached ones
+                original.replace("title = {Paper 2001}", "title = {Paper {2001}")
+            };
+
+            for (String in : inputs) {
+                Files.write(file, in.getBytes(StandardCharsets.UTF_8));
+                List<BibItem> expResult = PublicationListParser.parseBibTeX(CharBuffer.wrap(in), false);
+
+                // Once to fill the cache, once to use it
+                for (int i = 0; i < 2; i++) {
+                    List<BibItem> result = PublicationListParser.parseFile(file, cacheFile);
+                    assertEqualLists("Cached parse", expResult, result);
+                }
+            }
+        } finally {
+            WorkerPool.setThreads(threads);
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
     private void assertEqualLists(String message, List<BibItem> expected, List<BibItem> actual) {
         assertEquals(message, expected.size(), actual.size());
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.bibitem.BibItem;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class PublicationListReaderTest {
+
+    public PublicationListReaderTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of next method, of class PublicationListReader.
+     */
+    @Test
+    public void testNext() throws Exception {
+        System.out.println("next");
+
+        String input = "<author short=\"me\" name=\"Verdonschot, Sander\" url=\"http://example.com\">\n"
+                + "@string{proc = \"Proceedings of the\"}\n"
+                + "<abbr short=\"conf\" full=\"<<proc>> Conference\">\n"
+                + "@comment{Nothing to see here}\n"
+                + "@inproceedings{paper1,\n"
+                + "  title = {Paper 1},\n"
+                + "  author = {<<me>> and Doe, John},\n"
+                + "  booktitle = {<<conf>>},\n"
+                + "  year = 2015\n"
+                + "}\n"
+                + "@article{broken title = {Broken}}\n"
+                + "@string{journal = \"Journal\"}\n"
+                + "@article{paper2,\n"
+                + "  title = {Paper 2},\n"
+                + "  editor = {<<me>>},\n"
+                + "  journal = journal # \" of Things\",\n"
+                + "  year = 2016\n"
+                + "}\n";
+
+        List<BibItem> expResult = PublicationListParser.parseBibTeX(new StringReader(input));
+        List<BibItem> result = new ArrayList<>();
+
+        try (PublicationListReader reader = new PublicationListReader(new StringReader(input))) {
+            while (reader.hasNext()) {
+                result.add(reader.next());
+            }
+
+            assertFalse(reader.hasNext());
+            assertEquals("Proceedings of the Conference", reader.getAbbreviations().get("conf"));
+            assertEquals("http://example.com", reader.getAuthors().get("me").getUrl());
+
+            try {
+                reader.next();
+                fail("next did not throw NoSuchElementException at the end of the input.");
+            } catch (NoSuchElementException ex) {
+                // Expected
+            }
+        }
+
+        assertEquals(expResult.size(), result.size());
+
+        for (int i = 0; i < expResult.size(); i++) {
+            BibItem expItem = expResult.get(i);
+            BibItem item = result.get(i);
+
+            assertEquals(expItem.getId(), item.getId());
+            assertEquals(expItem.getFields(), item.getFields());
+
+            for (String field : expItem.getFields()) {
+                assertEquals(expItem.get(field), item.get(field));
+            }
+
+            assertEquals(expItem.getAuthors().toString(), item.getAuthors().toString());
+            assertEquals(expItem.getEditors().toString(), item.getEditors().toString());
+        }
+    }
+
+    /**
+     * Test that the publications are read lazily.
+     */
+    @Test
+    public void testLaziness() throws Exception {
+        System.out.println("laziness");
+
+        StringBuilder input = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            input.append("@misc{paper").append(i).append(", title = {Paper ").append(i).append("}, year = 2015}\n");
+        }
+
+        final int[] charactersRead = new int[1];
+
+        FilterReader in = new FilterReader(new StringReader(input.toString())) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                int read = super.read(cbuf, off, len);
+                charactersRead[0] += Math.max(read, 0);
+                return read;
+            }
+        };
+
+        try (PublicationListReader reader = new PublicationListReader(in)) {
+            assertEquals("paper0", reader.next().getId());
+            assertEquals("paper1", reader.next().getId());
+            assertTrue("Read " + charactersRead[0] + " characters for the first publications.", charactersRead[0] < input.length() / 10);
+
+            int count = 2;
+
+            while (reader.hasNext()) {
+                reader.next();
+                count++;
+            }
+
+            assertEquals(20000, count);
+        }
+    }
+}
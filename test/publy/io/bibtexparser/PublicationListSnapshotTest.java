@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.Author;
+import publy.data.bibitem.BibItem;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class PublicationListSnapshotTest {
+
+    private static final String INPUT
+            = "<author short=\"me\" name=\"Verdonschot, Sander\" url=\"http://example.com\" group=\"student\">\n"
+            + "@string{proc = \"Proceedings of the\"}\n"
+            + "@inproceedings{paper1,\n"
+            + "  title = {Paper 1},\n"
+            + "  author = {<<me>> and van der Doe, Jr., John},\n"
+            + "  booktitle = proc # \" Conference\",\n"
+            + "  year = 2015\n"
+            + "}\n"
+            + "@phdthesis{paper2,\n"
+            + "  title = {Th{\\'e}se},\n"
+            + "  author = {<<me>>},\n"
+            + "  editor = {Doe, Jane and Roe, Richard},\n"
+            + "  year = 2016\n"
+            + "}\n";
+
+    private Path source;
+    private Path snapshot;
+
+    public PublicationListSnapshotTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        source = Files.createTempFile("publy-test-", ".bib");
+        snapshot = Files.createTempFile("publy-test-", ".snapshot");
+        Files.write(source, INPUT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(source);
+        Files.deleteIfExists(snapshot);
+    }
+
+    /**
+     * Test of save and load methods, of class PublicationListSnapshot.
+     */
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        System.out.println("save and load");
+
+        List<BibItem> expResult = PublicationListParser.parseFile(source);
+        PublicationListSnapshot.save(snapshot, source, expResult);
+        List<BibItem> result = PublicationListSnapshot.load(snapshot, source);
+
+        assertNotNull(result);
+        assertEquals(expResult.size(), result.size());
+
+        for (int i = 0; i < expResult.size(); i++) {
+            BibItem expItem = expResult.get(i);
+            BibItem item = result.get(i);
+
+            assertEquals(expItem.getOriginalType(), item.getOriginalType());
+            assertEquals(expItem.getId(), item.getId());
+            assertEquals(expItem.getFields(), item.getFields());
+
+            for (String field : expItem.getFields()) {
+                assertEquals(expItem.get(field), item.get(field));
+            }
+
+            assertEqualAuthors(expItem.getAuthors(), item.getAuthors());
+            assertEqualAuthors(expItem.getEditors(), item.getEditors());
+        }
+
+        // Authors defined by a tag remain shared
+        assertSame(result.get(0).getAuthors().get(0), result.get(1).getAuthors().get(0));
+    }
+
+    /**
+     * Test of load method with a changed source file, of class
+     * PublicationListSnapshot.
+     */
+    @Test
+    public void testLoadOutdated() throws Exception {
+        System.out.println("load outdated");
+
+        PublicationListSnapshot.save(snapshot, source, PublicationListParser.parseFile(source));
+        assertNotNull(PublicationListSnapshot.load(snapshot, source));
+
+        // Same size and modification time, different content
+        FileTime modified = Files.getLastModifiedTime(source);
+        Files.write(source, INPUT.replace("Paper 1", "Paper 3").getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(source, modified);
+        assertNull(PublicationListSnapshot.load(snapshot, source));
+
+        // Same content, different modification time
+        Files.write(source, INPUT.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(modified.toMillis() + 2000));
+        assertNull(PublicationListSnapshot.load(snapshot, source));
+
+        // Not a snapshot
+        Files.write(snapshot, INPUT.getBytes(StandardCharsets.UTF_8));
+        assertNull(PublicationListSnapshot.load(snapshot, source));
+    }
+
+    private void assertEqualAuthors(List<Author> expected, List<Author> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Author expAuthor = expected.get(i);
+            Author author = actual.get(i);
+
+            assertEquals(expAuthor.getAbbreviation(), author.getAbbreviation());
+            assertEquals(expAuthor.getName(), author.getName());
+            assertEquals(expAuthor.getFirstName(), author.getFirstName());
+            assertEquals(expAuthor.getVonPart(), author.getVonPart());
+            assertEquals(expAuthor.getLastName(), author.getLastName());
+            assertEquals(expAuthor.getJuniorPart(), author.getJuniorPart());
+            assertEquals(expAuthor.getUrl(), author.getUrl());
+            assertEquals(expAuthor.getGroup(), author.getGroup());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015 Sander Verdonschot <sander.verdonschot at gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package publy.io.bibtexparser;
+
+import java.io.StringReader;
+import java.util.List;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.bibitem.BibItem;
+
+/**
+ *
+ * @author Sander Verdonschot <sander.verdonschot at gmail.com>
+ */
+public class SymbolTableTest {
+
+    public SymbolTableTest() {
+    }
+
+    @BeforeClass
+    public static void setUpClass() {
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+    }
+
+    @Before
+    public void setUp() {
+    }
+
+    @After
+    public void tearDown() {
+    }
+
+    /**
+     * Test of getSymbol method, of class SymbolTable.
+     */
+    @Test
+    public void testGetSymbol() {
+        System.out.println("getSymbol");
+
+        SymbolTable instance = new SymbolTable();
+
+        assertSame("title", instance.getSymbol(new String("title")));
+        assertSame("inproceedings", instance.getSymbol(new String("inproceedings")));
+
+        String custom = new String("mycustomfield");
+        assertSame(custom, instance.getSymbol(custom));
+        assertSame(custom, instance.getSymbol(new String("mycustomfield")));
+    }
+
+    /**
+     * Test that parsed publications share field names and venues.
+     */
+    @Test
+    public void testSharing() throws Exception {
+        System.out.println("sharing");
+
+        String input = "@string{conf = \"Symposium on Things\"}\n"
+                + "@inproceedings{paper1, Title = {Paper 1}, booktitle = conf, MyField = {a}, year = 2015}\n"
+                + "@inproceedings{paper2, title = {Paper 2}, booktitle = conf, myfield = {b}, year = 2015}\n"
+                + "@INPROCEEDINGS{paper3, title = {Paper 3}, booktitle = {Symposium on Things}, year = {2016}}\n";
+
+        List<BibItem> items = PublicationListParser.parseBibTeX(new StringReader(input));
+        assertEquals(3, items.size());
+
+        BibItem first = items.get(0);
+
+        for (BibItem item : items) {
+            assertSame("inproceedings", item.getOriginalType());
+            assertSame("title", item.getFields().iterator().next());
+            assertSame(first.get("booktitle"), item.get("booktitle"));
+        }
+
+        assertEquals("Symposium on Things", first.get("booktitle"));
+        assertSame(first.get("year"), items.get(1).get("year"));
+
+        // Unknown field names are shared as well
+        assertSame(getField(first, "myfield"), getField(items.get(1), "myfield"));
+    }
+
+    private String getField(BibItem item, String name) {
+        for (String field : item.getFields()) {
+            if (field.equals(name)) {
+                return field;
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,7 +1,10 @@
 package publy.io.html;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -10,6 +13,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 import publy.data.bibitem.BibItem;
 import publy.data.bibitem.Type;
+import publy.data.settings.Settings;
 import publy.io.TestUtils;
 
 public class HTMLBibItemWriterTest {
@@ -58,4 +62,32 @@ public class HTMLBibItemWriterTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of links to other publications, of class HTMLBibItemWriter.
+     */
+    @Test
+    public void testWriteLinksToPublications() throws IOException {
+        System.out.println("writeLinksToPublications");
+
+        BibItem item = new BibItem("misc", "talk");
+        item.put("author", "Thor, Au");
+        item.put("title", "Title");
+        item.put("year", "2015");
+        item.put("link0", "Paper|#2015paper");
+        item.put("link1", "Slides|#slides");
+        item.put("link2", "Other|#2014missing");
+
+        StringWriter result = new StringWriter();
+
+        try (BufferedWriter out = new BufferedWriter(result)) {
+            HTMLBibItemWriter writer = new HTMLBibItemWriter(out, new Settings());
+            writer.setPublicationIds(new HashSet<>(Arrays.asList("talk", "2015paper", "slides")));
+            writer.write(item);
+        }
+
+        assertTrue(result.toString().contains("<a href=\"#p2015paper\">Paper</a>"));
+        assertTrue(result.toString().contains("<a href=\"#slides\">Slides</a>"));
+        assertTrue(result.toString().contains("<a href=\"#2014missing\">Other</a>"));
+    }
+}
@@ -15,8 +15,22 @@
  */
 package publy.io.settings;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
+import static org.junit.Assert.*;
+import publy.data.bibitem.BibItem;
+import publy.data.category.OutputCategory;
+import publy.data.category.conditions.Condition;
+import publy.data.category.conditions.ConditionGroup;
+import publy.data.category.conditions.FieldContainsCondition;
+import publy.data.category.conditions.FieldEqualsCondition;
+import publy.data.category.conditions.FieldExistsCondition;
+import publy.data.category.conditions.TypeCondition;
 import publy.data.settings.BeanTestUtils;
+import publy.data.settings.GeneralSettings;
 import publy.data.settings.Settings;
 
 /**
@@ -49,6 +63,36 @@ public class SettingsIOTest {
         BeanTestUtils.testSettingsIO(settings, settings.getGeneralSettings());
     }
     
+    @Test
+    public void testGroupingDimensions() throws Exception {
+        System.out.println("test grouping dimensions IO");
+        Path tempSettingsFile = Files.createTempFile("PublyIOTestSettings", ".xml");
+        tempSettingsFile.toFile().deleteOnExit();
+        Settings.setSettingsPath(tempSettingsFile);
+
+        Settings settings = new Settings();
+        GeneralSettings gs = settings.getGeneralSettings();
+
+        // The old grouping choices are kept as the position of the year
+        gs.setGrouping(GeneralSettings.Grouping.GROUP_BY_YEAR);
+        assertEquals(Arrays.asList(GeneralSettings.GroupingDimension.CATEGORY, GeneralSettings.GroupingDimension.YEAR), gs.getGroupingDimensions());
+        gs.setGroupWithinCategories(false);
+        assertEquals(Arrays.asList(GeneralSettings.GroupingDimension.YEAR, GeneralSettings.GroupingDimension.CATEGORY), gs.getGroupingDimensions());
+
+        // The category is always one of the levels
+        gs.setGroupingDimensions(Arrays.asList(GeneralSettings.GroupingDimension.VENUE, GeneralSettings.GroupingDimension.YEAR, GeneralSettings.GroupingDimension.VENUE));
+        assertEquals(Arrays.asList(GeneralSettings.GroupingDimension.CATEGORY, GeneralSettings.GroupingDimension.VENUE, GeneralSettings.GroupingDimension.YEAR), gs.getGroupingDimensions());
+        assertTrue(gs.isGroupWithinCategories());
+
+        gs.setGroupingDimensions(Arrays.asList(GeneralSettings.GroupingDimension.YEAR, GeneralSettings.GroupingDimension.TYPE, GeneralSettings.GroupingDimension.CATEGORY, GeneralSettings.GroupingDimension.AUTHOR_GROUP));
+        SettingsWriter.writeSettings(settings);
+
+        GeneralSettings readSettings = (new SettingsReaderCurrent()).parseSettings().getGeneralSettings();
+        assertEquals(gs.getGroupingDimensions(), readSettings.getGroupingDimensions());
+        assertEquals(GeneralSettings.Grouping.GROUP_BY_YEAR, readSettings.getGrouping());
+        assertFalse(readSettings.isGroupWithinCategories());
+    }
+
     @Test
     public void testHTMLSettings() throws Exception {
         System.out.println("test HTMLSettings IO");
@@ -62,4 +106,67 @@ public class SettingsIOTest {
         Settings settings = new Settings();
         BeanTestUtils.testSettingsIO(settings, settings.getConsoleSettings());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConditionGroups() throws Exception {
+        System.out.println("test condition groups IO");
+        Path tempSettingsFile = Files.createTempFile("PublyIOTestSettings", ".xml");
+        tempSettingsFile.toFile().deleteOnExit();
+        Settings.setSettingsPath(tempSettingsFile);
+
+        // Journal papers, or conference papers in LIPIcs that are not invited
+        ConditionGroup group = new ConditionGroup(false, ConditionGroup.Operator.OR,
+                new TypeCondition(false, "article"),
+                new ConditionGroup(false, ConditionGroup.Operator.AND,
+                        new TypeCondition(false, "inproceedings"),
+                        new FieldContainsCondition(false, "series", "LIPIcs"),
+                        new ConditionGroup(true, ConditionGroup.Operator.AND,
+                                new FieldExistsCondition(false, "note"),
+                                new FieldEqualsCondition(false, "note", "Invited paper"))));
+
+        OutputCategory category = new OutputCategory("refereed", "Refereed papers", new TypeCondition(false, "*"));
+        category.getFieldConditions().add(new FieldExistsCondition(false, "year"));
+        category.getConditionGroups().add(group);
+
+        Settings settings = new Settings();
+        settings.getCategorySettings().setAllCategories(Arrays.asList(category));
+        settings.getCategorySettings().setActiveCategories(Arrays.asList(category));
+        SettingsWriter.writeSettings(settings);
+
+        Settings readSettings = (new SettingsReaderCurrent()).parseSettings();
+        OutputCategory readCategory = readSettings.getCategorySettings().getAllCategories().get(0);
+        assertEquals(category.getFieldConditions().size(), readCategory.getFieldConditions().size());
+        assertEquals(1, readCategory.getConditionGroups().size());
+
+        ConditionGroup readGroup = readCategory.getConditionGroups().get(0);
+        assertEquals(ConditionGroup.Operator.OR, readGroup.getOperator());
+        assertFalse(readGroup.isInverted());
+        assertEquals(2, readGroup.getConditions().size());
+        assertEquals(Arrays.asList("article"), ((TypeCondition) readGroup.getConditions().get(0)).getTypes());
+
+        ConditionGroup readInner = (ConditionGroup) readGroup.getConditions().get(1);
+        assertEquals(ConditionGroup.Operator.AND, readInner.getOperator());
+        List<Condition> innerConditions = readInner.getConditions();
+        assertEquals(3, innerConditions.size());
+        assertEquals(Arrays.asList("LIPIcs"), ((FieldContainsCondition) innerConditions.get(1)).getValues());
+
+        ConditionGroup readNot = (ConditionGroup) innerConditions.get(2);
+        assertTrue(readNot.isInverted());
+        assertEquals("note", ((FieldExistsCondition) readNot.getConditions().get(0)).getField());
+        assertEquals(Arrays.asList("Invited paper"), ((FieldEqualsCondition) readNot.getConditions().get(1)).getValues());
+
+        // The group that was read behaves the same as the original
+        BibItem paper = new BibItem("inproceedings", "paper");
+        paper.put("series", "LIPIcs");
+        BibItem invited = new BibItem("inproceedings", "invited");
+        invited.put("series", "LIPIcs");
+        invited.put("note", "Invited paper");
+
+        for (BibItem item : Arrays.asList(paper, invited, new BibItem("article", "journal"), new BibItem("inproceedings", "other"))) {
+            assertEquals(item.getId(), group.matches(item), readGroup.matches(item));
+        }
+
+        assertTrue(readGroup.matches(paper));
+        assertFalse(readGroup.matches(invited));
+    }
+}